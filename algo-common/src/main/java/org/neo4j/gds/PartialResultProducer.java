@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+/**
+ * Implemented by algorithms whose result for a range of nodes is final as
+ * soon as that range has been computed. Consumers can then process
+ * completed ranges, e.g. write them back, while the remaining ranges are
+ * still being computed.
+ */
+public interface PartialResultProducer<RESULT> {
+
+    @FunctionalInterface
+    interface Listener<RESULT> {
+        /**
+         * Called from a computing thread once the values of the nodes in
+         * {@code [startNode, startNode + nodeCount)} are final. The given
+         * result must only be read for nodes in that range.
+         */
+        void rangeCompleted(long startNode, long nodeCount, RESULT partialResult);
+    }
+
+    /**
+     * Registers a listener for completed node ranges. Must be called before the computation starts.
+     *
+     * @return false if the algorithm does not produce partial results for its current configuration,
+     *     in which case the listener is never called
+     */
+    boolean onRangeCompleted(Listener<RESULT> listener);
+}
@@ -26,9 +26,11 @@ public abstract class AbstractResultBuilder<RESULT> {
     protected long preProcessingMillis = -1;
     protected long computeMillis = -1;
     protected long writeMillis = -1;
+    protected long writeOverlapMillis = 0;
     protected long mutateMillis = -1;
     protected long nodeCount;
     protected long nodePropertiesWritten;
+    protected long nodePropertiesSkipped;
     protected long relationshipsWritten;
     protected AlgoBaseConfig config;
 
@@ -47,6 +49,11 @@ public abstract class AbstractResultBuilder<RESULT> {
         return this;
     }
 
+    public AbstractResultBuilder<RESULT> withWriteOverlapMillis(long writeOverlapMillis) {
+        this.writeOverlapMillis = writeOverlapMillis;
+        return this;
+    }
+
     public AbstractResultBuilder<RESULT> withMutateMillis(long mutateMillis) {
         this.mutateMillis = mutateMillis;
         return this;
@@ -62,6 +69,11 @@ public abstract class AbstractResultBuilder<RESULT> {
         return this;
     }
 
+    public AbstractResultBuilder<RESULT> withNodePropertiesSkipped(long nodePropertiesSkipped) {
+        this.nodePropertiesSkipped = nodePropertiesSkipped;
+        return this;
+    }
+
     public AbstractResultBuilder<RESULT> withRelationshipsWritten(long relationshipPropertiesWritten) {
         this.relationshipsWritten = relationshipPropertiesWritten;
         return this;
@@ -20,5 +20,5 @@
 package org.neo4j.gds.beta.closeness;
 
 interface CentralityComputer {
-    double centrality(long farness, long componentSize);
+    double centrality(double farness, double componentSize);
 }
@@ -26,26 +26,29 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
 
 /**
  * Normalized Closeness Centrality
  *
  * Utilizes the MSBFS for counting the farness between nodes.
  * See MSBFS documentation.
+ * Approximate runs estimate farness and component sizes with HyperBall instead.
  */
 public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResult> {
 
     private final Graph graph;
     private final long nodeCount;
     private final int concurrency;
+    private final boolean approximate;
+    private final int precision;
     private final ExecutorService executorService;
-    private final PagedAtomicIntegerArray farness;
-    private final PagedAtomicIntegerArray component;
     private final CentralityComputer centralityComputer;
 
     public static ClosenessCentrality of(
@@ -62,9 +65,9 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             graph,
             nodeCount,
             config.concurrency(),
+            config.approximate(),
+            config.precision(),
             centralityComputer,
-            PagedAtomicIntegerArray.newArray(nodeCount),
-            PagedAtomicIntegerArray.newArray(nodeCount),
             executorService,
             progressTracker
         );
@@ -74,9 +77,9 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         Graph graph,
         long nodeCount,
         int concurrency,
+        boolean approximate,
+        int precision,
         CentralityComputer centralityComputer,
-        PagedAtomicIntegerArray farness,
-        PagedAtomicIntegerArray component,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -84,23 +87,25 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
         this.graph = graph;
         this.nodeCount = nodeCount;
         this.concurrency = concurrency;
+        this.approximate = approximate;
+        this.precision = precision;
         this.executorService = executorService;
         this.centralityComputer = centralityComputer;
-        this.farness = farness;
-        this.component = component;
     }
 
     @Override
     public ClosenessCentralityResult compute() {
         progressTracker.beginSubTask();
-        computeFarness();
-        var centralities = computeCloseness();
+        ClosenessCentralityResult result = approximate ? computeApproximate() : computeExact();
         progressTracker.endSubTask();
 
-        return ImmutableClosenessCentralityResult.of(centralities);
+        return result;
     }
 
-    private void computeFarness() {
+    private ClosenessCentralityResult computeExact() {
+        var farness = PagedAtomicIntegerArray.newArray(nodeCount);
+        var component = PagedAtomicIntegerArray.newArray(nodeCount);
+
         progressTracker.beginSubTask();
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             int len = sourceNodeIds.size();
@@ -112,9 +117,30 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             .aggregatedNeighborProcessingWithoutSourceNodes(nodeCount, graph, consumer)
             .run(concurrency, executorService);
         progressTracker.endSubTask();
+
+        var centralities = computeCloseness(farness::get, component::get);
+        return ImmutableClosenessCentralityResult.of(centralities, Optional.empty());
+    }
+
+    private ClosenessCentralityResult computeApproximate() {
+        var farness = HugeDoubleArray.newArray(nodeCount);
+        var component = HugeDoubleArray.newArray(nodeCount);
+
+        progressTracker.beginSubTask();
+        // every node is reported by a single thread per distance
+        HyperBall.BallConsumer consumer = (nodeId, distance, reached) -> {
+            farness.addTo(nodeId, reached * distance);
+            component.addTo(nodeId, reached);
+        };
+        var neighborhoodFunction = new HyperBall(graph, precision, concurrency, executorService, progressTracker)
+            .compute(consumer, terminationFlag);
+        progressTracker.endSubTask();
+
+        var centralities = computeCloseness(farness::get, component::get);
+        return ImmutableClosenessCentralityResult.of(centralities, Optional.of(neighborhoodFunction));
     }
 
-    private HugeDoubleArray computeCloseness() {
+    private HugeDoubleArray computeCloseness(LongToDoubleFunction farness, LongToDoubleFunction component) {
         progressTracker.beginSubTask();
 
         var closeness = HugeDoubleArray.newArray(nodeCount);
@@ -124,8 +150,8 @@ public final class ClosenessCentrality extends Algorithm<ClosenessCentralityResu
             nodeCount,
             partition -> (Runnable) () -> {
                 partition.consume(nodeId -> closeness.set(nodeId, centralityComputer.centrality(
-                    farness.get(nodeId),
-                    component.get(nodeId)
+                    farness.applyAsDouble(nodeId),
+                    component.applyAsDouble(nodeId)
                 )));
                 progressTracker.logProgress(partition.nodeCount());
             },
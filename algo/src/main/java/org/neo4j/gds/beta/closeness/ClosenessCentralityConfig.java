@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.hyperball.HyperBall;
 
 @ValueClass
 @Configuration
@@ -33,4 +34,22 @@ public interface ClosenessCentralityConfig extends AlgoBaseConfig {
     default boolean useWassermanFaust() {
         return false;
     }
+
+    /**
+     * Estimate distances with HyperBall instead of running a BFS from every node.
+     */
+    @Value.Default
+    default boolean approximate() {
+        return false;
+    }
+
+    /**
+     * Number of hash bits selecting one of the 2^precision registers of each HyperLogLog counter.
+     * Only used when {@link #approximate()} is set.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = HyperBall.MIN_PRECISION, max = HyperBall.MAX_PRECISION)
+    default int precision() {
+        return 6;
+    }
 }
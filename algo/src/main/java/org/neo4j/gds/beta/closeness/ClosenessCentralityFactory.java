@@ -23,9 +23,15 @@ package org.neo4j.gds.beta.closeness;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.hyperball.HyperBall;
 
 public class ClosenessCentralityFactory<CONFIG extends ClosenessCentralityConfig> extends GraphAlgorithmFactory<ClosenessCentrality, CONFIG> {
     @Override
@@ -49,10 +55,36 @@ public class ClosenessCentralityFactory<CONFIG extends ClosenessCentralityConfig
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        // HyperBall grows the volume by the node count with every iteration
+        var farnessComputation = config.approximate()
+            ? Tasks.leaf("Farness computation", graph.nodeCount())
+            : Tasks.leaf("Farness computation");
         return Tasks.task(
             taskName(),
-            Tasks.leaf("Farness computation"),
+            farnessComputation,
             Tasks.leaf("Closeness computation", graph.nodeCount())
         );
     }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG config) {
+        var builder = MemoryEstimations.builder(ClosenessCentrality.class)
+            .perNode("closeness", HugeDoubleArray::memoryEstimation);
+
+        if (config.approximate()) {
+            return builder
+                .perNode("farness", HugeDoubleArray::memoryEstimation)
+                .perNode("component", HugeDoubleArray::memoryEstimation)
+                .add("HyperBall", HyperBall.memoryEstimation(config.precision()))
+                .build();
+        }
+
+        return builder
+            .perNode("farness", PagedAtomicIntegerArray::memoryEstimation)
+            .perNode("component", PagedAtomicIntegerArray::memoryEstimation)
+            .perThread("MSBFS", MemoryEstimations.builder()
+                .perNode("visits, next visits and seen nodes", nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount))
+                .build())
+            .build();
+    }
 }
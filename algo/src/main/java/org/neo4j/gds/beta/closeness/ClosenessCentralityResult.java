@@ -22,7 +22,15 @@ package org.neo4j.gds.beta.closeness;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 
+import java.util.Optional;
+
 @ValueClass
 public interface ClosenessCentralityResult {
     HugeDoubleArray centralities();
+
+    /**
+     * The approximate neighbourhood function, only present for approximate runs.
+     * Entry t estimates the number of node pairs within distance t.
+     */
+    Optional<double[]> neighborhoodFunction();
 }
@@ -22,11 +22,11 @@ package org.neo4j.gds.beta.closeness;
 public class DefaultCentralityComputer implements CentralityComputer {
 
     @Override
-    public double centrality(long farness, long componentSize) {
-        if (farness == 0L) {
+    public double centrality(double farness, double componentSize) {
+        if (farness == 0) {
             return 0.0D;
         }
 
-        return componentSize / ((double) farness);
+        return componentSize / farness;
     }
 }
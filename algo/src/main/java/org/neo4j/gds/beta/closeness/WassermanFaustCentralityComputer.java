@@ -28,11 +28,11 @@ class WassermanFaustCentralityComputer implements CentralityComputer {
     }
 
     @Override
-    public double centrality(long farness, long componentSize) {
-        if (farness == 0L) {
+    public double centrality(double farness, double componentSize) {
+        if (farness == 0) {
             return 0.0D;
         }
 
-        return (componentSize / ((double) farness)) * ((componentSize) / (nodeCount - 1.0D));
+        return (componentSize / farness) * ((componentSize) / (nodeCount - 1.0D));
     }
 }
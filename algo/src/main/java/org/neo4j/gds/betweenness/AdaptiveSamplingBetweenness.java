@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Approximates betweenness centrality by sampling shortest paths between random pairs of nodes.
+ * <p>
+ * Every sample picks a source and a distinct target uniformly at random, traverses the graph from the source
+ * and follows a uniformly chosen shortest path back from the target, counting a hit for each inner node.
+ * The share of samples hitting a node estimates its normalized betweenness.
+ * <p>
+ * Samples are drawn in rounds of doubling size. After every round the adaptive deviation bounds of KADABRA
+ * are evaluated for all nodes, and sampling stops as soon as every normalized score is within the requested error
+ * with the requested confidence. The number of samples never exceeds the fixed sample size of Riondato and
+ * Kornaropoulos, which guarantees the error on its own. The vertex diameter in that sample size is bounded
+ * by the node count.
+ *
+ * https://arxiv.org/abs/1903.09422
+ * https://doi.org/10.1007/s10618-015-0423-0
+ */
+final class AdaptiveSamplingBetweenness {
+
+    // the first round draws this fraction of the maximum sample size
+    static final int INITIAL_ROUND_DIVISOR = 128;
+
+    private final Graph graph;
+    private final ForwardTraverser.Factory traverserFactory;
+    private final double approximationError;
+    private final double confidence;
+    private final Optional<Long> samplingSeed;
+    private final double divisor;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final HugeAtomicLongArray hits;
+    private final AtomicLong sampleQueue;
+
+    private TerminationFlag terminationFlag;
+    private volatile long roundSamples;
+    private long sampledPaths;
+    private double errorBound;
+
+    static long maxSamples(long nodeCount, double approximationError, double confidence) {
+        double diameterTerm = Math.floor(log2(Math.max(nodeCount - 2, 1))) + 1;
+        double confidenceTerm = Math.log(2 / (1 - confidence));
+        return (long) Math.ceil(0.5 / (approximationError * approximationError) * (diameterTerm + confidenceTerm));
+    }
+
+    /**
+     * The larger of the two KADABRA deviation bounds of a normalized betweenness estimate after the given samples.
+     */
+    static double errorBound(double estimate, double logInverseDelta, long maxSamples, long samples) {
+        double ratio = (double) maxSamples / samples;
+        double linear = 1.0 / 3 + ratio;
+        return logInverseDelta / samples * (
+            linear + Math.sqrt(linear * linear + 2 * estimate * maxSamples / logInverseDelta)
+        );
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    AdaptiveSamplingBetweenness(
+        Graph graph,
+        ForwardTraverser.Factory traverserFactory,
+        double approximationError,
+        double confidence,
+        Optional<Long> samplingSeed,
+        double divisor,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.traverserFactory = traverserFactory;
+        this.approximationError = approximationError;
+        this.confidence = confidence;
+        this.samplingSeed = samplingSeed;
+        this.divisor = divisor;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.hits = HugeAtomicLongArray.newArray(graph.nodeCount());
+        this.sampleQueue = new AtomicLong();
+    }
+
+    long sampledPaths() {
+        return sampledPaths;
+    }
+
+    /**
+     * Bound on the absolute error of every centrality score, on the scale of the scores.
+     */
+    double errorBound() {
+        return errorBound;
+    }
+
+    void compute(HugeAtomicDoubleArray centrality, TerminationFlag terminationFlag) {
+        this.terminationFlag = terminationFlag;
+        long nodeCount = graph.nodeCount();
+        if (nodeCount < 2) {
+            return;
+        }
+
+        long maxSamples = maxSamples(nodeCount, approximationError, confidence);
+        double logInverseDelta = Math.log(2 * nodeCount / (1 - confidence));
+
+        var random = samplingSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        List<SamplingTask> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new SamplingTask(random.split()));
+        }
+
+        long samples = Math.max(1, maxSamples / INITIAL_ROUND_DIVISOR);
+        double normalizedBound;
+        while (true) {
+            roundSamples = samples;
+            ParallelUtil.run(tasks, executorService);
+            terminationFlag.assertRunning();
+            // every task overshoots the queue once, the next round continues at the current sample count
+            sampleQueue.set(samples);
+
+            normalizedBound = maxErrorBound(logInverseDelta, maxSamples, samples);
+            if (normalizedBound <= approximationError || samples >= maxSamples) {
+                normalizedBound = Math.min(normalizedBound, approximationError);
+                break;
+            }
+            samples = Math.min(maxSamples, 2 * samples);
+        }
+
+        double scale = (double) nodeCount * (nodeCount - 1) / divisor;
+        long finalSamples = samples;
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            node -> centrality.set(node, scale * hits.get(node) / finalSamples)
+        );
+
+        this.sampledPaths = samples;
+        this.errorBound = scale * normalizedBound;
+    }
+
+    private double maxErrorBound(double logInverseDelta, long maxSamples, long samples) {
+        return ParallelUtil.parallelStream(
+            LongStream.range(0, graph.nodeCount()),
+            concurrency,
+            nodes -> nodes
+                .mapToDouble(node -> errorBound((double) hits.get(node) / samples, logInverseDelta, maxSamples, samples))
+                .max()
+                .orElse(0)
+        );
+    }
+
+    private final class SamplingTask implements Runnable {
+
+        private final SplittableRandom random;
+        private final Graph localGraph;
+        private final HugeObjectArray<LongArrayList> predecessors;
+        private final HugeLongArrayStack backwardNodes;
+        private final HugeLongArray sigma;
+        private final ForwardTraverser forwardTraverser;
+
+        SamplingTask(SplittableRandom random) {
+            long nodeCount = graph.nodeCount();
+            this.random = random;
+            this.localGraph = graph.concurrentCopy();
+            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
+            this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
+            this.sigma = HugeLongArray.newArray(nodeCount);
+            this.forwardTraverser = traverserFactory.create(
+                localGraph,
+                predecessors,
+                backwardNodes,
+                sigma,
+                terminationFlag
+            );
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = localGraph.nodeCount();
+            while (sampleQueue.getAndIncrement() < roundSamples && terminationFlag.running()) {
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+
+                sigma.set(source, 1);
+                forwardTraverser.traverse(source);
+                if (sigma.get(target) > 0) {
+                    samplePath(source, target);
+                }
+                clear();
+
+                progressTracker.logProgress();
+            }
+        }
+
+        /**
+         * Walks back from the target, choosing every predecessor with probability proportional to its shortest path count.
+         */
+        private void samplePath(long source, long target) {
+            long node = target;
+            while (true) {
+                long pick = random.nextLong(sigma.get(node));
+                var nodePredecessors = predecessors.get(node);
+                long predecessor = nodePredecessors.get(0);
+                for (int i = 0; i < nodePredecessors.size(); i++) {
+                    predecessor = nodePredecessors.get(i);
+                    pick -= sigma.get(predecessor);
+                    if (pick < 0) {
+                        break;
+                    }
+                }
+                if (predecessor == source) {
+                    return;
+                }
+                hits.getAndAdd(predecessor, 1);
+                node = predecessor;
+            }
+        }
+
+        private void clear() {
+            while (!backwardNodes.isEmpty()) {
+                long node = backwardNodes.pop();
+                sigma.set(node, 0);
+                var nodePredecessors = predecessors.get(node);
+                if (nodePredecessors != null) {
+                    // resetting the index avoids filling the inner array with zeros
+                    nodePredecessors.elementsCount = 0;
+                }
+            }
+            forwardTraverser.clear();
+        }
+    }
+}
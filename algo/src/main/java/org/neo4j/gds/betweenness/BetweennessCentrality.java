@@ -31,7 +31,10 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.msbfs.BrandesStrategy;
+import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -49,6 +52,8 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
     private final ExecutorService executorService;
     private final int concurrency;
 
+    private final Optional<AdaptiveSamplingBetweenness> adaptiveSampling;
+    private final boolean batchSources;
 
     public BetweennessCentrality(
         Graph graph,
@@ -57,8 +62,26 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, traverserFactory, false, executorService, concurrency, progressTracker);
+    }
+
+    /**
+     * @param batchSources whether up to 64 sources of an unweighted graph share one bit-parallel traversal,
+     *                     in which case the traverser factory is not used
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ForwardTraverser.Factory traverserFactory,
+        boolean batchSources,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
+        this.adaptiveSampling = Optional.empty();
+        this.batchSources = batchSources;
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
@@ -71,14 +94,94 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
     }
 
+    /**
+     * Approximates the scores by sampling shortest paths until every normalized score
+     * is within the given error with the given confidence.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        double approximationError,
+        double confidence,
+        Optional<Long> samplingSeed,
+        ForwardTraverser.Factory traverserFactory,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+        this.centrality = HugeAtomicDoubleArray.newArray(nodeCount);
+        this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
+        this.traverserFactory = traverserFactory;
+        this.batchSources = false;
+        this.adaptiveSampling = Optional.of(new AdaptiveSamplingBetweenness(
+            graph,
+            traverserFactory,
+            approximationError,
+            confidence,
+            samplingSeed,
+            divisor,
+            concurrency,
+            executorService,
+            progressTracker
+        ));
+    }
+
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        if (adaptiveSampling.isPresent()) {
+            adaptiveSampling.get().compute(centrality, terminationFlag);
+        } else if (batchSources) {
+            computeBatched();
+        } else {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        }
         progressTracker.endSubTask();
         return centrality;
     }
 
+    private void computeBatched() {
+        var sources = new LongArrayList();
+        long source;
+        while ((source = selectionStrategy.next()) != SelectionStrategy.NONE_SELECTED) {
+            sources.add(source);
+        }
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        try (var strategy = new BrandesStrategy(
+            nodeCount,
+            (nodeId, dependency) -> centrality.getAndAdd(nodeId, dependency / divisor),
+            progressTracker,
+            terminationFlag
+        )) {
+            MultiSourceBFSAccessMethods
+                .dependencyAccumulation(nodeCount, graph, strategy, sources.toArray())
+                .run(concurrency, executorService);
+        }
+        terminationFlag.assertRunning();
+    }
+
+    /**
+     * The number of shortest paths sampled by the approximation, zero if the scores are not approximated.
+     */
+    public long sampledPaths() {
+        return adaptiveSampling.map(AdaptiveSamplingBetweenness::sampledPaths).orElse(0L);
+    }
+
+    /**
+     * The bound on the absolute error of every score guaranteed by the approximation,
+     * zero if the scores are not approximated.
+     */
+    public double errorBound() {
+        return adaptiveSampling.map(AdaptiveSamplingBetweenness::errorBound).orElse(0D);
+    }
+
     final class BCTask implements Runnable {
         private final HugeObjectArray<LongArrayList> predecessors;
         private final HugeCursor<LongArrayList[]> predecessorsCursor;
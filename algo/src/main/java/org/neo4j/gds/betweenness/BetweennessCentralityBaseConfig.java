@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
@@ -32,8 +33,51 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Error of the normalized scores when sampling shortest paths. The default of zero computes the scores exactly.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double approximationError() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double confidence() {
+        return 0.95;
+    }
+
+    /**
+     * Whether up to 64 source nodes share one bit-parallel breadth-first traversal.
+     */
+    @Value.Default
+    default boolean batchSources() {
+        return false;
+    }
+
+    @Configuration.Ignore
+    default boolean isApproximate() {
+        return approximationError() > 0;
+    }
+
     @Value.Check
     default void validate() {
+        if (isApproximate() && samplingSize().isPresent()) {
+            throw new IllegalArgumentException(
+                "The configuration parameters 'samplingSize' and 'approximationError' cannot be used together."
+            );
+        }
+        if (batchSources() && isApproximate()) {
+            throw new IllegalArgumentException(
+                "The configuration parameters 'batchSources' and 'approximationError' cannot be used together."
+            );
+        }
+        if (batchSources() && relationshipWeightProperty().isPresent()) {
+            throw new IllegalArgumentException(
+                "The configuration parameter 'batchSources' is only supported for unweighted graphs."
+            );
+        }
         samplingSize().ifPresent(samplingSize -> {
             if (samplingSize < 0) {
                 throw new IllegalArgumentException(String.format(
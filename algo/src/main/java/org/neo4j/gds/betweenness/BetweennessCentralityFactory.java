@@ -25,7 +25,9 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -35,8 +37,10 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.msbfs.BrandesStrategy;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
 
 public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> extends GraphAlgorithmFactory<BetweennessCentrality, CONFIG> {
 
@@ -54,18 +58,32 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
 
-        var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
-            ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
-            : new FullSelectionStrategy();
-
         ForwardTraverser.Factory traverserFactory = configuration.hasRelationshipWeightProperty()
             ? ForwardTraverser.Factory.weighted()
             : ForwardTraverser.Factory.unweighted();
 
+        if (configuration.isApproximate()) {
+            return new BetweennessCentrality(
+                graph,
+                configuration.approximationError(),
+                configuration.confidence(),
+                samplingSeed,
+                traverserFactory,
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                progressTracker
+            );
+        }
+
+        var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
+            ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
+            : new FullSelectionStrategy();
+
         return new BetweennessCentrality(
             graph,
             strategy,
             traverserFactory,
+            configuration.batchSources(),
             Pools.DEFAULT,
             configuration.concurrency(),
             progressTracker
@@ -75,14 +93,33 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
-            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation);
+        if (configuration.batchSources()) {
+            builder.perThread("multi-source traversal", batchedTraversalMemoryEstimation());
+        } else {
+            builder.perThread("compute task",
                 bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
             );
+        }
+        if (configuration.isApproximate()) {
+            builder.perNode("sampled path hits", HugeAtomicLongArray::memoryEstimation);
+        }
         return builder
             .build();
     }
 
+    private static MemoryEstimation batchedTraversalMemoryEstimation() {
+        return MemoryEstimations.builder(BrandesStrategy.class)
+            .perNode("visit sets", nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("path counts", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * OMEGA))
+            .perNode("successor lanes", HugeLongArray::memoryEstimation)
+            .rangePerNode("depth ordered nodes", nodeCount -> MemoryRange.of(
+                2 * HugeLongArray.memoryEstimation(nodeCount),
+                2 * HugeLongArray.memoryEstimation(nodeCount * OMEGA)
+            ))
+            .build();
+    }
+
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
@@ -121,6 +158,12 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.isApproximate()) {
+            return Tasks.leaf(
+                taskName(),
+                AdaptiveSamplingBetweenness.maxSamples(graph.nodeCount(), config.approximationError(), config.confidence())
+            );
+        }
         return Tasks.leaf(taskName(), config.samplingSize().orElse(graph.nodeCount()));
     }
 }
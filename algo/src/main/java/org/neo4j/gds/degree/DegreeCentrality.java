@@ -21,6 +21,8 @@ package org.neo4j.gds.degree;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.PartialResultProducer;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
@@ -37,7 +39,8 @@ import java.util.function.LongToIntFunction;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction> {
+public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
+    implements PartialResultProducer<DegreeCentrality.DegreeFunction> {
 
     static final String DEGREE_CENTRALITY_DESCRIPTION = "Degree centrality measures the number of incoming and outgoing relationships from a node.";
     private static final double DEFAULT_WEIGHT = 0D;
@@ -45,11 +48,42 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
     private Graph graph;
     private final ExecutorService executor;
     private final DegreeCentralityConfig config;
+    private Listener<DegreeFunction> rangeListener;
 
     public interface DegreeFunction {
         double get(long nodeId);
     }
 
+    /**
+     * Degrees held in an array of their own. Unlike the natural unweighted degree,
+     * which is read from the graph, they do not keep the graph reachable.
+     */
+    public static final class MaterializedDegrees implements DegreeFunction {
+        private final HugeDoubleArray degrees;
+
+        public static MaterializedDegrees of(DegreeFunction degreeFunction, long nodeCount) {
+            if (degreeFunction instanceof MaterializedDegrees) {
+                return (MaterializedDegrees) degreeFunction;
+            }
+            var degrees = HugeDoubleArray.newArray(nodeCount);
+            degrees.setAll(degreeFunction::get);
+            return new MaterializedDegrees(degrees);
+        }
+
+        private MaterializedDegrees(HugeDoubleArray degrees) {
+            this.degrees = degrees;
+        }
+
+        @Override
+        public double get(long nodeId) {
+            return degrees.get(nodeId);
+        }
+
+        public long sizeOf() {
+            return degrees.sizeOf();
+        }
+    }
+
     public DegreeCentrality(
         Graph graph,
         ExecutorService executor,
@@ -62,6 +96,18 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         this.config = config;
     }
 
+    @Override
+    public boolean onRangeCompleted(Listener<DegreeFunction> listener) {
+        // the natural degree of a node is final once its partition is done, and so are the reverse
+        // and undirected degrees if they can be gathered from an inverse index. Without an index,
+        // those scatter into shared arrays and are only final after all partitions are done.
+        if (config.orientation() != Orientation.NATURAL && !graph.characteristics().isInverseIndexed()) {
+            return false;
+        }
+        this.rangeListener = listener;
+        return true;
+    }
+
     @Override
     public DegreeFunction compute() {
         progressTracker.beginSubTask();
@@ -77,9 +123,22 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
     private DegreeFunction computeUnweighted() {
         switch (config.orientation()) {
             case NATURAL:
+                if (rangeListener != null) {
+                    return publishNaturalDegree();
+                }
                 progressTracker.logProgress(graph.nodeCount());
                 return graph::degree;
             case REVERSE:
+                if (graph.characteristics().isInverseIndexed()) {
+                    return computeDegree((partition, degrees) -> new InverseIndexedDegreeTask(
+                        graph.concurrentCopy(),
+                        degrees,
+                        partition,
+                        progressTracker,
+                        false,
+                        false
+                    ));
+                }
                 return computeDegreeAtomic((partition, degrees) -> new ReverseDegreeTask(
                         graph.concurrentCopy(),
                         partition,
@@ -91,6 +150,16 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     )
                 );
             case UNDIRECTED:
+                if (graph.characteristics().isInverseIndexed()) {
+                    return computeDegree((partition, degrees) -> new InverseIndexedDegreeTask(
+                        graph.concurrentCopy(),
+                        degrees,
+                        partition,
+                        progressTracker,
+                        true,
+                        false
+                    ));
+                }
                 return computeDegreeAtomic((partition, degrees) -> new UndirectedDegreeTask(
                         graph.concurrentCopy(),
                         partition,
@@ -116,6 +185,16 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     progressTracker
                 ));
             case REVERSE:
+                if (graph.characteristics().isInverseIndexed()) {
+                    return computeDegree((partition, degrees) -> new InverseIndexedDegreeTask(
+                        graph.concurrentCopy(),
+                        degrees,
+                        partition,
+                        progressTracker,
+                        false,
+                        true
+                    ));
+                }
                 return computeDegreeAtomic((partition, degrees) -> new ReverseDegreeTask(
                         graph.concurrentCopy(),
                         partition,
@@ -129,6 +208,16 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                     )
                 );
             case UNDIRECTED:
+                if (graph.characteristics().isInverseIndexed()) {
+                    return computeDegree((partition, degrees) -> new InverseIndexedDegreeTask(
+                        graph.concurrentCopy(),
+                        degrees,
+                        partition,
+                        progressTracker,
+                        true,
+                        true
+                    ));
+                }
                 return computeDegreeAtomic((partition, degrees) -> new UndirectedWeightedDegreeTask(
                     graph.concurrentCopy(),
                     partition,
@@ -155,10 +244,20 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
 
     private DegreeFunction computeDegree(TaskFunction taskFunction) {
         var degrees = HugeDoubleArray.newArray(graph.nodeCount());
-        var tasks = PartitionUtils.degreePartition(
+        var listener = rangeListener;
+        var tasks = PartitionUtils.<Runnable>degreePartition(
             graph,
             config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
+            partition -> {
+                var task = taskFunction.apply(partition, degrees);
+                if (listener == null) {
+                    return task;
+                }
+                return () -> {
+                    task.run();
+                    listener.rangeCompleted(partition.startNode(), partition.nodeCount(), degrees::get);
+                };
+            },
             Optional.of(config.minBatchSize())
         );
         RunWithConcurrency.builder()
@@ -169,6 +268,30 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         return degrees::get;
     }
 
+    /**
+     * The natural unweighted degree needs no computation, but publishing it per partition
+     * still lets the write start before all ranges have been handed over.
+     */
+    private DegreeFunction publishNaturalDegree() {
+        var listener = rangeListener;
+        var tasks = PartitionUtils.<Runnable>degreePartition(
+            graph,
+            config.concurrency(),
+            partition -> () -> {
+                var degrees = graph.concurrentCopy();
+                listener.rangeCompleted(partition.startNode(), partition.nodeCount(), degrees::degree);
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.of(config.minBatchSize())
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(tasks)
+            .executor(executor)
+            .run();
+        return graph::degree;
+    }
+
     private DegreeFunction computeDegreeAtomic(TaskFunctionAtomic taskFunction) {
         var degrees = HugeAtomicDoubleArray.newArray(graph.nodeCount());
         var tasks = PartitionUtils.degreePartition(
@@ -225,6 +348,59 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         }
     }
 
+    private static class InverseIndexedDegreeTask implements Runnable {
+
+        private final Graph graph;
+        private final HugeDoubleArray result;
+        private final Partition partition;
+        private final ProgressTracker progressTracker;
+        private final boolean includeOutgoing;
+        private final boolean weighted;
+
+        InverseIndexedDegreeTask(
+            Graph graph,
+            HugeDoubleArray result,
+            Partition partition,
+            ProgressTracker progressTracker,
+            boolean includeOutgoing,
+            boolean weighted
+        ) {
+            this.graph = graph;
+            this.result = result;
+            this.partition = partition;
+            this.progressTracker = progressTracker;
+            this.includeOutgoing = includeOutgoing;
+            this.weighted = weighted;
+        }
+
+        @Override
+        public void run() {
+            var nodeWeight = new MutableDouble();
+            RelationshipWithPropertyConsumer addWeight = (sourceNodeId, targetNodeId, weight) -> {
+                if (weight > 0.0D) {
+                    nodeWeight.add(weight);
+                }
+                return true;
+            };
+            partition.consume(nodeId -> {
+                if (weighted) {
+                    nodeWeight.setValue(0);
+                    graph.forEachInverseRelationship(nodeId, DEFAULT_WEIGHT, addWeight);
+                    if (includeOutgoing) {
+                        graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, addWeight);
+                    }
+                } else {
+                    nodeWeight.setValue(graph.degreeInverse(nodeId));
+                    if (includeOutgoing) {
+                        nodeWeight.add(graph.degree(nodeId));
+                    }
+                }
+                result.set(nodeId, nodeWeight.doubleValue());
+            });
+            progressTracker.logProgress(partition.nodeCount());
+        }
+    }
+
     private static class ReverseDegreeTask implements Runnable {
 
         private final Graph graph;
@@ -27,6 +27,8 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodeVLongs;
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
@@ -37,19 +39,29 @@ public class CompressedRandomWalks {
     private final HugeObjectArray<byte[]> compressedWalks;
     private final HugeIntArray walkLengths;
 
-    private int maxWalkLength;
-    private long size = 0L;
+    private final AtomicInteger maxWalkLength;
+    private final AtomicLong size;
 
     public CompressedRandomWalks(long maxWalkCount) {
         this.compressedWalks = HugeObjectArray.newArray(byte[].class, maxWalkCount);
         this.walkLengths = HugeIntArray.newArray(maxWalkCount);
+        this.maxWalkLength = new AtomicInteger(0);
+        this.size = new AtomicLong(0L);
     }
 
     public void add(long... walk) {
+        add(walk, walk.length);
+    }
+
+    /**
+     * Adds the first {@code length} nodes of the given walk, overwriting them in the process.
+     * Walks can be added concurrently.
+     */
+    public void add(long[] walk, int length) {
         long currentLastValue = 0L;
         int requiredBytes = 0;
 
-        for (int i = 0; i < walk.length; i++) {
+        for (int i = 0; i < length; i++) {
             var delta = walk[i] - currentLastValue;
             var compressedValue = zigZag(delta);
             currentLastValue = walk[i];
@@ -58,14 +70,12 @@ public class CompressedRandomWalks {
         }
 
         var compressedData = new byte[requiredBytes];
-        encodeVLongs(walk, walk.length, compressedData, 0);
+        encodeVLongs(walk, length, compressedData, 0);
 
-        var currentIndex = size++;
+        var currentIndex = size.getAndIncrement();
         compressedWalks.set(currentIndex, compressedData);
-        walkLengths.set(currentIndex, walk.length);
-        if (walk.length > maxWalkLength) {
-            maxWalkLength = walk.length;
-        }
+        walkLengths.set(currentIndex, length);
+        maxWalkLength.accumulateAndGet(length, Math::max);
     }
 
     public Iterator<long[]> iterator(long startIndex, long length) {
@@ -81,11 +91,11 @@ public class CompressedRandomWalks {
             );
         }
 
-        return new CompressedWalkIterator(startIndex, endIndex, compressedWalks, walkLengths, maxWalkLength);
+        return new CompressedWalkIterator(startIndex, endIndex, compressedWalks, walkLengths, maxWalkLength.get());
     }
 
     public long size() {
-        return size;
+        return size.get();
     }
 
     public int walkLength(long index) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.tensor.FloatVector;
+
+import java.util.Arrays;
+
+/**
+ * Row-major matrix holding one float embedding per node.
+ * Rows are laid out back to back in large pages, so an embedding is a contiguous
+ * slice of a page and no row spans two pages.
+ * Compared to one {@link FloatVector} per node, the training loop reads neighbouring
+ * floats instead of chasing a separate array reference for every sample.
+ */
+final class EmbeddingMatrix {
+
+    private static final int PAGE_SIZE_IN_FLOATS = 1 << 16;
+
+    private final float[][] pages;
+    private final long rowCount;
+    private final int dimension;
+    private final int rowShift;
+    private final int rowMask;
+
+    static long memoryEstimation(long rowCount, int dimension) {
+        int rowsPerPage = rowsPerPage(dimension);
+        long numPages = BitUtil.ceilDiv(rowCount, rowsPerPage);
+        long lastPageRows = rowCount - (numPages - 1) * rowsPerPage;
+
+        long memoryUsage = MemoryUsage.sizeOfInstance(EmbeddingMatrix.class) + MemoryUsage.sizeOfObjectArray(numPages);
+        if (numPages > 0) {
+            memoryUsage += (numPages - 1) * MemoryUsage.sizeOfFloatArray((long) rowsPerPage * dimension);
+            memoryUsage += MemoryUsage.sizeOfFloatArray(lastPageRows * dimension);
+        }
+        return memoryUsage;
+    }
+
+    EmbeddingMatrix(long rowCount, int dimension) {
+        int rowsPerPage = rowsPerPage(dimension);
+        int numPages = Math.toIntExact(BitUtil.ceilDiv(rowCount, rowsPerPage));
+
+        this.pages = new float[numPages][];
+        this.rowCount = rowCount;
+        this.dimension = dimension;
+        this.rowShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        this.rowMask = rowsPerPage - 1;
+
+        for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+            long rowsInPage = Math.min(rowsPerPage, rowCount - ((long) pageIndex << rowShift));
+            pages[pageIndex] = new float[Math.toIntExact(rowsInPage * dimension)];
+        }
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * The page holding the given row, to be read together with {@link #offset(long)}.
+     */
+    float[] page(long row) {
+        return pages[(int) (row >>> rowShift)];
+    }
+
+    /**
+     * The index of the first element of the given row within its {@link #page(long)}.
+     */
+    int offset(long row) {
+        return ((int) row & rowMask) * dimension;
+    }
+
+    void setRow(long row, float[] values) {
+        System.arraycopy(values, 0, page(row), offset(row), dimension);
+    }
+
+    /**
+     * Copies every row into its own {@link FloatVector}.
+     * Pages are released as soon as they are copied, so this matrix is no longer usable afterwards.
+     */
+    HugeObjectArray<FloatVector> toFloatVectors() {
+        HugeObjectArray<FloatVector> vectors = HugeObjectArray.newArray(FloatVector.class, rowCount);
+
+        for (long row = 0; row < rowCount; row++) {
+            int offset = offset(row);
+            vectors.set(row, new FloatVector(Arrays.copyOfRange(page(row), offset, offset + dimension)));
+
+            if (offset + dimension == page(row).length) {
+                pages[(int) (row >>> rowShift)] = null;
+            }
+        }
+
+        return vectors;
+    }
+
+    /**
+     * Drops all pages, this matrix is no longer usable afterwards.
+     */
+    void release() {
+        Arrays.fill(pages, null);
+    }
+
+    private static int rowsPerPage(int dimension) {
+        return Math.max(1, BitUtil.previousPowerOfTwo(PAGE_SIZE_IN_FLOATS / dimension));
+    }
+}
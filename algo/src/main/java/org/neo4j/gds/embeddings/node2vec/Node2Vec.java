@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.samplers.AliasTable;
 import org.neo4j.gds.traversal.RandomWalk;
 
 public class Node2Vec extends Algorithm<Node2VecModel.Result> {
@@ -35,12 +36,16 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
     private final Node2VecBaseConfig config;
 
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
-        return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
+        var builder = MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode("random walks", (nodeCount) -> {
                 var numberOfRandomWalks = nodeCount * config.walksPerNode();
                 var randomWalkMemoryUsage = MemoryUsage.sizeOfLongArray(config.walkLength());
                 return HugeObjectArray.memoryEstimation(numberOfRandomWalks, randomWalkMemoryUsage);
-            })
+            });
+        if (config.aliasSampling()) {
+            builder.add("alias tables", AliasTable.memoryEstimation());
+        }
+        return builder
             .add("probability cache", RandomWalkProbabilities.memoryEstimation())
             .add("model", Node2VecModel.memoryEstimation(config))
             .build();
@@ -71,9 +76,11 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
         );
         var walks = new CompressedRandomWalks(graph.nodeCount() * config.walksPerNode());
 
-        randomWalk.compute().forEach(walk -> {
-            probabilitiesBuilder.registerWalk(walk);
-            walks.add(walk);
+        // The walkers hand over their reused buffers directly, counting and compressing the walks in parallel.
+        randomWalk.forEachWalk((walk, length) -> {
+            probabilitiesBuilder.registerWalk(walk, length);
+            walks.add(walk, length);
+            return true;
         });
 
         var node2VecModel = new Node2VecModel(
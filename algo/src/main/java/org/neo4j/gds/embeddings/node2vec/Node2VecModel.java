@@ -33,21 +33,24 @@ import org.neo4j.gds.ml.core.functions.Sigmoid;
 import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.LongUnaryOperator;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
+import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
+import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedRows;
+import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.innerProducts;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
-    private final HugeObjectArray<FloatVector> contextEmbeddings;
+    private final EmbeddingMatrix centerEmbeddings;
+    private final EmbeddingMatrix contextEmbeddings;
     private final Node2VecBaseConfig config;
     private final CompressedRandomWalks walks;
     private final RandomWalkProbabilities randomWalkProbabilities;
@@ -57,6 +60,8 @@ public class Node2VecModel {
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
         var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(config.embeddingDimension());
 
+        // the context embeddings are released before the center embeddings are copied into the result page by page,
+        // so at most two flat matrices or one flat matrix and the result are alive at the same time
         return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode(
                 "center embeddings",
@@ -64,7 +69,7 @@ public class Node2VecModel {
             )
             .perNode(
                 "context embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> EmbeddingMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .build();
     }
@@ -94,6 +99,8 @@ public class Node2VecModel {
         var learningRateAlpha = (config.initialLearningRate() - config.minLearningRate()) / config.iterations();
 
         var lossPerIteration = new ArrayList<Double>();
+        long trainedPairs = 0;
+        long trainingNanos = 0;
 
         for (int iteration = 0; iteration < config.iterations(); iteration++) {
             progressTracker.beginSubTask();
@@ -128,27 +135,42 @@ public class Node2VecModel {
                 }
             );
 
+            long start = System.nanoTime();
             RunWithConcurrency.builder()
                 .concurrency(config.concurrency())
                 .tasks(tasks)
                 .run();
+            trainingNanos += System.nanoTime() - start;
 
             double loss = tasks.stream().mapToDouble(TrainingTask::lossSum).sum();
             progressTracker.logInfo(formatWithLocale("Loss %.4f", loss));
             lossPerIteration.add(loss);
+            trainedPairs += tasks.stream().mapToLong(TrainingTask::trainedPairs).sum();
 
             progressTracker.endSubTask();
         }
         progressTracker.endSubTask();
 
-        return ImmutableResult.of(centerEmbeddings, lossPerIteration);
+        double trainingSeconds = (double) trainingNanos / TimeUnit.SECONDS.toNanos(1);
+        double trainingPairsPerSecondPerThread = trainingSeconds > 0
+            ? trainedPairs / (trainingSeconds * config.concurrency())
+            : 0;
+        progressTracker.logInfo(formatWithLocale(
+            "Trained %d pairs at %.0f pairs per second and thread",
+            trainedPairs,
+            trainingPairsPerSecondPerThread
+        ));
+
+        contextEmbeddings.release();
+        return ImmutableResult.of(
+            centerEmbeddings.toFloatVectors(),
+            lossPerIteration,
+            trainingPairsPerSecondPerThread
+        );
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private EmbeddingMatrix initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
+        var embeddings = new EmbeddingMatrix(nodeCount, embeddingDimensions);
         double bound;
         switch (config.embeddingInitializer()) {
             case UNIFORM:
@@ -169,27 +191,34 @@ public class Node2VecModel {
                     FloatConsumer::add,
                     FloatConsumer::addAll
                 ).values;
-            embeddings.set(i, new FloatVector(data));
+            embeddings.setRow(i, data);
         }
         return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
-        private final HugeObjectArray<FloatVector> contextEmbeddings;
+        private final EmbeddingMatrix centerEmbeddings;
+        private final EmbeddingMatrix contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
+        private final float[] centerGradientBuffer;
         private final int negativeSamplingRate;
+        private final int embeddingDimensions;
         private final float learningRate;
 
+        // the context rows of a batch: the positive sample first, followed by the negative samples
+        private final float[][] contextPages;
+        private final int[] contextOffsets;
+        private final float[] affinities;
+        private final float[] scaledGradients;
+
         private double lossSum;
+        private long trainedPairs;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
-            HugeObjectArray<FloatVector> contextEmbeddings,
+            EmbeddingMatrix centerEmbeddings,
+            EmbeddingMatrix contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
             float learningRate,
@@ -202,53 +231,88 @@ public class Node2VecModel {
             this.negativeSampleProducer = negativeSampleProducer;
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
-
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.embeddingDimensions = embeddingDimensions;
+
+            this.centerGradientBuffer = new float[embeddingDimensions];
+            var batchSize = 1 + negativeSamplingRate;
+            this.contextPages = new float[batchSize][];
+            this.contextOffsets = new int[batchSize];
+            this.affinities = new float[batchSize];
+            this.scaledGradients = new float[batchSize];
         }
 
         @Override
         public void run() {
             var buffer = new long[2];
+            var batchSize = 1 + negativeSamplingRate;
 
-            // this corresponds to a stochastic optimizer as the embeddings are updated after each sample
+            // this corresponds to a stochastic optimizer as the embeddings are updated after each positive sample
             while (positiveSampleProducer.next(buffer)) {
-                trainSample(buffer[0], buffer[1], true);
+                var centerPage = centerEmbeddings.page(buffer[0]);
+                var centerOffset = centerEmbeddings.offset(buffer[0]);
+
+                setContext(0, buffer[1]);
+                for (var i = 1; i < batchSize; i++) {
+                    setContext(i, negativeSampleProducer.next());
+                }
 
-                for (var i = 0; i < negativeSamplingRate; i++) {
-                    trainSample(buffer[0], negativeSampleProducer.next(), false);
+                // the positive and all negative samples of a center node are trained against the same center embedding,
+                // so their affinities are computed in one pass and the context rows are updated in another one
+                innerProducts(
+                    centerPage,
+                    centerOffset,
+                    contextPages,
+                    contextOffsets,
+                    batchSize,
+                    embeddingDimensions,
+                    affinities
+                );
+                for (var i = 0; i < batchSize; i++) {
+                    scaledGradients[i] = scaledGradient(affinities[i], i == 0);
                 }
+
+                // the center gradient is accumulated while updating the context rows and applied once per batch
+                Arrays.fill(centerGradientBuffer, 0);
+                addWeightedRows(
+                    centerPage,
+                    centerOffset,
+                    contextPages,
+                    contextOffsets,
+                    scaledGradients,
+                    batchSize,
+                    embeddingDimensions,
+                    centerGradientBuffer
+                );
+                addWeightedInPlace(centerPage, centerOffset, centerGradientBuffer, 0, embeddingDimensions, 1);
+                trainedPairs += batchSize;
             }
         }
 
-        private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
+        private void setContext(int index, long context) {
+            contextPages[index] = contextEmbeddings.page(context);
+            contextOffsets[index] = contextEmbeddings.offset(context);
+        }
 
+        private float scaledGradient(float affinity, boolean positive) {
             // L_pos = -log sigmoid(center * context)  ; gradient: -sigmoid (-center * context)
             // L_neg = -log sigmoid(-center * context) ; gradient: sigmoid (center * context)
-            float affinity = centerEmbedding.innerProduct(contextEmbedding);
-
             float positiveSigmoid = (float) Sigmoid.sigmoid(affinity);
             float negativeSigmoid = 1 - positiveSigmoid;
 
-
             lossSum -= positive ? Math.log(positiveSigmoid) : Math.log(negativeSigmoid);
 
             float gradient = positive ? -negativeSigmoid : positiveSigmoid;
             // we are doing gradient descent, so we go in the negative direction of the gradient here
-            float scaledGradient = -gradient * learningRate;
-
-            scale(contextEmbedding.data(), scaledGradient, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scaledGradient, contextGradientBuffer.data());
-
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
+            return -gradient * learningRate;
         }
 
         double lossSum() {
             return lossSum;
         }
+
+        long trainedPairs() {
+            return trainedPairs;
+        }
     }
 
     static class FloatConsumer {
@@ -274,5 +338,10 @@ public class Node2VecModel {
         HugeObjectArray<FloatVector> embeddings();
 
         List<Double> lossPerIteration();
+
+        /**
+         * Positive and negative samples trained per second of training time, divided by the concurrency.
+         */
+        double trainingPairsPerSecondPerThread();
     }
 }
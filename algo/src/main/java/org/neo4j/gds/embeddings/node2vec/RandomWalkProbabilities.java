@@ -19,14 +19,15 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.LongStream;
 
 import static java.lang.Math.addExact;
@@ -34,19 +35,22 @@ import static java.lang.Math.addExact;
 @ValueClass
 interface RandomWalkProbabilities {
 
-    HugeLongArray nodeFrequencies();
+    HugeAtomicLongArray nodeFrequencies();
     HugeDoubleArray positiveSamplingProbabilities();
     HugeLongArray negativeSamplingDistribution();
     long sampleCount();
 
     static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(RandomWalkProbabilities.class.getSimpleName())
-            .perNode("node frequencies", HugeLongArray::memoryEstimation)
+            .perNode("node frequencies", HugeAtomicLongArray::memoryEstimation)
             .perNode("positive sampling probabilities", HugeDoubleArray::memoryEstimation)
             .perNode("negative sampling distribution", HugeLongArray::memoryEstimation)
             .build();
     }
 
+    /**
+     * Walks can be registered concurrently.
+     */
     @SuppressWarnings("immutables:incompat")
     class Builder {
 
@@ -54,8 +58,8 @@ interface RandomWalkProbabilities {
         private final int concurrency;
         private final double positiveSamplingFactor;
         private final double negativeSamplingExponent;
-        private final HugeLongArray nodeFrequencies;
-        private final MutableLong sampleCount;
+        private final HugeAtomicLongArray nodeFrequencies;
+        private final LongAdder sampleCount;
 
         Builder(
             long nodeCount,
@@ -68,15 +72,19 @@ interface RandomWalkProbabilities {
             this.positiveSamplingFactor = positiveSamplingFactor;
             this.negativeSamplingExponent = negativeSamplingExponent;
 
-            this.nodeFrequencies = HugeLongArray.newArray(nodeCount);
-            this.sampleCount = new MutableLong(0);
+            this.nodeFrequencies = HugeAtomicLongArray.newArray(nodeCount);
+            this.sampleCount = new LongAdder();
         }
 
         RandomWalkProbabilities.Builder registerWalk(long[] walk) {
-            for (long node : walk) {
-                nodeFrequencies.addTo(node, 1);
+            return registerWalk(walk, walk.length);
+        }
+
+        RandomWalkProbabilities.Builder registerWalk(long[] walk, int length) {
+            for (int i = 0; i < length; i++) {
+                nodeFrequencies.getAndAdd(walk[i], 1);
             }
-            this.sampleCount.add(walk.length);
+            this.sampleCount.add(length);
 
             return this;
         }
@@ -90,13 +98,13 @@ interface RandomWalkProbabilities {
                 .nodeFrequencies(nodeFrequencies)
                 .positiveSamplingProbabilities(centerProbabilities)
                 .negativeSamplingDistribution(contextDistribution)
-                .sampleCount(sampleCount.getValue())
+                .sampleCount(sampleCount.sum())
                 .build();
         }
 
         private HugeDoubleArray computePositiveSamplingProbabilities() {
             var centerProbabilities = HugeDoubleArray.newArray(nodeCount);
-            var sum = sampleCount.getValue();
+            var sum = sampleCount.sum();
 
             ParallelUtil.parallelStreamConsume(
                 LongStream.range(0, nodeCount),
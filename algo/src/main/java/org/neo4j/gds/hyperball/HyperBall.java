@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * HyperBall: approximate distance statistics from HyperLogLog counters.
+ * <p>
+ * Every node owns a HyperLogLog counter with 2^precision byte registers, packed eight to a long.
+ * Initially each counter only contains its own node. In iteration t every node whose counter changed
+ * in iteration t - 1 merges its counter into the counters of its out-neighbours, so that afterwards the
+ * counter of a node estimates the number of nodes reaching it within t hops. Merging is a byte-wise
+ * maximum computed on whole longs and published with a compare-and-exchange loop.
+ * The growth of an estimate between two iterations approximates the number of nodes at exactly that
+ * distance, which is reported to a {@link BallConsumer}. The sums of all estimates form the approximate
+ * neighbourhood function. The iteration stops once no counter changes, i.e. after diameter + 1 passes.
+ * <p>
+ * The direction matches {@link org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods}: a node is reported
+ * for the nodes that reach it, not for the nodes it reaches.
+ * <p>
+ * Progress is logged for every node of every pass. The number of passes is only known at the end,
+ * so the task volume grows by the node count with every iteration.
+ *
+ * https://doi.org/10.1145/2567948.2579371
+ * https://doi.org/10.1145/1963405.1963493
+ */
+public final class HyperBall {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final int BATCH_SIZE = 4096;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    @FunctionalInterface
+    public interface BallConsumer {
+        /**
+         * Called at most once per node and distance with the estimated number of
+         * nodes reaching {@code nodeId} in exactly {@code distance} hops.
+         */
+        void accept(long nodeId, int distance, double reached);
+    }
+
+    public static MemoryEstimation memoryEstimation(int precision) {
+        int wordsPerNode = (1 << precision) / Long.BYTES;
+        return MemoryEstimations.builder(HyperBall.class)
+            .perNode("counters", nodeCount -> 2 * HugeAtomicLongArray.memoryEstimation(nodeCount * wordsPerNode))
+            .perNode("estimates", HugeDoubleArray::memoryEstimation)
+            .perNode("changed nodes", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int registers;
+    private final int wordsPerNode;
+    private final double alpha;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+
+    private final HugeAtomicLongArray counters;
+    private final HugeAtomicLongArray nextCounters;
+    private final HugeDoubleArray estimates;
+
+    private HugeAtomicBitSet changed;
+    private HugeAtomicBitSet nextChanged;
+
+    public HyperBall(
+        Graph graph,
+        int precision,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(String.format(
+                "The precision must be between %d and %d, but got %d.",
+                MIN_PRECISION,
+                MAX_PRECISION,
+                precision
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.registers = 1 << precision;
+        this.wordsPerNode = registers / Long.BYTES;
+        this.alpha = alpha(registers);
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.counters = HugeAtomicLongArray.newArray(nodeCount * wordsPerNode);
+        this.nextCounters = HugeAtomicLongArray.newArray(nodeCount * wordsPerNode);
+        this.estimates = HugeDoubleArray.newArray(nodeCount);
+        this.changed = HugeAtomicBitSet.create(nodeCount);
+        this.nextChanged = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    /**
+     * Runs the iterations until no counter changes.
+     *
+     * @return the approximate neighbourhood function, where entry t estimates
+     *     the number of node pairs (u, v) such that v is reachable from u within t hops
+     */
+    public double[] compute(BallConsumer consumer, TerminationFlag terminationFlag) {
+        var reached = new DoubleAdder();
+        forEachNode(terminationFlag, false, (localGraph, node) -> {
+            initCounter(node);
+            reached.add(estimates.get(node));
+        });
+
+        double[] neighbourhoodFunction = new double[16];
+        neighbourhoodFunction[0] = reached.sum();
+
+        int distance = 0;
+        while (!changed.isEmpty()) {
+            distance++;
+            progressTracker.setVolume(distance * nodeCount);
+            forEachNode(terminationFlag, true, (localGraph, node) -> {
+                if (changed.get(node)) {
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        if (union(source, target)) {
+                            nextChanged.set(target);
+                        }
+                        return true;
+                    });
+                }
+            });
+
+            int currentDistance = distance;
+            var grown = new DoubleAdder();
+            forEachNode(terminationFlag, false, (localGraph, node) -> {
+                if (nextChanged.get(node)) {
+                    double delta = updateEstimate(node);
+                    if (delta > 0) {
+                        consumer.accept(node, currentDistance, delta);
+                        grown.add(delta);
+                    }
+                }
+            });
+
+            if (distance == neighbourhoodFunction.length) {
+                neighbourhoodFunction = Arrays.copyOf(neighbourhoodFunction, distance * 2);
+            }
+            neighbourhoodFunction[distance] = neighbourhoodFunction[distance - 1] + grown.sum();
+
+            var swap = changed;
+            changed = nextChanged;
+            nextChanged = swap;
+            nextChanged.clear();
+        }
+
+        // the last pass changed no counter
+        return Arrays.copyOf(neighbourhoodFunction, Math.max(1, distance));
+    }
+
+    private void initCounter(long node) {
+        long hash = BitMixer.mix64(node);
+        int register = (int) (hash >>> (Long.SIZE - Integer.numberOfTrailingZeros(registers)));
+        // the sentinel bit caps the rank at 64 - precision + 1
+        long remainder = (hash << Integer.numberOfTrailingZeros(registers)) | (registers >>> 1);
+        long rank = Long.numberOfLeadingZeros(remainder) + 1;
+
+        long index = node * wordsPerNode + register / Long.BYTES;
+        long word = rank << ((register % Long.BYTES) * Byte.SIZE);
+        counters.set(index, word);
+        nextCounters.set(index, word);
+        estimates.set(node, estimate(node));
+        changed.set(node);
+    }
+
+    /**
+     * Merges the counter of {@code source} into the next counter of {@code target}.
+     *
+     * @return true iff the next counter of {@code target} changed
+     */
+    private boolean union(long source, long target) {
+        boolean updated = false;
+        long sourceOffset = source * wordsPerNode;
+        long targetOffset = target * wordsPerNode;
+        for (int i = 0; i < wordsPerNode; i++) {
+            long sourceWord = counters.get(sourceOffset + i);
+            if (sourceWord == 0) {
+                continue;
+            }
+            long index = targetOffset + i;
+            long current = nextCounters.get(index);
+            while (true) {
+                long max = byteWiseMax(current, sourceWord);
+                if (max == current) {
+                    break;
+                }
+                long witness = nextCounters.compareAndExchange(index, current, max);
+                if (witness == current) {
+                    updated = true;
+                    break;
+                }
+                current = witness;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Copies the next counter of {@code node} into its current counter and re-estimates its size.
+     *
+     * @return the growth of the estimate, which is never negative
+     */
+    private double updateEstimate(long node) {
+        long offset = node * wordsPerNode;
+        for (int i = 0; i < wordsPerNode; i++) {
+            counters.set(offset + i, nextCounters.get(offset + i));
+        }
+        double previous = estimates.get(node);
+        // the small range correction is not monotone in the registers, the union of counters is
+        double estimate = Math.max(previous, estimate(node));
+        estimates.set(node, estimate);
+        return estimate - previous;
+    }
+
+    private double estimate(long node) {
+        double sum = 0;
+        int zeros = 0;
+        long offset = node * wordsPerNode;
+        for (int i = 0; i < wordsPerNode; i++) {
+            long word = counters.get(offset + i);
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                int rank = (int) (word >>> shift) & 0xFF;
+                sum += Math.scalb(1.0, -rank);
+                if (rank == 0) {
+                    zeros++;
+                }
+            }
+        }
+        double estimate = alpha * registers * registers / sum;
+        if (estimate <= 2.5 * registers && zeros > 0) {
+            estimate = registers * Math.log((double) registers / zeros);
+        }
+        return estimate;
+    }
+
+    /**
+     * Unsigned maximum of the eight bytes packed in each argument.
+     * Registers never exceed 64, so the high bit of each byte is free to absorb the borrow of the subtraction.
+     */
+    static long byteWiseMax(long a, long b) {
+        long greaterOrEqual = (((a | HIGH_BITS) - b) & HIGH_BITS) >>> 7;
+        long mask = greaterOrEqual * 0xFF;
+        return (a & mask) | (b & ~mask);
+    }
+
+    private static double alpha(int registers) {
+        switch (registers) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registers);
+        }
+    }
+
+    private void forEachNode(TerminationFlag terminationFlag, boolean logProgress, NodeVisitor visitor) {
+        var queue = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new NodeTask(queue, visitor, logProgress, terminationFlag));
+        ParallelUtil.run(tasks, executorService);
+        terminationFlag.assertRunning();
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Graph localGraph, long node);
+    }
+
+    private final class NodeTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final NodeVisitor visitor;
+        private final boolean logProgress;
+        private final TerminationFlag terminationFlag;
+        private final Graph localGraph;
+
+        NodeTask(AtomicLong queue, NodeVisitor visitor, boolean logProgress, TerminationFlag terminationFlag) {
+            this.queue = queue;
+            this.visitor = visitor;
+            this.logProgress = logProgress;
+            this.terminationFlag = terminationFlag;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = queue.getAndAdd(BATCH_SIZE)) < nodeCount && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    visitor.visit(localGraph, node);
+                }
+                if (logProgress) {
+                    progressTracker.logProgress(end - start);
+                }
+            }
+        }
+    }
+}
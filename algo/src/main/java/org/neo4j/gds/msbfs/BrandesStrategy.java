@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
+
+/**
+ * Brandes' dependency accumulation for up to {@code ω} sources sharing one breadth-first traversal.
+ * <p>
+ * Every source owns one lane of the packed visit and seen sets. The forward phase expands the frontier
+ * of all lanes at once and adds shortest path counts per lane. Each node is stored with the lanes that reached
+ * it at a depth, so the backward phase can walk the depths in reverse and accumulate the dependencies of all lanes
+ * of a node in a single scan of its relationships.
+ * <p>
+ * The dependency of a node is accumulated in place of its path count:
+ * once a node has been processed, its lane holds {@code (1 + δ) / σ}, which is all its predecessors need.
+ * The per-node sum of the dependencies over all lanes is passed to the {@link DependencyConsumer}.
+ * Sources do not receive a dependency for their own lane.
+ * <p>
+ * The strategy is shared by all MS-BFS instances and keeps its per-lane state thread local.
+ * It must be closed once the traversal has finished to release that state for all threads.
+ * <p>
+ * [1]: <a href="https://www.uni-konstanz.de/mmsp/pubsys/publishedFiles/Brandes01.pdf">A Faster Algorithm for Betweenness Centrality</a>
+ */
+public final class BrandesStrategy implements ExecutionStrategy, AutoCloseable {
+
+    @FunctionalInterface
+    public interface DependencyConsumer {
+        void accept(long nodeId, double dependency);
+    }
+
+    private final DependencyConsumer dependencyConsumer;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final CloseableThreadLocal<LaneState> laneStates;
+
+    public BrandesStrategy(
+        long nodeCount,
+        DependencyConsumer dependencyConsumer,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.dependencyConsumer = dependencyConsumer;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.laneStates = new CloseableThreadLocal<>(() -> new LaneState(nodeCount));
+    }
+
+    @Override
+    public void run(
+        RelationshipIterator relationships,
+        long totalNodeCount,
+        SourceNodes sourceNodes,
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet,
+        @Nullable HugeLongArray seenNextSet
+    ) {
+        var state = laneStates.get();
+        long lanes = state.addSources(visitSet);
+
+        int maxDepth = state.traverse(relationships, visitNextSet, seenSet, terminationFlag);
+        state.accumulate(relationships, maxDepth, dependencyConsumer, terminationFlag);
+        state.reset();
+
+        progressTracker.logProgress(Long.bitCount(lanes));
+    }
+
+    @Override
+    public void close() {
+        laneStates.close();
+    }
+
+    private static final class LaneState {
+
+        // path counts per (node, lane), replaced by (1 + dependency) / path count during the backward phase
+        private final HugeDoubleArray sigma;
+        // the lanes in which a node lies at the depth below the one being accumulated
+        private final HugeLongArray successorLanes;
+        private final double[] laneDependencies;
+
+        // nodes in the order of their depth, together with the lanes that reached them at that depth
+        private HugeLongArray nodes;
+        private HugeLongArray nodeLanes;
+        private long size;
+        private long[] depthOffsets;
+
+        LaneState(long nodeCount) {
+            this.sigma = HugeDoubleArray.newArray(nodeCount * OMEGA);
+            this.successorLanes = HugeLongArray.newArray(nodeCount);
+            this.laneDependencies = new double[OMEGA];
+            this.nodes = HugeLongArray.newArray(Math.max(nodeCount, 1));
+            this.nodeLanes = HugeLongArray.newArray(Math.max(nodeCount, 1));
+            this.depthOffsets = new long[16];
+        }
+
+        long addSources(HugeLongArray visitSet) {
+            long allLanes = 0L;
+            HugeCursor<long[]> cursor = visitSet.newCursor();
+            visitSet.initCursor(cursor);
+            while (cursor.next()) {
+                long[] array = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    long lanes = array[i];
+                    if (lanes != 0L) {
+                        long node = cursor.base + i;
+                        add(node, lanes);
+                        for (long remaining = lanes; remaining != 0L; remaining &= remaining - 1) {
+                            sigma.set(index(node, Long.numberOfTrailingZeros(remaining)), 1D);
+                        }
+                        allLanes |= lanes;
+                    }
+                }
+            }
+            depthOffsets[0] = 0;
+            depthOffsets[1] = size;
+            return allLanes;
+        }
+
+        /**
+         * Expands all lanes depth by depth and returns the deepest depth reached.
+         */
+        int traverse(
+            RelationshipIterator relationships,
+            HugeLongArray nextLanes,
+            HugeLongArray seenLanes,
+            TerminationFlag terminationFlag
+        ) {
+            int depth = 0;
+            while (depthOffsets[depth + 1] > depthOffsets[depth] && terminationFlag.running()) {
+                long start = depthOffsets[depth];
+                long end = depthOffsets[depth + 1];
+                for (long entry = start; entry < end; entry++) {
+                    long node = nodes.get(entry);
+                    long lanes = nodeLanes.get(entry);
+                    relationships.forEachRelationship(node, (source, target) -> {
+                        long newLanes = lanes & ~seenLanes.get(target);
+                        if (newLanes == 0L) {
+                            return true;
+                        }
+                        if (nextLanes.get(target) == 0L) {
+                            add(target, 0L);
+                        }
+                        nextLanes.or(target, newLanes);
+                        for (long remaining = newLanes; remaining != 0L; remaining &= remaining - 1) {
+                            int lane = Long.numberOfTrailingZeros(remaining);
+                            sigma.addTo(index(target, lane), sigma.get(index(source, lane)));
+                        }
+                        return true;
+                    });
+                }
+
+                for (long entry = end; entry < size; entry++) {
+                    long node = nodes.get(entry);
+                    long lanes = nextLanes.get(node);
+                    nodeLanes.set(entry, lanes);
+                    seenLanes.or(node, lanes);
+                    nextLanes.set(node, 0L);
+                }
+
+                depth++;
+                ensureDepthCapacity(depth + 2);
+                depthOffsets[depth + 1] = size;
+            }
+            return depth - 1;
+        }
+
+        void accumulate(
+            RelationshipIterator relationships,
+            int maxDepth,
+            DependencyConsumer dependencyConsumer,
+            TerminationFlag terminationFlag
+        ) {
+            for (int depth = maxDepth; depth > 0 && terminationFlag.running(); depth--) {
+                markLanes(depth + 1, true);
+
+                for (long entry = depthOffsets[depth]; entry < depthOffsets[depth + 1]; entry++) {
+                    long node = nodes.get(entry);
+                    long lanes = nodeLanes.get(entry);
+                    if (depth < maxDepth) {
+                        relationships.forEachRelationship(node, (source, target) -> {
+                            long sharedLanes = lanes & successorLanes.get(target);
+                            for (long remaining = sharedLanes; remaining != 0L; remaining &= remaining - 1) {
+                                int lane = Long.numberOfTrailingZeros(remaining);
+                                laneDependencies[lane] += sigma.get(index(target, lane));
+                            }
+                            return true;
+                        });
+                    }
+
+                    double dependency = 0D;
+                    for (long remaining = lanes; remaining != 0L; remaining &= remaining - 1) {
+                        int lane = Long.numberOfTrailingZeros(remaining);
+                        long index = index(node, lane);
+                        double pathCount = sigma.get(index);
+                        double laneDependency = pathCount * laneDependencies[lane];
+                        dependency += laneDependency;
+                        sigma.set(index, (1D + laneDependency) / pathCount);
+                        laneDependencies[lane] = 0D;
+                    }
+                    if (dependency != 0D) {
+                        dependencyConsumer.accept(node, dependency);
+                    }
+                }
+
+                markLanes(depth + 1, false);
+            }
+        }
+
+        void reset() {
+            for (long entry = 0; entry < size; entry++) {
+                long node = nodes.get(entry);
+                for (long remaining = nodeLanes.get(entry); remaining != 0L; remaining &= remaining - 1) {
+                    sigma.set(index(node, Long.numberOfTrailingZeros(remaining)), 0D);
+                }
+            }
+            size = 0;
+        }
+
+        private void markLanes(int depth, boolean mark) {
+            if (depth + 1 >= depthOffsets.length) {
+                return;
+            }
+            for (long entry = depthOffsets[depth]; entry < depthOffsets[depth + 1]; entry++) {
+                successorLanes.set(nodes.get(entry), mark ? nodeLanes.get(entry) : 0L);
+            }
+        }
+
+        private void add(long node, long lanes) {
+            if (size == nodes.size()) {
+                nodes = nodes.copyOf(2 * size);
+                nodeLanes = nodeLanes.copyOf(2 * size);
+            }
+            nodes.set(size, node);
+            nodeLanes.set(size, lanes);
+            size++;
+        }
+
+        private void ensureDepthCapacity(int length) {
+            if (length > depthOffsets.length) {
+                depthOffsets = Arrays.copyOf(depthOffsets, 2 * length);
+            }
+        }
+
+        private static long index(long node, int lane) {
+            return node * OMEGA + lane;
+        }
+    }
+}
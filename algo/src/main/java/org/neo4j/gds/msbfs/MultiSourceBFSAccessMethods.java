@@ -132,6 +132,20 @@ public final class MultiSourceBFSAccessMethods {
         );
     }
 
+    public static MultiSourceBFSAccessMethods dependencyAccumulation(
+        long nodeCount,
+        RelationshipIterator relationships,
+        BrandesStrategy strategy,
+        long[] sourceNodes
+    ) {
+        return createWithoutSeensNextOrStartNodeTraversal(
+            nodeCount,
+            relationships,
+            strategy,
+            sourceNodes
+        );
+    }
+
     private static MultiSourceBFSAccessMethods createWithoutSeensNextOrSourceNodesOrStartNodeTraversal(
         long nodeCount,
         RelationshipIterator relationships,
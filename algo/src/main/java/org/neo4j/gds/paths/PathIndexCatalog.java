@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Remembers which relationships and weights a shortest path index stored in a node property was built on,
+ * so that queries using the index can be checked against them.
+ *
+ * Entries are tied to the graph store they were registered for and disappear together with it.
+ * They are also tied to the values of the node property at registration time, so an entry no longer applies
+ * once the property has been removed or replaced, even if a property with the same name is added again.
+ */
+public final class PathIndexCatalog {
+
+    public enum Kind {
+        LANDMARKS("landmark distances", "gds.alpha.shortestPath.landmarks.mutate"),
+        CONTRACTION_HIERARCHY("the ranks of a contraction hierarchy", "gds.alpha.shortestPath.contractionHierarchy.mutate");
+
+        private final String description;
+        private final String procedure;
+
+        Kind(String description, String procedure) {
+            this.description = description;
+            this.procedure = procedure;
+        }
+    }
+
+    private static final Map<GraphStore, Map<String, Entry>> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PathIndexCatalog() {}
+
+    /**
+     * Registers the index for the current values of the node property, which must already be part of the graph store.
+     */
+    public static void register(GraphStore graphStore, String nodeProperty, PathIndex index) {
+        if (!graphStore.hasNodeProperty(nodeProperty)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Node property `%s` must be added to the graph before registering it as a path index.",
+                nodeProperty
+            ));
+        }
+        var values = graphStore.nodeProperty(nodeProperty).values();
+        INDEXES
+            .computeIfAbsent(graphStore, __ -> new ConcurrentHashMap<>())
+            .put(nodeProperty, new Entry(new WeakReference<>(values), index));
+    }
+
+    public static Optional<PathIndex> get(GraphStore graphStore, String nodeProperty) {
+        var indexes = INDEXES.get(graphStore);
+        if (indexes == null) {
+            return Optional.empty();
+        }
+        var entry = indexes.get(nodeProperty);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        var currentValues = graphStore.hasNodeProperty(nodeProperty)
+            ? graphStore.nodeProperty(nodeProperty).values()
+            : null;
+        if (currentValues == null || currentValues != entry.values.get()) {
+            // the property has been removed or replaced since the index was built
+            indexes.remove(nodeProperty, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.index);
+    }
+
+    /**
+     * Checks that a query on the selected relationships and weights may use the index stored in the node property.
+     * Any other relationships or weights may lead to wrong paths.
+     */
+    public static PathIndex validateQuery(
+        GraphStore graphStore,
+        String nodeProperty,
+        Kind kind,
+        Collection<RelationshipType> selectedRelationshipTypes,
+        Optional<String> relationshipWeightProperty
+    ) {
+        var index = get(graphStore, nodeProperty)
+            .filter(candidate -> candidate.kind() == kind)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` does not hold %s. Build them with `%s`.",
+                nodeProperty,
+                kind.description,
+                kind.procedure
+            )));
+
+        var selectedTypes = selectedRelationshipTypes
+            .stream()
+            .map(RelationshipType::name)
+            .collect(Collectors.toSet());
+        if (!selectedTypes.equals(index.relationshipTypes())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` can only be queried on the relationship types %s, but got %s.",
+                nodeProperty,
+                StringJoining.join(index.relationshipTypes()),
+                StringJoining.join(selectedTypes)
+            ));
+        }
+        if (!relationshipWeightProperty.equals(index.relationshipWeightProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` has been built with the relationship weight property `%s`, but got `%s`.",
+                nodeProperty,
+                index.relationshipWeightProperty().orElse(null),
+                relationshipWeightProperty.orElse(null)
+            ));
+        }
+        return index;
+    }
+
+    private static final class Entry {
+        // weak, so that a removed property is not kept alive until the next lookup
+        private final WeakReference<NodePropertyValues> values;
+        private final PathIndex index;
+
+        private Entry(WeakReference<NodePropertyValues> values, PathIndex index) {
+            this.values = values;
+            this.index = index;
+        }
+    }
+
+    @ValueClass
+    public interface PathIndex {
+        Kind kind();
+
+        // The relationship types the index has been built on.
+        Set<String> relationshipTypes();
+
+        Optional<String> relationshipWeightProperty();
+
+        static PathIndex of(Kind kind, Set<String> relationshipTypes, Optional<String> relationshipWeightProperty) {
+            return ImmutablePathIndex.of(kind, relationshipTypes, relationshipWeightProperty);
+        }
+    }
+}
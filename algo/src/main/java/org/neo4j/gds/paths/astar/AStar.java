@@ -78,7 +78,7 @@ public final class AStar extends Algorithm<DijkstraResult> {
 
     public static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(AStar.class)
-            .add("Dijkstra", Dijkstra.memoryEstimation(false))
+            .add("Dijkstra", Dijkstra.memoryEstimation(false, false))
             .add("distanceCache", HugeLongDoubleMap.memoryEstimation())
             .build();
     }
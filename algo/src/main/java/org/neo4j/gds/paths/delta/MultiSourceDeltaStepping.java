@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.procedures.LongProcedure;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.DoublePageCreator;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaMultiSourceStreamConfig;
+import org.neo4j.gds.paths.dijkstra.DijkstraResult;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.paths.delta.TentativeDistances.DIST_INF;
+import static org.neo4j.gds.paths.delta.TentativeDistances.NO_PREDECESSOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Delta-stepping from many source nodes at once.
+ *
+ * The sources are processed in batches. Within a batch, every node holds a vector of tentative distances,
+ * one per source, and all sources share the same bins: a node is put into the bin of any of its improved
+ * distances and relaxing it scans its relationships once for all sources whose distance falls into the
+ * current bin. The distance arrays are allocated once and reset between batches.
+ *
+ * The first batch is computed eagerly, every following batch when the result stream reaches it.
+ * Holding all batches at once would defeat batching, so the memory reservation of the procedure call
+ * is only released once the result stream is closed. The time spent on streamed batches is logged
+ * when the stream is closed, as it is not part of the compute time of the call.
+ */
+public final class MultiSourceDeltaStepping extends Algorithm<DijkstraResult> {
+    public static final String DESCRIPTION = "The multi-source Delta Stepping shortest path algorithm computes the shortest (weighted) paths " +
+                                             "from each of a list of source nodes to any other node in the graph. " +
+                                             "Batches of sources share a single multi-threaded run.";
+
+    private static final int NO_BIN = Integer.MAX_VALUE;
+    private static final int BIN_SIZE_THRESHOLD = 1000;
+    private static final int BATCH_SIZE = 64;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long[] sourceNodes;
+    private final double delta;
+    private final int batchSize;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    // Index `node * batchSize + source` holds the values of `node` for the `source`-th node of the current batch.
+    private final TentativeDistances distances;
+    // The distance each node and source has last been relaxed with. Suppresses duplicate frontier entries.
+    private final HugeAtomicDoubleArray relaxedDistances;
+    private final AtomicLong streamedBatches;
+    private final AtomicLong streamedBatchesMillis;
+    private HugeLongArray frontier;
+
+    public static MultiSourceDeltaStepping of(
+        Graph graph,
+        AllShortestPathsDeltaMultiSourceStreamConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        return new MultiSourceDeltaStepping(
+            graph,
+            config.sourceNodes().stream().mapToLong(graph::toMappedNodeId).toArray(),
+            config.delta(),
+            config.sourceBatchSize(),
+            config.concurrency(),
+            executorService,
+            progressTracker
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation(int sourceCount, int sourceBatchSize) {
+        int batchSize = Math.max(1, Math.min(sourceCount, sourceBatchSize));
+        return MemoryEstimations.builder(MultiSourceDeltaStepping.class)
+            .perNode("distance array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * batchSize))
+            .perNode("predecessor array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * batchSize))
+            .perNode("relaxed distance array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * batchSize))
+            .rangePerGraphDimension("shared bin", (dimensions, concurrency) -> {
+                // The frontier grows on demand. Most of the time, every node is queued about once per bin,
+                // the worst case queues every relationship once per source.
+                var lowerBound = HugeLongArray.memoryEstimation(dimensions.nodeCount());
+                var upperBound = HugeLongArray.memoryEstimation(dimensions.relCountUpperBound() * batchSize);
+
+                return MemoryRange.of(lowerBound, Math.max(lowerBound, upperBound));
+            })
+            .rangePerGraphDimension("local bins", (dimensions, concurrency) -> {
+                var lowerBound = HugeLongArray.memoryEstimation(dimensions.nodeCount() / concurrency);
+                var upperBound = HugeLongArray.memoryEstimation(concurrency * dimensions.nodeCount());
+
+                return MemoryRange.of(lowerBound, Math.max(lowerBound, upperBound));
+            })
+            .build();
+    }
+
+    private MultiSourceDeltaStepping(
+        Graph graph,
+        long[] sourceNodes,
+        double delta,
+        int sourceBatchSize,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.delta = delta;
+        this.batchSize = Math.max(1, Math.min(sourceNodes.length, sourceBatchSize));
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+
+        long size = graph.nodeCount() * batchSize;
+        this.distances = TentativeDistances.distanceAndPredecessors(size, concurrency);
+        this.relaxedDistances = HugeAtomicDoubleArray.newArray(size, DoublePageCreator.of(concurrency, index -> DIST_INF));
+        this.frontier = HugeLongArray.newArray(Math.max(graph.nodeCount(), batchSize));
+        this.streamedBatches = new AtomicLong();
+        this.streamedBatchesMillis = new AtomicLong();
+    }
+
+    @Override
+    public DijkstraResult compute() {
+        progressTracker.beginSubTask();
+
+        var pathIndex = new AtomicLong(0L);
+        int batchCount = (sourceNodes.length + batchSize - 1) / batchSize;
+
+        computeBatch(0);
+        var paths = IntStream.range(0, batchCount).boxed().flatMap(batch -> {
+            if (batch > 0) {
+                try (var ignored = ProgressTimer.start(streamedBatchesMillis::addAndGet)) {
+                    computeBatch(batch);
+                }
+                streamedBatches.incrementAndGet();
+            }
+            return pathResults(batch, pathIndex);
+        });
+
+        return new DijkstraResult(paths, () -> {
+            progressTracker.logInfo(formatWithLocale(
+                "Computed %d of %d source batches while streaming in %d ms",
+                streamedBatches.get(),
+                batchCount,
+                streamedBatchesMillis.get()
+            ));
+            progressTracker.endSubTask();
+        });
+    }
+
+    /**
+     * The time spent on the batches computed while the result stream was consumed.
+     */
+    public long streamedBatchesMillis() {
+        return streamedBatchesMillis.get();
+    }
+
+    public long streamedBatches() {
+        return streamedBatches.get();
+    }
+
+    private void computeBatch(int batch) {
+        terminationFlag.assertRunning();
+
+        int batchOffset = batch * batchSize;
+        int batchLength = Math.min(batchSize, sourceNodes.length - batchOffset);
+
+        if (batch > 0) {
+            distances.distances().setAll(DIST_INF);
+            distances.predecessors().orElseThrow().setAll(NO_PREDECESSOR);
+            relaxedDistances.setAll(DIST_INF);
+        }
+
+        for (int source = 0; source < batchLength; source++) {
+            long sourceNode = sourceNodes[batchOffset + source];
+            this.distances.set(sourceNode * batchSize + source, -1, 0);
+            this.frontier.set(source, sourceNode);
+        }
+
+        int currentBin = 0;
+        var frontierIndex = new AtomicLong(0);
+        var frontierSize = new AtomicLong(batchLength);
+
+        var relaxTasks = IntStream
+            .range(0, concurrency)
+            .mapToObj(i -> new MultiSourceDeltaSteppingTask(frontierIndex))
+            .collect(Collectors.toList());
+
+        while (currentBin != NO_BIN) {
+            // Phase 1
+            progressTracker.beginSubTask();
+            for (var task : relaxTasks) {
+                task.setPhase(DeltaStepping.Phase.RELAX);
+                task.setBinIndex(currentBin);
+                task.setFrontierLength(frontierSize.longValue());
+            }
+            ParallelUtil.run(relaxTasks, executorService);
+            progressTracker.endSubTask();
+
+            // Sync barrier
+            // Find smallest non-empty bin across all tasks
+            currentBin = relaxTasks.stream().mapToInt(MultiSourceDeltaSteppingTask::minNonEmptyBin).min().orElseThrow();
+
+            // Unlike with a single source, a node can be queued once per source, so the frontier grows on demand.
+            if (currentBin != NO_BIN) {
+                int bin = currentBin;
+                long requiredSize = relaxTasks.stream().mapToLong(task -> task.binSize(bin)).sum();
+                if (requiredSize > frontier.size()) {
+                    frontier.release();
+                    frontier = HugeLongArray.newArray(requiredSize);
+                }
+            }
+
+            // Phase 2
+            progressTracker.beginSubTask();
+            frontierIndex.set(0);
+            for (var task : relaxTasks) {
+                task.setPhase(DeltaStepping.Phase.SYNC);
+                task.setBinIndex(currentBin);
+            }
+            ParallelUtil.run(relaxTasks, executorService);
+            progressTracker.endSubTask();
+
+            frontierSize.set(frontierIndex.longValue());
+            frontierIndex.set(0);
+        }
+    }
+
+    private final class MultiSourceDeltaSteppingTask implements Runnable {
+        private final Graph localGraph;
+        private final AtomicLong frontierIndex;
+        private final int[] relaxedSources;
+        private final double[] relaxedSourceDistances;
+        private int binIndex;
+        private long frontierLength;
+
+        private LongArrayList[] localBins;
+        private DeltaStepping.Phase phase = DeltaStepping.Phase.RELAX;
+
+        MultiSourceDeltaSteppingTask(AtomicLong frontierIndex) {
+            this.localGraph = graph.concurrentCopy();
+            this.frontierIndex = frontierIndex;
+            this.relaxedSources = new int[batchSize];
+            this.relaxedSourceDistances = new double[batchSize];
+            this.localBins = new LongArrayList[0];
+        }
+
+        @Override
+        public void run() {
+            if (phase == DeltaStepping.Phase.RELAX) {
+                relaxGlobalBin();
+                relaxLocalBin();
+            } else if (phase == DeltaStepping.Phase.SYNC) {
+                updateFrontier();
+            }
+        }
+
+        void setPhase(DeltaStepping.Phase phase) {
+            this.phase = phase;
+        }
+
+        void setBinIndex(int binIndex) {
+            this.binIndex = binIndex;
+        }
+
+        void setFrontierLength(long frontierLength) {
+            this.frontierLength = frontierLength;
+        }
+
+        int minNonEmptyBin() {
+            for (int i = binIndex; i < localBins.length; i++) {
+                if (localBins[i] != null && !localBins[i].isEmpty()) {
+                    return i;
+                }
+            }
+            return NO_BIN;
+        }
+
+        long binSize(int bin) {
+            return bin < localBins.length && localBins[bin] != null ? localBins[bin].size() : 0;
+        }
+
+        private void relaxGlobalBin() {
+            long offset;
+            while ((offset = frontierIndex.getAndAdd(BATCH_SIZE)) < frontierLength) {
+                long limit = Math.min(offset + BATCH_SIZE, frontierLength);
+
+                for (long idx = offset; idx < limit; idx++) {
+                    relaxNode(frontier.get(idx));
+                }
+            }
+        }
+
+        private void relaxLocalBin() {
+            while (binIndex < localBins.length
+                   && localBins[binIndex] != null
+                   && !localBins[binIndex].isEmpty()
+                   && localBins[binIndex].size() < BIN_SIZE_THRESHOLD) {
+                var binCopy = localBins[binIndex].clone();
+                localBins[binIndex].elementsCount = 0;
+                binCopy.forEach((LongProcedure) this::relaxNode);
+            }
+        }
+
+        private void relaxNode(long nodeId) {
+            // Collect the sources whose distance falls into the current bin and has not been relaxed yet.
+            // Distances in earlier bins are final and have been relaxed, later bins will be visited again.
+            long offset = nodeId * batchSize;
+            int sourceCount = 0;
+            for (int source = 0; source < batchSize; source++) {
+                double distance = distances.distance(offset + source);
+                if (distance != DIST_INF
+                    && (int) (distance / delta) == binIndex
+                    && Double.compare(relaxedDistances.getAndReplace(offset + source, distance), distance) != 0) {
+                    relaxedSources[sourceCount] = source;
+                    relaxedSourceDistances[sourceCount] = distance;
+                    sourceCount++;
+                }
+            }
+            if (sourceCount == 0) {
+                return;
+            }
+
+            int relaxedSourceCount = sourceCount;
+            localGraph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                long targetOffset = targetNodeId * batchSize;
+                int lastBin = -1;
+
+                for (int i = 0; i < relaxedSourceCount; i++) {
+                    long targetIndex = targetOffset + relaxedSources[i];
+                    var oldDist = distances.distance(targetIndex);
+                    var newDist = relaxedSourceDistances[i] + weight;
+
+                    while (Double.compare(newDist, oldDist) < 0) {
+                        var witness = distances.compareAndExchange(targetIndex, oldDist, newDist, sourceNodeId);
+
+                        if (Double.compare(witness, oldDist) == 0) {
+                            int destBin = (int) (newDist / delta);
+                            // one entry per bin is enough, relaxing the node picks up all sources of that bin
+                            if (destBin != lastBin) {
+                                addToLocalBin(destBin, targetNodeId);
+                                lastBin = destBin;
+                            }
+                            break;
+                        }
+                        // CAX failed, retry
+                        // we need to fetch the most recent value from distances
+                        oldDist = distances.distance(targetIndex);
+                    }
+                }
+
+                return true;
+            });
+        }
+
+        private void addToLocalBin(int bin, long nodeId) {
+            if (bin >= localBins.length) {
+                this.localBins = Arrays.copyOf(localBins, bin + 1);
+            }
+            if (localBins[bin] == null) {
+                this.localBins[bin] = new LongArrayList();
+            }
+            this.localBins[bin].add(nodeId);
+        }
+
+        private void updateFrontier() {
+            if (binIndex < localBins.length && localBins[binIndex] != null && !localBins[binIndex].isEmpty()) {
+                var size = localBins[binIndex].size();
+                var offset = frontierIndex.getAndAdd(size);
+
+                for (LongCursor longCursor : localBins[binIndex]) {
+                    long index = offset + longCursor.index;
+                    frontier.set(index, longCursor.value);
+                }
+
+                localBins[binIndex].elementsCount = 0;
+            }
+        }
+    }
+
+    private Stream<PathResult> pathResults(int batch, AtomicLong pathIndex) {
+        int batchOffset = batch * batchSize;
+        int batchLength = Math.min(batchSize, sourceNodes.length - batchOffset);
+
+        return IntStream.range(0, batchLength).boxed().flatMap(source -> {
+            long sourceNode = sourceNodes[batchOffset + source];
+            var pathResultBuilder = ImmutablePathResult.builder().sourceNode(sourceNode);
+
+            return LongStream
+                .range(0, graph.nodeCount())
+                .filter(target -> distances.predecessor(target * batchSize + source) != NO_PREDECESSOR)
+                .mapToObj(targetNode -> pathResult(
+                    pathResultBuilder,
+                    pathIndex.getAndIncrement(),
+                    sourceNode,
+                    source,
+                    targetNode
+                ));
+        });
+    }
+
+    private PathResult pathResult(
+        ImmutablePathResult.Builder pathResultBuilder,
+        long pathIndex,
+        long sourceNode,
+        int source,
+        long targetNode
+    ) {
+        var pathNodeIds = new LongArrayDeque();
+        var costs = new DoubleArrayDeque();
+
+        // We backtrack until we reach the source node.
+        var lastNode = targetNode;
+
+        while (true) {
+            pathNodeIds.addFirst(lastNode);
+            costs.addFirst(distances.distance(lastNode * batchSize + source));
+
+            // Break if we reach the end by hitting the source node.
+            if (lastNode == sourceNode) {
+                break;
+            }
+
+            lastNode = distances.predecessor(lastNode * batchSize + source);
+        }
+
+        return pathResultBuilder
+            .index(pathIndex)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface AllShortestPathsDeltaMultiSourceStreamConfig extends AlgoBaseConfig, RelationshipWeightConfig, SourceNodesConfig {
+
+    @Configuration.DoubleRange(min = 0, minInclusive = false)
+    @Value.Default
+    default double delta() {
+        return 2.0;
+    }
+
+    /**
+     * The number of source nodes that share a single delta-stepping run.
+     * Every node stores one distance and one predecessor per source of a batch.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1, max = 256)
+    default int sourceBatchSize() {
+        return 16;
+    }
+
+    @Value.Check
+    default void validateSourceNodes() {
+        if (sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException("The `sourceNodes` list must contain at least one node.");
+        }
+    }
+
+    static AllShortestPathsDeltaMultiSourceStreamConfig of(CypherMapWrapper userInput) {
+        return new AllShortestPathsDeltaMultiSourceStreamConfigImpl(userInput);
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+/**
+ * Bidirectional Dijkstra for a single source-target pair.
+ *
+ * A forward search from the source follows outgoing relationships and a backward search
+ * from the target follows incoming relationships. The search with the smaller queue settles
+ * the next node. Whenever a relationship connects both searches, the best path found so far
+ * is updated. The searches stop once the sum of both queue minima is at least the cost of
+ * that path, so both together settle roughly two balls of half the distance.
+ *
+ * On a contraction hierarchy, both searches only follow relationships towards nodes of a higher
+ * rank. Each search then continues until its own queue minimum reaches the cost of the best path,
+ * and the shortcuts on the resulting path are unpacked into the relationships they replace.
+ *
+ * The backward search needs the inverse index, unless the graph is undirected.
+ * Both searches only allocate memory for the nodes they reach.
+ */
+final class BidirectionalDijkstra {
+
+    private static final long NO_NODE = -1;
+    private static final long NO_RELATIONSHIP = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+    private final boolean trackRelationships;
+    private final boolean undirected;
+    private final @Nullable NodePropertyValues hierarchyRanks;
+    private final ProgressTracker progressTracker;
+
+    private final Search forward;
+    private final Search backward;
+
+    private double bestCost;
+    private long meetingNode;
+
+    static boolean supports(Graph graph) {
+        return graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+    }
+
+    BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        boolean trackRelationships,
+        @Nullable NodePropertyValues hierarchyRanks,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.trackRelationships = trackRelationships;
+        this.undirected = graph.characteristics().isUndirected();
+        this.hierarchyRanks = hierarchyRanks;
+        this.progressTracker = progressTracker;
+        // relationship ids on hierarchies and of the backward search are looked up when building the path
+        this.forward = new Search(trackRelationships && hierarchyRanks == null);
+        this.backward = new Search(false);
+        this.bestCost = Double.POSITIVE_INFINITY;
+        this.meetingNode = NO_NODE;
+    }
+
+    PathResult compute(TerminationFlag terminationFlag) {
+        forward.queue.add(sourceNode, 0.0);
+        backward.queue.add(targetNode, 0.0);
+        if (sourceNode == targetNode) {
+            bestCost = 0.0;
+            meetingNode = sourceNode;
+        }
+
+        while (terminationFlag.running()) {
+            double forwardMin = forward.queue.isEmpty()
+                ? Double.POSITIVE_INFINITY
+                : forward.queue.cost(forward.queue.top());
+            double backwardMin = backward.queue.isEmpty()
+                ? Double.POSITIVE_INFINITY
+                : backward.queue.cost(backward.queue.top());
+
+            if (hierarchyRanks == null) {
+                if (forwardMin + backwardMin >= bestCost) {
+                    break;
+                }
+                if (forward.queue.size() <= backward.queue.size()) {
+                    settle(forward, backward, false);
+                } else {
+                    settle(backward, forward, true);
+                }
+            } else {
+                if (Math.min(forwardMin, backwardMin) >= bestCost) {
+                    break;
+                }
+                if (forwardMin <= backwardMin) {
+                    settle(forward, backward, false);
+                } else {
+                    settle(backward, forward, true);
+                }
+            }
+        }
+
+        return meetingNode == NO_NODE ? PathResult.EMPTY : pathResult();
+    }
+
+    private void settle(Search search, Search opposite, boolean inverse) {
+        long node = search.queue.pop();
+        double cost = search.queue.cost(node);
+        search.visited.add(node);
+
+        // For disconnected graphs, this will not reach 100%.
+        progressTracker.logProgress(graph.degree(node));
+
+        long rank = hierarchyRanks == null ? 0L : hierarchyRanks.longValue(node);
+
+        if (inverse) {
+            RelationshipWithPropertyConsumer consumer = (source, target, weight) -> {
+                if (isUpward(rank, target)) {
+                    relax(search, opposite, source, target, NO_RELATIONSHIP, cost + weight);
+                }
+                return true;
+            };
+            if (undirected) {
+                graph.forEachRelationship(node, 1.0D, consumer);
+            } else {
+                graph.forEachInverseRelationship(node, 1.0D, consumer);
+            }
+        } else {
+            var relationshipId = new MutableInt();
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                if (isUpward(rank, target)) {
+                    relax(search, opposite, source, target, relationshipId.intValue(), cost + weight);
+                }
+                relationshipId.increment();
+                return true;
+            });
+        }
+    }
+
+    private boolean isUpward(long rank, long target) {
+        return hierarchyRanks == null || hierarchyRanks.longValue(target) > rank;
+    }
+
+    private void relax(Search search, Search opposite, long source, long target, long relationshipId, double newCost) {
+        if (search.visited.contains(target)) {
+            return;
+        }
+
+        if (!search.queue.containsElement(target)) {
+            search.queue.add(target, newCost);
+        } else if (newCost < search.queue.cost(target)) {
+            search.queue.set(target, newCost);
+        } else {
+            return;
+        }
+        search.predecessors.put(target, source);
+        if (search.relationships != null) {
+            search.relationships.put(target, relationshipId);
+        }
+
+        if (opposite.visited.contains(target) || opposite.queue.containsElement(target)) {
+            double pathCost = newCost + opposite.queue.cost(target);
+            if (pathCost < bestCost) {
+                bestCost = pathCost;
+                meetingNode = target;
+            }
+        }
+    }
+
+    private PathResult pathResult() {
+        var pathNodeIds = new LongArrayList();
+        var relationshipIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // walk back from the meeting node to the source
+        long node = meetingNode;
+        while (true) {
+            pathNodeIds.add(node);
+            costs.add(forward.queue.cost(node));
+            if (node == sourceNode) {
+                break;
+            }
+            if (forward.relationships != null) {
+                relationshipIds.add(forward.relationships.getOrDefault(node, NO_RELATIONSHIP));
+            }
+            node = forward.predecessors.getOrDefault(node, sourceNode);
+        }
+        reverse(pathNodeIds);
+        reverse(relationshipIds);
+        reverse(costs);
+
+        // walk forward from the meeting node to the target
+        node = meetingNode;
+        double meetingCost = forward.queue.cost(meetingNode) + backward.queue.cost(meetingNode);
+        while (node != targetNode) {
+            long next = backward.predecessors.getOrDefault(node, targetNode);
+            if (forward.relationships != null) {
+                relationshipIds.add(relationshipId(node, next));
+            }
+            node = next;
+            pathNodeIds.add(node);
+            costs.add(meetingCost - backward.queue.cost(node));
+        }
+
+        if (hierarchyRanks != null) {
+            var packedNodeIds = pathNodeIds;
+            pathNodeIds = new LongArrayList();
+            costs = new DoubleArrayList();
+            unpack(packedNodeIds, pathNodeIds, costs);
+            if (trackRelationships) {
+                for (int i = 1; i < pathNodeIds.size(); i++) {
+                    relationshipIds.add(relationshipId(pathNodeIds.get(i - 1), pathNodeIds.get(i)));
+                }
+            }
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(trackRelationships ? relationshipIds.toArray() : EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    /**
+     * Replaces every shortcut between two consecutive nodes with the path it stands for.
+     * A shortcut {@code (u, w)} of cost {@code c} was added when contracting a node {@code v} of lower rank
+     * than both ends, with relationships {@code (u, v)} and {@code (v, w)} whose costs sum up to {@code c}.
+     * Relationships without such a node are not shortcuts.
+     */
+    private void unpack(LongArrayList packedNodeIds, LongArrayList nodeIds, DoubleArrayList costs) {
+        nodeIds.add(packedNodeIds.get(0));
+        costs.add(0.0);
+        var pending = new LongArrayList();
+        for (int i = 1; i < packedNodeIds.size(); i++) {
+            pending.add(packedNodeIds.get(i - 1), packedNodeIds.get(i));
+            while (!pending.isEmpty()) {
+                long to = pending.removeLast();
+                long from = pending.removeLast();
+                double cost = cheapestCost(from, to);
+                long middle = middleNode(from, to, cost);
+                if (middle == NO_NODE) {
+                    nodeIds.add(to);
+                    costs.add(costs.get(costs.size() - 1) + cost);
+                } else {
+                    // the first half is processed first
+                    pending.add(middle, to);
+                    pending.add(from, middle);
+                }
+            }
+        }
+    }
+
+    private double cheapestCost(long source, long target) {
+        var cost = new MutableDouble(Double.POSITIVE_INFINITY);
+        graph.forEachRelationship(source, 1.0D, (s, t, weight) -> {
+            if (t == target && weight < cost.doubleValue()) {
+                cost.setValue(weight);
+            }
+            return true;
+        });
+        return cost.doubleValue();
+    }
+
+    private long middleNode(long source, long target, double cost) {
+        long maxRank = Math.min(hierarchyRanks.longValue(source), hierarchyRanks.longValue(target));
+        var candidates = new LongArrayList();
+        var candidateCosts = new DoubleArrayList();
+        graph.forEachRelationship(source, 1.0D, (s, candidate, weight) -> {
+            if (hierarchyRanks.longValue(candidate) < maxRank) {
+                candidates.add(candidate);
+                candidateCosts.add(weight);
+            }
+            return true;
+        });
+
+        var middle = new MutableLong(NO_NODE);
+        for (int i = 0; i < candidates.size() && middle.longValue() == NO_NODE; i++) {
+            long candidate = candidates.get(i);
+            double firstCost = candidateCosts.get(i);
+            graph.forEachRelationship(candidate, 1.0D, (s, t, weight) -> {
+                if (t == target && firstCost + weight == cost) {
+                    middle.setValue(candidate);
+                    return false;
+                }
+                return true;
+            });
+        }
+        return middle.longValue();
+    }
+
+    /**
+     * Finds the position of the cheapest relationship from {@code source} to {@code target}
+     * in the adjacency list of {@code source}, as the backward search only saw it from {@code target}.
+     */
+    private long relationshipId(long source, long target) {
+        var position = new MutableInt();
+        var found = new MutableLong(NO_RELATIONSHIP);
+        var foundCost = new MutableDouble(Double.POSITIVE_INFINITY);
+        graph.forEachRelationship(source, 1.0D, (s, t, weight) -> {
+            if (t == target && weight < foundCost.doubleValue()) {
+                found.setValue(position.intValue());
+                foundCost.setValue(weight);
+            }
+            position.increment();
+            return true;
+        });
+        return found.longValue();
+    }
+
+    private static void reverse(LongArrayList list) {
+        for (int i = 0, j = list.size() - 1; i < j; i++, j--) {
+            long tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    private static void reverse(DoubleArrayList list) {
+        for (int i = 0, j = list.size() - 1; i < j; i++, j--) {
+            double tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    private static final class Search {
+        private final SparseLongPriorityQueue queue;
+        private final HugeLongLongMap predecessors;
+        private final HugeLongLongMap relationships;
+        private final LongHashSet visited;
+
+        Search(boolean trackRelationships) {
+            this.queue = new SparseLongPriorityQueue();
+            this.predecessors = new HugeLongLongMap();
+            this.relationships = trackRelationships ? new HugeLongLongMap() : null;
+            this.visited = new LongHashSet();
+        }
+    }
+}
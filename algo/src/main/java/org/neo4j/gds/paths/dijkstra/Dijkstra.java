@@ -23,26 +23,40 @@ import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.LongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.RadixLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
 import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.paths.dijkstra.Dijkstra.TraversalState.CONTINUE;
 import static org.neo4j.gds.paths.dijkstra.Dijkstra.TraversalState.EMIT_AND_CONTINUE;
 import static org.neo4j.gds.paths.dijkstra.Dijkstra.TraversalState.EMIT_AND_STOP;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class Dijkstra extends Algorithm<DijkstraResult> {
     public static final String DESCRIPTION_SOURCE_TARGET = "The Dijkstra shortest path algorithm computes the shortest (weighted) path between one node and any other node in the graph.";
@@ -56,8 +70,11 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private TraversalState traversalState;
 
     private long sourceNode;
-    // priority queue
-    private final HugeLongPriorityQueue queue;
+    // priority queue, picked by the first search if the weights are yet to be checked
+    private @Nullable LongPriorityQueue queue;
+    // the weight property to check for integral values before the first search
+    private @Nullable String uncheckedWeightProperty;
+    private int weightCheckConcurrency;
     // predecessor map
     private final HugeLongLongMap predecessors;
     // True, iff the algo should track relationship ids.
@@ -72,9 +89,15 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private long pathIndex;
     // returns true if the given relationship should be traversed
     private RelationshipFilter relationshipFilter = (sourceId, targetId, relationshipId) -> true;
+    // returns true if the traversal should stop early at the given node
+    private LongPredicate stopCondition = nodeId -> false;
+    // searches from both ends instead, if present
+    private final Optional<BidirectionalDijkstra> bidirectionalSearch;
 
     /**
      * Configure Dijkstra to compute at most one source-target shortest path.
+     * The integer priority queue is used if the weights are integral, which is checked once per
+     * relationship type and weight property when the search starts.
      */
     public static Dijkstra sourceTarget(
         Graph graph,
@@ -82,6 +105,10 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         Optional<HeuristicFunction> heuristicFunction,
         ProgressTracker progressTracker
     ) {
+        if (heuristicFunction.isPresent() || !graph.hasRelationshipProperty() || config.relationshipWeightProperty().isEmpty()) {
+            return sourceTarget(graph, config, heuristicFunction, !graph.hasRelationshipProperty(), progressTracker);
+        }
+
         long sourceNode = graph.toMappedNodeId(config.sourceNode());
         long targetNode = graph.toMappedNodeId(config.targetNode());
 
@@ -90,33 +117,237 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
             sourceNode,
             node -> node == targetNode ? EMIT_AND_STOP : CONTINUE,
             config.trackRelationships(),
-            heuristicFunction,
+            null,
+            Optional.empty(),
+            progressTracker
+        ).withWeightCheck(config.relationshipWeightProperty().get(), config.concurrency());
+    }
+
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path.
+     * Callers that run many searches on the same graph can check the weights once
+     * with {@link #hasIntegralWeights(Graph, int, ExecutorService, TerminationFlag)} to enable the integer priority queue.
+     */
+    public static Dijkstra sourceTarget(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        Optional<HeuristicFunction> heuristicFunction,
+        boolean integralWeights,
+        ProgressTracker progressTracker
+    ) {
+        long sourceNode = graph.toMappedNodeId(config.sourceNode());
+        long targetNode = graph.toMappedNodeId(config.targetNode());
+
+        return new Dijkstra(
+            graph,
+            sourceNode,
+            node -> node == targetNode ? EMIT_AND_STOP : CONTINUE,
+            config.trackRelationships(),
+            priorityQueue(graph.nodeCount(), heuristicFunction, integralWeights),
+            Optional.empty(),
             progressTracker
         );
     }
 
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path
+     * by searching forward from the source and backward from the target.
+     */
+    public static Dijkstra bidirectional(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        return bidirectional(graph, config, null, progressTracker);
+    }
+
+    /**
+     * Configure Dijkstra to compute at most one source-target shortest path
+     * on a contraction hierarchy, given by the relationships of the graph and
+     * the node property holding the rank of each node in the hierarchy.
+     */
+    public static Dijkstra contractionHierarchy(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        String rankProperty,
+        ProgressTracker progressTracker
+    ) {
+        if (!graph.availableNodeProperties().contains(rankProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                rankProperty
+            ));
+        }
+        return bidirectional(graph, config, graph.nodeProperties(rankProperty), progressTracker);
+    }
+
+    private static Dijkstra bidirectional(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        @Nullable NodePropertyValues hierarchyRanks,
+        ProgressTracker progressTracker
+    ) {
+        if (!BidirectionalDijkstra.supports(graph)) {
+            throw new IllegalArgumentException(
+                "The bidirectional search requires undirected relationships or an inverse index."
+            );
+        }
+
+        long sourceNode = graph.toMappedNodeId(config.sourceNode());
+        long targetNode = graph.toMappedNodeId(config.targetNode());
+
+        return new Dijkstra(
+            graph,
+            sourceNode,
+            node -> node == targetNode ? EMIT_AND_STOP : CONTINUE,
+            config.trackRelationships(),
+            // both searches bring their own queues
+            HugeLongPriorityQueue.min(0),
+            Optional.of(new BidirectionalDijkstra(
+                graph,
+                sourceNode,
+                targetNode,
+                config.trackRelationships(),
+                hierarchyRanks,
+                progressTracker
+            )),
+            progressTracker
+        );
+    }
+
+    /**
+     * Configure Dijkstra to compute all single-source shortest path.
+     * The integer priority queue is used if the weights are integral, which is checked once per
+     * relationship type and weight property when the search starts.
+     */
+    public static Dijkstra singleSource(
+        Graph graph,
+        AllShortestPathsBaseConfig config,
+        Optional<HeuristicFunction> heuristicFunction,
+        ProgressTracker progressTracker
+    ) {
+        if (heuristicFunction.isPresent() || !graph.hasRelationshipProperty() || config.relationshipWeightProperty().isEmpty()) {
+            return singleSource(graph, config, heuristicFunction, !graph.hasRelationshipProperty(), progressTracker);
+        }
+
+        return new Dijkstra(graph,
+            graph.toMappedNodeId(config.sourceNode()),
+            node -> EMIT_AND_CONTINUE,
+            config.trackRelationships(),
+            null,
+            Optional.empty(),
+            progressTracker
+        ).withWeightCheck(config.relationshipWeightProperty().get(), config.concurrency());
+    }
+
     /**
      * Configure Dijkstra to compute all single-source shortest path.
+     * Callers that run many searches on the same graph can check the weights once
+     * with {@link #hasIntegralWeights(Graph, int, ExecutorService, TerminationFlag)} to enable the integer priority queue.
      */
     public static Dijkstra singleSource(
         Graph graph,
         AllShortestPathsBaseConfig config,
         Optional<HeuristicFunction> heuristicFunction,
+        boolean integralWeights,
         ProgressTracker progressTracker
     ) {
         return new Dijkstra(graph,
             graph.toMappedNodeId(config.sourceNode()),
             node -> EMIT_AND_CONTINUE,
             config.trackRelationships(),
-            heuristicFunction,
+            priorityQueue(graph.nodeCount(), heuristicFunction, integralWeights),
+            Optional.empty(),
             progressTracker
         );
     }
 
+    /**
+     * Returns true, iff all relationship weights are integral values, so that path costs can be
+     * kept in a {@link RadixLongPriorityQueue}. Unweighted graphs always qualify.
+     * Checking the weights visits every relationship once.
+     */
+    public static boolean hasIntegralWeights(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        if (!graph.hasRelationshipProperty()) {
+            return true;
+        }
+
+        // Keep every path cost below the largest integer a double represents exactly.
+        double maxWeight = RadixLongPriorityQueue.MAX_COST / Math.max(1, graph.nodeCount());
+        var fractionalWeightFound = new AtomicBoolean(false);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(node -> {
+                    if (fractionalWeightFound.get() || !terminationFlag.running()) {
+                        return;
+                    }
+                    localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                        if (!RadixLongPriorityQueue.isIntegral(weight) || weight > maxWeight) {
+                            fractionalWeightFound.set(true);
+                            return false;
+                        }
+                        return true;
+                    });
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+        // Skipped partitions would otherwise count as integral.
+        terminationFlag.assertRunning();
+
+        return !fractionalWeightFound.get();
+    }
+
+    /**
+     * Like {@link #hasIntegralWeights(Graph, int, ExecutorService, TerminationFlag)}, but remembers the answer
+     * per relationship type and weight property, so that only the first search on them scans the weights.
+     */
+    public static boolean hasIntegralWeights(
+        Graph graph,
+        Optional<String> weightProperty,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        return weightProperty.isPresent()
+            ? IntegralWeightsCatalog.hasIntegralWeights(graph, weightProperty.get(), concurrency, executor, terminationFlag)
+            : hasIntegralWeights(graph, concurrency, executor, terminationFlag);
+    }
+
     public static MemoryEstimation memoryEstimation(boolean trackRelationships) {
-        var builder = MemoryEstimations.builder(Dijkstra.class)
-            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
-            .add("reverse path", HugeLongLongMap.memoryEstimation());
+        return memoryEstimation(trackRelationships, true);
+    }
+
+    /**
+     * @param integralWeights true, iff the search may use the integer priority queue
+     */
+    public static MemoryEstimation memoryEstimation(boolean trackRelationships, boolean integralWeights) {
+        var builder = MemoryEstimations.builder(Dijkstra.class);
+        if (integralWeights) {
+            // The queue is picked when the search is configured, so we reserve the larger one.
+            builder.max(
+                "priority queue",
+                List.of(HugeLongPriorityQueue.memoryEstimation(), RadixLongPriorityQueue.memoryEstimation())
+            );
+        } else {
+            builder.add("priority queue", HugeLongPriorityQueue.memoryEstimation());
+        }
+        builder.add("reverse path", HugeLongLongMap.memoryEstimation());
         if (trackRelationships) {
             builder.add("relationship ids", HugeLongLongMap.memoryEstimation());
         }
@@ -130,7 +361,8 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         long sourceNode,
         TraversalPredicate traversalPredicate,
         boolean trackRelationships,
-        Optional<HeuristicFunction> heuristicFunction,
+        @Nullable LongPriorityQueue queue,
+        Optional<BidirectionalDijkstra> bidirectionalSearch,
         ProgressTracker progressTracker
     ) {
         super(progressTracker);
@@ -139,15 +371,20 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         this.traversalPredicate = traversalPredicate;
         this.traversalState = CONTINUE;
         this.trackRelationships = trackRelationships;
-        this.queue = heuristicFunction
-            .map(fn -> minPriorityQueue(graph.nodeCount(), fn))
-            .orElseGet(() -> HugeLongPriorityQueue.min(graph.nodeCount()));
+        this.queue = queue;
+        this.bidirectionalSearch = bidirectionalSearch;
         this.predecessors = new HugeLongLongMap();
         this.relationships = trackRelationships ? new HugeLongLongMap() : null;
         this.visited = new BitSet();
         this.pathIndex = 0L;
     }
 
+    private Dijkstra withWeightCheck(String weightProperty, int concurrency) {
+        this.uncheckedWeightProperty = weightProperty;
+        this.weightCheckConcurrency = concurrency;
+        return this;
+    }
+
     public Dijkstra withSourceNode(long sourceNode) {
         this.sourceNode = sourceNode;
         return this;
@@ -163,13 +400,33 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         return this;
     }
 
+    /**
+     * Emits the path to the first visited node that satisfies the given condition
+     * and stops the traversal, even if that node is not the configured target.
+     */
+    public Dijkstra withStopCondition(LongPredicate stopCondition) {
+        this.stopCondition = stopCondition;
+        return this;
+    }
+
+    public boolean isVisited(long node) {
+        return visited.get(node);
+    }
+
+    @TestOnly
+    @Nullable LongPriorityQueue queue() {
+        return queue;
+    }
+
     // Resets the traversal state of the algorithm.
     // The predecessor array is not cleared to allow
     // Yen's algorithm to backtrack to the original
     // source node.
     public void resetTraversalState() {
         traversalState = CONTINUE;
-        queue.clear();
+        if (queue != null) {
+            queue.clear();
+        }
         visited.clear();
         if (trackRelationships) {
             relationships.clear();
@@ -179,6 +436,23 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     public DijkstraResult compute() {
         progressTracker.beginSubTask();
 
+        if (bidirectionalSearch.isPresent()) {
+            var path = bidirectionalSearch.get().compute(terminationFlag);
+            var paths = Stream.of(path).filter(pathResult -> pathResult != PathResult.EMPTY);
+            return new DijkstraResult(paths, progressTracker::endSubTask);
+        }
+
+        if (queue == null) {
+            boolean integralWeights = IntegralWeightsCatalog.hasIntegralWeights(
+                graph,
+                uncheckedWeightProperty,
+                weightCheckConcurrency,
+                Pools.DEFAULT,
+                terminationFlag
+            );
+            queue = priorityQueue(graph.nodeCount(), Optional.empty(), integralWeights);
+        }
+
         queue.add(sourceNode, 0.0);
 
         var pathResultBuilder = ImmutablePathResult.builder()
@@ -216,7 +490,7 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
             );
 
             // Using the current node, decide if we need to emit a path and continue the traversal.
-            traversalState = traversalPredicate.apply(node);
+            traversalState = stopCondition.test(node) ? EMIT_AND_STOP : traversalPredicate.apply(node);
 
             if (traversalState == EMIT_AND_CONTINUE || traversalState == EMIT_AND_STOP) {
                 return pathResult(node, pathResultBuilder);
@@ -314,6 +588,20 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         }
     }
 
+    private static LongPriorityQueue priorityQueue(
+        long capacity,
+        Optional<HeuristicFunction> heuristicFunction,
+        boolean integralWeights
+    ) {
+        if (heuristicFunction.isPresent()) {
+            return minPriorityQueue(capacity, heuristicFunction.get());
+        }
+        // Path costs on integral weights are integral, and Dijkstra pops them in non-decreasing order.
+        return integralWeights
+            ? new RadixLongPriorityQueue(capacity)
+            : HugeLongPriorityQueue.min(capacity);
+    }
+
     private static HugeLongPriorityQueue minPriorityQueue(long capacity, HeuristicFunction heuristicFunction) {
         return new HugeLongPriorityQueue(capacity) {
             @Override
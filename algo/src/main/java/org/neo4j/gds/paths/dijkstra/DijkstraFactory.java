@@ -25,11 +25,12 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
-import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
 
 import java.util.Optional;
 
@@ -37,6 +38,7 @@ public abstract class DijkstraFactory<T extends AlgoBaseConfig & RelationshipWei
 
     @Override
     public MemoryEstimation memoryEstimation(T configuration) {
+        // Unweighted searches and searches on integral weights use the integer priority queue.
         return Dijkstra.memoryEstimation(false);
     }
 
@@ -59,20 +61,48 @@ public abstract class DijkstraFactory<T extends AlgoBaseConfig & RelationshipWei
         return Tasks.leaf(taskName, graph.relationshipCount());
     }
 
-    public static class SourceTargetDijkstraFactory<T extends ShortestPathBaseConfig> extends DijkstraFactory<T> {
+    public static class SourceTargetDijkstraFactory<T extends ShortestPathDijkstraBaseConfig> extends DijkstraFactory<T> {
         @Override
         public Dijkstra build(
             Graph graph,
             T configuration,
             ProgressTracker progressTracker
         ) {
+            if (configuration.contractionHierarchyProperty().isPresent()) {
+                return Dijkstra.contractionHierarchy(
+                    graph,
+                    configuration,
+                    configuration.contractionHierarchyProperty().get(),
+                    progressTracker
+                );
+            }
+            if (configuration.bidirectional()) {
+                return Dijkstra.bidirectional(graph, configuration, progressTracker);
+            }
+
+            var targetNode = graph.toMappedNodeId(configuration.targetNode());
+            var heuristicFunction = configuration
+                .landmarkProperty()
+                .<Dijkstra.HeuristicFunction>map(property -> LandmarkHeuristic.of(graph, property, targetNode));
+
             return Dijkstra.sourceTarget(
                 graph,
                 configuration,
-                Optional.empty(),
+                heuristicFunction,
                 progressTracker
             );
         }
+
+        @Override
+        public MemoryEstimation memoryEstimation(T configuration) {
+            if (configuration.bidirectional() || configuration.contractionHierarchyProperty().isPresent()) {
+                return MemoryEstimations.builder(BidirectionalDijkstra.class)
+                    .add("forward search", Dijkstra.memoryEstimation(configuration.trackRelationships(), false))
+                    .add("backward search", Dijkstra.memoryEstimation(false, false))
+                    .build();
+            }
+            return super.memoryEstimation(configuration);
+        }
     }
 
     public static class AllShortestPathsDijkstraFactory<T extends AllShortestPathsBaseConfig> extends DijkstraFactory<T> {
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Remembers which relationship types hold integral values in a weight property,
+ * so that the weights of a graph are scanned by the first search only.
+ *
+ * Relationships and their properties do not change once they have been loaded,
+ * so an answer stays valid for as long as the adjacency list of the relationship type exists.
+ * Entries disappear together with it.
+ */
+final class IntegralWeightsCatalog {
+
+    private static final Map<AdjacencyList, Map<String, Boolean>> INTEGRAL_WEIGHTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private IntegralWeightsCatalog() {}
+
+    static boolean hasIntegralWeights(
+        Graph graph,
+        String weightProperty,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        if (!graph.hasRelationshipProperty()) {
+            return true;
+        }
+        if (!(graph instanceof CSRGraph)) {
+            return Dijkstra.hasIntegralWeights(graph, concurrency, executor, terminationFlag);
+        }
+
+        // A node filtered graph only sees some of the relationships and nodes, so it relies on the answers
+        // for the whole relationship types. Its paths have fewer nodes, which keeps their costs within bounds.
+        boolean nodeFiltered = graph.asNodeFilteredGraph().isPresent();
+        var topologies = ((CSRGraph) graph).relationshipTopologies();
+
+        for (var typeAndTopology : topologies.entrySet()) {
+            var weights = INTEGRAL_WEIGHTS.computeIfAbsent(
+                typeAndTopology.getValue().adjacencyList(),
+                __ -> new ConcurrentHashMap<>()
+            );
+            var integral = weights.get(weightProperty);
+            if (integral == null) {
+                if (nodeFiltered) {
+                    return false;
+                }
+                var typeGraph = topologies.size() == 1
+                    ? graph
+                    : graph.relationshipTypeFilteredGraph(Set.of(typeAndTopology.getKey()));
+                integral = Dijkstra.hasIntegralWeights(typeGraph, concurrency, executor, terminationFlag);
+                weights.put(weightProperty, integral);
+            }
+            if (!integral) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
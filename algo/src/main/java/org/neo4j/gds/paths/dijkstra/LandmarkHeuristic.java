@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Lower bound on the distance to a target node, derived from precomputed landmark distances
+ * and the triangle inequality (ALT).
+ *
+ * For {@code k} landmarks, the node property holds {@code 2k} values per node:
+ * the distances {@code d(L_i, v)} from each landmark, followed by the distances {@code d(v, L_i)}
+ * to each landmark. Unreachable entries are stored as positive infinity and do not contribute
+ * to the bound.
+ */
+public final class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+    private final NodePropertyValues landmarkDistances;
+    private final int landmarkCount;
+    private final double[] targetDistances;
+
+    public static LandmarkHeuristic of(Graph graph, String landmarkProperty, long targetNode) {
+        if (!graph.availableNodeProperties().contains(landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                landmarkProperty
+            ));
+        }
+        var landmarkDistances = graph.nodeProperties(landmarkProperty);
+        if (landmarkDistances.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` must be of type %s, but was %s",
+                landmarkProperty,
+                ValueType.DOUBLE_ARRAY.cypherName(),
+                landmarkDistances.valueType().cypherName()
+            ));
+        }
+        return new LandmarkHeuristic(landmarkDistances, targetNode);
+    }
+
+    LandmarkHeuristic(NodePropertyValues landmarkDistances, long targetNode) {
+        this.landmarkDistances = landmarkDistances;
+        this.targetDistances = landmarkDistances.doubleArrayValue(targetNode);
+        if (targetDistances == null || targetDistances.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                "Landmark distances must contain a distance from and a distance to every landmark"
+            );
+        }
+        this.landmarkCount = targetDistances.length / 2;
+    }
+
+    @Override
+    public double applyAsDouble(long node) {
+        var nodeDistances = landmarkDistances.doubleArrayValue(node);
+        if (nodeDistances == null || nodeDistances.length != targetDistances.length) {
+            return 0.0;
+        }
+
+        double bound = 0.0;
+        for (int i = 0; i < landmarkCount; i++) {
+            // d(L, t) <= d(L, v) + d(v, t)
+            bound = tighten(bound, targetDistances[i] - nodeDistances[i]);
+            // d(v, L) <= d(v, t) + d(t, L)
+            bound = tighten(bound, nodeDistances[landmarkCount + i] - targetDistances[landmarkCount + i]);
+        }
+        return bound;
+    }
+
+    private static double tighten(double bound, double candidate) {
+        // infinite distances on either side tell us nothing about d(v, t)
+        return Double.isFinite(candidate) && candidate > bound ? candidate : bound;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.paths.PathIndexCatalog;
+import org.neo4j.gds.paths.ShortestPathBaseConfig;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public interface ShortestPathDijkstraBaseConfig extends ShortestPathBaseConfig {
+
+    String LANDMARK_PROPERTY_KEY = "landmarkProperty";
+    String CONTRACTION_HIERARCHY_PROPERTY_KEY = "contractionHierarchyProperty";
+
+    @Value.Default
+    default boolean bidirectional() {
+        return false;
+    }
+
+    Optional<String> landmarkProperty();
+
+    Optional<String> contractionHierarchyProperty();
+
+    @Value.Check
+    default void validateSearchMode() {
+        landmarkProperty().ifPresent(input -> validateNoWhiteCharacter(emptyToNull(input), LANDMARK_PROPERTY_KEY));
+        contractionHierarchyProperty().ifPresent(input -> validateNoWhiteCharacter(
+            emptyToNull(input),
+            CONTRACTION_HIERARCHY_PROPERTY_KEY
+        ));
+
+        if (landmarkProperty().isPresent() && (bidirectional() || contractionHierarchyProperty().isPresent())) {
+            throw new IllegalArgumentException(
+                "The `landmarkProperty` cannot be combined with a `bidirectional` or `contractionHierarchyProperty` search."
+            );
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateBidirectional(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!bidirectional() && contractionHierarchyProperty().isEmpty()) {
+            return;
+        }
+
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var unsupportedTypes = selectedRelationshipTypes
+            .stream()
+            .filter(type -> !relationshipSchema.isUndirected(type) && !inverseIndexedTypes.contains(type))
+            .map(RelationshipType::name)
+            .collect(Collectors.toList());
+
+        if (!unsupportedTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The bidirectional search requires undirected relationships or an inverse index. " +
+                "Relationship types without either are %s.",
+                StringJoining.join(unsupportedTypes)
+            ));
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        landmarkProperty().ifPresent(landmarkProperty -> {
+            if (!graphStore.hasNodeProperty(selectedLabels, landmarkProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Landmark property `%s` not found in graph with node properties: %s",
+                    landmarkProperty,
+                    graphStore.nodePropertyKeys().stream().sorted().collect(Collectors.toList())
+                ));
+            }
+
+            PathIndexCatalog.validateQuery(
+                graphStore,
+                landmarkProperty,
+                PathIndexCatalog.Kind.LANDMARKS,
+                selectedRelationshipTypes,
+                relationshipWeightProperty()
+            );
+        });
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateContractionHierarchyProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        contractionHierarchyProperty().ifPresent(rankProperty -> {
+            if (!graphStore.hasNodeProperty(selectedLabels, rankProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Contraction hierarchy property `%s` not found in graph with node properties: %s",
+                    rankProperty,
+                    graphStore.nodePropertyKeys().stream().sorted().collect(Collectors.toList())
+                ));
+            }
+
+            PathIndexCatalog.validateQuery(
+                graphStore,
+                rankProperty,
+                PathIndexCatalog.Kind.CONTRACTION_HIERARCHY,
+                selectedRelationshipTypes,
+                relationshipWeightProperty()
+            );
+        });
+    }
+}
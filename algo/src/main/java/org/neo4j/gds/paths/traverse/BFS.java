@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -56,6 +57,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * to create the next bucket, such that a correct BFS ordering is returned where all
  * descendants from the nodes of a chunk, appear together before those from a later
  * chunk.
+ *
+ * Optionally, the levels are expanded by {@link DirectionOptimizingBFS} instead,
+ * which orders the nodes within each level by node id.
  */
 public final class BFS extends Algorithm<HugeLongArray> {
 
@@ -68,6 +72,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
     private final Graph graph;
     private final int delta;
     private final long maximumDepth;
+    private final boolean directionOptimizing;
     // An array to keep the node ids that were already traversed in the correct order.
     // It is initialized with the total number of nodes, but may contain less than that.
     private HugeLongArray traversedNodes;
@@ -84,6 +89,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
     private HugeAtomicBitSet visited;
 
     private final int concurrency;
+    private final ExecutorService executorService;
 
     public static BFS create(
         Graph graph,
@@ -100,9 +106,35 @@ public final class BFS extends Algorithm<HugeLongArray> {
             exitPredicate,
             aggregatorFunction,
             concurrency,
+            Pools.DEFAULT,
+            progressTracker,
+            maximumDepth,
+            false
+        );
+    }
+
+    public static BFS create(
+        Graph graph,
+        long startNodeId,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        long maximumDepth,
+        boolean directionOptimizing
+    ) {
+        return create(
+            graph,
+            startNodeId,
+            exitPredicate,
+            aggregatorFunction,
+            concurrency,
+            executorService,
             progressTracker,
             DEFAULT_DELTA,
-            maximumDepth
+            maximumDepth,
+            directionOptimizing
         );
     }
 
@@ -116,6 +148,32 @@ public final class BFS extends Algorithm<HugeLongArray> {
         int delta,
         long maximumDepth
     ) {
+        return create(
+            graph,
+            startNodeId,
+            exitPredicate,
+            aggregatorFunction,
+            concurrency,
+            Pools.DEFAULT,
+            progressTracker,
+            delta,
+            maximumDepth,
+            false
+        );
+    }
+
+    private static BFS create(
+        Graph graph,
+        long startNodeId,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        int delta,
+        long maximumDepth,
+        boolean directionOptimizing
+    ) {
 
         var nodeCount = graph.nodeCount();
 
@@ -132,9 +190,11 @@ public final class BFS extends Algorithm<HugeLongArray> {
             exitPredicate,
             aggregatorFunction,
             concurrency,
+            executorService,
             progressTracker,
             delta,
-            maximumDepth
+            maximumDepth,
+            directionOptimizing
         );
     }
 
@@ -147,9 +207,11 @@ public final class BFS extends Algorithm<HugeLongArray> {
         ExitPredicate exitPredicate,
         Aggregator aggregatorFunction,
         int concurrency,
+        ExecutorService executorService,
         ProgressTracker progressTracker,
         int delta,
-        long maximumDepth
+        long maximumDepth,
+        boolean directionOptimizing
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -157,8 +219,10 @@ public final class BFS extends Algorithm<HugeLongArray> {
         this.exitPredicate = exitPredicate;
         this.aggregatorFunction = aggregatorFunction;
         this.concurrency = concurrency;
+        this.executorService = executorService;
         this.delta = delta;
         this.maximumDepth = maximumDepth;
+        this.directionOptimizing = directionOptimizing;
         this.traversedNodes = traversedNodes;
         this.weights = weights;
         this.visited = visited;
@@ -168,6 +232,25 @@ public final class BFS extends Algorithm<HugeLongArray> {
     public HugeLongArray compute() {
         progressTracker.beginSubTask(graph.relationshipCount());
 
+        if (directionOptimizing) {
+            var traversedNodesLength = new DirectionOptimizingBFS(
+                graph,
+                sourceNodeId,
+                exitPredicate,
+                concurrency,
+                executorService,
+                maximumDepth,
+                traversedNodes,
+                visited,
+                progressTracker,
+                terminationFlag
+            ).compute();
+            var result = traversedNodes.copyOf(traversedNodesLength);
+
+            progressTracker.endSubTask();
+            return result;
+        }
+
         // This is used to read from `traversedNodes` in chunks, updated in `BFSTask`.
         var traversedNodesIndex = new AtomicLong(0);
         // This keeps the current length of the `traversedNodes`, updated in `BFSTask.syncNextChunk`.
@@ -199,7 +282,7 @@ public final class BFS extends Algorithm<HugeLongArray> {
             if (currentDepth == maximumDepth) {
                 break;
             }
-            ParallelUtil.run(bfsTaskList, Pools.DEFAULT);
+            ParallelUtil.run(bfsTaskList, executorService);
 
             if (targetFoundIndex.get() != Long.MAX_VALUE) {
                 break;
@@ -21,6 +21,7 @@ package org.neo4j.gds.paths.traverse;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -65,8 +66,10 @@ public class BfsAlgorithmFactory<CONFIG extends BfsBaseConfig> extends GraphAlgo
             exitFunction,
             aggregatorFunction,
             configuration.concurrency(),
+            Pools.DEFAULT,
             progressTracker,
-            configuration.maxDepth()
+            configuration.maxDepth(),
+            configuration.directionOptimizing()
         );
     }
 
@@ -79,6 +82,16 @@ public class BfsAlgorithmFactory<CONFIG extends BfsBaseConfig> extends GraphAlgo
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder(BFS.class);
 
+        if (configuration.directionOptimizing()) {
+            return builder
+                .perNode("visited ", HugeAtomicBitSet::memoryEstimation)
+                .perNode("traversedNodes", HugeLongArray::memoryEstimation)
+                .perNode("weights", HugeDoubleArray::memoryEstimation)
+                .perNode("frontiers", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+                .perNode("resultNodes", HugeLongArray::memoryEstimation)
+                .build();
+        }
+
         builder.perNode("visited ", HugeAtomicBitSet::memoryEstimation) //global variables
             .perNode("traversedNodes", HugeLongArray::memoryEstimation)
             .perNode("weights", HugeDoubleArray::memoryEstimation)
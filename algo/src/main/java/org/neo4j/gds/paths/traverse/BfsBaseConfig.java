@@ -38,6 +38,15 @@ public interface BfsBaseConfig extends AlgoBaseConfig, SourceNodeConfig, TargetN
         return NO_MAX_DEPTH;
     }
 
+    /**
+     * Expand large levels bottom-up over the incoming relationships.
+     * Nodes within a level are then returned in node id order.
+     */
+    @Value.Default
+    default boolean directionOptimizing() {
+        return false;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default boolean hasMaxDepth() {
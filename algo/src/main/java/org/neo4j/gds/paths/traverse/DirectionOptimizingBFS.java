@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Direction-optimizing BFS.
+ *
+ * Levels are expanded top-down from the frontier while it is small. Once the relationships of the
+ * frontier outnumber a fraction of the relationships of the unvisited nodes, levels are expanded
+ * bottom-up instead: every unvisited node scans its incoming relationships and stops at the first
+ * one coming from the frontier. Once the frontier shrinks below a fraction of the nodes, expansion
+ * switches back to top-down. Both frontiers are bitsets and every level is expanded in parallel.
+ *
+ * Within a level, nodes are ordered by node id rather than by their predecessors, as a bottom-up
+ * step does not know the first predecessor of a node.
+ * The exit predicate is called with the start node as source and the depth of the node as weight.
+ * Nodes it answers {@link ExitPredicate.Result#CONTINUE} for are neither returned nor expanded.
+ * Bottom-up steps need the inverse index, or an undirected graph; otherwise every level is expanded top-down.
+ *
+ * https://doi.org/10.1109/SC.2012.50
+ */
+final class DirectionOptimizingBFS {
+
+    // switch to bottom-up once the frontier has more than 1/ALPHA of the unexplored relationships
+    private static final int ALPHA = 14;
+    // switch back to top-down once the frontier is shrinking and has less than 1/BETA of the nodes
+    private static final int BETA = 24;
+    private static final int BATCH_SIZE = 4096;
+
+    private final Graph graph;
+    private final long sourceNodeId;
+    private final ExitPredicate exitPredicate;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final long maximumDepth;
+    private final boolean undirected;
+    private final boolean bottomUpSupported;
+    private final HugeLongArray traversedNodes;
+    private final HugeAtomicBitSet visited;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet next;
+    private long traversedNodesLength;
+
+    DirectionOptimizingBFS(
+        Graph graph,
+        long sourceNodeId,
+        ExitPredicate exitPredicate,
+        int concurrency,
+        ExecutorService executorService,
+        long maximumDepth,
+        HugeLongArray traversedNodes,
+        HugeAtomicBitSet visited,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.sourceNodeId = sourceNodeId;
+        this.exitPredicate = exitPredicate;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.maximumDepth = maximumDepth;
+        this.undirected = graph.characteristics().isUndirected();
+        this.bottomUpSupported = undirected || graph.characteristics().isInverseIndexed();
+        this.traversedNodes = traversedNodes;
+        this.visited = visited;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.frontier = HugeAtomicBitSet.create(graph.nodeCount());
+        this.next = HugeAtomicBitSet.create(graph.nodeCount());
+    }
+
+    /**
+     * @return the number of nodes written to the traversed nodes
+     */
+    long compute() {
+        visited.set(sourceNodeId);
+        frontier.set(sourceNodeId);
+        traversedNodes.set(0, sourceNodeId);
+        traversedNodesLength = 1;
+        if (exitPredicate.test(sourceNodeId, sourceNodeId, 0) == ExitPredicate.Result.BREAK) {
+            return traversedNodesLength;
+        }
+
+        long nodeCount = graph.nodeCount();
+        long frontierDegree = graph.degree(sourceNodeId);
+        long unexploredDegree = graph.relationshipCount() - frontierDegree;
+        long previousFrontierSize = 0;
+        boolean bottomUp = false;
+
+        long levelStart = 0;
+        long currentDepth = 0;
+        while (levelStart < traversedNodesLength && currentDepth != maximumDepth && terminationFlag.running()) {
+            long levelEnd = traversedNodesLength;
+            long frontierSize = levelEnd - levelStart;
+
+            if (bottomUpSupported) {
+                if (!bottomUp && frontierDegree > unexploredDegree / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < previousFrontierSize && frontierSize < nodeCount / BETA) {
+                    bottomUp = false;
+                }
+            }
+
+            if (bottomUp) {
+                forEachIndex(0, nodeCount, BottomUpVisitor::new);
+            } else {
+                forEachIndex(levelStart, levelEnd, () -> (localGraph, index) -> topDown(localGraph, traversedNodes.get(index)));
+            }
+            progressTracker.logProgress(frontierSize);
+
+            // append the next level in node id order
+            next.forEachSetBit(nodeId -> traversedNodes.set(traversedNodesLength++, nodeId));
+
+            currentDepth++;
+            frontierDegree = 0;
+            long nextLevelEnd = levelEnd;
+            for (long index = levelEnd; index < traversedNodesLength; index++) {
+                long nodeId = traversedNodes.get(index);
+                var result = exitPredicate.test(sourceNodeId, nodeId, currentDepth);
+                if (result == ExitPredicate.Result.CONTINUE) {
+                    // stays visited, but is neither returned nor expanded
+                    next.clear(nodeId);
+                    continue;
+                }
+                traversedNodes.set(nextLevelEnd++, nodeId);
+                if (result == ExitPredicate.Result.BREAK) {
+                    return nextLevelEnd;
+                }
+                frontierDegree += graph.degree(nodeId);
+            }
+            traversedNodesLength = nextLevelEnd;
+            unexploredDegree -= frontierDegree;
+
+            previousFrontierSize = frontierSize;
+            levelStart = levelEnd;
+
+            var swap = frontier;
+            frontier = next;
+            next = swap;
+            next.clear();
+        }
+
+        return traversedNodesLength;
+    }
+
+    private void topDown(Graph localGraph, long nodeId) {
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (!visited.getAndSet(target)) {
+                next.set(target);
+            }
+            return true;
+        });
+    }
+
+    private void forEachIndex(long startIndex, long endIndex, Supplier<IndexVisitor> visitorSupplier) {
+        var queue = new AtomicLong(startIndex);
+        var tasks = ParallelUtil.tasks(concurrency, () -> new IndexTask(queue, endIndex, visitorSupplier.get()));
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    @FunctionalInterface
+    private interface IndexVisitor {
+        void visit(Graph localGraph, long index);
+    }
+
+    private final class IndexTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final long endIndex;
+        private final IndexVisitor visitor;
+        private final Graph localGraph;
+
+        IndexTask(AtomicLong queue, long endIndex, IndexVisitor visitor) {
+            this.queue = queue;
+            this.endIndex = endIndex;
+            this.visitor = visitor;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = queue.getAndAdd(BATCH_SIZE)) < endIndex && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, endIndex);
+                for (long index = start; index < end; index++) {
+                    visitor.visit(localGraph, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an unvisited node to the next level if any of its predecessors is in the frontier.
+     * Every node is visited by a single thread, so the visited bit can be set without contention.
+     */
+    private final class BottomUpVisitor implements IndexVisitor {
+
+        private boolean found;
+
+        @Override
+        public void visit(Graph localGraph, long nodeId) {
+            if (visited.get(nodeId)) {
+                return;
+            }
+            found = false;
+            if (undirected) {
+                localGraph.forEachRelationship(nodeId, this::check);
+            } else {
+                localGraph.forEachInverseRelationship(nodeId, this::check);
+            }
+            if (found) {
+                visited.set(nodeId);
+                next.set(nodeId);
+            }
+        }
+
+        private boolean check(long nodeId, long predecessor) {
+            found = frontier.get(predecessor);
+            return !found;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Shortest path distances to the target node, together with the next node on such a path.
+ * Spur searches only ever remove nodes and relationships from the graph, so these distances
+ * are lower bounds for every spur path. They guide the spur searches as an A* heuristic,
+ * and a spur search may stop as soon as it settles a node whose path to the target is still intact.
+ * <p>
+ * The backward search stops once it has settled the source node, so only the nodes that are
+ * at most as far from the target as the source are settled. All other nodes are at least
+ * that far away, which is the distance the heuristic uses for them.
+ */
+final class ReverseShortestPathTree {
+
+    private static final long NO_SUCCESSOR = -1L;
+
+    private final long targetNode;
+    private final HugeDoubleArray distances;
+    private final HugeLongArray successors;
+    private final BitSet settled;
+    // distance of the last settled node, a lower bound for the distance of all other nodes
+    private final double radius;
+    private final boolean exhausted;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseShortestPathTree.class)
+            .perNode("distances to target", HugeDoubleArray::memoryEstimation)
+            .perNode("successors to target", HugeLongArray::memoryEstimation)
+            .perNode("settled nodes", MemoryUsage::sizeOfBitset)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .build();
+    }
+
+    static boolean supports(Graph graph) {
+        return graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+    }
+
+    static ReverseShortestPathTree compute(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        TerminationFlag terminationFlag
+    ) {
+        long nodeCount = graph.nodeCount();
+        var distances = HugeDoubleArray.newArray(nodeCount);
+        distances.fill(Double.POSITIVE_INFINITY);
+        var successors = HugeLongArray.newArray(nodeCount);
+        successors.fill(NO_SUCCESSOR);
+        var settled = new BitSet(nodeCount);
+
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        distances.set(targetNode, 0.0D);
+        queue.add(targetNode, 0.0D);
+
+        // The relationships are traversed backwards, from the target towards the source.
+        RelationshipWithPropertyConsumer relax = (node, predecessor, weight) -> {
+            double cost = distances.get(node) + weight;
+            if (cost < distances.get(predecessor)) {
+                distances.set(predecessor, cost);
+                successors.set(predecessor, node);
+                if (queue.containsElement(predecessor)) {
+                    queue.set(predecessor, cost);
+                } else {
+                    queue.add(predecessor, cost);
+                }
+            }
+            return true;
+        };
+
+        boolean undirected = graph.characteristics().isUndirected();
+        double radius = 0.0D;
+        while (!queue.isEmpty() && terminationFlag.running()) {
+            long node = queue.pop();
+            settled.set(node);
+            radius = distances.get(node);
+            if (node == sourceNode) {
+                break;
+            }
+            if (undirected) {
+                graph.forEachRelationship(node, 1.0D, relax);
+            } else {
+                graph.forEachInverseRelationship(node, 1.0D, relax);
+            }
+        }
+        terminationFlag.assertRunning();
+
+        return new ReverseShortestPathTree(targetNode, distances, successors, settled, radius, queue.isEmpty());
+    }
+
+    private ReverseShortestPathTree(
+        long targetNode,
+        HugeDoubleArray distances,
+        HugeLongArray successors,
+        BitSet settled,
+        double radius,
+        boolean exhausted
+    ) {
+        this.targetNode = targetNode;
+        this.distances = distances;
+        this.successors = successors;
+        this.settled = settled;
+        this.radius = radius;
+        this.exhausted = exhausted;
+    }
+
+    double distanceToTarget(long node) {
+        return settled.get(node) ? distances.get(node) : radius;
+    }
+
+    /**
+     * Returns false only for nodes that are known not to reach the target.
+     */
+    boolean mayReachTarget(long node) {
+        return !exhausted || settled.get(node);
+    }
+
+    /**
+     * Returns true, iff the tree path from the given node to the target
+     * avoids all nodes for which {@code blocked} returns true.
+     */
+    boolean hasIntactPath(long node, LongPredicate blocked) {
+        // the successors of a settled node are settled as well
+        if (!settled.get(node)) {
+            return false;
+        }
+        long current = node;
+        while (current != targetNode) {
+            current = successors.get(current);
+            if (blocked.test(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extends a path that ends in a node of this tree by the tree path to the target.
+     */
+    PathResult extendToTarget(Graph graph, PathResult path, boolean trackRelationships) {
+        long current = path.targetNode();
+        if (current == targetNode) {
+            return path;
+        }
+
+        var nodeIds = LongArrayList.from(path.nodeIds());
+        var relationshipIds = LongArrayList.from(path.relationshipIds());
+        var costs = DoubleArrayList.from(path.costs());
+        double cost = path.totalCost();
+        var weight = new MutableDouble();
+        while (current != targetNode) {
+            long next = successors.get(current);
+            long relationshipId = treeRelationship(graph, current, next, weight);
+            if (trackRelationships) {
+                relationshipIds.add(relationshipId);
+            }
+            cost += weight.doubleValue();
+            nodeIds.add(next);
+            costs.add(cost);
+            current = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .from(path)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(relationshipIds.toArray())
+            .costs(costs.toArray())
+            .build();
+    }
+
+    // Finds the first relationship from source to target on the tree path,
+    // returns its index in the adjacency list of source and stores its weight.
+    private long treeRelationship(Graph graph, long source, long target, MutableDouble weight) {
+        var relationshipId = new MutableLong(-1L);
+        var index = new MutableLong(0L);
+        graph.forEachRelationship(source, 1.0D, (s, t, w) -> {
+            if (t == target && w + distances.get(target) == distances.get(source)) {
+                relationshipId.setValue(index.longValue());
+                weight.setValue(w);
+                return false;
+            }
+            index.increment();
+            return true;
+        });
+        assert relationshipId.longValue() != -1L : "The tree path contains no relationship";
+        return relationshipId.longValue();
+    }
+}
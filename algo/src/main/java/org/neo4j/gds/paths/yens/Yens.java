@@ -68,7 +68,11 @@ public final class Yens extends Algorithm<DijkstraResult> {
     }
 
     public static MemoryEstimation memoryEstimation(int k, boolean trackRelationships) {
-        return MemoryEstimations.builder(Yens.class)
+        var builder = MemoryEstimations.builder(Yens.class);
+        if (k > 1) {
+            builder.add("reverse shortest path tree", ReverseShortestPathTree.memoryEstimation());
+        }
+        return builder
             .perThread("Yens Task", YensTask.memoryEstimation(k, trackRelationships))
             .build();
     }
@@ -85,9 +89,17 @@ public final class Yens extends Algorithm<DijkstraResult> {
     public DijkstraResult compute() {
         progressTracker.beginSubTask("Yens");
         var kShortestPaths = new ArrayList<MutablePathResult>();
+        // All searches run on the same weights, so checking them once pays off.
+        boolean integralWeights = Dijkstra.hasIntegralWeights(
+            graph,
+            config.relationshipWeightProperty(),
+            config.concurrency(),
+            Pools.DEFAULT,
+            terminationFlag
+        );
         // compute top 1 shortest path
 
-        var shortestPath = findFirstPath();
+        var shortestPath = findFirstPath(integralWeights);
 
         // no shortest path has been found
         if (shortestPath.isEmpty()) {
@@ -100,7 +112,18 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
         AtomicInteger currentSpurIndexId = new AtomicInteger(0);
 
-        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId);
+        // The spur searches share the distances to the target and use them to finish early.
+        // There are no spur searches for k = 1.
+        var reverseTree = config.k() > 1 && ReverseShortestPathTree.supports(graph)
+            ? Optional.of(ReverseShortestPathTree.compute(
+                graph,
+                graph.toMappedNodeId(config.sourceNode()),
+                graph.toMappedNodeId(config.targetNode()),
+                terminationFlag
+            ))
+            : Optional.<ReverseShortestPathTree>empty();
+
+        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId, integralWeights, reverseTree);
 
         progressTracker.beginSubTask("Path growing");
 
@@ -148,7 +171,9 @@ public final class Yens extends Algorithm<DijkstraResult> {
     private ArrayList<YensTask> createTasks(
         ArrayList<MutablePathResult> kShortestPaths,
         CandidatePathsPriorityQueue candidatePathsQueue,
-        AtomicInteger currentSpurIndexId
+        AtomicInteger currentSpurIndexId,
+        boolean integralWeights,
+        Optional<ReverseShortestPathTree> reverseTree
     ) {
         var tasks = new ArrayList<YensTask>();
         for (int concurrentId = 0; concurrentId < config.concurrency(); ++concurrentId) {
@@ -159,18 +184,21 @@ public final class Yens extends Algorithm<DijkstraResult> {
                 candidatePathsQueue,
                 currentSpurIndexId,
                 config.trackRelationships(),
+                integralWeights,
+                reverseTree,
                 config.k()
             ));
         }
         return tasks;
     }
 
-    private Optional<PathResult> findFirstPath() {
+    private Optional<PathResult> findFirstPath(boolean integralWeights) {
 
         var dijkstra = Dijkstra.sourceTarget(
             graph,
             config,
             Optional.empty(),
+            integralWeights,
             progressTracker
         );
         var result = dijkstra.compute();
@@ -39,6 +39,9 @@ public class YensTask implements Runnable {
     // The content of these data structures is reset after each of k iterations.
     private @Nullable Dijkstra localDijkstra;
     private final boolean trackRelationships;
+    private final boolean integralWeights;
+    // Distances to the target in the unfiltered graph, if they could be computed.
+    private final Optional<ReverseShortestPathTree> reverseTree;
     private final long targetNode;
     //Dijkstra filter
     private final RelationshipFilterer relationshipFilterer;
@@ -63,11 +66,15 @@ public class YensTask implements Runnable {
         CandidatePathsPriorityQueue candidatePathsQueue,
         AtomicInteger currentSpurIndexId,
         boolean trackRelationships,
+        boolean integralWeights,
+        Optional<ReverseShortestPathTree> reverseTree,
         int k
     ) {
         this.currentSpurIndexId = currentSpurIndexId;
         this.localGraph = graph;
         this.trackRelationships = trackRelationships;
+        this.integralWeights = integralWeights;
+        this.reverseTree = reverseTree;
         this.targetNode = targetNode;
         this.localDijkstra = null;
 
@@ -106,7 +113,7 @@ public class YensTask implements Runnable {
         createFilters(rootPath, spurNode, indexId);
 
         // Calculate the spur path from the spur node to the sink.
-        var spurPath = computeDijkstra(spurNode);
+        var spurPath = computeDijkstra(spurNode).map(this::extendToTarget);
 
         // No new candidate from this spur node, continue with next node.
         if (!spurPath.isEmpty()) {
@@ -136,10 +143,18 @@ public class YensTask implements Runnable {
 
     private Optional<PathResult> computeDijkstra(long spurNode) {
         localDijkstra.withSourceNode(spurNode);
+        reverseTree.ifPresent(tree -> localDijkstra.withStopCondition(node -> canStopAt(tree, spurNode, node)));
         var result = localDijkstra.compute().findFirst();
         return result;
     }
 
+    // A spur search that stopped early ends in a node of the reverse shortest path tree.
+    private PathResult extendToTarget(PathResult spurPath) {
+        return reverseTree
+            .map(tree -> tree.extendToTarget(localGraph, spurPath, trackRelationships))
+            .orElse(spurPath);
+    }
+
     private void storePath(int indexId, MutablePathResult rootPath, Optional<PathResult> spurPath) {
 
         // Entire path is made up of the root path and spur path.
@@ -160,13 +175,26 @@ public class YensTask implements Runnable {
         this.localDijkstra = Dijkstra.sourceTarget(
             localGraph,
             Yens.dijkstraConfig(targetNode, trackRelationships),
-            Optional.empty(),
+            // Exact distances in the unfiltered graph are a consistent A* heuristic for the spur searches.
+            reverseTree.<Dijkstra.HeuristicFunction>map(tree -> tree::distanceToTarget),
+            integralWeights,
             ProgressTracker.NULL_TRACKER
         );
 
         localDijkstra.withRelationshipFilter((source, target, relationshipId) ->
             relationshipFilterer.validRelationship(source, target, relationshipId)
         );
+        // Nodes that cannot reach the target in the full graph cannot reach it in a spur search either.
+        reverseTree.ifPresent(tree -> localDijkstra.withRelationshipFilter((source, target, relationshipId) ->
+            tree.mayReachTarget(target)
+        ));
+    }
+
+    // The tree path of a visited node completes a shortest spur path, unless it
+    // runs into the root path or the spur path found so far. Relationships are only
+    // filtered at the spur node itself, so we never stop there.
+    private boolean canStopAt(ReverseShortestPathTree tree, long spurNode, long node) {
+        return node != spurNode && tree.hasIntactPath(node, localDijkstra::isVisited);
     }
 
 }
@@ -21,14 +21,14 @@ package org.neo4j.gds.similarity.filteredknn;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.config.WriteRelationshipConfig;
+import org.neo4j.gds.config.WriteRelationshipPropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface FilteredKnnWriteConfig extends FilteredKnnBaseConfig, WritePropertyConfig, WriteRelationshipConfig {
+public interface FilteredKnnWriteConfig extends FilteredKnnBaseConfig, WriteRelationshipPropertyConfig, WriteRelationshipConfig {
 
     static FilteredKnnWriteConfig of(CypherMapWrapper config) {
         return new FilteredKnnWriteConfigImpl(config);
@@ -21,14 +21,14 @@ package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.config.WriteRelationshipConfig;
+import org.neo4j.gds.config.WriteRelationshipPropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface KnnWriteConfig extends KnnBaseConfig, WritePropertyConfig, WriteRelationshipConfig {
+public interface KnnWriteConfig extends KnnBaseConfig, WriteRelationshipPropertyConfig, WriteRelationshipConfig {
 
     static KnnWriteConfig of(CypherMapWrapper config) {
         return new KnnWriteConfigImpl(config);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.SourceNodesConfig;
@@ -30,8 +31,10 @@ import org.neo4j.gds.core.utils.queue.QueueBasedSpliterator;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.ImmutableDegreeCentralityConfig;
 import org.neo4j.gds.ml.core.EmbeddingUtils;
+import org.neo4j.gds.ml.core.samplers.AliasTable;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -86,7 +89,56 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
     public Stream<long[]> compute() {
         progressTracker.beginSubTask("RandomWalk");
 
-        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = graph.hasRelationshipProperty()
+        var terminationFlag = new ExternalTerminationFlag(this.terminationFlag);
+
+        BlockingQueue<long[]> walks = new ArrayBlockingQueue<>(config.walkBufferSize());
+        long[] TOMB = new long[0];
+
+        // Producers block on a full queue until the stream is consumed further.
+        WalkSink queueSink = (nodes, length) -> {
+            if (!terminationFlag.running()) {
+                return false;
+            }
+            try {
+                walks.put(Arrays.copyOf(nodes, length));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return terminationFlag.running();
+        };
+
+        var tasks = createTasks(queueSink, terminationFlag);
+
+        startWalkers(tasks, walks, TOMB, terminationFlag);
+        return walksQueueConsumer(terminationFlag, TOMB, walks);
+    }
+
+    /**
+     * Computes all walks and hands them to the given sink, without allocating per walk.
+     * Returns once all walks have been consumed, or the sink asked to stop.
+     */
+    public void forEachWalk(WalkSink sink) {
+        progressTracker.beginSubTask("RandomWalk");
+
+        var tasks = createTasks(sink, terminationFlag);
+
+        progressTracker.beginSubTask("create walks");
+        RunWithConcurrency.builder()
+            .executor(this.executorService)
+            .concurrency(this.config.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+        progressTracker.endSubTask("create walks");
+
+        progressTracker.endSubTask("RandomWalk");
+    }
+
+    private List<RandomWalkTask> createTasks(WalkSink sink, TerminationFlag terminationFlag) {
+        // Alias tables replace the scans over the cumulative weights.
+        var aliasTable = config.aliasSampling() ? aliasTable() : null;
+        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = graph.hasRelationshipProperty() && aliasTable == null
             ? cumulativeWeights()::get
             : graph::degree;
 
@@ -96,13 +148,20 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
             ? new NextNodeSupplier.GraphNodeSupplier(graph.nodeCount())
             : NextNodeSupplier.ListNodeSupplier.of(config, graph);
 
-        var terminationFlag = new ExternalTerminationFlag(this.terminationFlag);
-
-        BlockingQueue<long[]> walks = new ArrayBlockingQueue<>(config.walkBufferSize());
-        long[] TOMB = new long[0];
-
-        startWalkers(terminationFlag, cumulativeWeightSupplier, randomSeed, nextNodeSupplier, walks, TOMB);
-        return walksQueueConsumer(terminationFlag, TOMB, walks);
+        return IntStream
+            .range(0, this.config.concurrency())
+            .mapToObj(i ->
+                RandomWalkTask.of(
+                    nextNodeSupplier,
+                    cumulativeWeightSupplier,
+                    aliasTable,
+                    this.graph.concurrentCopy(),
+                    this.config,
+                    sink,
+                    randomSeed,
+                    this.progressTracker,
+                    terminationFlag
+                )).collect(Collectors.toList());
     }
 
     private DegreeCentrality.DegreeFunction cumulativeWeights() {
@@ -120,28 +179,19 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         ).compute();
     }
 
+    private AliasTable aliasTable() {
+        progressTracker.beginSubTask("build alias tables");
+        var aliasTable = AliasTable.create(graph, config.concurrency(), executorService, progressTracker);
+        progressTracker.endSubTask("build alias tables");
+        return aliasTable;
+    }
+
     private void startWalkers(
-        TerminationFlag terminationFlag,
-        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
-        long randomSeed,
-        NextNodeSupplier nextNodeSupplier,
+        List<RandomWalkTask> tasks,
         BlockingQueue<long[]> walks,
-        long[] TOMB
+        long[] TOMB,
+        TerminationFlag terminationFlag
     ) {
-        var tasks = IntStream
-            .range(0, this.config.concurrency())
-            .mapToObj(i ->
-                RandomWalkTask.of(
-                    nextNodeSupplier,
-                    cumulativeWeightSupplier,
-                    this.graph.concurrentCopy(),
-                    this.config,
-                    walks,
-                    randomSeed,
-                    this.progressTracker,
-                    terminationFlag
-                )).collect(Collectors.toList());
-
         CompletableFuture.runAsync(
             () -> tasksRunner(
                 tasks,
@@ -213,9 +263,10 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
     private static final class RandomWalkTask implements Runnable {
 
         private final Graph graph;
-        private final BlockingQueue<long[]> walks;
+        private final WalkSink sink;
         private final NextNodeSupplier nextNodeSupplier;
-        private final long[][] buffer;
+        // reused for every walk of this task
+        private final long[] buffer;
         private final ProgressTracker progressTracker;
         private final TerminationFlag terminationFlag;
         private final RandomWalkBaseConfig config;
@@ -224,9 +275,10 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         static RandomWalkTask of(
             NextNodeSupplier nextNodeSupplier,
             RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+            @Nullable AliasTable aliasTable,
             Graph graph,
             RandomWalkBaseConfig config,
-            BlockingQueue<long[]> walks,
+            WalkSink sink,
             long randomSeed,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
@@ -239,8 +291,9 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
             return new RandomWalkTask(
                 nextNodeSupplier,
                 cumulativeWeightSupplier,
+                aliasTable,
                 config,
-                walks,
+                sink,
                 normalizedReturnProbability,
                 normalizedSameDistanceProbability,
                 normalizedInOutProbability,
@@ -254,8 +307,9 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         private RandomWalkTask(
             NextNodeSupplier nextNodeSupplier,
             RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+            @Nullable AliasTable aliasTable,
             RandomWalkBaseConfig config,
-            BlockingQueue<long[]> walks,
+            WalkSink sink,
             double normalizedReturnProbability,
             double normalizedSameDistanceProbability,
             double normalizedInOutProbability,
@@ -267,11 +321,12 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
             this.nextNodeSupplier = nextNodeSupplier;
             this.graph = graph;
             this.config = config;
-            this.walks = walks;
+            this.sink = sink;
             this.progressTracker = progressTracker;
             this.terminationFlag = terminationFlag;
             this.sampler = new RandomWalkSampler(
                 cumulativeWeightSupplier,
+                aliasTable,
                 config.walkLength(),
                 normalizedReturnProbability,
                 normalizedSameDistanceProbability,
@@ -280,15 +335,14 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
                 randomSeed
             );
 
-            this.buffer = new long[1000][];
+            this.buffer = new long[config.walkLength()];
         }
 
         @Override
         public void run() {
             long nodeId;
-            int bufferLength = 0;
 
-            while (true) {
+            while (terminationFlag.running()) {
                 nodeId = nextNodeSupplier.nextNode();
 
                 if (nodeId == NextNodeSupplier.NO_MORE_NODES) break;
@@ -302,37 +356,30 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
                 sampler.prepareForNewNode(nodeId);
 
                 for (int walkIndex = 0; walkIndex < walksPerNode; walkIndex++) {
-                    buffer[bufferLength++] = sampler.walk(nodeId);
-                    if (bufferLength == buffer.length) {
-                        var shouldStop = flushBuffer(bufferLength);
-                        bufferLength = 0;
-                        if (!shouldStop) {
-                            break;
-                        }
+                    int walkLength = sampler.walk(nodeId, buffer);
+                    if (!sink.accept(buffer, walkLength)) {
+                        return;
                     }
                 }
 
                 progressTracker.logProgress();
             }
-
-            flushBuffer(bufferLength);
         }
+    }
 
-        // returns false if execution should be stopped, otherwise true
-        private boolean flushBuffer(int bufferLength) {
-            bufferLength = Math.min(bufferLength, this.buffer.length);
-
-            for (int i = 0; i < bufferLength && terminationFlag.running(); i++) {
-                try {
-                    walks.put(this.buffer[i]);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return false;
-                }
-            }
-
-            return terminationFlag.running();
-        }
+    /**
+     * Receives the walks as they are computed. The sink is called concurrently by all walker threads,
+     * each of which reuses its buffer for the next walk once the call returns. A slow sink therefore
+     * slows down the walkers, instead of letting computed walks pile up.
+     */
+    @FunctionalInterface
+    public interface WalkSink {
+        /**
+         * @param nodes  buffer holding the walk, must not be retained
+         * @param length number of nodes in the walk
+         * @return false, if no more walks should be computed
+         */
+        boolean accept(long[] nodes, int length);
     }
 
     @FunctionalInterface
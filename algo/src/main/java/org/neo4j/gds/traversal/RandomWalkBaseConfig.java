@@ -57,4 +57,9 @@ public interface RandomWalkBaseConfig extends AlgoBaseConfig, RelationshipWeight
     default double returnFactor() {
         return 1.0;
     }
+
+    @Value.Default
+    default boolean aliasSampling() {
+        return false;
+    }
 }
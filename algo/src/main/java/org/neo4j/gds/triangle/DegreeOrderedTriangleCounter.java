@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfBitset;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Counts triangles of an undirected graph on a degree-oriented copy of its adjacency.
+ * <p>
+ * Every relationship is kept only in the direction of the endpoint with the higher (degree, id) rank.
+ * A triangle is then found exactly once, from its lowest ranked node, by intersecting the oriented
+ * neighbours of that node with the oriented neighbours of each of them.
+ * The orientation bounds the length of each list by the square root of twice the relationship count,
+ * which tames the hubs of power-law graphs.
+ * <p>
+ * Lists of similar length are intersected with a merge, a short list is galloped through a much longer one,
+ * and the neighbours of a node with a long list are marked in a bitmap that is then probed for every neighbour.
+ *
+ * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
+ * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
+ */
+final class DegreeOrderedTriangleCounter {
+
+    // nodes with at least this many oriented neighbours are marked in a bitmap and probed
+    static final int HUB_THRESHOLD = 1024;
+    // a list this many times longer than the other one is galloped through instead of merged
+    static final int SKEW_FACTOR = 32;
+
+    private static final long[] NO_NEIGHBOURS = new long[0];
+
+    private final Graph graph;
+    private final long maxDegree;
+    private final int hubThreshold;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final HugeAtomicLongArray triangleCounts;
+    private final HugeObjectArray<long[]> orientedNeighbours;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder()
+            .perGraphDimension("oriented-adjacency", (dimensions, concurrency) -> MemoryRange.of(
+                HugeObjectArray.memoryEstimation(dimensions.nodeCount(), sizeOfLongArray(0)) +
+                Long.BYTES * (dimensions.relCountUpperBound() / 2)
+            ))
+            .perGraphDimension("hub-bitmaps", (dimensions, concurrency) -> MemoryRange.of(
+                0,
+                concurrency * sizeOfBitset(dimensions.nodeCount())
+            ))
+            .build();
+    }
+
+    DegreeOrderedTriangleCounter(
+        Graph graph,
+        long maxDegree,
+        int hubThreshold,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        HugeAtomicLongArray triangleCounts
+    ) {
+        this.graph = graph;
+        this.maxDegree = maxDegree;
+        this.hubThreshold = hubThreshold;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.triangleCounts = triangleCounts;
+        this.orientedNeighbours = HugeObjectArray.newArray(long[].class, graph.nodeCount());
+    }
+
+    /**
+     * Adds the triangles of every node to the triangle counts and returns the global triangle count.
+     */
+    long count() {
+        var orientQueue = new AtomicLong();
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new OrientTask(orientQueue)), executorService);
+        terminationFlag.assertRunning();
+
+        var countQueue = new AtomicLong();
+        var globalTriangleCounter = new LongAdder();
+        ParallelUtil.run(
+            ParallelUtil.tasks(concurrency, () -> new CountTask(countQueue, globalTriangleCounter)),
+            executorService
+        );
+
+        return globalTriangleCounter.longValue();
+    }
+
+    private final class OrientTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final Graph localGraph;
+        private final LongArrayList buffer;
+
+        OrientTask(AtomicLong queue) {
+            this.queue = queue;
+            this.localGraph = graph.concurrentCopy();
+            this.buffer = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = localGraph.nodeCount();
+            long node;
+            while ((node = queue.getAndIncrement()) < nodeCount && terminationFlag.running()) {
+                int degree = localGraph.degree(node);
+                if (degree > maxDegree) {
+                    triangleCounts.set(node, IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT);
+                    orientedNeighbours.set(node, NO_NEIGHBOURS);
+                    continue;
+                }
+
+                buffer.elementsCount = 0;
+                localGraph.forEachRelationship(node, (source, target) -> {
+                    if (isRankedHigher(target, source, degree)) {
+                        buffer.add(target);
+                    }
+                    return true;
+                });
+                orientedNeighbours.set(node, sortedDistinct(buffer));
+            }
+        }
+
+        private boolean isRankedHigher(long target, long source, int sourceDegree) {
+            if (target == source) {
+                return false;
+            }
+            int targetDegree = localGraph.degree(target);
+            if (targetDegree > maxDegree) {
+                return false;
+            }
+            return targetDegree > sourceDegree || (targetDegree == sourceDegree && target > source);
+        }
+
+        private long[] sortedDistinct(LongArrayList neighbours) {
+            if (neighbours.isEmpty()) {
+                return NO_NEIGHBOURS;
+            }
+            long[] values = neighbours.toArray();
+            Arrays.sort(values);
+            int distinct = 1;
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] != values[distinct - 1]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            return distinct == values.length ? values : Arrays.copyOf(values, distinct);
+        }
+    }
+
+    private final class CountTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final LongAdder globalTriangleCounter;
+        private BitSet hubNeighbours;
+        private long localTriangleCount;
+
+        CountTask(AtomicLong queue, LongAdder globalTriangleCounter) {
+            this.queue = queue;
+            this.globalTriangleCounter = globalTriangleCounter;
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long node;
+            while ((node = queue.getAndIncrement()) < nodeCount && terminationFlag.running()) {
+                long[] neighbours = orientedNeighbours.get(node);
+                if (neighbours.length >= hubThreshold) {
+                    countWithBitmap(node, neighbours);
+                } else if (neighbours.length >= 2) {
+                    countWithIntersections(node, neighbours);
+                }
+                progressTracker.logProgress();
+            }
+            globalTriangleCounter.add(localTriangleCount);
+        }
+
+        private void countWithBitmap(long nodeA, long[] neighboursA) {
+            if (hubNeighbours == null) {
+                hubNeighbours = new BitSet(graph.nodeCount());
+            }
+            for (long neighbour : neighboursA) {
+                hubNeighbours.set(neighbour);
+            }
+            for (long nodeB : neighboursA) {
+                for (long nodeC : orientedNeighbours.get(nodeB)) {
+                    if (hubNeighbours.get(nodeC)) {
+                        emit(nodeA, nodeB, nodeC);
+                    }
+                }
+            }
+            for (long neighbour : neighboursA) {
+                hubNeighbours.clear(neighbour);
+            }
+        }
+
+        private void countWithIntersections(long nodeA, long[] neighboursA) {
+            for (long nodeB : neighboursA) {
+                long[] neighboursB = orientedNeighbours.get(nodeB);
+                if (neighboursB.length == 0) {
+                    continue;
+                }
+                if (neighboursB.length > SKEW_FACTOR * (long) neighboursA.length) {
+                    gallop(nodeA, nodeB, neighboursA, neighboursB);
+                } else if (neighboursA.length > SKEW_FACTOR * (long) neighboursB.length) {
+                    gallop(nodeA, nodeB, neighboursB, neighboursA);
+                } else {
+                    merge(nodeA, nodeB, neighboursA, neighboursB);
+                }
+            }
+        }
+
+        private void merge(long nodeA, long nodeB, long[] left, long[] right) {
+            int i = 0;
+            int j = 0;
+            while (i < left.length && j < right.length) {
+                long l = left[i];
+                long r = right[j];
+                if (l == r) {
+                    emit(nodeA, nodeB, l);
+                }
+                // advance both sides on a match, otherwise only the smaller one
+                i += l <= r ? 1 : 0;
+                j += r <= l ? 1 : 0;
+            }
+        }
+
+        private void gallop(long nodeA, long nodeB, long[] shorter, long[] longer) {
+            int from = 0;
+            for (long value : shorter) {
+                int bound = 1;
+                while (from + bound < longer.length && longer[from + bound] < value) {
+                    bound <<= 1;
+                }
+                int index = Arrays.binarySearch(longer, from, Math.min(from + bound + 1, longer.length), value);
+                if (index >= 0) {
+                    emit(nodeA, nodeB, value);
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+                if (from >= longer.length) {
+                    return;
+                }
+            }
+        }
+
+        private void emit(long nodeA, long nodeB, long nodeC) {
+            triangleCounts.getAndAdd(nodeA, 1);
+            triangleCounts.getAndAdd(nodeB, 1);
+            triangleCounts.getAndAdd(nodeC, 1);
+            localTriangleCount++;
+        }
+    }
+}
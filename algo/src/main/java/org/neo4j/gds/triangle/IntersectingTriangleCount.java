@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
@@ -35,6 +36,7 @@ import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
 import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
 
 import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -45,6 +47,9 @@ import java.util.concurrent.atomic.LongAdder;
  *
  * This impl uses another approach where all the triangles can be calculated
  * using set intersection methods of the graph itself.
+ * Undirected graphs are counted on a degree-oriented adjacency instead,
+ * see {@link DegreeOrderedTriangleCounter}. With a positive approximation error only the global
+ * triangle count is estimated, by {@link GlobalWedgeSampler}, and the local triangle counts are left at zero.
  *
  * https://epubs.siam.org/doi/pdf/10.1137/1.9781611973198.1
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
@@ -66,6 +71,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
     // results
     private final HugeAtomicLongArray triangleCounts;
     private long globalTriangleCount;
+    private double globalTrianglesErrorBound;
 
     private LongAdder globalTriangleCounter;
 
@@ -115,20 +121,52 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
         progressTracker.beginSubTask();
         queue.set(0);
         globalTriangleCounter.reset();
-        // create tasks
-        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
-            config.concurrency(),
-            () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
-        );
-        // run
-        ParallelUtil.run(tasks, executorService);
+        globalTrianglesErrorBound = 0;
+
+        if (config.isApproximate()) {
+            var estimate = new GlobalWedgeSampler(
+                graph,
+                config.maxDegree(),
+                config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+                config.concurrency(),
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).globalTriangles(
+                GlobalWedgeSampler.sampleSize(config.approximationError(), config.confidence()),
+                config.confidence()
+            );
+            globalTriangleCount = Math.round(estimate.value());
+            globalTrianglesErrorBound = estimate.errorBound();
+        } else if (graph.schema().isUndirected()) {
+            // count each triangle once from its lowest degree node
+            globalTriangleCount = new DegreeOrderedTriangleCounter(
+                graph,
+                config.maxDegree(),
+                DegreeOrderedTriangleCounter.HUB_THRESHOLD,
+                config.concurrency(),
+                executorService,
+                progressTracker,
+                terminationFlag,
+                triangleCounts
+            ).count();
+        } else {
+            // create tasks
+            final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
+                config.concurrency(),
+                () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
+            );
+            // run
+            ParallelUtil.run(tasks, executorService);
 
-        globalTriangleCount = globalTriangleCounter.longValue();
+            globalTriangleCount = globalTriangleCounter.longValue();
+        }
 
         progressTracker.endSubTask();
         return TriangleCountResult.of(
             triangleCounts,
-            globalTriangleCount
+            globalTriangleCount,
+            globalTrianglesErrorBound
         );
     }
 
@@ -172,14 +210,29 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
 
         long globalTriangles();
 
+        // zero unless the triangles were approximated
+        @Value.Default
+        default double globalTrianglesErrorBound() {
+            return 0D;
+        }
+
         static TriangleCountResult of(
             HugeAtomicLongArray triangles,
             long globalTriangles
+        ) {
+            return of(triangles, globalTriangles, 0D);
+        }
+
+        static TriangleCountResult of(
+            HugeAtomicLongArray triangles,
+            long globalTriangles,
+            double globalTrianglesErrorBound
         ) {
             return ImmutableTriangleCountResult
                 .builder()
                 .localTriangles(triangles)
                 .globalTriangles(globalTriangles)
+                .globalTrianglesErrorBound(globalTrianglesErrorBound)
                 .build();
         }
 
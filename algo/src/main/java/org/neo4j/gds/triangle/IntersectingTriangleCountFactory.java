@@ -26,9 +26,11 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
 
 public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseConfig> extends GraphAlgorithmFactory<IntersectingTriangleCount, CONFIG> {
 
@@ -55,10 +57,20 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+
+        if (configuration.isApproximate()) {
+            int sampleSize = GlobalWedgeSampler.sampleSize(configuration.approximationError(), configuration.confidence());
+            builder
+                .perNode("cumulative-wedges", HugeLongArray::memoryEstimation)
+                .fixed("sampled-nodes", MemoryUsage.sizeOfLongArray(sampleSize));
+        } else {
+            builder.add("degree-ordered-counting", DegreeOrderedTriangleCounter.memoryEstimation());
+        }
+
+        return builder.build();
     }
 
     @Override
@@ -19,17 +19,20 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.utils.CloseableThreadLocal;
 
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.LongToDoubleFunction;
 
@@ -44,6 +47,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     // Results
     private HugeDoubleArray localClusteringCoefficients;
     private double averageClusteringCoefficient;
+    private double averageClusteringCoefficientErrorBound;
 
     LocalClusteringCoefficient(
         Graph graph,
@@ -65,7 +69,9 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     public Result compute() {
         progressTracker.beginSubTask();
 
-        if (null == triangleCountProperty) {
+        if (configuration.isApproximate()) {
+            estimateAverageCoefficient();
+        } else if (null == triangleCountProperty) {
             HugeAtomicLongArray triangleCounts = computeTriangleCounts();
             calculateCoefficients(triangleCounts::get);
         } else {
@@ -75,7 +81,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         progressTracker.endSubTask();
         return Result.of(
             localClusteringCoefficients,
-            averageClusteringCoefficient
+            averageClusteringCoefficient,
+            averageClusteringCoefficientErrorBound
         );
     }
 
@@ -107,6 +114,29 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         progressTracker.endSubTask();
     }
 
+    // only the average is estimated, the coefficients of single nodes are not computed
+    private void estimateAverageCoefficient() {
+        progressTracker.beginSubTask();
+
+        localClusteringCoefficients = HugeDoubleArray.newArray(0);
+        var estimate = new GlobalWedgeSampler(
+            graph,
+            Long.MAX_VALUE,
+            configuration.randomSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+            concurrency,
+            Pools.DEFAULT,
+            progressTracker,
+            terminationFlag
+        ).averageClusteringCoefficient(
+            GlobalWedgeSampler.sampleSize(configuration.approximationError(), configuration.confidence()),
+            configuration.confidence()
+        );
+        averageClusteringCoefficient = estimate.value();
+        averageClusteringCoefficientErrorBound = estimate.errorBound();
+
+        progressTracker.endSubTask();
+    }
+
     private HugeAtomicLongArray computeTriangleCounts() {
 
         IntersectingTriangleCount intersectingTriangleCount = new IntersectingTriangleCountFactory<>().build(
@@ -138,14 +168,22 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
         double averageClusteringCoefficient();
 
+        // zero unless the triangles were approximated
+        @Value.Default
+        default double averageClusteringCoefficientErrorBound() {
+            return 0D;
+        }
+
         static Result of(
             HugeDoubleArray localClusteringCoefficients,
-            double averageClusteringCoefficient
+            double averageClusteringCoefficient,
+            double averageClusteringCoefficientErrorBound
         ) {
             return ImmutableResult
                 .builder()
                 .localClusteringCoefficients(localClusteringCoefficients)
                 .averageClusteringCoefficient(averageClusteringCoefficient)
+                .averageClusteringCoefficientErrorBound(averageClusteringCoefficientErrorBound)
                 .build();
         }
 
@@ -28,6 +28,7 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConfigurableSeedConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.StringIdentifierValidations;
 
 import java.util.Collection;
@@ -39,7 +40,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, ConfigurableSeedConfig {
+public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, ConfigurableSeedConfig, RandomSeedConfig {
 
     @Override
     @Value.Default
@@ -55,6 +56,46 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Co
         return "triangleCountProperty";
     }
 
+    /**
+     * Maximum error of the average clustering coefficient estimated from sampled wedges.
+     * The default of zero counts triangles exactly. Ignored when a triangle count property is given.
+     * Only the stats mode supports a positive value, as the coefficients of single nodes are not estimated.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double approximationError() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double confidence() {
+        return 0.95;
+    }
+
+    @Configuration.Ignore
+    default boolean isApproximate() {
+        return seedProperty() == null && approximationError() > 0;
+    }
+
+    @Value.Check
+    default void validateApproximationError() {
+        if (approximationError() > 0) {
+            // fails if the error needs more samples than are supported
+            GlobalWedgeSampler.sampleSize(approximationError(), confidence());
+        }
+    }
+
+    @Configuration.Ignore
+    default void validateExactCounting() {
+        if (isApproximate()) {
+            throw new IllegalArgumentException(
+                "The 'approximationError' parameter is only supported in stats mode, " +
+                "as only the average clustering coefficient is estimated."
+            );
+        }
+    }
+
     static @Nullable String validateProperty(String input) {
         return StringIdentifierValidations.validateNoWhiteCharacter(input, "triangleCountProperty");
     }
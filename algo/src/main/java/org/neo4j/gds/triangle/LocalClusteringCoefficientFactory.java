@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.ArrayList;
 
@@ -52,6 +53,14 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (configuration.isApproximate()) {
+            int sampleSize = GlobalWedgeSampler.sampleSize(configuration.approximationError(), configuration.confidence());
+            return MemoryEstimations
+                .builder(LocalClusteringCoefficient.class)
+                .fixed("sampled-nodes", MemoryUsage.sizeOfLongArray(sampleSize))
+                .build();
+        }
+
         MemoryEstimations.Builder builder = MemoryEstimations
             .builder(LocalClusteringCoefficient.class)
             .perNode("local-clustering-coefficient", HugeDoubleArray::memoryEstimation);
@@ -67,11 +76,23 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
     }
 
     static TriangleCountStatsConfig createTriangleCountConfig(LocalClusteringCoefficientBaseConfig configuration) {
-        return ImmutableTriangleCountStatsConfig.builder().concurrency(configuration.concurrency()).build();
+        return ImmutableTriangleCountStatsConfig.builder()
+            .concurrency(configuration.concurrency())
+            .build();
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.isApproximate()) {
+            return Tasks.task(
+                taskName(),
+                Tasks.leaf(
+                    "Calculate Local Clustering Coefficient",
+                    GlobalWedgeSampler.sampleSize(config.approximationError(), config.confidence())
+                )
+            );
+        }
+
         var tasks = new ArrayList<Task>();
         if (config.seedProperty() == null) {
             tasks.add(IntersectingTriangleCountFactory.triangleCountProgressTask(graph));
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.MutatePropertyConfig;
@@ -29,6 +30,11 @@ import org.neo4j.gds.core.CypherMapWrapper;
 @SuppressWarnings("immutables:subtype")
 public interface LocalClusteringCoefficientMutateConfig extends LocalClusteringCoefficientBaseConfig, MutatePropertyConfig {
 
+    @Value.Check
+    default void validateApproximation() {
+        validateExactCounting();
+    }
+
     static LocalClusteringCoefficientMutateConfig of(CypherMapWrapper userInput) {
         return new LocalClusteringCoefficientMutateConfigImpl(userInput);
     }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.WritePropertyConfig;
@@ -29,6 +30,11 @@ import org.neo4j.gds.core.CypherMapWrapper;
 @SuppressWarnings("immutables:subtype")
 public interface LocalClusteringCoefficientWriteConfig extends LocalClusteringCoefficientBaseConfig, WritePropertyConfig {
 
+    @Value.Check
+    default void validateApproximation() {
+        validateExactCounting();
+    }
+
     static LocalClusteringCoefficientWriteConfig of(CypherMapWrapper userInput) {
         return new LocalClusteringCoefficientWriteConfigImpl(userInput);
     }
@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.Collection;
@@ -37,13 +38,53 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface TriangleCountBaseConfig extends AlgoBaseConfig {
+public interface TriangleCountBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
 
     @Value.Default
     default long maxDegree() {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * Maximum error of the sampled fraction of closed wedges, from which the global triangle count is estimated.
+     * The default of zero counts triangles exactly.
+     * Only the stats mode supports a positive value, as the triangles of single nodes are not estimated.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double approximationError() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double confidence() {
+        return 0.95;
+    }
+
+    @Configuration.Ignore
+    default boolean isApproximate() {
+        return approximationError() > 0;
+    }
+
+    @Value.Check
+    default void validateApproximationError() {
+        if (approximationError() > 0) {
+            // fails if the error needs more samples than are supported
+            GlobalWedgeSampler.sampleSize(approximationError(), confidence());
+        }
+    }
+
+    @Configuration.Ignore
+    default void validateExactCounting() {
+        if (isApproximate()) {
+            throw new IllegalArgumentException(
+                "The 'approximationError' parameter is only supported in stats mode, " +
+                "as only the global triangle count is estimated."
+            );
+        }
+    }
+
     @Value.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
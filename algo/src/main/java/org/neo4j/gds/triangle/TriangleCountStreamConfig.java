@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -28,6 +29,11 @@ import org.neo4j.gds.core.CypherMapWrapper;
 @SuppressWarnings("immutables:subtype")
 public interface TriangleCountStreamConfig extends TriangleCountBaseConfig {
 
+    @Value.Check
+    default void validateApproximation() {
+        validateExactCounting();
+    }
+
     static TriangleCountStreamConfig of(CypherMapWrapper userInput) {
         return new TriangleCountStreamConfigImpl(userInput);
     }
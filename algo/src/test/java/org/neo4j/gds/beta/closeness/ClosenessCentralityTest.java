@@ -23,7 +23,11 @@ import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -107,6 +111,65 @@ class ClosenessCentralityTest {
         assertThat(result.get(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
     }
 
+    @Test
+    void testGetApproximateCentrality() {
+        var config = ImmutableClosenessCentralityStreamConfig.builder()
+            .approximate(true)
+            .precision(16)
+            .concurrency(2)
+            .build();
+        var algo = ClosenessCentrality.of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var result = algo.compute();
+        var centralities = result.centralities();
+
+        assertThat(centralities.get(idFunction.of("a"))).isCloseTo(0.4, Offset.offset(0.01));
+        assertThat(centralities.get(idFunction.of("b"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(centralities.get(idFunction.of("c"))).isCloseTo(0.66, Offset.offset(0.01));
+        assertThat(centralities.get(idFunction.of("d"))).isCloseTo(0.57, Offset.offset(0.01));
+        assertThat(centralities.get(idFunction.of("e"))).isCloseTo(0.4, Offset.offset(0.01));
+
+        // 5 pairs within distance 0, 13 within 1, 19 within 2, 23 within 3 and 25 within 4
+        assertThat(result.neighborhoodFunction())
+            .hasValueSatisfying(neighborhoodFunction -> assertThat(neighborhoodFunction)
+                .containsExactly(new double[]{5, 13, 19, 23, 25}, Offset.offset(0.1)));
+    }
+
+    @Test
+    void shouldApproximateExactCentralityOnRandomGraph() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .direction(Direction.UNDIRECTED)
+            .build()
+            .generate();
+
+        var exact = ClosenessCentrality.of(
+            randomGraph,
+            ImmutableClosenessCentralityStreamConfig.builder().concurrency(4).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var approximate = ClosenessCentrality.of(
+            randomGraph,
+            ImmutableClosenessCentralityStreamConfig.builder().concurrency(4).approximate(true).precision(10).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(exact.neighborhoodFunction()).isEmpty();
+
+        double relativeError = 0;
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            double expected = exact.centralities().get(nodeId);
+            double actual = approximate.centralities().get(nodeId);
+            relativeError += expected == 0 ? actual : Math.abs(actual - expected) / expected;
+        }
+        assertThat(relativeError / randomGraph.nodeCount()).isLessThan(0.1);
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutableClosenessCentralityStreamConfig.builder().concurrency(4).build();
@@ -143,4 +206,52 @@ class ClosenessCentralityTest {
                 "ClosenessCentrality :: Finished"
             );
     }
+
+    @Test
+    void shouldLogProgressOfEveryHyperBallIteration() {
+        var config = ImmutableClosenessCentralityStreamConfig.builder()
+            .approximate(true)
+            .precision(16)
+            .concurrency(1)
+            .build();
+        var progressTask = new ClosenessCentralityFactory<>().progressTask(graph, config);
+        var progressTracker = new TestProgressTracker(
+            progressTask,
+            Neo4jProxy.testLog(),
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        ClosenessCentrality.of(graph, config, Pools.DEFAULT, progressTracker).compute();
+
+        // one pass per hop of the diameter of 4 plus the final pass without changes
+        var progresses = progressTracker.getProgresses();
+        assertThat(progresses.get(1).get()).isEqualTo(5 * graph.nodeCount());
+    }
+
+    @Test
+    void shouldEstimateHyperBallRegisters() {
+        long nodeCount = 100_000;
+        var dimensions = GraphDimensions.of(nodeCount);
+        var factory = new ClosenessCentralityFactory<>();
+
+        var exact = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().build())
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var precision6 = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().approximate(true).precision(6).build())
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var precision8 = factory
+            .memoryEstimation(ImmutableClosenessCentralityStreamConfig.builder().approximate(true).precision(8).build())
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        // two counters of 2^precision byte registers per node
+        assertThat(precision6.min).isGreaterThan(2 * nodeCount * 64);
+        assertThat(precision8.min - precision6.min).isGreaterThanOrEqualTo(2 * nodeCount * (256 - 64));
+        // MSBFS needs three arrays per thread
+        assertThat(exact.min).isGreaterThan(4 * 3 * nodeCount * Long.BYTES);
+    }
 }
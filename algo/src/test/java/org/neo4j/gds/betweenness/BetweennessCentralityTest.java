@@ -19,12 +19,17 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -37,9 +42,11 @@ import org.neo4j.gds.extension.TestGraph;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
@@ -245,4 +252,162 @@ class BetweennessCentralityTest {
                 "BetweennessCentrality :: Finished"
             );
     }
+
+    @ParameterizedTest
+    @MethodSource("approximationParameters")
+    void approximationShouldStayWithinErrorBound(Direction direction, int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .seed(42L)
+            .build()
+            .generate();
+        var factory = new BetweennessCentralityFactory<>();
+
+        var exactConfig = BetweennessCentralityStreamConfigImpl.builder().concurrency(concurrency).build();
+        var exact = factory.build(graph, exactConfig, ProgressTracker.NULL_TRACKER).compute();
+
+        var approximateConfig = BetweennessCentralityStreamConfigImpl.builder()
+            .approximationError(0.02)
+            .confidence(0.99)
+            .samplingSeed(42L)
+            .concurrency(concurrency)
+            .build();
+        var algorithm = factory.build(graph, approximateConfig, ProgressTracker.NULL_TRACKER);
+        var approximate = algorithm.compute();
+
+        double divisor = direction == Direction.UNDIRECTED ? 2.0 : 1.0;
+        double scale = graph.nodeCount() * (graph.nodeCount() - 1) / divisor;
+        assertThat(algorithm.sampledPaths())
+            .isPositive()
+            .isLessThanOrEqualTo(AdaptiveSamplingBetweenness.maxSamples(graph.nodeCount(), 0.02, 0.99));
+        assertThat(algorithm.errorBound()).isPositive().isLessThanOrEqualTo(0.02 * scale);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(approximate.get(nodeId))
+                .as("score of node %d", nodeId)
+                .isCloseTo(exact.get(nodeId), Offset.offset(algorithm.errorBound()));
+        }
+    }
+
+    static Stream<Arguments> approximationParameters() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(Direction.DIRECTED), Arguments.of(Direction.UNDIRECTED)),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4))
+        );
+    }
+
+    @Test
+    void approximationShouldSampleShortestPathsUniformly() {
+        var graph = fromGdl(DIAMOND, "diamond");
+        var config = BetweennessCentralityStreamConfigImpl.builder()
+            .approximationError(0.005)
+            .samplingSeed(42L)
+            .build();
+
+        var result = new BetweennessCentralityFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+
+        // c and d split the shortest paths from a1, a2 and b to e and f evenly
+        assertThat(result.get(graph.toMappedNodeId("c"))).isCloseTo(
+            result.get(graph.toMappedNodeId("d")),
+            Offset.offset(0.01 * graph.nodeCount() * (graph.nodeCount() - 1))
+        );
+    }
+
+    @Test
+    void shouldNotCombineSamplingSizeWithApproximationError() {
+        assertThatThrownBy(() -> BetweennessCentralityStreamConfigImpl.builder()
+            .samplingSize(2L)
+            .approximationError(0.1)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be used together");
+    }
+
+    @ParameterizedTest
+    @MethodSource("approximationParameters")
+    void batchedSourcesShouldMatchSingleSourceTraversals(Direction direction, int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(300)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .seed(42L)
+            .build()
+            .generate();
+        var factory = new BetweennessCentralityFactory<>();
+
+        var config = BetweennessCentralityStreamConfigImpl.builder().concurrency(concurrency).build();
+        var expected = factory.build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+
+        var batchedConfig = BetweennessCentralityStreamConfigImpl.builder()
+            .batchSources(true)
+            .concurrency(concurrency)
+            .build();
+        var actual = factory.build(graph, batchedConfig, ProgressTracker.NULL_TRACKER).compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId))
+                .as("score of node %d", nodeId)
+                .isCloseTo(expected.get(nodeId), Offset.offset(1e-6));
+        }
+    }
+
+    @Test
+    void batchedSourcesShouldSupportSampling() {
+        var graph = fromGdl(DIAMOND, "diamond");
+        long[] sources = {graph.toMappedNodeId("a1"), graph.toMappedNodeId("b"), graph.toMappedNodeId("d")};
+
+        var expected = new BetweennessCentrality(
+            graph,
+            fixedSelection(sources),
+            ForwardTraverser.Factory.unweighted(),
+            false,
+            Pools.DEFAULT,
+            1,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var actual = new BetweennessCentrality(
+            graph,
+            fixedSelection(sources),
+            ForwardTraverser.Factory.unweighted(),
+            true,
+            Pools.DEFAULT,
+            1,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).isCloseTo(expected.get(nodeId), Offset.offset(1e-9));
+        }
+    }
+
+    private static SelectionStrategy fixedSelection(long[] sources) {
+        return new SelectionStrategy() {
+            private int next;
+
+            @Override
+            public void init(Graph graph, ExecutorService executorService, int concurrency) {
+                next = 0;
+            }
+
+            @Override
+            public long next() {
+                return next < sources.length ? sources[next++] : NONE_SELECTED;
+            }
+        };
+    }
+
+    @Test
+    void shouldNotBatchSourcesOfWeightedGraphs() {
+        assertThatThrownBy(() -> BetweennessCentralityStreamConfigImpl.builder()
+            .relationshipWeightProperty("weight")
+            .batchSources(true)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported for unweighted graphs");
+    }
 }
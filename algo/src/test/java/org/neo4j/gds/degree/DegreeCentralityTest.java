@@ -41,9 +41,11 @@ import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
@@ -82,9 +84,15 @@ final class DegreeCentralityTest {
         ", (f)-[:TYPE1 {weight: 4.0}]->(b)" +
         ", (f)-[:TYPE1 {weight: -2.0}]->(e)";
 
+    @GdlGraph(indexInverse = true, graphNamePrefix = "inverse")
+    private static final String INVERSE_DB_CYPHER = DB_CYPHER;
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph inverseGraph;
+
     static Stream<Arguments> degreeCentralityParameters() {
         return crossArguments(
             toArgumentsFlat(() ->
@@ -160,6 +168,59 @@ final class DegreeCentralityTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("degreeCentralityParameters")
+    void shouldPublishCompletedRanges(boolean weighted, Orientation orientation, Map<String, Double> expected, int concurrency) {
+        var configBuilder = ImmutableDegreeCentralityConfig.builder()
+            .concurrency(concurrency)
+            .orientation(orientation)
+            .minBatchSize(1);
+
+        if (weighted) {
+            configBuilder.relationshipWeightProperty("weight");
+        }
+
+        var degreeCentrality = new DegreeCentrality(
+            inverseGraph,
+            Pools.DEFAULT,
+            configBuilder.build(),
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var publishedDegrees = new ConcurrentHashMap<Long, Double>();
+        var producesPartialResults = degreeCentrality.onRangeCompleted((startNode, nodeCount, partialResult) -> {
+            for (long nodeId = startNode; nodeId < startNode + nodeCount; nodeId++) {
+                assertThat(publishedDegrees.put(nodeId, partialResult.get(nodeId))).isNull();
+            }
+        });
+
+        assertThat(producesPartialResults).isTrue();
+
+        degreeCentrality.compute();
+
+        assertThat(publishedDegrees).hasSize((int) inverseGraph.nodeCount());
+        expected.forEach((variable, expectedDegree) ->
+            assertThat(publishedDegrees.get(inverseGraph.toMappedNodeId(variable))).isEqualTo(expectedDegree)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"REVERSE", "UNDIRECTED"})
+    void shouldNotPublishRangesWithoutInverseIndex(Orientation orientation) {
+        var config = ImmutableDegreeCentralityConfig.builder()
+            .orientation(orientation)
+            .build();
+
+        var degreeCentrality = new DegreeCentrality(
+            graph,
+            Pools.DEFAULT,
+            config,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThat(degreeCentrality.onRangeCompleted((startNode, nodeCount, partialResult) -> {})).isFalse();
+    }
+
     static Stream<Arguments> configParamsAndExpectedMemory() {
         return Stream.of(
             Arguments.of(true, 1, MemoryUsage.sizeOfInstance(DegreeCentrality.class) + HugeDoubleArray.memoryEstimation(10_000L)),
@@ -215,6 +276,30 @@ final class DegreeCentralityTest {
         assertTrue(log.containsMessage(TestLog.INFO, ":: Finish"));
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void shouldMaterializeDegrees(Orientation orientation) {
+        var config = ImmutableDegreeCentralityConfig
+            .builder()
+            .orientation(orientation)
+            .build();
+
+        var degreeFunction = new DegreeCentrality(
+            graph,
+            Pools.DEFAULT,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        var materializedDegrees = DegreeCentrality.MaterializedDegrees.of(degreeFunction, graph.nodeCount());
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(degreeFunction.get(nodeId), materializedDegrees.get(nodeId));
+        }
+        assertThat(materializedDegrees.sizeOf()).isEqualTo(MemoryUsage.sizeOfDoubleArray(graph.nodeCount()));
+        assertThat(DegreeCentrality.MaterializedDegrees.of(materializedDegrees, graph.nodeCount())).isSameAs(materializedDegrees);
+    }
+
     @ParameterizedTest
     @EnumSource(Orientation.class)
     void shouldSupportAllOrientations(Orientation orientation) {
@@ -51,6 +51,24 @@ class CompressedRandomWalksTest {
         assertIteratorContent(compressedRandomWalks.iterator(3, 4), List.of(walks.get(3), walks.get(4), walks.get(5), walks.get(6)));
     }
 
+    @Test
+    void shouldAddWalksFromReusedBuffer() {
+        var compressedRandomWalks = new CompressedRandomWalks(10);
+
+        var buffer = new long[4];
+        for (int length = 1; length <= 4; length++) {
+            for (int i = 0; i < buffer.length; i++) {
+                buffer[i] = 10L * length + i;
+            }
+            compressedRandomWalks.add(buffer, length);
+        }
+
+        assertIteratorContent(
+            compressedRandomWalks.iterator(0, 4),
+            List.of(new long[]{10L}, new long[]{20L, 21L}, new long[]{30L, 31L, 32L}, new long[]{40L, 41L, 42L, 43L})
+        );
+    }
+
     @Test
     void shouldFailIfIteratorRangeIsTooLarge() {
         var compressedRandomWalks = new CompressedRandomWalks(10);
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddingMatrixTest {
+
+    // 2^16 floats per page fit 16 rows of this dimension
+    private static final int DIMENSION = 3000;
+    private static final int ROWS_PER_PAGE = 16;
+
+    @Test
+    void shouldLayOutRowsWithinPages() {
+        var matrix = new EmbeddingMatrix(40, DIMENSION);
+
+        assertThat(matrix.page(0)).isSameAs(matrix.page(ROWS_PER_PAGE - 1)).hasSize(ROWS_PER_PAGE * DIMENSION);
+        assertThat(matrix.page(ROWS_PER_PAGE)).isNotSameAs(matrix.page(ROWS_PER_PAGE - 1));
+        assertThat(matrix.page(39)).hasSize(8 * DIMENSION);
+
+        assertThat(matrix.offset(0)).isEqualTo(0);
+        assertThat(matrix.offset(ROWS_PER_PAGE - 1)).isEqualTo((ROWS_PER_PAGE - 1) * DIMENSION);
+        assertThat(matrix.offset(ROWS_PER_PAGE + 1)).isEqualTo(DIMENSION);
+    }
+
+    @Test
+    void shouldCopyRowsIntoFloatVectors() {
+        var rowCount = 40;
+        var matrix = new EmbeddingMatrix(rowCount, DIMENSION);
+
+        for (long row = 0; row < rowCount; row++) {
+            var values = new float[DIMENSION];
+            values[0] = row;
+            values[DIMENSION - 1] = -row;
+            matrix.setRow(row, values);
+        }
+
+        var vectors = matrix.toFloatVectors();
+
+        assertThat(vectors.size()).isEqualTo(rowCount);
+        for (long row = 0; row < rowCount; row++) {
+            var data = vectors.get(row).data();
+            assertThat(data).hasSize(DIMENSION);
+            assertThat(data[0]).isEqualTo((float) row);
+            assertThat(data[DIMENSION - 1]).isEqualTo((float) -row);
+        }
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var expected = MemoryUsage.sizeOfInstance(EmbeddingMatrix.class)
+                       + MemoryUsage.sizeOfObjectArray(3)
+                       + 2 * MemoryUsage.sizeOfFloatArray(ROWS_PER_PAGE * DIMENSION)
+                       + MemoryUsage.sizeOfFloatArray(8 * DIMENSION);
+
+        assertThat(EmbeddingMatrix.memoryEstimation(40, DIMENSION)).isEqualTo(expected);
+        assertThat(EmbeddingMatrix.memoryEstimation(0, DIMENSION))
+            .isEqualTo(MemoryUsage.sizeOfInstance(EmbeddingMatrix.class) + MemoryUsage.sizeOfObjectArray(0));
+    }
+}
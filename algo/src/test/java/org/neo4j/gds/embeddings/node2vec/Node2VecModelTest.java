@@ -84,6 +84,7 @@ class Node2VecModelTest {
         assertThat(trainResult.lossPerIteration())
             .hasSize(config.iterations())
             .allMatch(loss -> loss > 0 && Double.isFinite(loss));
+        assertThat(trainResult.trainingPairsPerSecondPerThread()).isPositive();
 
         var embeddings = trainResult.embeddings();
 
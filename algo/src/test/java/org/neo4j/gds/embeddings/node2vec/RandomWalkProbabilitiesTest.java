@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomWalkProbabilitiesTest {
+
+    @Test
+    void shouldRegisterWalksConcurrently() {
+        var builder = new RandomWalkProbabilities.Builder(4, 0.001, 0.75, 4);
+
+        var tasks = IntStream.range(0, 8)
+            .mapToObj(task -> (Runnable) () -> {
+                var walk = new long[]{0, 1, 2, 1, 3};
+                for (int i = 0; i < 1_000; i++) {
+                    // only the first four nodes of the buffer belong to the walk
+                    builder.registerWalk(walk, 4);
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        var probabilities = builder.build();
+
+        assertThat(probabilities.sampleCount()).isEqualTo(8 * 1_000 * 4);
+        var nodeFrequencies = probabilities.nodeFrequencies();
+        assertThat(nodeFrequencies.get(0)).isEqualTo(8_000);
+        assertThat(nodeFrequencies.get(1)).isEqualTo(16_000);
+        assertThat(nodeFrequencies.get(2)).isEqualTo(8_000);
+        assertThat(nodeFrequencies.get(3)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.hyperball;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class HyperBallTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputeByteWiseMaximum() {
+        long a = 0x01_3F_00_10_05_00_22_01L;
+        long b = 0x02_01_00_11_05_3C_21_00L;
+
+        assertThat(HyperBall.byteWiseMax(a, b)).isEqualTo(0x02_3F_00_11_05_3C_22_01L);
+        assertThat(HyperBall.byteWiseMax(b, a)).isEqualTo(0x02_3F_00_11_05_3C_22_01L);
+        assertThat(HyperBall.byteWiseMax(a, 0L)).isEqualTo(a);
+    }
+
+    @Test
+    void shouldEstimateNeighbourhoodFunction() {
+        var reached = HugeDoubleArray.newArray(graph.nodeCount());
+        var farness = HugeDoubleArray.newArray(graph.nodeCount());
+
+        var neighbourhoodFunction = new HyperBall(graph, 16, 2, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute((nodeId, distance, count) -> {
+                reached.addTo(nodeId, count);
+                farness.addTo(nodeId, distance * count);
+            }, TerminationFlag.RUNNING_TRUE);
+
+        // pairs within distance 0, 1 and 2 of the path a -> b -> c and the isolated d
+        assertThat(neighbourhoodFunction).containsExactly(new double[]{4, 6, 7}, within(0.01));
+
+        assertThat(reached.get(idFunction.of("a"))).isEqualTo(0, within(0.01));
+        assertThat(reached.get(idFunction.of("b"))).isEqualTo(1, within(0.01));
+        assertThat(reached.get(idFunction.of("c"))).isEqualTo(2, within(0.01));
+        assertThat(reached.get(idFunction.of("d"))).isEqualTo(0, within(0.01));
+        assertThat(farness.get(idFunction.of("c"))).isEqualTo(3, within(0.01));
+    }
+
+    @Test
+    void shouldRejectInvalidPrecision() {
+        assertThatThrownBy(() -> new HyperBall(graph, 3, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between 4 and 16");
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.delta;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.delta.config.ImmutableAllShortestPathsDeltaMultiSourceStreamConfig;
+import org.neo4j.gds.paths.delta.config.ImmutableAllShortestPathsDeltaStreamConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+final class MultiSourceDeltaSteppingTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:B)" +
+        ", (c:C)" +
+        ", (d:D)" +
+        ", (e:E)" +
+        ", (f:F)" +
+
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputePathsFromEverySource() {
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .sourceNodes(List.of(idFunction.of("a"), idFunction.of("b")))
+            .build();
+
+        var paths = MultiSourceDeltaStepping.of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet();
+
+        var costsFromA = totalCosts(paths, graph.toMappedNodeId(idFunction.of("a")));
+        assertThat(costsFromA).containsExactlyInAnyOrderEntriesOf(Map.of(
+            graph.toMappedNodeId(idFunction.of("a")), 0.0,
+            graph.toMappedNodeId(idFunction.of("b")), 4.0,
+            graph.toMappedNodeId(idFunction.of("c")), 2.0,
+            graph.toMappedNodeId(idFunction.of("d")), 9.0,
+            graph.toMappedNodeId(idFunction.of("e")), 5.0,
+            graph.toMappedNodeId(idFunction.of("f")), 20.0
+        ));
+
+        var costsFromB = totalCosts(paths, graph.toMappedNodeId(idFunction.of("b")));
+        assertThat(costsFromB).containsExactlyInAnyOrderEntriesOf(Map.of(
+            graph.toMappedNodeId(idFunction.of("b")), 0.0,
+            graph.toMappedNodeId(idFunction.of("c")), 5.0,
+            graph.toMappedNodeId(idFunction.of("d")), 10.0,
+            graph.toMappedNodeId(idFunction.of("e")), 8.0,
+            graph.toMappedNodeId(idFunction.of("f")), 21.0
+        ));
+
+        assertThat(paths.stream().mapToLong(PathResult::index).distinct().count()).isEqualTo(paths.size());
+    }
+
+    @Test
+    void shouldComputeFollowingBatchesWhileStreaming() {
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .sourceNodes(List.of(idFunction.of("a"), idFunction.of("b"), idFunction.of("c")))
+            .sourceBatchSize(1)
+            .build();
+
+        var algorithm = MultiSourceDeltaStepping.of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+        var result = algorithm.compute();
+        assertThat(algorithm.streamedBatches()).isEqualTo(0);
+
+        assertThat(result.pathSet()).hasSize(6 + 5 + 4);
+        assertThat(algorithm.streamedBatches()).isEqualTo(2);
+        assertThat(algorithm.streamedBatchesMillis()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void shouldRequireSourceNodes() {
+        assertThatThrownBy(() -> ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder().build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sourceNodes");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,1,1.0", "3,4,0.5", "16,4,2.0", "64,1,8.0"})
+    void shouldComputeSameCostsAsSequentialRuns(int sourceBatchSize, int concurrency, double delta) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 0, 10))
+            .nodeCount(1_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var random = new Random(42L);
+        var sourceNodes = LongStream.generate(() -> random.nextInt(1_000)).limit(20).boxed().collect(Collectors.toList());
+
+        var config = ImmutableAllShortestPathsDeltaMultiSourceStreamConfig.builder()
+            .sourceNodes(sourceNodes)
+            .sourceBatchSize(sourceBatchSize)
+            .concurrency(concurrency)
+            .delta(delta)
+            .build();
+
+        var paths = MultiSourceDeltaStepping.of(randomGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet();
+
+        for (long sourceNode : sourceNodes) {
+            var singleSourceConfig = ImmutableAllShortestPathsDeltaStreamConfig.builder()
+                .sourceNode(sourceNode)
+                .concurrency(concurrency)
+                .delta(delta)
+                .build();
+            var expected = totalCosts(
+                DeltaStepping.of(randomGraph, singleSourceConfig, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+                    .compute()
+                    .pathSet(),
+                sourceNode
+            );
+
+            var actual = totalCosts(paths, sourceNode);
+            assertThat(actual.keySet()).isEqualTo(expected.keySet());
+            expected.forEach((target, cost) -> assertThat(actual.get(target)).isCloseTo(cost, within(1e-9)));
+        }
+    }
+
+    private static Map<Long, Double> totalCosts(Iterable<PathResult> paths, long sourceNode) {
+        var costs = new HashMap<Long, Double>();
+        for (PathResult path : paths) {
+            if (path.sourceNode() == sourceNode) {
+                costs.put(path.targetNode(), path.totalCost());
+            }
+        }
+        return costs;
+    }
+}
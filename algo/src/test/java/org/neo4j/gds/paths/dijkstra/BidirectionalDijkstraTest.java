@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.paths.dijkstra.DijkstraTest.defaultSourceTargetConfigBuilder;
+
+@GdlExtension
+class BidirectionalDijkstraTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:A)" +
+        ", (c:A)" +
+        ", (d:A)" +
+        ", (e:A)" +
+        ", (f:A)" +
+        ", (z:A)" +
+        ", (a)-[:T { cost: 4.0 }]->(b)" +
+        ", (a)-[:T { cost: 2.0 }]->(c)" +
+        ", (b)-[:T { cost: 5.0 }]->(c)" +
+        ", (b)-[:T { cost: 10.0 }]->(d)" +
+        ", (c)-[:T { cost: 3.0 }]->(e)" +
+        ", (d)-[:T { cost: 11.0 }]->(f)" +
+        ", (e)-[:T { cost: 4.0 }]->(d)";
+
+    @GdlGraph(graphNamePrefix = "noInverse")
+    private static final String NO_INVERSE_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Inject
+    private Graph noInverseGraph;
+
+    @Test
+    void shouldComputeSameShortestPathAsDijkstra() {
+        var config = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("f"))
+            .trackRelationships(true)
+            .build();
+
+        var bidirectional = Dijkstra.bidirectional(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+        var unidirectional = Dijkstra.sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(bidirectional.nodeIds()).containsExactly(unidirectional.nodeIds());
+        assertThat(bidirectional.costs()).containsExactly(unidirectional.costs());
+        assertThat(bidirectional.relationshipIds()).containsExactly(unidirectional.relationshipIds());
+        assertThat(bidirectional.totalCost()).isEqualTo(20.0);
+    }
+
+    @Test
+    void shouldReturnNoPathForUnreachableTarget() {
+        var config = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("z"))
+            .build();
+
+        var paths = Dijkstra.bidirectional(graph, config, ProgressTracker.NULL_TRACKER).compute().pathSet();
+
+        assertThat(paths).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyPathForSourceEqualsTarget() {
+        var config = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("d"))
+            .targetNode(idFunction.of("d"))
+            .build();
+
+        var path = Dijkstra.bidirectional(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(path.nodeIds()).containsExactly(graph.toMappedNodeId("d"));
+        assertThat(path.totalCost()).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldRequireInverseIndexOnDirectedGraphs() {
+        var config = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("a"))
+            .targetNode(idFunction.of("f"))
+            .build();
+
+        assertThatThrownBy(() -> Dijkstra.bidirectional(noInverseGraph, config, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse index");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void shouldComputeSameCostsAsDijkstraOnRandomGraphs(Direction direction) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(2_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var random = new Random(42L);
+        for (int i = 0; i < 50; i++) {
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(random.nextInt(2_000))
+                .targetNode(random.nextInt(2_000))
+                .trackRelationships(true)
+                .build();
+
+            var expected = Dijkstra.sourceTarget(randomGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+            var actual = Dijkstra.bidirectional(randomGraph, config, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            if (actual.isPresent()) {
+                var path = actual.get();
+                assertThat(path.totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9));
+                assertThat(path.nodeIds()[0]).isEqualTo(config.sourceNode());
+                assertThat(path.nodeIds()[path.nodeIds().length - 1]).isEqualTo(config.targetNode());
+                assertThat(path.relationshipIds()).hasSize(path.nodeIds().length - 1);
+                assertThat(path.costs()).isSorted();
+            }
+        }
+    }
+}
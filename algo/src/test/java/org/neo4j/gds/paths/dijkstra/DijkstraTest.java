@@ -30,9 +30,13 @@ import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.core.utils.queue.RadixLongPriorityQueue;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
@@ -40,6 +44,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.paths.ImmutablePathResult;
 import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
 import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.graphdb.TransactionTerminatedException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,7 +53,10 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.paths.PathTestUtil.expected;
 
@@ -71,13 +79,13 @@ final class DijkstraTest {
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
             // trackRelationships = false
-            Arguments.of(1_000, false, 40_616),
-            Arguments.of(1_000_000, false, 40_125_488L),
-            Arguments.of(1_000_000_000, false, 40_131_104_128L),
+            Arguments.of(1_000, false, 40_744L),
+            Arguments.of(1_000_000, false, 40_250_488L),
+            Arguments.of(1_000_000_000, false, 40_253_662_672L),
             // trackRelationships = true
-            Arguments.of(1_000, true, 56_832L),
-            Arguments.of(1_000_000, true, 56_125_704, 56_125_704L),
-            Arguments.of(1_000_000_000, true, 56_133_545_800L)
+            Arguments.of(1_000, true, 56_960L),
+            Arguments.of(1_000_000, true, 56_250_704L),
+            Arguments.of(1_000_000_000, true, 56_256_104_344L)
         );
     }
 
@@ -425,4 +433,141 @@ final class DijkstraTest {
             assertEquals(expected, path);
         }
     }
+
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class IntegralWeights {
+
+        @GdlGraph(graphNamePrefix = "integral")
+        private static final String INTEGRAL_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:A)" +
+            ", (c:A)" +
+            ", (d:A)" +
+            ", (a)-[:TYPE {cost: 4.0}]->(b)" +
+            ", (a)-[:TYPE {cost: 1.0}]->(c)" +
+            ", (c)-[:TYPE {cost: 2.0}]->(b)" +
+            ", (b)-[:TYPE {cost: 3.0}]->(d)";
+
+        @GdlGraph(graphNamePrefix = "fractional")
+        private static final String FRACTIONAL_CYPHER =
+            "CREATE" +
+            "  (a:A)" +
+            ", (b:A)" +
+            ", (a)-[:TYPE {cost: 4.0}]->(b)" +
+            ", (b)-[:TYPE {cost: 0.5}]->(a)";
+
+        @Inject
+        private Graph integralGraph;
+
+        @Inject
+        private IdFunction integralIdFunction;
+
+        @Inject
+        private Graph fractionalGraph;
+
+        @Inject
+        private IdFunction fractionalIdFunction;
+
+        @Test
+        void shouldDetectIntegralWeights() {
+            assertTrue(Dijkstra.hasIntegralWeights(integralGraph, 4, Pools.DEFAULT, TerminationFlag.RUNNING_TRUE));
+            assertFalse(Dijkstra.hasIntegralWeights(fractionalGraph, 4, Pools.DEFAULT, TerminationFlag.RUNNING_TRUE));
+        }
+
+        @Test
+        void shouldStopDetectingIntegralWeightsWhenTerminated() {
+            assertThrows(
+                TransactionTerminatedException.class,
+                () -> Dijkstra.hasIntegralWeights(integralGraph, 4, Pools.DEFAULT, () -> false)
+            );
+        }
+
+        @Test
+        void shouldComputeSameSingleSourcePathsWithIntegerQueue() {
+            var config = defaultSingleSourceConfigBuilder()
+                .sourceNode(integralIdFunction.of("a"))
+                .build();
+
+            var expected = expected(integralIdFunction, 0, new double[]{0.0, 1.0, 3.0, 6.0}, "a", "c", "b", "d");
+
+            for (boolean integralWeights : new boolean[]{false, true}) {
+                var path = Dijkstra
+                    .singleSource(integralGraph, config, Optional.empty(), integralWeights, ProgressTracker.NULL_TRACKER)
+                    .compute()
+                    .pathSet()
+                    .stream()
+                    .filter(result -> result.targetNode() == integralIdFunction.of("d"))
+                    .findFirst()
+                    .get();
+
+                assertEquals(expected, path);
+            }
+        }
+
+        @Test
+        void shouldComputeSamePathWithIntegerQueue() {
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(integralIdFunction.of("a"))
+                .targetNode(integralIdFunction.of("d"))
+                .build();
+
+            var expected = expected(integralIdFunction, 0, new double[]{0.0, 1.0, 3.0, 6.0}, "a", "c", "b", "d");
+
+            for (boolean integralWeights : new boolean[]{false, true}) {
+                var path = Dijkstra
+                    .sourceTarget(integralGraph, config, Optional.empty(), integralWeights, ProgressTracker.NULL_TRACKER)
+                    .compute()
+                    .findFirst()
+                    .get();
+
+                assertEquals(expected, path);
+            }
+        }
+
+        @Test
+        void shouldUseIntegerQueueForIntegralWeightProperty() {
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(integralIdFunction.of("a"))
+                .targetNode(integralIdFunction.of("d"))
+                .relationshipWeightProperty("cost")
+                .build();
+
+            var expected = expected(integralIdFunction, 0, new double[]{0.0, 1.0, 3.0, 6.0}, "a", "c", "b", "d");
+
+            var dijkstra = Dijkstra.sourceTarget(integralGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER);
+            var path = dijkstra.compute().findFirst().get();
+
+            assertEquals(expected, path);
+            assertThat(dijkstra.queue()).isInstanceOf(RadixLongPriorityQueue.class);
+        }
+
+        @Test
+        void shouldUseBinaryHeapForFractionalWeightProperty() {
+            var config = defaultSingleSourceConfigBuilder()
+                .sourceNode(fractionalIdFunction.of("b"))
+                .relationshipWeightProperty("cost")
+                .build();
+
+            var dijkstra = Dijkstra.singleSource(fractionalGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER);
+            var paths = dijkstra.compute().pathSet();
+
+            assertEquals(
+                Set.of(
+                    expected(fractionalIdFunction, 0, new double[]{0.0}, "b"),
+                    expected(fractionalIdFunction, 1, new double[]{0.0, 0.5}, "b", "a")
+                ),
+                paths
+            );
+            assertThat(dijkstra.queue()).isInstanceOf(HugeLongPriorityQueue.class);
+        }
+
+        @Test
+        void shouldCheckTheWeightsOnlyOnce() {
+            assertTrue(IntegralWeightsCatalog.hasIntegralWeights(integralGraph, "cost", 4, Pools.DEFAULT, TerminationFlag.RUNNING_TRUE));
+            // a terminated scan would throw, the remembered answer does not need one
+            assertTrue(IntegralWeightsCatalog.hasIntegralWeights(integralGraph, "cost", 4, Pools.DEFAULT, () -> false));
+        }
+    }
 }
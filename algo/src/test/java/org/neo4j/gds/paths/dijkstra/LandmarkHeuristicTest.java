@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.paths.dijkstra.DijkstraTest.defaultSingleSourceConfigBuilder;
+import static org.neo4j.gds.paths.dijkstra.DijkstraTest.defaultSourceTargetConfigBuilder;
+
+class LandmarkHeuristicTest {
+
+    private static final int NODE_COUNT = 2_000;
+    private static final long[] LANDMARKS = {0, 500, 1_000, 1_500};
+
+    @Test
+    void shouldComputeSameCostsAsDijkstra() {
+        var graph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(NODE_COUNT)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var landmarkDistances = landmarkDistances(graph).asNodeProperties();
+
+        var random = new Random(42L);
+        for (int i = 0; i < 50; i++) {
+            long source = random.nextInt(NODE_COUNT);
+            long target = random.nextInt(NODE_COUNT);
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(source)
+                .targetNode(target)
+                .build();
+            var heuristic = new LandmarkHeuristic(landmarkDistances, target);
+
+            var expected = Dijkstra.sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+            var actual = Dijkstra.sourceTarget(graph, config, Optional.of(heuristic), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            actual.ifPresent(path -> assertThat(path.totalCost()).isCloseTo(
+                expected.get().totalCost(),
+                within(1e-9)
+            ));
+        }
+    }
+
+    @Test
+    void shouldNeverOverestimate() {
+        var graph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(NODE_COUNT)
+            .seed(1337L)
+            .build()
+            .generate();
+
+        long target = 42;
+        var heuristic = new LandmarkHeuristic(landmarkDistances(graph).asNodeProperties(), target);
+
+        var config = defaultSingleSourceConfigBuilder().sourceNode(target).build();
+        Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .forEachPath(path -> assertThat(heuristic.applyAsDouble(path.targetNode()))
+                .isLessThanOrEqualTo(path.totalCost() + 1e-9));
+
+        assertThat(heuristic.applyAsDouble(target)).isEqualTo(0.0);
+    }
+
+    private static HugeObjectArray<double[]> landmarkDistances(Graph graph) {
+        int k = LANDMARKS.length;
+        var distances = HugeObjectArray.newArray(double[].class, graph.nodeCount());
+        distances.setAll(node -> {
+            var nodeDistances = new double[2 * k];
+            Arrays.fill(nodeDistances, Double.POSITIVE_INFINITY);
+            return nodeDistances;
+        });
+
+        for (int i = 0; i < k; i++) {
+            int landmarkIndex = i;
+            var config = defaultSingleSourceConfigBuilder().sourceNode(LANDMARKS[i]).build();
+            Dijkstra.singleSource(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> {
+                    var nodeDistances = distances.get(path.targetNode());
+                    // the graph is undirected, so distances from and to the landmark are the same
+                    nodeDistances[landmarkIndex] = path.totalCost();
+                    nodeDistances[k + landmarkIndex] = path.totalCost();
+                });
+        }
+        return distances;
+    }
+}
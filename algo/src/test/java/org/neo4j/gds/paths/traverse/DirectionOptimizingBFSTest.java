@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+@GdlExtension
+class DirectionOptimizingBFSTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:REL]->(c)" +
+        ", (a)-[:REL]->(b)" +
+        ", (c)-[:REL]->(e)" +
+        ", (b)-[:REL]->(d)" +
+        ", (d)-[:REL]->(f)" +
+        ", (e)-[:REL]->(f)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldOrderLevelsByNodeId() {
+        long[] nodes = BFS.create(
+            graph,
+            graph.toMappedNodeId("a"),
+            ExitPredicate.FOLLOW,
+            Aggregator.NO_AGGREGATION,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        assertThat(nodes).containsExactly(
+            Stream.of("a", "b", "c", "d", "e", "f").mapToLong(graph::toMappedNodeId).toArray()
+        );
+    }
+
+    @Test
+    void shouldStopAtTargetAndMaxDepth() {
+        long target = graph.toMappedNodeId("d");
+        long[] untilTarget = BFS.create(
+            graph,
+            graph.toMappedNodeId("a"),
+            new TargetExitPredicate(List.of(target)),
+            Aggregator.NO_AGGREGATION,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        assertThat(untilTarget).containsExactly(
+            Stream.of("a", "b", "c", "d").mapToLong(graph::toMappedNodeId).toArray()
+        );
+
+        long[] oneHop = BFS.create(
+            graph,
+            graph.toMappedNodeId("a"),
+            ExitPredicate.FOLLOW,
+            new OneHopAggregator(),
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            1,
+            true
+        ).compute().toArray();
+
+        assertThat(oneHop).containsExactly(
+            Stream.of("a", "b", "c").mapToLong(graph::toMappedNodeId).toArray()
+        );
+    }
+
+    @Test
+    void shouldNeitherReturnNorExpandSkippedNodes() {
+        long skipped = graph.toMappedNodeId("b");
+        long[] nodes = BFS.create(
+            graph,
+            graph.toMappedNodeId("a"),
+            (source, current, depth) -> current == skipped ? ExitPredicate.Result.CONTINUE : ExitPredicate.Result.FOLLOW,
+            Aggregator.NO_AGGREGATION,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        // d is only reachable through b
+        assertThat(nodes).containsExactly(
+            Stream.of("a", "c", "e", "f").mapToLong(graph::toMappedNodeId).toArray()
+        );
+    }
+
+    @Test
+    void shouldRunOnTheGivenExecutor() {
+        var executedTasks = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                executedTasks.incrementAndGet();
+            }
+        };
+        try {
+            long[] nodes = BFS.create(
+                graph,
+                graph.toMappedNodeId("a"),
+                ExitPredicate.FOLLOW,
+                Aggregator.NO_AGGREGATION,
+                2,
+                executor,
+                ProgressTracker.NULL_TRACKER,
+                BFS.ALL_DEPTHS_ALLOWED,
+                true
+            ).compute().toArray();
+
+            assertThat(nodes).hasSize(6);
+            assertThat(executedTasks.get()).isPositive();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldVisitSameLevelsAsTopDownBfs(Direction direction, boolean inverseIndex, int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(20_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .inverseIndex(inverseIndex)
+            .seed(42L)
+            .build()
+            .generate();
+
+        long[] nodes = BFS.create(
+            randomGraph,
+            0,
+            ExitPredicate.FOLLOW,
+            Aggregator.NO_AGGREGATION,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED,
+            true
+        ).compute().toArray();
+
+        long[] depths = depths(randomGraph, 0);
+        long[] expected = Arrays.stream(depths).filter(depth -> depth >= 0).toArray();
+        assertThat(nodes).hasSize(expected.length);
+
+        for (int i = 1; i < nodes.length; i++) {
+            long previous = nodes[i - 1];
+            long current = nodes[i];
+            assertThat(depths[(int) current]).isGreaterThanOrEqualTo(depths[(int) previous]);
+            if (depths[(int) current] == depths[(int) previous]) {
+                assertThat(current).isGreaterThan(previous);
+            }
+        }
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return crossArguments(
+            () -> Stream.of(
+                Arguments.of(Direction.UNDIRECTED, false),
+                Arguments.of(Direction.DIRECTED, true),
+                Arguments.of(Direction.DIRECTED, false)
+            ),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4))
+        );
+    }
+
+    private static long[] depths(Graph graph, long sourceNodeId) {
+        var depths = new long[(int) graph.nodeCount()];
+        Arrays.fill(depths, -1);
+        depths[(int) sourceNodeId] = 0;
+        var queue = new ArrayDeque<Long>();
+        queue.add(sourceNodeId);
+        while (!queue.isEmpty()) {
+            long nodeId = queue.poll();
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (depths[(int) target] == -1) {
+                    depths[(int) target] = depths[(int) source] + 1;
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+        return depths;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ReverseShortestPathTreeTest {
+
+    @GdlGraph(orientation = Orientation.NATURAL, aggregation = Aggregation.SINGLE, indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)-[:REL {cost: 1.0}]->(b)" +
+        ", (b)-[:REL {cost: 1.0}]->(c)" +
+        ", (c)-[:REL {cost: 1.0}]->(t)" +
+        ", (b)-[:REL {cost: 1.0}]->(x)" +
+        ", (x)-[:REL {cost: 1.0}]->(y)" +
+        ", (y)-[:REL {cost: 5.0}]->(t)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldOnlySettleNodesUpToTheSource() {
+        var tree = ReverseShortestPathTree.compute(graph, idFunction.of("a"), idFunction.of("t"), TerminationFlag.RUNNING_TRUE);
+
+        assertThat(tree.distanceToTarget(idFunction.of("t"))).isEqualTo(0D);
+        assertThat(tree.distanceToTarget(idFunction.of("b"))).isEqualTo(2D);
+        assertThat(tree.distanceToTarget(idFunction.of("a"))).isEqualTo(3D);
+        // y and x are farther from the target than the source, the radius bounds their distance
+        assertThat(tree.distanceToTarget(idFunction.of("y"))).isEqualTo(3D);
+        assertThat(tree.distanceToTarget(idFunction.of("x"))).isEqualTo(3D);
+        assertThat(tree.mayReachTarget(idFunction.of("x"))).isTrue();
+        assertThat(tree.hasIntactPath(idFunction.of("y"), node -> false)).isFalse();
+    }
+
+    @Test
+    void spurSearchShouldStopAtTheTree() {
+        long spurNode = idFunction.of("b");
+        var tree = ReverseShortestPathTree.compute(graph, idFunction.of("a"), idFunction.of("t"), TerminationFlag.RUNNING_TRUE);
+
+        var dijkstra = Dijkstra.sourceTarget(
+            graph,
+            Yens.dijkstraConfig(graph.toOriginalNodeId(idFunction.of("t")), false),
+            Optional.of(tree::distanceToTarget),
+            false,
+            ProgressTracker.NULL_TRACKER
+        );
+        dijkstra
+            .withSourceNode(spurNode)
+            .withStopCondition(node -> node != spurNode && tree.hasIntactPath(node, dijkstra::isVisited));
+
+        var spurPath = dijkstra.compute().findFirst().orElseThrow();
+
+        // the search stops at c, before it reaches the target
+        assertThat(spurPath.nodeIds()).containsExactly(idFunction.of("b"), idFunction.of("c"));
+        assertThat(dijkstra.isVisited(idFunction.of("t"))).isFalse();
+
+        var completePath = tree.extendToTarget(graph, spurPath, false);
+        assertThat(completePath.nodeIds()).containsExactly(idFunction.of("b"), idFunction.of("c"), idFunction.of("t"));
+        assertThat(completePath.totalCost()).isEqualTo(2D);
+    }
+}
@@ -67,14 +67,14 @@ class YensTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1_000, 3, 1, 56_960L),
-            Arguments.of(1_000, 3, 4, 227_744L),
+            Arguments.of(1_000, 3, 1, 97_544L),
+            Arguments.of(1_000, 3, 4, 268_712L),
 
-            Arguments.of(1_000_000, 3, 1, 56_125_832L),
-            Arguments.of(1_000_000, 3, 4, 224_503_232L),
+            Arguments.of(1_000_000, 3, 1, 96_376_160L),
+            Arguments.of(1_000_000, 3, 4, 265_128_560L),
 
-            Arguments.of(1_000_000_000, 3, 1, 56_133_545_928L),
-            Arguments.of(1_000_000_000, 3, 4, 224_534_183_616L)
+            Arguments.of(1_000_000_000, 3, 1, 96_387_208_440L),
+            Arguments.of(1_000_000_000, 3, 4, 265_155_521_760L)
 
         );
     }
@@ -116,12 +116,22 @@ class YensTest {
         ", (f)-[:REL {cost: 1.0}]->(h)" +
         ", (g)-[:REL {cost: 2.0}]->(h)";
 
+    // Spur searches use the distances to the target if the graph can be traversed backwards.
+    @GdlGraph(graphNamePrefix = "inverse", aggregation = Aggregation.SINGLE, indexInverse = true)
+    private static final String INVERSE_DB_CYPHER = DB_CYPHER;
+
     @Inject
     private Graph graph;
 
     @Inject
     private IdFunction idFunction;
 
+    @Inject
+    private Graph inverseGraph;
+
+    @Inject
+    private IdFunction inverseIdFunction;
+
     // Each input represents k paths that are expected to be returned by Yen's algorithm.
     // The first node in each path is the start node for the path search, the last node in
     // each path is the target node for each path search. The node property represents the
@@ -180,6 +190,12 @@ class YensTest {
         assertResult(graph, idFunction, expectedPaths, false, 4);
     }
 
+    @ParameterizedTest
+    @MethodSource("pathInput")
+    void computeWithReverseShortestPathTree(Collection<String> expectedPaths) {
+        assertResult(inverseGraph, inverseIdFunction, expectedPaths, false, 4);
+    }
+
     @Test
     void shouldLogProgress() {
         int k = 3;
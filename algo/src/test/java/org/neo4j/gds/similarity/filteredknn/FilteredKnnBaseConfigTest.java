@@ -183,6 +183,30 @@ class FilteredKnnBaseConfigTest {
                 "Invalid configuration value 'targetNodeFilter', the node label `BogusNodeLabel` is missing from the graph.");
     }
 
+    @ParameterizedTest
+    @MethodSource("nodePropertyWriteOptions")
+    void shouldRejectNodePropertyWriteOptions(String key, Object value) {
+        var userInput = CypherMapWrapper.create(
+            Map.of(
+                "nodeProperties", List.of("dummy"),
+                "writeRelationshipType", "R",
+                "writeProperty", "writeProperty",
+                key, value
+            )
+        );
+
+        assertThatThrownBy(() -> FilteredKnnWriteConfig.of(userInput))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The '" + key + "' parameter is not supported by this procedure.");
+    }
+
+    static Stream<Arguments> nodePropertyWriteOptions() {
+        return Stream.of(
+            Arguments.of("writeOnlyChanges", true),
+            Arguments.of("writeTolerance", 0.1),
+            Arguments.of("writeAsync", true)
+        );
+    }
 
     static Stream<Arguments> configs() {
         return Stream.of(
@@ -55,6 +55,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 
@@ -133,6 +134,36 @@ class RandomWalkTest {
         assertThat(firstResultAsSet).isEqualTo(secondResultAsSet);
     }
 
+    @Test
+    void shouldHandWalksToSink() {
+        var config = ImmutableNode2VecStreamConfig.builder().concurrency(4).randomSeed(42L).build();
+
+        var streamedWalks = new TreeSet<long[]>(Arrays::compare);
+        streamedWalks.addAll(runRandomWalkSeeded(config, graph));
+
+        var sinkWalks = new TreeSet<long[]>(Arrays::compare);
+        RandomWalk.create(graph, config, ProgressTracker.NULL_TRACKER, Pools.DEFAULT)
+            .forEachWalk((walk, length) -> {
+                synchronized (sinkWalks) {
+                    sinkWalks.add(Arrays.copyOf(walk, length));
+                }
+                return true;
+            });
+
+        assertThat(sinkWalks).isEqualTo(streamedWalks);
+    }
+
+    @Test
+    void shouldStopWhenSinkRejectsWalks() {
+        var config = ImmutableNode2VecStreamConfig.builder().concurrency(1).build();
+
+        var walkCount = new AtomicLong();
+        RandomWalk.create(graph, config, ProgressTracker.NULL_TRACKER, Pools.DEFAULT)
+            .forEachWalk((walk, length) -> walkCount.incrementAndGet() < 5);
+
+        assertThat(walkCount.get()).isEqualTo(5);
+    }
+
     @NotNull
     private List<long[]> runRandomWalkSeeded(Node2VecStreamConfig config, Graph graph) {
         var randomWalk = RandomWalk.create(
@@ -275,8 +306,9 @@ class RandomWalkTest {
     }
 
 
-    @Test
-    void shouldRespectRelationshipWeights() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldRespectRelationshipWeights(boolean aliasSampling) {
         var graph = fromGdl(
             "  (a:Node)" +
             ", (b:Node)" +
@@ -295,6 +327,7 @@ class RandomWalkTest {
             .returnFactor(1)
             .inOutFactor(1)
             .randomSeed(23L)
+            .aliasSampling(aliasSampling)
             .build();
 
         RandomWalk randomWalk = RandomWalk.create(
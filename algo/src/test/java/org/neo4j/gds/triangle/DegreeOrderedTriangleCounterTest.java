@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
+import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DegreeOrderedTriangleCounterTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 16, DegreeOrderedTriangleCounter.HUB_THRESHOLD})
+    void countsTheSameTrianglesAsIntersecting(int hubThreshold) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .aggregation(Aggregation.NONE)
+            .direction(Direction.UNDIRECTED)
+            .allowSelfLoops(AllowSelfLoops.YES)
+            .build()
+            .generate();
+
+        var expectedCounts = HugeAtomicLongArray.newArray(graph.nodeCount());
+        long expectedGlobalCount = intersectingCount(graph, expectedCounts);
+
+        var actualCounts = HugeAtomicLongArray.newArray(graph.nodeCount());
+        long actualGlobalCount = new DegreeOrderedTriangleCounter(
+            graph,
+            Long.MAX_VALUE,
+            hubThreshold,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            actualCounts
+        ).count();
+
+        assertThat(expectedGlobalCount).isPositive();
+        assertThat(actualGlobalCount).isEqualTo(expectedGlobalCount);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actualCounts.get(nodeId)).as("triangles of node %d", nodeId).isEqualTo(expectedCounts.get(nodeId));
+        }
+    }
+
+    private static long intersectingCount(Graph graph, HugeAtomicLongArray triangleCounts) {
+        var intersect = RelationshipIntersectFactoryLocator
+            .lookup(graph)
+            .orElseThrow()
+            .load(graph, ImmutableRelationshipIntersectConfig.of(Long.MAX_VALUE));
+        long[] globalCount = {0};
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            intersect.intersectAll(nodeId, (nodeA, nodeB, nodeC) -> {
+                if (nodeA < nodeB) {
+                    triangleCounts.getAndAdd(nodeA, 1);
+                    triangleCounts.getAndAdd(nodeB, 1);
+                    triangleCounts.getAndAdd(nodeC, 1);
+                    globalCount[0]++;
+                }
+            });
+        }
+        return globalCount[0];
+    }
+}
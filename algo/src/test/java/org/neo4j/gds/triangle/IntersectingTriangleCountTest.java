@@ -27,12 +27,21 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.triangle.IntersectingTriangleCount.TriangleCountResult;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -526,6 +535,69 @@ class IntersectingTriangleCountTest {
             .returns(0L, t -> t.get(testGraph.toMappedNodeId("y")));
     }
 
+    @Test
+    void approximateCountIsWithinErrorBound() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .build()
+            .generate();
+
+        var exact = compute(graph);
+        var approximate = compute(
+            graph,
+            ImmutableTriangleCountBaseConfig.builder()
+                .approximationError(0.05)
+                .confidence(0.99)
+                .randomSeed(42L)
+                .build()
+        );
+
+        assertThat(exact.globalTrianglesErrorBound()).isZero();
+        assertThat(approximate.globalTrianglesErrorBound()).isPositive();
+        assertThat((double) approximate.globalTriangles())
+            .isCloseTo(exact.globalTriangles(), within(approximate.globalTrianglesErrorBound() + 1));
+    }
+
+    @Test
+    void approximateCountIgnoresParallelRelationshipsAndSelfLoops() {
+        var config = ImmutableTriangleCountBaseConfig.builder().approximationError(0.1).build();
+        var graph = fromGdl("CREATE (a)-[:T]->(b), (a)-[:T]->(b), (b)-[:T]->(c), (c)-[:T]->(a), (a)-[:T]->(a)");
+
+        var result = compute(graph, config);
+
+        // every distinct wedge is closed, so each sample hits a triangle
+        assertThat(result.globalTriangles()).isEqualTo(1L);
+        assertThat(result.globalTrianglesErrorBound()).isPositive();
+    }
+
+    @Test
+    void shouldRejectApproximationOutsideOfStatsMode() {
+        var userInput = CypherMapWrapper.create(Map.of("approximationError", 0.1));
+
+        assertThatThrownBy(() -> TriangleCountStreamConfig.of(userInput))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported in stats mode");
+        assertThat(TriangleCountStatsConfig.of(userInput).approximationError()).isEqualTo(0.1);
+    }
+
+    @Test
+    void shouldRejectApproximationErrorsThatNeedTooManySamples() {
+        var userInput = CypherMapWrapper.create(Map.of("approximationError", 1E-5));
+
+        assertThatThrownBy(() -> TriangleCountStatsConfig.of(userInput))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires more than the maximum of 10000000 sampled wedges")
+            .hasMessageContaining("Use an 'approximationError' of at least 4.3");
+        assertThat(TriangleCountStatsConfig.of(userInput.withNumber("approximationError", 5E-4)).approximationError())
+            .isEqualTo(5E-4);
+    }
+
     private TriangleCountResult compute(Graph graph) {
         TriangleCountStatsConfig config = ImmutableTriangleCountStatsConfig.builder().build();
         return compute(graph, config);
@@ -27,8 +27,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -40,6 +46,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -364,6 +373,42 @@ class LocalClusteringCoefficientTest {
         assertEquals(0, result.localClusteringCoefficients().get(14)); // o
     }
 
+    @Test
+    void approximateAverageIsWithinErrorBound() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .build()
+            .generate();
+
+        var exact = compute(graph);
+        var approximate = new LocalClusteringCoefficient(
+            graph,
+            createConfig().approximationError(0.02).confidence(0.99).randomSeed(42L).build(),
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(exact.averageClusteringCoefficientErrorBound()).isZero();
+        assertThat(approximate.averageClusteringCoefficientErrorBound()).isPositive();
+        assertThat(approximate.averageClusteringCoefficient())
+            .isCloseTo(exact.averageClusteringCoefficient(), within(approximate.averageClusteringCoefficientErrorBound()));
+    }
+
+    @Test
+    void shouldRejectApproximationOutsideOfStatsMode() {
+        var userInput = CypherMapWrapper.create(Map.of("approximationError", 0.1));
+
+        assertThatThrownBy(() -> LocalClusteringCoefficientStreamConfig.of(userInput))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported in stats mode");
+        assertThat(LocalClusteringCoefficientStatsConfig.of(userInput).approximationError()).isEqualTo(0.1);
+    }
+
     private LocalClusteringCoefficient.Result compute(Graph graph) {
         var localClusteringCoefficient = new LocalClusteringCoefficient(
             graph,
@@ -23,15 +23,16 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
-import org.neo4j.gds.config.WritePropertyConfig;
+import org.neo4j.gds.config.SynchronousWritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.hyperball.HyperBall;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
 public interface HarmonicCentralityConfig extends
     AlgoBaseConfig,
-    WritePropertyConfig {
+    SynchronousWritePropertyConfig {
 
     @Override
     @Value.Default
@@ -39,6 +40,17 @@ public interface HarmonicCentralityConfig extends
         return "centrality";
     }
 
+    @Value.Default
+    default boolean approximate() {
+        return false;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = HyperBall.MIN_PRECISION, max = HyperBall.MAX_PRECISION)
+    default int precision() {
+        return 6;
+    }
+
     static HarmonicCentralityConfig of(CypherMapWrapper config) {
         return new HarmonicCentralityConfigImpl(config);
     }
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.contractionhierarchy;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a contraction hierarchy for fast source-target shortest path queries.
+ *
+ * Nodes are contracted in rounds. Each round contracts an independent set of nodes whose priority
+ * (edge difference plus the number of already contracted neighbors) is lower than the priority of
+ * all their remaining neighbors. Contracting a node {@code v} adds a shortcut {@code (u, w)} for each
+ * pair of remaining neighbors, unless a local witness search finds a path from {@code u} to {@code w}
+ * avoiding {@code v} that is not longer than {@code (u, v, w)}. The witness searches of a round and the
+ * priority updates of the affected neighbors run in parallel.
+ *
+ * Only nodes whose priority or neighborhood changed in the last round can become a local minimum, so
+ * each round only considers the neighbors of the contracted nodes and their neighbors. The contraction
+ * fails once it needs more than the given number of shortcuts.
+ *
+ * The result is the input relationships plus all shortcuts, and the rank of every node, which is the
+ * order in which the nodes have been contracted. A bidirectional search that only follows relationships
+ * towards nodes of a higher rank finds the shortest path on this hierarchy.
+ */
+public class ContractionHierarchy extends Algorithm<ContractionHierarchy.HierarchyResult> {
+
+    // Witness searches give up after settling this many nodes and keep the shortcut.
+    static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private static final int BATCH_SIZE = 4096;
+
+    private final Graph graph;
+    private final RelationshipType hierarchyType;
+    private final String weightProperty;
+    private final long maxShortcuts;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    private final long nodeCount;
+    private final HugeObjectArray<NeighborList> outgoing;
+    private final HugeObjectArray<NeighborList> incoming;
+    private final HugeLongArray ranks;
+    private final HugeDoubleArray priorities;
+    private final HugeIntArray contractedNeighbors;
+
+    private long shortcutCount;
+
+    public ContractionHierarchy(
+        Graph graph,
+        RelationshipType hierarchyType,
+        String weightProperty,
+        long maxShortcuts,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.hierarchyType = hierarchyType;
+        this.weightProperty = weightProperty;
+        this.maxShortcuts = maxShortcuts;
+        this.concurrency = concurrency;
+        this.executor = executor;
+
+        this.nodeCount = graph.nodeCount();
+        this.outgoing = HugeObjectArray.newArray(NeighborList.class, nodeCount);
+        this.incoming = HugeObjectArray.newArray(NeighborList.class, nodeCount);
+        this.ranks = HugeLongArray.newArray(nodeCount);
+        this.priorities = HugeDoubleArray.newArray(nodeCount);
+        this.contractedNeighbors = HugeIntArray.newArray(nodeCount);
+    }
+
+    @Override
+    public HierarchyResult compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        loadNeighbors();
+        ranks.fill(-1L);
+        forEachNodeInParallel(WitnessSearch::new, (witnessSearch, node) -> priorities.set(
+            node,
+            priority(node, witnessSearch)
+        ));
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        long nextRank = 0;
+        // null for the first round, which considers all nodes
+        long[] candidates = null;
+        while (nextRank < nodeCount && terminationFlag.running()) {
+            var independentSet = independentSet(candidates);
+            // Ranking the whole set first keeps the witness searches off nodes contracted in the same round.
+            // Otherwise, two nodes with the same neighbors could serve as each other's witness.
+            for (int i = 0; i < independentSet.size(); i++) {
+                ranks.set(independentSet.get(i), nextRank++);
+            }
+
+            var shortcuts = shortcuts(independentSet);
+            shortcutCount += shortcuts.size();
+            if (shortcutCount > maxShortcuts) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Contracting the graph needs more than %d shortcuts. " +
+                    "Increase the `maxShortcutsPerRelationship` to build the hierarchy anyway.",
+                    maxShortcuts
+                ));
+            }
+            for (Shortcut shortcut : shortcuts) {
+                outgoing.get(shortcut.source).add(shortcut.target, shortcut.cost);
+                incoming.get(shortcut.target).add(shortcut.source, shortcut.cost);
+            }
+            candidates = updateNeighbors(independentSet);
+
+            progressTracker.logProgress(independentSet.size());
+        }
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var relationships = buildRelationships();
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+
+        return HierarchyResult.of(relationships, ranks);
+    }
+
+    private void loadNeighbors() {
+        outgoing.setAll(node -> new NeighborList(graph.degree(node)));
+        incoming.setAll(node -> new NeighborList(4));
+
+        forEachNodeInParallel(graph::concurrentCopy, (localGraph, node) -> localGraph.forEachRelationship(
+            node,
+            1.0D,
+            (source, target, weight) -> {
+                if (source != target) {
+                    outgoing.get(source).add(target, weight);
+                    var targetIncoming = incoming.get(target);
+                    synchronized (targetIncoming) {
+                        targetIncoming.add(source, weight);
+                    }
+                }
+                return true;
+            }
+        ));
+    }
+
+    /**
+     * Selects all remaining candidates whose priority is lower than the priority of their remaining neighbors.
+     * Ties are broken by the node id, so no two selected nodes are adjacent.
+     */
+    private LongArrayList independentSet(@Nullable long[] candidates) {
+        var localSets = new ArrayList<LongArrayList>();
+        Supplier<LongArrayList> localSetSupplier = () -> {
+            var localSet = new LongArrayList();
+            synchronized (localSets) {
+                localSets.add(localSet);
+            }
+            return localSet;
+        };
+        NodeConsumer<LongArrayList> selectMinimum = (localSet, node) -> {
+            if (isContracted(node)) {
+                return;
+            }
+            boolean isMinimum = isLocalMinimum(node, outgoing.get(node)) && isLocalMinimum(node, incoming.get(node));
+            if (isMinimum) {
+                localSet.add(node);
+            }
+        };
+        if (candidates == null) {
+            forEachNodeInParallel(localSetSupplier, selectMinimum);
+        } else {
+            forEachInParallel(candidates, localSetSupplier, selectMinimum);
+        }
+
+        var independentSet = new LongArrayList();
+        localSets.forEach(independentSet::addAll);
+        Arrays.sort(independentSet.buffer, 0, independentSet.size());
+        return independentSet;
+    }
+
+    private boolean isLocalMinimum(long node, NeighborList neighbors) {
+        double priority = priorities.get(node);
+        for (int i = 0; i < neighbors.size; i++) {
+            long neighbor = neighbors.targets[i];
+            if (isContracted(neighbor)) {
+                continue;
+            }
+            double neighborPriority = priorities.get(neighbor);
+            if (neighborPriority < priority || (neighborPriority == priority && neighbor < node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Shortcut> shortcuts(LongArrayList independentSet) {
+        var shortcuts = new ArrayList<Shortcut>();
+        var next = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> () -> {
+            var witnessSearch = new WitnessSearch();
+            var localShortcuts = new ArrayList<Shortcut>();
+            int index;
+            while ((index = (int) next.getAndIncrement()) < independentSet.size() && terminationFlag.running()) {
+                contract(independentSet.get(index), witnessSearch, localShortcuts::add);
+            }
+            synchronized (shortcuts) {
+                shortcuts.addAll(localShortcuts);
+            }
+        });
+        ParallelUtil.run(tasks, executor);
+        return shortcuts;
+    }
+
+    /**
+     * Updates the priorities of the remaining neighbors of the contracted nodes and returns the nodes
+     * that can become a local minimum in the next round: the updated neighbors and their remaining neighbors.
+     */
+    private long[] updateNeighbors(LongArrayList independentSet) {
+        var affected = new LongHashSet();
+        for (int i = 0; i < independentSet.size(); i++) {
+            long node = independentSet.get(i);
+            forEachRemainingNeighbor(node, neighbor -> {
+                contractedNeighbors.addTo(neighbor, 1);
+                affected.add(neighbor);
+            });
+        }
+
+        var affectedNodes = affected.toArray();
+        forEachInParallel(
+            affectedNodes,
+            WitnessSearch::new,
+            (witnessSearch, node) -> priorities.set(node, priority(node, witnessSearch))
+        );
+
+        var candidates = new LongHashSet(affected);
+        for (long node : affectedNodes) {
+            forEachRemainingNeighbor(node, candidates::add);
+        }
+        return candidates.toArray();
+    }
+
+    private void forEachRemainingNeighbor(long node, LongConsumer consumer) {
+        var seen = new LongHashSet();
+        for (var neighbors : List.of(outgoing.get(node), incoming.get(node))) {
+            for (int i = 0; i < neighbors.size; i++) {
+                long neighbor = neighbors.targets[i];
+                if (!isContracted(neighbor) && seen.add(neighbor)) {
+                    consumer.accept(neighbor);
+                }
+            }
+        }
+    }
+
+    private double priority(long node, WitnessSearch witnessSearch) {
+        var shortcutCount = new int[1];
+        contract(node, witnessSearch, shortcut -> shortcutCount[0]++);
+        int removed = remainingNeighbors(outgoing.get(node)).size() + remainingNeighbors(incoming.get(node)).size();
+        return shortcutCount[0] - removed + contractedNeighbors.get(node);
+    }
+
+    /**
+     * Emits the shortcuts that are needed when contracting the given node, without changing any state.
+     */
+    private void contract(long node, WitnessSearch witnessSearch, Consumer<Shortcut> shortcuts) {
+        var sources = remainingNeighbors(incoming.get(node));
+        var targets = remainingNeighbors(outgoing.get(node));
+        if (sources.isEmpty() || targets.isEmpty()) {
+            return;
+        }
+
+        double maxTargetCost = 0;
+        for (LongDoubleCursor target : targets) {
+            maxTargetCost = Math.max(maxTargetCost, target.value);
+        }
+
+        for (LongDoubleCursor source : sources) {
+            double maxCost = source.value + maxTargetCost;
+            witnessSearch.run(source.key, node, maxCost, terminationFlag);
+            for (LongDoubleCursor target : targets) {
+                if (target.key == source.key) {
+                    continue;
+                }
+                double viaCost = source.value + target.value;
+                if (witnessSearch.distance(target.key) > viaCost) {
+                    shortcuts.accept(new Shortcut(source.key, target.key, viaCost));
+                }
+            }
+        }
+    }
+
+    // cheapest relationship to every remaining neighbor
+    private LongDoubleHashMap remainingNeighbors(NeighborList neighbors) {
+        var remaining = new LongDoubleHashMap();
+        for (int i = 0; i < neighbors.size; i++) {
+            long neighbor = neighbors.targets[i];
+            if (!isContracted(neighbor)) {
+                double weight = neighbors.weights[i];
+                if (weight < remaining.getOrDefault(neighbor, Double.POSITIVE_INFINITY)) {
+                    remaining.put(neighbor, weight);
+                }
+            }
+        }
+        return remaining;
+    }
+
+    private boolean isContracted(long node) {
+        return ranks.get(node) >= 0;
+    }
+
+    private SingleTypeRelationships buildRelationships() {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .relationshipType(hierarchyType)
+            .concurrency(concurrency)
+            .nodes(graph)
+            .executorService(executor)
+            .orientation(Orientation.NATURAL)
+            .indexInverse(true)
+            .addPropertyConfig(GraphFactory.PropertyConfig.of(weightProperty))
+            .validateRelationships(false)
+            .build();
+
+        forEachNodeInParallel(() -> null, (__, node) -> {
+            var neighbors = outgoing.get(node);
+            for (int i = 0; i < neighbors.size; i++) {
+                relationshipsBuilder.addFromInternal(node, neighbors.targets[i], neighbors.weights[i]);
+            }
+        });
+
+        return relationshipsBuilder.build();
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer<T> {
+        void accept(T local, long node);
+    }
+
+    /**
+     * Runs the consumer for every node in batches, with local state per task.
+     */
+    private <T> void forEachNodeInParallel(Supplier<T> localState, NodeConsumer<T> consumer) {
+        var nextBatch = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> () -> {
+            T local = localState.get();
+            long start;
+            while ((start = nextBatch.getAndAdd(BATCH_SIZE)) < nodeCount && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    consumer.accept(local, node);
+                }
+            }
+        });
+        ParallelUtil.run(tasks, executor);
+    }
+
+    /**
+     * Runs the consumer for every given node, with local state per task.
+     */
+    private <T> void forEachInParallel(long[] nodes, Supplier<T> localState, NodeConsumer<T> consumer) {
+        var next = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> () -> {
+            T local = localState.get();
+            int index;
+            while ((index = (int) next.getAndIncrement()) < nodes.length && terminationFlag.running()) {
+                consumer.accept(local, nodes[index]);
+            }
+        });
+        ParallelUtil.run(tasks, executor);
+    }
+
+    /**
+     * Local Dijkstra on the remaining nodes, bounded by a maximum cost and the number of settled nodes.
+     */
+    private final class WitnessSearch {
+        private final SparseLongPriorityQueue queue = new SparseLongPriorityQueue();
+        private final LongHashSet settled = new LongHashSet();
+
+        void run(long source, long excludedNode, double maxCost, TerminationFlag terminationFlag) {
+            queue.clear();
+            settled.clear();
+            queue.add(source, 0.0);
+
+            while (!queue.isEmpty() && settled.size() < WITNESS_SETTLE_LIMIT && terminationFlag.running()) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                if (cost > maxCost) {
+                    break;
+                }
+                settled.add(node);
+
+                var neighbors = outgoing.get(node);
+                for (int i = 0; i < neighbors.size; i++) {
+                    long target = neighbors.targets[i];
+                    if (target == excludedNode || isContracted(target) || settled.contains(target)) {
+                        continue;
+                    }
+                    double newCost = cost + neighbors.weights[i];
+                    if (newCost < queue.cost(target)) {
+                        queue.add(target, newCost);
+                    }
+                }
+            }
+        }
+
+        // upper bound of the distance from the last source, exact for all settled nodes
+        double distance(long node) {
+            return queue.cost(node);
+        }
+    }
+
+    private static final class NeighborList {
+        private long[] targets;
+        private double[] weights;
+        private int size;
+
+        NeighborList(int capacity) {
+            this.targets = new long[Math.max(capacity, 1)];
+            this.weights = new double[Math.max(capacity, 1)];
+        }
+
+        void add(long target, double weight) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size << 1);
+                weights = Arrays.copyOf(weights, size << 1);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+        }
+    }
+
+    static final class Shortcut {
+        private final long source;
+        private final long target;
+        private final double cost;
+
+        Shortcut(long source, long target, double cost) {
+            this.source = source;
+            this.target = target;
+            this.cost = cost;
+        }
+    }
+
+    @ValueClass
+    public interface HierarchyResult {
+        // The input relationships and all shortcuts, with an inverse index.
+        SingleTypeRelationships relationships();
+
+        // Value at index `i` is the contraction order of the node with id `i`.
+        HugeLongArray ranks();
+
+        static HierarchyResult of(SingleTypeRelationships relationships, HugeLongArray ranks) {
+            return ImmutableHierarchyResult
+                .builder()
+                .relationships(relationships)
+                .ranks(ranks)
+                .build();
+        }
+
+        default NodePropertyValues asNodeProperties() {
+            return ranks().asNodeProperties();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.contractionhierarchy;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.SparseLongPriorityQueue;
+import org.neo4j.gds.impl.contractionhierarchy.config.ContractionHierarchyMutateConfig;
+import org.neo4j.gds.mem.MemoryUsage;
+
+public class ContractionHierarchyFactory extends GraphAlgorithmFactory<ContractionHierarchy, ContractionHierarchyMutateConfig> {
+
+    // bytes per relationship in a neighbor list: the target and the weight
+    private static final long NEIGHBOR_ENTRY = Long.BYTES + Double.BYTES;
+
+    @Override
+    public String taskName() {
+        return "ContractionHierarchy";
+    }
+
+    @Override
+    public ContractionHierarchy build(
+        Graph graph,
+        ContractionHierarchyMutateConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        return new ContractionHierarchy(
+            graph,
+            RelationshipType.of(configuration.mutateRelationshipType()),
+            configuration.hierarchyWeightProperty(),
+            maxShortcuts(configuration.maxShortcutsPerRelationship(), graph.relationshipCount()),
+            configuration.concurrency(),
+            Pools.DEFAULT,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, ContractionHierarchyMutateConfig config) {
+        return Tasks.task(
+            taskName(),
+            Tasks.leaf("compute initial priorities"),
+            Tasks.leaf("contract nodes", graph.nodeCount()),
+            Tasks.leaf("build hierarchy relationships")
+        );
+    }
+
+    static long maxShortcuts(double maxShortcutsPerRelationship, long relationshipCount) {
+        return (long) Math.ceil(maxShortcutsPerRelationship * relationshipCount);
+    }
+
+    /**
+     * The number of shortcuts depends on the structure of the graph. Road networks typically stay below
+     * one shortcut per relationship. The algorithm fails once it exceeds `maxShortcutsPerRelationship`,
+     * which bounds this estimation.
+     */
+    @Override
+    public MemoryEstimation memoryEstimation(ContractionHierarchyMutateConfig configuration) {
+        double shortcutsPerRelationship = configuration.maxShortcutsPerRelationship();
+        return MemoryEstimations.builder(ContractionHierarchy.class)
+            .perNode("ranks", HugeLongArray::memoryEstimation)
+            .perNode("priorities", HugeDoubleArray::memoryEstimation)
+            .perNode("contracted neighbors", HugeIntArray::memoryEstimation)
+            .perNode("neighbor lists", nodeCount -> 2 * nodeCount * (
+                MemoryUsage.sizeOfInstance(Object.class) + MemoryUsage.sizeOfLongArray(0) + MemoryUsage.sizeOfDoubleArray(0)
+            ))
+            .perGraphDimension("neighbor entries", (dimensions, concurrency) -> {
+                long relationships = dimensions.relCountUpperBound();
+                long withShortcuts = relationships + maxShortcuts(shortcutsPerRelationship, relationships);
+                // outgoing and incoming, without and with all shortcuts, where the lists grow by doubling
+                return MemoryRange.of(
+                    2 * relationships * NEIGHBOR_ENTRY,
+                    2 * 2 * withShortcuts * NEIGHBOR_ENTRY
+                );
+            })
+            .perGraphDimension("shortcuts of a round", (dimensions, concurrency) -> MemoryRange.of(
+                0,
+                maxShortcuts(shortcutsPerRelationship, dimensions.relCountUpperBound()) *
+                (MemoryUsage.sizeOfInstance(ContractionHierarchy.Shortcut.class) + MemoryUsage.sizeOfObjectArrayElements(1))
+            ))
+            .rangePerNode("round candidates", nodeCount -> MemoryRange.of(
+                0,
+                // the hash set and the array of the nodes affected by a round
+                3 * nodeCount * Long.BYTES
+            ))
+            .perGraphDimension("hierarchy relationships", (dimensions, concurrency) -> {
+                long relationships = dimensions.relCountUpperBound();
+                long withShortcuts = relationships + maxShortcuts(shortcutsPerRelationship, relationships);
+                // compressed topology and uncompressed weights, including the inverse index
+                long minTopology = 2 * relationships * Integer.BYTES;
+                long maxTopology = 2 * withShortcuts * Long.BYTES;
+                return MemoryRange.of(
+                    minTopology + 2 * relationships * Double.BYTES,
+                    maxTopology + 2 * withShortcuts * Double.BYTES
+                );
+            })
+            .perThread(
+                "witness search",
+                SparseLongPriorityQueue.memoryEstimation(2 * ContractionHierarchy.WITNESS_SETTLE_LIMIT)
+            )
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.contractionhierarchy.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.MutatePropertyConfig;
+import org.neo4j.gds.config.MutateRelationshipConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.List;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface ContractionHierarchyMutateConfig extends AlgoBaseConfig, RelationshipWeightConfig, MutateRelationshipConfig, MutatePropertyConfig {
+
+    String DEFAULT_WEIGHT_PROPERTY = "weight";
+
+    // The ranks and shortcuts refer to all nodes of the graph.
+    @Override
+    @Configuration.Ignore
+    default List<String> nodeLabels() {
+        return List.of("*");
+    }
+
+    // Building the hierarchy fails once it needs more shortcuts than this per input relationship.
+    @Value.Default
+    @Configuration.DoubleRange(min = 0)
+    default double maxShortcutsPerRelationship() {
+        return 1.0;
+    }
+
+    @Configuration.Ignore
+    default String hierarchyWeightProperty() {
+        return relationshipWeightProperty().orElse(DEFAULT_WEIGHT_PROPERTY);
+    }
+
+    static ContractionHierarchyMutateConfig of(CypherMapWrapper config) {
+        return new ContractionHierarchyMutateConfigImpl(config);
+    }
+}
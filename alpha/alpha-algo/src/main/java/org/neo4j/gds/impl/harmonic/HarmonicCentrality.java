@@ -23,14 +23,18 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 public class HarmonicCentrality extends Algorithm<HarmonicResult> {
 
     private final int concurrency;
+    private final boolean approximate;
+    private final int precision;
     private final long nodeCount;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
@@ -42,10 +46,26 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(graph, concurrency, false, 0, executorService, progressTracker);
+    }
+
+    /**
+     * @param approximate whether to estimate the distances with HyperBall counters of 2^precision registers
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        int concurrency,
+        boolean approximate,
+        int precision,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
+        this.approximate = approximate;
+        this.precision = precision;
         this.executorService = executorService;
         this.inverseFarness = HugeAtomicDoubleArray.newArray(graph.nodeCount());
         this.nodeCount = graph.nodeCount();
@@ -55,6 +75,17 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
     public HarmonicResult compute() {
         progressTracker.beginSubTask();
 
+        if (approximate) {
+            HyperBall.BallConsumer consumer = (nodeId, distance, reached) ->
+                inverseFarness.update(nodeId, currentValue -> currentValue + (reached / distance));
+            var neighborhoodFunction = new HyperBall(graph, precision, concurrency, executorService, progressTracker)
+                .compute(consumer, terminationFlag);
+
+            progressTracker.endSubTask();
+
+            return ImmutableHarmonicResult.of(inverseFarness, nodeCount, Optional.of(neighborhoodFunction));
+        }
+
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             double len = sourceNodeIds.size();
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
@@ -68,7 +99,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicResult> {
 
         progressTracker.endSubTask();
 
-        return ImmutableHarmonicResult.of(inverseFarness, graph.nodeCount());
+        return ImmutableHarmonicResult.of(inverseFarness, graph.nodeCount(), Optional.empty());
     }
 
 
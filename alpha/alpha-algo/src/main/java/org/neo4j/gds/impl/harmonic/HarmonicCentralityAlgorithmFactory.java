@@ -22,7 +22,14 @@ package org.neo4j.gds.impl.harmonic;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.hyperball.HyperBall;
 import org.neo4j.gds.impl.closeness.HarmonicCentralityConfig;
 
 public class HarmonicCentralityAlgorithmFactory extends GraphAlgorithmFactory<HarmonicCentrality, HarmonicCentralityConfig> {
@@ -40,8 +47,34 @@ public class HarmonicCentralityAlgorithmFactory extends GraphAlgorithmFactory<Ha
         return new HarmonicCentrality(
             graph,
             configuration.concurrency(),
+            configuration.approximate(),
+            configuration.precision(),
             Pools.DEFAULT,
             progressTracker
         );
     }
+
+    @Override
+    public Task progressTask(Graph graph, HarmonicCentralityConfig config) {
+        // HyperBall grows the volume by the node count with every iteration
+        return config.approximate()
+            ? Tasks.leaf(taskName(), graph.nodeCount())
+            : Tasks.leaf(taskName());
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(HarmonicCentralityConfig config) {
+        var builder = MemoryEstimations.builder(HarmonicCentrality.class)
+            .perNode("inverse farness", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (config.approximate()) {
+            return builder.add("HyperBall", HyperBall.memoryEstimation(config.precision())).build();
+        }
+
+        return builder
+            .perThread("MSBFS", MemoryEstimations.builder()
+                .perNode("visits, next visits and seen nodes", nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount))
+                .build())
+            .build();
+    }
 }
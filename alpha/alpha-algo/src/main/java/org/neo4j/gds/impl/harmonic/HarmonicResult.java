@@ -23,6 +23,8 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 
+import java.util.Optional;
+
 @ValueClass
 public interface HarmonicResult {
 
@@ -30,6 +32,11 @@ public interface HarmonicResult {
 
     long nodeCount();
 
+    /**
+     * The approximate neighbourhood function, only present for approximate runs.
+     */
+    Optional<double[]> neighborhoodFunction();
+
     @Value.Derived
     default double getCentralityScore(long nodeId) {
         return inverseFarness().get(nodeId) / (double) (nodeCount() - 1);
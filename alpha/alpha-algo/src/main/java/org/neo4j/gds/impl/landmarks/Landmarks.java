@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.landmarks;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precomputes the distance tables for the ALT (A*, landmarks, triangle inequality) heuristic.
+ *
+ * Landmarks are selected greedily: the first one is the node with the highest degree, every
+ * following one is the node farthest away from all previously selected landmarks, preferring
+ * nodes that no landmark reaches yet.
+ *
+ * For {@code k} landmarks, every node gets {@code 2k} distances: the distances {@code d(L_i, v)}
+ * from each landmark, followed by the distances {@code d(v, L_i)} to each landmark.
+ * Unreachable entries are positive infinity. The distances to the landmarks are computed
+ * on the inverse index, or on the relationships themselves if the graph is undirected.
+ */
+public class Landmarks extends Algorithm<Landmarks.LandmarksResult> {
+
+    private final Graph graph;
+    private final int landmarkCount;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Computing distances to landmarks requires undirected relationships or an inverse index."
+            );
+        }
+        this.graph = graph;
+        this.landmarkCount = (int) Math.min(landmarkCount, graph.nodeCount());
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    @Override
+    public LandmarksResult compute() {
+        progressTracker.beginSubTask();
+
+        var distances = HugeObjectArray.newArray(double[].class, graph.nodeCount());
+        distances.setAll(node -> {
+            var nodeDistances = new double[2 * landmarkCount];
+            Arrays.fill(nodeDistances, Double.POSITIVE_INFINITY);
+            return nodeDistances;
+        });
+
+        var landmarks = selectLandmarks(distances);
+
+        progressTracker.beginSubTask();
+        if (graph.characteristics().isUndirected()) {
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                var nodeDistances = distances.get(node);
+                System.arraycopy(nodeDistances, 0, nodeDistances, landmarkCount, landmarkCount);
+            }
+            progressTracker.logProgress(landmarkCount);
+        } else {
+            computeDistancesToLandmarks(landmarks, distances);
+        }
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+
+        return LandmarksResult.of(landmarks, distances);
+    }
+
+    private long[] selectLandmarks(HugeObjectArray<double[]> distances) {
+        progressTracker.beginSubTask();
+
+        var landmarks = new long[landmarkCount];
+        var isLandmark = new BitSet(graph.nodeCount());
+        // distance of every node to its closest landmark so far
+        var closestLandmark = HugeDoubleArray.newArray(graph.nodeCount());
+        closestLandmark.fill(Double.POSITIVE_INFINITY);
+
+        var search = new ShortestPaths(graph);
+        long landmark = highestDegreeNode();
+
+        for (int i = 0; i < landmarkCount && terminationFlag.running(); i++) {
+            int landmarkIndex = i;
+            landmarks[i] = landmark;
+            isLandmark.set(landmark);
+
+            search.run(landmark, false, terminationFlag, (node, distance) -> {
+                distances.get(node)[landmarkIndex] = distance;
+                if (distance < closestLandmark.get(node)) {
+                    closestLandmark.set(node, distance);
+                }
+            });
+            progressTracker.logProgress();
+
+            landmark = farthestNode(closestLandmark, isLandmark);
+        }
+
+        progressTracker.endSubTask();
+        return landmarks;
+    }
+
+    private void computeDistancesToLandmarks(long[] landmarks, HugeObjectArray<double[]> distances) {
+        var nextLandmark = new AtomicInteger();
+        var tasks = ParallelUtil.tasks(Math.min(concurrency, landmarkCount), () -> () -> {
+            var search = new ShortestPaths(graph.concurrentCopy());
+            int i;
+            while ((i = nextLandmark.getAndIncrement()) < landmarkCount && terminationFlag.running()) {
+                int column = landmarkCount + i;
+                search.run(landmarks[i], true, terminationFlag, (node, distance) -> distances.get(node)[column] = distance);
+                progressTracker.logProgress();
+            }
+        });
+        ParallelUtil.run(tasks, executor);
+    }
+
+    private long highestDegreeNode() {
+        long bestNode = 0L;
+        int bestDegree = -1;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            int degree = graph.degree(node);
+            if (degree > bestDegree) {
+                bestDegree = degree;
+                bestNode = node;
+            }
+        }
+        return bestNode;
+    }
+
+    private long farthestNode(HugeDoubleArray closestLandmark, BitSet isLandmark) {
+        long bestNode = -1L;
+        double bestDistance = Double.NEGATIVE_INFINITY;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            if (!isLandmark.get(node) && closestLandmark.get(node) > bestDistance) {
+                bestDistance = closestLandmark.get(node);
+                bestNode = node;
+            }
+        }
+        return bestNode;
+    }
+
+    @FunctionalInterface
+    interface DistanceConsumer {
+        void accept(long node, double distance);
+    }
+
+    /**
+     * Single source Dijkstra without path tracking, reusing its queue across runs.
+     */
+    static final class ShortestPaths {
+        private final Graph graph;
+        private final HugeLongPriorityQueue queue;
+        private final BitSet visited;
+
+        ShortestPaths(Graph graph) {
+            this.graph = graph;
+            this.queue = HugeLongPriorityQueue.min(graph.nodeCount());
+            this.visited = new BitSet(graph.nodeCount());
+        }
+
+        void run(long source, boolean inverse, TerminationFlag terminationFlag, DistanceConsumer consumer) {
+            queue.clear();
+            visited.clear();
+            queue.add(source, 0.0);
+
+            while (!queue.isEmpty() && terminationFlag.running()) {
+                long node = queue.pop();
+                double distance = queue.cost(node);
+                visited.set(node);
+                consumer.accept(node, distance);
+
+                RelationshipWithPropertyConsumer relax = (s, target, weight) -> {
+                    if (!visited.get(target)) {
+                        double newDistance = distance + weight;
+                        if (!queue.containsElement(target)) {
+                            queue.add(target, newDistance);
+                        } else if (newDistance < queue.cost(target)) {
+                            queue.set(target, newDistance);
+                        }
+                    }
+                    return true;
+                };
+                if (inverse) {
+                    graph.forEachInverseRelationship(node, 1.0D, relax);
+                } else {
+                    graph.forEachRelationship(node, 1.0D, relax);
+                }
+            }
+        }
+    }
+
+    @ValueClass
+    public interface LandmarksResult {
+        // Landmark node ids, in selection order.
+        long[] landmarks();
+
+        // Value at index `i` are the distances from and to every landmark for the node with id `i`.
+        HugeObjectArray<double[]> distances();
+
+        static LandmarksResult of(long[] landmarks, HugeObjectArray<double[]> distances) {
+            return ImmutableLandmarksResult
+                .builder()
+                .landmarks(landmarks)
+                .distances(distances)
+                .build();
+        }
+
+        default NodePropertyValues asNodeProperties() {
+            return distances().asNodeProperties();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.impl.landmarks.config.LandmarksConfig;
+import org.neo4j.gds.mem.MemoryUsage;
+
+public class LandmarksFactory<CONFIG extends LandmarksConfig> extends GraphAlgorithmFactory<Landmarks, CONFIG> {
+
+    @Override
+    public String taskName() {
+        return "Landmarks";
+    }
+
+    @Override
+    public Landmarks build(
+        Graph graph,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        return new Landmarks(
+            graph,
+            configuration.landmarks(),
+            configuration.concurrency(),
+            Pools.DEFAULT,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        long landmarkCount = Math.min(config.landmarks(), graph.nodeCount());
+        return Tasks.task(
+            taskName(),
+            Tasks.leaf("select landmarks", landmarkCount),
+            Tasks.leaf("compute distances to landmarks", landmarkCount)
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        return MemoryEstimations.builder(Landmarks.class)
+            .add(
+                "distances",
+                HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(2L * configuration.landmarks()))
+            )
+            .perNode("closest landmark", HugeDoubleArray::memoryEstimation)
+            .perThread("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perThread("visited set", MemoryEstimations.builder().perNode("bitset", MemoryUsage::sizeOfBitset).build())
+            .build();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.landmarks.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public interface LandmarksConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int landmarks() {
+        return 16;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateInverseIndex(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var unsupportedTypes = selectedRelationshipTypes
+            .stream()
+            .filter(type -> !relationshipSchema.isUndirected(type) && !inverseIndexedTypes.contains(type))
+            .map(RelationshipType::name)
+            .collect(Collectors.toList());
+
+        if (!unsupportedTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Computing distances to landmarks requires undirected relationships or an inverse index. " +
+                "Relationship types without either are %s.",
+                StringJoining.join(unsupportedTypes)
+            ));
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Parallel strongly connected components based on trimming and min-colour propagation.
+ * <p>
+ * Every round first assigns nodes without an unassigned in- or out-neighbour to their own component.
+ * Trimming a node re-checks its neighbours right away, so trimming runs until nothing changes and a chain
+ * or the acyclic parts of a graph are assigned within a single round. The remaining nodes start with their own id as colour and the smallest colour is propagated forward
+ * until no colour changes. A node that kept its own colour is the smallest node reaching all nodes of
+ * its colour, so the nodes of that colour that reach it backwards form its strongly connected component.
+ * Rounds are repeated on the unassigned nodes until every node has a component.
+ * <p>
+ * Both the forward propagation and the backward search are level-synchronous: each level only visits
+ * the frontier of nodes that changed in the previous level, split into batches across all threads.
+ * The backward searches of all components run together, so a single giant component is collected
+ * in parallel as well.
+ * <p>
+ * Components are identified by their smallest node id.
+ * The backward search runs over the inverse index, or over the adjacency itself for undirected graphs.
+ *
+ * https://www.osti.gov/servlets/purl/1115145
+ * https://doi.org/10.1109/HiPC.2013.6799129
+ */
+final class ParallelScc {
+
+    private static final int BATCH_SIZE = 4096;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final boolean undirected;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final HugeLongArray components;
+    private final HugeAtomicBitSet assigned;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicBitSet inNextFrontier;
+    private final AtomicLong nextFrontierSize;
+    private final AtomicLong remaining;
+
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private long frontierSize;
+    private int rounds;
+
+    static long memoryEstimation(long nodeCount) {
+        return HugeAtomicLongArray.memoryEstimation(nodeCount) +
+               2 * HugeAtomicBitSet.memoryEstimation(nodeCount) +
+               2 * HugeLongArray.memoryEstimation(nodeCount);
+    }
+
+    ParallelScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        HugeLongArray components
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.undirected = graph.characteristics().isUndirected();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.components = components;
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount);
+        this.inNextFrontier = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+        this.remaining = new AtomicLong(nodeCount);
+    }
+
+    void compute() {
+        while (remaining.get() > 0) {
+            rounds++;
+            forEachNode(TrimVisitor::new);
+            if (remaining.get() == 0) {
+                break;
+            }
+            propagateColors();
+            collectComponents();
+        }
+    }
+
+    @TestOnly
+    int rounds() {
+        return rounds;
+    }
+
+    private void propagateColors() {
+        forEachNode(() -> (localGraph, node) -> {
+            if (!assigned.get(node)) {
+                colors.set(node, node);
+                push(node);
+            }
+        });
+        advanceFrontier();
+        while (frontierSize > 0) {
+            forEachFrontierNode(ForwardVisitor::new);
+            advanceFrontier();
+        }
+    }
+
+    private void collectComponents() {
+        // nodes that kept their own colour are the roots of the components
+        forEachNode(() -> (localGraph, node) -> {
+            if (!assigned.get(node) && colors.get(node) == node && claim(node, node)) {
+                push(node);
+            }
+        });
+        advanceFrontier();
+        while (frontierSize > 0) {
+            forEachFrontierNode(BackwardVisitor::new);
+            advanceFrontier();
+        }
+    }
+
+    private boolean claim(long node, long componentId) {
+        if (assigned.getAndSet(node)) {
+            return false;
+        }
+        components.set(node, componentId);
+        remaining.decrementAndGet();
+        progressTracker.logProgress();
+        return true;
+    }
+
+    /**
+     * Adds a node to the next frontier, unless it is already part of it.
+     */
+    private void push(long node) {
+        if (!inNextFrontier.getAndSet(node)) {
+            nextFrontier.set(nextFrontierSize.getAndIncrement(), node);
+        }
+    }
+
+    private void advanceFrontier() {
+        var swap = frontier;
+        frontier = nextFrontier;
+        nextFrontier = swap;
+        frontierSize = nextFrontierSize.getAndSet(0);
+        // only the nodes of the new frontier are marked, clearing them keeps every level proportional to its frontier
+        forEachFrontierNode(() -> (localGraph, node) -> inNextFrontier.clear(node));
+    }
+
+    private void forEachNode(Supplier<NodeVisitor> visitorSupplier) {
+        forEach(nodeCount, index -> index, visitorSupplier);
+    }
+
+    private void forEachFrontierNode(Supplier<NodeVisitor> visitorSupplier) {
+        var currentFrontier = frontier;
+        forEach(frontierSize, currentFrontier::get, visitorSupplier);
+    }
+
+    private void forEach(long size, LongUnaryOperator nodeAt, Supplier<NodeVisitor> visitorSupplier) {
+        var queue = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new NodeTask(queue, size, nodeAt, visitorSupplier.get()));
+        ParallelUtil.run(tasks, executorService);
+        terminationFlag.assertRunning();
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Graph localGraph, long node);
+    }
+
+    private final class NodeTask implements Runnable {
+
+        private final AtomicLong queue;
+        private final long size;
+        private final LongUnaryOperator nodeAt;
+        private final NodeVisitor visitor;
+        private final Graph localGraph;
+
+        NodeTask(AtomicLong queue, long size, LongUnaryOperator nodeAt, NodeVisitor visitor) {
+            this.queue = queue;
+            this.size = size;
+            this.nodeAt = nodeAt;
+            this.visitor = visitor;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = queue.getAndAdd(BATCH_SIZE)) < size && terminationFlag.running()) {
+                long end = Math.min(start + BATCH_SIZE, size);
+                for (long index = start; index < end; index++) {
+                    visitor.visit(localGraph, nodeAt.applyAsLong(index));
+                }
+            }
+        }
+    }
+
+    /**
+     * Assigns a node to its own component if it has no unassigned in- or out-neighbour other than itself.
+     * The neighbours of a trimmed node are checked next, as they may have lost their last unassigned neighbour.
+     * If a neighbour is still blocked by a node another thread is about to trim, that thread checks it afterwards.
+     */
+    private final class TrimVisitor implements NodeVisitor {
+
+        private final LongArrayDeque candidates = new LongArrayDeque();
+        private boolean found;
+
+        @Override
+        public void visit(Graph localGraph, long node) {
+            trim(localGraph, node);
+            while (!candidates.isEmpty()) {
+                trim(localGraph, candidates.removeLast());
+            }
+        }
+
+        private void trim(Graph localGraph, long node) {
+            if (assigned.get(node)) {
+                return;
+            }
+            if (hasUnassignedNeighbour(localGraph, node, false) &&
+                (undirected || hasUnassignedNeighbour(localGraph, node, true))) {
+                return;
+            }
+            // a trimmed undirected node has no unassigned neighbours to re-check
+            if (claim(node, node) && !undirected) {
+                localGraph.forEachRelationship(node, this::addCandidate);
+                localGraph.forEachInverseRelationship(node, this::addCandidate);
+            }
+        }
+
+        private boolean addCandidate(long source, long target) {
+            if (target != source && !assigned.get(target)) {
+                candidates.addLast(target);
+            }
+            return true;
+        }
+
+        private boolean hasUnassignedNeighbour(Graph localGraph, long node, boolean inverse) {
+            found = false;
+            if (inverse) {
+                localGraph.forEachInverseRelationship(node, this::check);
+            } else {
+                localGraph.forEachRelationship(node, this::check);
+            }
+            return found;
+        }
+
+        private boolean check(long source, long target) {
+            found = target != source && !assigned.get(target);
+            return !found;
+        }
+    }
+
+    /**
+     * Lowers the colour of all unassigned out-neighbours of a frontier node to its own colour.
+     */
+    private final class ForwardVisitor implements NodeVisitor {
+
+        private long color;
+
+        @Override
+        public void visit(Graph localGraph, long node) {
+            color = colors.get(node);
+            localGraph.forEachRelationship(node, this::lower);
+        }
+
+        private boolean lower(long source, long target) {
+            if (target == source || assigned.get(target)) {
+                return true;
+            }
+            long current = colors.get(target);
+            while (color < current) {
+                long witness = colors.compareAndExchange(target, current, color);
+                if (witness == current) {
+                    push(target);
+                    break;
+                }
+                current = witness;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Extends the components of the frontier nodes by their unassigned in-neighbours of the same colour.
+     */
+    private final class BackwardVisitor implements NodeVisitor {
+
+        private long componentId;
+
+        @Override
+        public void visit(Graph localGraph, long node) {
+            componentId = components.get(node);
+            if (undirected) {
+                localGraph.forEachRelationship(node, this::collect);
+            } else {
+                localGraph.forEachInverseRelationship(node, this::collect);
+            }
+        }
+
+        private boolean collect(long source, long target) {
+            if (!assigned.get(target) && colors.get(target) == componentId && claim(target, componentId)) {
+                push(target);
+            }
+            return true;
+        }
+    }
+}
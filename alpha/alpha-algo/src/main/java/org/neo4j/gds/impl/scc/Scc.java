@@ -22,14 +22,20 @@ package org.neo4j.gds.impl.scc;
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
  * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ *
+ * Graphs with an inverse index, as well as undirected graphs, are computed in parallel by {@link ParallelScc}.
+ * Either way, every component is identified by its smallest node id.
  */
 public class Scc extends Algorithm<HugeLongArray> {
     public static final int NOT_VALID = -1;
@@ -37,6 +43,8 @@ public class Scc extends Algorithm<HugeLongArray> {
                                                  "where all nodes in the same set form a connected component.";
     private Graph graph;
     private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
     private HugeLongArray index;
     private BitSet visited;
     private HugeLongArray connectedComponents;
@@ -47,16 +55,26 @@ public class Scc extends Algorithm<HugeLongArray> {
     public Scc(
         Graph graph,
         ProgressTracker progressTracker
+    ) {
+        this(graph, 1, Pools.DEFAULT, progressTracker);
+    }
+
+    public Scc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
-        this.index = HugeLongArray.newArray(nodeCount);
-        this.stack = new PagedLongStack(nodeCount);
-        this.boundaries = new PagedLongStack(nodeCount);
+        this.concurrency = concurrency;
+        this.executorService = executorService;
         this.connectedComponents = HugeLongArray.newArray(nodeCount);
-        this.visited = new BitSet(nodeCount);
-        this.todo = new PagedLongStack(nodeCount);
+    }
+
+    static boolean runsInParallel(Graph graph) {
+        return graph.characteristics().isInverseIndexed() || graph.characteristics().isUndirected();
     }
 
     /**
@@ -64,16 +82,58 @@ public class Scc extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask();
-        index.fill(-1);
         connectedComponents.fill(NOT_VALID);
-        todo.clear();
-        boundaries.clear();
-        stack.clear();
-        graph.forEachNode(this::compute);
+        if (runsInParallel(graph)) {
+            new ParallelScc(
+                graph,
+                concurrency,
+                executorService,
+                progressTracker,
+                terminationFlag,
+                connectedComponents
+            ).compute();
+        } else {
+            computeSequential();
+        }
         progressTracker.endSubTask();
         return connectedComponents;
     }
 
+    private void computeSequential() {
+        this.index = HugeLongArray.newArray(nodeCount);
+        this.stack = new PagedLongStack(nodeCount);
+        this.boundaries = new PagedLongStack(nodeCount);
+        this.visited = new BitSet(nodeCount);
+        this.todo = new PagedLongStack(nodeCount);
+        index.fill(-1);
+        graph.forEachNode(this::compute);
+        terminationFlag.assertRunning();
+        relabelToSmallestNodeId();
+        this.index = null;
+        this.stack = null;
+        this.boundaries = null;
+        this.visited = null;
+        this.todo = null;
+    }
+
+    /**
+     * Tarjan labels a component with the node it was entered from.
+     * Nodes are visited in ascending order, so the first node seen with a label is the smallest one of its component.
+     * The index array is no longer needed and maps every label to that node.
+     */
+    private void relabelToSmallestNodeId() {
+        index.fill(-1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long label = connectedComponents.get(nodeId);
+            long smallest = index.get(label);
+            if (smallest == -1) {
+                smallest = nodeId;
+                index.set(label, smallest);
+            }
+            connectedComponents.set(nodeId, smallest);
+        }
+    }
+
     private boolean compute(long nodeId) {
         if (!terminationFlag.running()) {
             return false;
@@ -21,9 +21,15 @@ package org.neo4j.gds.impl.scc;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.mem.MemoryUsage;
 
 public class SccAlgorithmFactory<CONFIG extends SccBaseConfig> extends GraphAlgorithmFactory<Scc, CONFIG> {
 
@@ -31,10 +37,26 @@ public class SccAlgorithmFactory<CONFIG extends SccBaseConfig> extends GraphAlgo
     public Scc build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return new Scc(
             graph,
+            configuration.concurrency(),
+            Pools.DEFAULT,
             progressTracker
         );
     }
 
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG config) {
+        return MemoryEstimations.builder(Scc.class)
+            .perNode("components", HugeLongArray::memoryEstimation)
+            .rangePerNode("computation", nodeCount -> {
+                // the parallel computation needs colours, two bitsets and two frontiers, Tarjan needs an index, three stacks and a bitset
+                long parallel = ParallelScc.memoryEstimation(nodeCount);
+                long sequential = 4 * HugeLongArray.memoryEstimation(nodeCount) +
+                                  MemoryUsage.sizeOfBitset(nodeCount);
+                return MemoryRange.of(Math.min(parallel, sequential), Math.max(parallel, sequential));
+            })
+            .build();
+    }
+
     @Override
     public String taskName() {
         return "Scc";
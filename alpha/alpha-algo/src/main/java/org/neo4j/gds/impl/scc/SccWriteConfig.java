@@ -21,11 +21,11 @@ package org.neo4j.gds.impl.scc;
 
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
-import org.neo4j.gds.config.WritePropertyConfig;
+import org.neo4j.gds.config.SynchronousWritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
-public interface SccWriteConfig extends SccBaseConfig, WritePropertyConfig {
+public interface SccWriteConfig extends SccBaseConfig, SynchronousWritePropertyConfig {
     
     @Value.Default
     @Override
@@ -20,11 +20,11 @@
 package org.neo4j.gds.impl.spanningtree;
 
 import org.neo4j.gds.annotation.Configuration;
-import org.neo4j.gds.config.WritePropertyConfig;
+import org.neo4j.gds.config.SynchronousWritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
-public interface KSpanningTreeWriteConfig extends KSpanningTreeBaseConfig, WritePropertyConfig {
+public interface KSpanningTreeWriteConfig extends KSpanningTreeBaseConfig, SynchronousWritePropertyConfig {
 
     static KSpanningTreeWriteConfig of(CypherMapWrapper userInput) {
         return new KSpanningTreeWriteConfigImpl(userInput);
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.contractionhierarchy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.impl.contractionhierarchy.config.ContractionHierarchyMutateConfig;
+import org.neo4j.gds.paths.PathIndexCatalog;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+final class ContractionHierarchyTest {
+
+    private static final RelationshipType HIERARCHY = RelationshipType.of("HIERARCHY");
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:ROAD {cost: 1.0}]->(b)" +
+        ", (b)-[:ROAD {cost: 1.0}]->(c)" +
+        ", (c)-[:ROAD {cost: 1.0}]->(d)" +
+        ", (a)-[:ROAD {cost: 5.0}]->(d)" +
+        ", (d)-[:ROAD {cost: 1.0}]->(e)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Test
+    void shouldRankEveryNodeOnce() {
+        var result = contract(graphStore, 1);
+
+        var ranks = result.ranks();
+        assertThat(LongStream.range(0, ranks.size()).map(ranks::get).sorted().toArray())
+            .containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldKeepOriginalRelationshipsAndIndexInverse() {
+        var result = contract(graphStore, 1);
+
+        assertThat(result.relationships().topology().elementCount()).isGreaterThanOrEqualTo(5);
+        assertThat(result.relationships().inverseTopology()).isPresent();
+
+        graphStore.addRelationshipType(result.relationships());
+        var hierarchy = graphStore.getGraph(HIERARCHY, Optional.of("cost"));
+        var original = graphStore.getGraph(RelationshipType.of("ROAD"), Optional.of("cost"));
+        original.forEachNode(node -> {
+            original.forEachRelationship(node, Double.NaN, (source, target, cost) -> {
+                assertThat(hierarchy.exists(source, target)).isTrue();
+                return true;
+            });
+            return true;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeSameCostsAsDijkstra(int concurrency) {
+        var random = new Random(42L);
+        var randomStore = GdlFactory.of(randomRoadNetwork(random, 300, 1_200)).build();
+        var original = randomStore.getGraph(RelationshipType.of("ROAD"), Optional.of("cost"));
+
+        var result = contract(randomStore, concurrency);
+        randomStore.addRelationshipType(result.relationships());
+        randomStore.addNodeProperty(randomStore.nodeLabels(), "rank", result.asNodeProperties());
+        var hierarchy = randomStore.getGraph(HIERARCHY, Optional.of("cost"));
+
+        for (int i = 0; i < 100; i++) {
+            var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+                .concurrency(1)
+                .sourceNode(original.toOriginalNodeId(random.nextInt(300)))
+                .targetNode(original.toOriginalNodeId(random.nextInt(300)))
+                .build();
+
+            var expected = Dijkstra.sourceTarget(original, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+            var actual = Dijkstra.contractionHierarchy(hierarchy, config, "rank", ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            if (actual.isPresent()) {
+                var nodeIds = actual.get().nodeIds();
+                assertThat(actual.get().totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9));
+                // shortcuts are unpacked into relationships of the original graph
+                for (int j = 0; j < nodeIds.length - 1; j++) {
+                    assertThat(original.exists(nodeIds[j], nodeIds[j + 1])).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldFailWhenExceedingTheShortcutLimit() {
+        var randomStore = GdlFactory.of(randomRoadNetwork(new Random(42L), 300, 1_200)).build();
+
+        assertThatThrownBy(() -> contract(randomStore, 1, 0L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("more than 0 shortcuts")
+            .hasMessageContaining("maxShortcutsPerRelationship");
+    }
+
+    @Test
+    void shouldOnlyAcceptQueriesOnTheHierarchyRelationships() {
+        var result = contract(graphStore, 1);
+        graphStore.addRelationshipType(result.relationships());
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "rank", result.asNodeProperties());
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "notRank", result.asNodeProperties());
+        PathIndexCatalog.register(graphStore, "rank", PathIndexCatalog.PathIndex.of(
+            PathIndexCatalog.Kind.CONTRACTION_HIERARCHY,
+            Set.of(HIERARCHY.name()),
+            Optional.of("cost")
+        ));
+
+        var labels = graphStore.nodeLabels();
+        Map<String, Object> query = Map.of(
+            "sourceNode", graphStore.nodes().toOriginalNodeId(0),
+            "targetNode", graphStore.nodes().toOriginalNodeId(4),
+            "relationshipWeightProperty", "cost",
+            "contractionHierarchyProperty", "rank"
+        );
+
+        var config = dijkstraConfig(query);
+        assertThatNoException().isThrownBy(() -> config.graphStoreValidation(graphStore, labels, List.of(HIERARCHY)));
+
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, labels, List.of(RelationshipType.of("ROAD"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ROAD");
+
+        var unweightedConfig = dijkstraConfig(CypherMapWrapper.create(query).withoutEntry("relationshipWeightProperty").toMap());
+        assertThatThrownBy(() -> unweightedConfig.graphStoreValidation(graphStore, labels, List.of(HIERARCHY)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("relationship weight property `cost`");
+
+        var notRankConfig = dijkstraConfig(CypherMapWrapper.create(query).withString("contractionHierarchyProperty", "notRank").toMap());
+        assertThatThrownBy(() -> notRankConfig.graphStoreValidation(graphStore, labels, List.of(HIERARCHY)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not hold the ranks of a contraction hierarchy");
+    }
+
+    @Test
+    void shouldForgetTheHierarchyOnceTheRankPropertyIsReplaced() {
+        var result = contract(graphStore, 1);
+        graphStore.addRelationshipType(result.relationships());
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "rank", result.asNodeProperties());
+        var index = PathIndexCatalog.PathIndex.of(
+            PathIndexCatalog.Kind.CONTRACTION_HIERARCHY,
+            Set.of(HIERARCHY.name()),
+            Optional.of("cost")
+        );
+        PathIndexCatalog.register(graphStore, "rank", index);
+        assertThat(PathIndexCatalog.get(graphStore, "rank")).hasValue(index);
+
+        graphStore.removeNodeProperty("rank");
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "rank", contract(graphStore, 1).asNodeProperties());
+
+        assertThat(PathIndexCatalog.get(graphStore, "rank")).isEmpty();
+        var config = dijkstraConfig(Map.of(
+            "sourceNode", graphStore.nodes().toOriginalNodeId(0),
+            "targetNode", graphStore.nodes().toOriginalNodeId(4),
+            "relationshipWeightProperty", "cost",
+            "contractionHierarchyProperty", "rank"
+        ));
+        assertThatThrownBy(() -> config.graphStoreValidation(graphStore, graphStore.nodeLabels(), List.of(HIERARCHY)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not hold the ranks of a contraction hierarchy");
+    }
+
+    private static ShortestPathDijkstraStreamConfig dijkstraConfig(Map<String, Object> query) {
+        return ShortestPathDijkstraStreamConfig.of(CypherMapWrapper.create(query));
+    }
+
+    @Test
+    void shouldBoundTheEstimationByTheShortcutLimit() {
+        var factory = new ContractionHierarchyFactory();
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000).relCountUpperBound(10_000).build();
+
+        var oneShortcut = factory
+            .memoryEstimation(ContractionHierarchyMutateConfig.of(CypherMapWrapper.create(Map.of(
+                "mutateProperty", "rank",
+                "mutateRelationshipType", "HIERARCHY"
+            ))))
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var twoShortcuts = factory
+            .memoryEstimation(ContractionHierarchyMutateConfig.of(CypherMapWrapper.create(Map.of(
+                "mutateProperty", "rank",
+                "mutateRelationshipType", "HIERARCHY",
+                "maxShortcutsPerRelationship", 2.0
+            ))))
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertThat(oneShortcut.min).isEqualTo(twoShortcuts.min);
+        assertThat(oneShortcut.max).isLessThan(twoShortcuts.max);
+    }
+
+    private static ContractionHierarchy.HierarchyResult contract(GraphStore store, int concurrency) {
+        // generous enough for the random networks of these tests
+        return contract(store, concurrency, 10 * store.relationshipCount());
+    }
+
+    private static ContractionHierarchy.HierarchyResult contract(GraphStore store, int concurrency, long maxShortcuts) {
+        return new ContractionHierarchy(
+            store.getGraph(RelationshipType.of("ROAD"), Optional.of("cost")),
+            HIERARCHY,
+            "cost",
+            maxShortcuts,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    private static String randomRoadNetwork(Random random, int nodeCount, int relationshipCount) {
+        var gdl = new StringBuilder("CREATE ");
+        for (int node = 0; node < nodeCount; node++) {
+            gdl.append(node == 0 ? "" : ", ").append("(n").append(node).append(":Node)");
+        }
+        for (int i = 0; i < relationshipCount; i++) {
+            int source = random.nextInt(nodeCount);
+            // mostly local relationships, like in a road network
+            int target = Math.floorMod(source + random.nextInt(21) - 10, nodeCount);
+            if (source != target) {
+                gdl
+                    .append(", (n").append(source).append(")-[:ROAD {cost: ")
+                    .append(1 + random.nextInt(10))
+                    .append(".0}]->(n").append(target).append(")");
+            }
+        }
+        return gdl.toString();
+    }
+}
@@ -79,6 +79,27 @@ public class HarmonicCentralityTest {
         assertThat(result.getCentralityScore(idFunction.of("e"))).isEqualTo(0.25, within(0.1));
     }
 
+    @Test
+    void shouldApproximateHarmonicCentrality() {
+        var harmonicCentrality = new HarmonicCentrality(
+            graph,
+            2,
+            true,
+            16,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = harmonicCentrality.compute();
+
+        assertThat(result.getCentralityScore(idFunction.of("a"))).isEqualTo(0.375, within(0.01));
+        assertThat(result.getCentralityScore(idFunction.of("b"))).isEqualTo(0.5, within(0.01));
+        assertThat(result.getCentralityScore(idFunction.of("c"))).isEqualTo(0.375, within(0.01));
+        assertThat(result.getCentralityScore(idFunction.of("d"))).isEqualTo(0.25, within(0.01));
+        assertThat(result.getCentralityScore(idFunction.of("e"))).isEqualTo(0.25, within(0.01));
+        assertThat(result.neighborhoodFunction()).isPresent();
+    }
+
     @Test
     void testLogging() {
         var task = Tasks.leaf("My task");
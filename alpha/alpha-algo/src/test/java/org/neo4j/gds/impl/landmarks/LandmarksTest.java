@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.landmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+final class LandmarksTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (z:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 5.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 1.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 2.0}]->(d)";
+
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED_CYPHER = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "directed")
+    private static final String DIRECTED_CYPHER = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @Inject
+    private TestGraph directedGraph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeDistancesFromAndToLandmarks(int concurrency) {
+        var result = new Landmarks(graph, 2, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        // `a` has the highest degree, `z` is not reachable from `a` at all
+        assertThat(result.landmarks()).containsExactly(graph.toMappedNodeId("a"), graph.toMappedNodeId("z"));
+
+        var distances = result.distances();
+        assertThat(distances.get(graph.toMappedNodeId("a"))).containsExactly(0.0, INF, 0.0, INF);
+        assertThat(distances.get(graph.toMappedNodeId("c"))).containsExactly(2.0, INF, INF, INF);
+        assertThat(distances.get(graph.toMappedNodeId("d"))).containsExactly(4.0, INF, INF, INF);
+        assertThat(distances.get(graph.toMappedNodeId("z"))).containsExactly(INF, 0.0, INF, 0.0);
+    }
+
+    @Test
+    void shouldUseSameDistancesBothWaysOnUndirectedGraphs() {
+        var result = new Landmarks(undirectedGraph, 1, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.landmarks()).containsExactly(undirectedGraph.toMappedNodeId("c"));
+        assertThat(result.distances().get(undirectedGraph.toMappedNodeId("a"))).containsExactly(2.0, 2.0);
+        assertThat(result.distances().get(undirectedGraph.toMappedNodeId("d"))).containsExactly(2.0, 2.0);
+    }
+
+    @Test
+    void shouldCapLandmarksAtNodeCount() {
+        var result = new Landmarks(graph, 16, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.landmarks()).hasSize((int) graph.nodeCount()).doesNotHaveDuplicates();
+        assertThat(result.distances().get(0)).hasSize(2 * (int) graph.nodeCount());
+    }
+
+    @Test
+    void shouldRequireInverseIndexOnDirectedGraphs() {
+        assertThatThrownBy(() -> new Landmarks(directedGraph, 2, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse index");
+    }
+}
@@ -20,21 +20,36 @@
 package org.neo4j.gds.impl.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.shuffle.ShuffleUtil;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
@@ -111,6 +126,131 @@ class SccTest {
         assertCC(components);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void parallelComputationShouldMatchTarjan(int concurrency) {
+        var sequentialGraph = randomGraph(Direction.DIRECTED, false);
+        var parallelGraph = randomGraph(Direction.DIRECTED, true);
+        assertThat(Scc.runsInParallel(sequentialGraph)).isFalse();
+        assertThat(Scc.runsInParallel(parallelGraph)).isTrue();
+
+        var expected = new Scc(sequentialGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new Scc(parallelGraph, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(actual.toArray()).containsExactly(expected.toArray());
+    }
+
+    @Test
+    void parallelComputationShouldCollectGiantComponent() {
+        var generator = RandomGraphGenerator.builder()
+            .nodeCount(20_000)
+            .averageDegree(8)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L);
+        var sequentialGraph = generator.inverseIndex(false).build().generate();
+        var parallelGraph = generator.inverseIndex(true).build().generate();
+
+        var expected = new Scc(sequentialGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new Scc(parallelGraph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        // nearly all nodes form a single component
+        var componentSizes = Arrays.stream(actual.toArray())
+            .boxed()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(Collections.max(componentSizes.values())).isGreaterThan(19_000L);
+        assertThat(actual.toArray()).containsExactly(expected.toArray());
+    }
+
+    @Test
+    void shouldComputeConnectedComponentsOfUndirectedGraphs() {
+        var graph = randomGraph(Direction.UNDIRECTED, false);
+        var components = new Scc(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long componentId = components.get(nodeId);
+            assertThat(componentId).isLessThanOrEqualTo(nodeId);
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                assertThat(components.get(target)).isEqualTo(componentId);
+                return true;
+            });
+        }
+    }
+
+    @Test
+    void shouldIdentifyComponentsBySmallestNodeId() {
+        var components = new Scc(graph, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(components.get(idFunction.of("b"))).isEqualTo(idFunction.of("a"));
+        assertThat(components.get(idFunction.of("f"))).isEqualTo(idFunction.of("d"));
+        assertThat(components.get(idFunction.of("i"))).isEqualTo(idFunction.of("g"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldTrimLongChainsInASingleRound(int concurrency) {
+        int nodeCount = 100_000;
+        // the chain visits the nodes in random order and ends in a cycle of its last three nodes
+        var chain = HugeLongArray.newArray(nodeCount);
+        chain.setAll(index -> index);
+        ShuffleUtil.shuffleArray(chain, ShuffleUtil.createRandomDataGenerator(Optional.of(42L)));
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .nodeCount(nodeCount)
+            .maxOriginalId(nodeCount - 1)
+            .hasLabelInformation(false)
+            .build();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("NEXT"))
+            .indexInverse(true)
+            .executorService(Pools.DEFAULT)
+            .build();
+        for (int index = 0; index < nodeCount - 1; index++) {
+            relationshipsBuilder.add(chain.get(index), chain.get(index + 1));
+        }
+        relationshipsBuilder.add(chain.get(nodeCount - 1), chain.get(nodeCount - 3));
+        var graph = GraphFactory.create(idMap, relationshipsBuilder.build());
+        assertThat(Scc.runsInParallel(graph)).isTrue();
+
+        var components = HugeLongArray.newArray(nodeCount);
+        var parallelScc = new ParallelScc(
+            graph,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            components
+        );
+        parallelScc.compute();
+
+        assertThat(parallelScc.rounds()).isEqualTo(1);
+        var cycle = Stream.of(nodeCount - 3, nodeCount - 2, nodeCount - 1)
+            .map(index -> graph.toMappedNodeId(chain.get(index)))
+            .collect(Collectors.toSet());
+        long cycleId = Collections.min(cycle);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long expected = cycle.contains(nodeId) ? cycleId : nodeId;
+            assertThat(components.get(nodeId)).isEqualTo(expected);
+        }
+    }
+
+    private static Graph randomGraph(Direction direction, boolean inverseIndex) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(20_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(direction)
+            .inverseIndex(inverseIndex)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
     private void assertCC(HugeLongArray connectedComponents) {
         assertBelongSameSet(connectedComponents,
             idFunction.of("a"),
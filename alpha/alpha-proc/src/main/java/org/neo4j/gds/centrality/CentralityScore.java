@@ -25,7 +25,10 @@ import org.neo4j.gds.config.MutatePropertyConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 class CentralityScore {
 
@@ -43,6 +46,7 @@ class CentralityScore {
         public final long nodes, preProcessingMillis, computeMillis, writeMillis;
         public final String writeProperty;
         public final Map<String, Object> centralityDistribution;
+        public final List<Double> neighborhoodFunction;
 
         public Stats(
             long nodes,
@@ -50,7 +54,8 @@ class CentralityScore {
             long computeMillis,
             long writeMillis,
             String writeProperty,
-            @Nullable Map<String, Object> centralityDistribution
+            @Nullable Map<String, Object> centralityDistribution,
+            @Nullable List<Double> neighborhoodFunction
             ) {
             this.nodes = nodes;
             this.preProcessingMillis = preProcessingMillis;
@@ -58,14 +63,23 @@ class CentralityScore {
             this.writeMillis = writeMillis;
             this.writeProperty = writeProperty;
             this.centralityDistribution = centralityDistribution;
+            this.neighborhoodFunction = neighborhoodFunction;
         }
 
         public static final class Builder extends AbstractCentralityResultBuilder<Stats> {
 
+            // only present for approximate runs
+            private @Nullable List<Double> neighborhoodFunction;
+
             public Builder(ProcedureReturnColumns returnColumns, int concurrency) {
                 super(returnColumns, concurrency);
             }
 
+            public Builder withNeighborhoodFunction(double[] neighborhoodFunction) {
+                this.neighborhoodFunction = Arrays.stream(neighborhoodFunction).boxed().collect(Collectors.toList());
+                return this;
+            }
+
             public CentralityScore.Stats buildResult() {
 
                 return new CentralityScore.Stats(
@@ -74,7 +88,8 @@ class CentralityScore {
                     computeMillis,
                     writeMillis,
                     config instanceof WritePropertyConfig ? ((WritePropertyConfig) config).writeProperty() : "",
-                    centralityHistogram
+                    centralityHistogram,
+                    neighborhoodFunction
                 );
             }
         }
@@ -29,7 +29,6 @@ import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.impl.closeness.HarmonicCentralityConfig;
 import org.neo4j.gds.impl.harmonic.HarmonicCentrality;
 import org.neo4j.gds.impl.harmonic.HarmonicResult;
-import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
@@ -62,7 +61,7 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
             var config = computationResult.config();
             var graph = computationResult.graph();
 
-            AbstractCentralityResultBuilder<CentralityScore.Stats> builder = new CentralityScore.Stats.Builder(
+            var builder = new CentralityScore.Stats.Builder(
                 executionContext.returnColumns(),
                 config.concurrency()
             );
@@ -78,6 +77,7 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
             }
 
             builder.withCentralityFunction(computationResult.result()::getCentralityScore);
+            result.neighborhoodFunction().ifPresent(builder::withNeighborhoodFunction);
 
             try (ProgressTimer ignore = ProgressTimer.start(builder::withWriteMillis)) {
                 var writeConcurrency = computationResult.config().writeConcurrency();
@@ -87,12 +87,15 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
                     writeConcurrency,
                     executionContext.taskRegistryFactory()
                 );
-                NodePropertyExporter exporter =  nodePropertyExporterBuilder
+                nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, writeConcurrency)
-                    .build();
+                    .parallel(Pools.DEFAULT, writeConcurrency);
+                if (config.writeOnlyChanges()) {
+                    nodePropertyExporterBuilder.writeOnlyChanges(config.writeTolerance());
+                }
+                NodePropertyExporter exporter = nodePropertyExporterBuilder.build();
 
                 var properties = new DoubleNodePropertyValues() {
                     @Override
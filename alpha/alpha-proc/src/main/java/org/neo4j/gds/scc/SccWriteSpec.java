@@ -88,12 +88,15 @@ public class SccWriteSpec implements AlgorithmSpec<Scc, HugeLongArray, SccWriteC
                     config.writeConcurrency(),
                     executionContext.taskRegistryFactory()
                 );
-                NodePropertyExporter exporter = executionContext.nodePropertyExporterBuilder()
+                var exporterBuilder = executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
-                    .build();
+                    .parallel(Pools.DEFAULT, config.writeConcurrency());
+                if (config.writeOnlyChanges()) {
+                    exporterBuilder.writeOnlyChanges(config.writeTolerance());
+                }
+                NodePropertyExporter exporter = exporterBuilder.build();
 
                 var properties = components.asNodeProperties();
 
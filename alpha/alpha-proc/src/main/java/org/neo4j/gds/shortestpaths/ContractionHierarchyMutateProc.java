@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.shortestpaths;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyComputationResultConsumer;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.contractionhierarchy.ContractionHierarchy;
+import org.neo4j.gds.impl.contractionhierarchy.ContractionHierarchyFactory;
+import org.neo4j.gds.impl.contractionhierarchy.config.ContractionHierarchyMutateConfig;
+import org.neo4j.gds.paths.PathIndexCatalog;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.shortestPath.contractionHierarchy.mutate", description = ContractionHierarchyMutateProc.DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class ContractionHierarchyMutateProc extends MutatePropertyProc<ContractionHierarchy, ContractionHierarchy.HierarchyResult, ContractionHierarchyMutateProc.MutateResult, ContractionHierarchyMutateConfig> {
+
+    static final String DESCRIPTION = "Builds a contraction hierarchy of the graph, consisting of a node rank property " +
+                                      "and a relationship type with shortcuts, which speeds up source-target Dijkstra " +
+                                      "queries through the `contractionHierarchyProperty`.";
+
+    @Procedure(value = "gds.alpha.shortestPath.contractionHierarchy.mutate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.alpha.shortestPath.contractionHierarchy.mutate.estimate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Override
+    protected ContractionHierarchyMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return ContractionHierarchyMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<ContractionHierarchy, ContractionHierarchyMutateConfig> algorithmFactory() {
+        return new ContractionHierarchyFactory();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<ContractionHierarchy, ContractionHierarchy.HierarchyResult, ContractionHierarchyMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        return new MutateResult.Builder();
+    }
+
+    @Override
+    protected NodePropertyValues nodeProperties(ComputationResult<ContractionHierarchy, ContractionHierarchy.HierarchyResult, ContractionHierarchyMutateConfig> computationResult) {
+        return computationResult.result().asNodeProperties();
+    }
+
+    @Override
+    public MutatePropertyComputationResultConsumer<ContractionHierarchy, ContractionHierarchy.HierarchyResult, ContractionHierarchyMutateConfig, MutateResult> computationResultConsumer() {
+        return new MutatePropertyComputationResultConsumer<>(this::nodePropertyList, this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<ContractionHierarchy, ContractionHierarchy.HierarchyResult, ContractionHierarchyMutateConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                super.updateGraphStore(resultBuilder, computationResult, executionContext);
+
+                var relationships = computationResult.result().relationships();
+                var graphStore = computationResult.graphStore();
+                graphStore.addRelationshipType(relationships);
+                resultBuilder.withRelationshipsWritten(relationships.topology().elementCount());
+
+                var config = computationResult.config();
+                PathIndexCatalog.register(graphStore, config.mutateProperty(), PathIndexCatalog.PathIndex.of(
+                    PathIndexCatalog.Kind.CONTRACTION_HIERARCHY,
+                    Set.of(config.mutateRelationshipType()),
+                    Optional.of(config.hierarchyWeightProperty())
+                ));
+            }
+        };
+    }
+
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long relationshipsWritten;
+
+        MutateResult(
+            long nodePropertiesWritten,
+            long relationshipsWritten,
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            super(
+                preProcessingMillis,
+                computeMillis,
+                0L,
+                mutateMillis,
+                config
+            );
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.relationshipsWritten = relationshipsWritten;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    nodePropertiesWritten,
+                    relationshipsWritten,
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
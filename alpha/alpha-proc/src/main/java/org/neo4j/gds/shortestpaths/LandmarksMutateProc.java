@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.shortestpaths;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyComputationResultConsumer;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.impl.landmarks.Landmarks;
+import org.neo4j.gds.impl.landmarks.LandmarksFactory;
+import org.neo4j.gds.impl.landmarks.config.LandmarksMutateConfig;
+import org.neo4j.gds.paths.PathIndexCatalog;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.shortestPath.landmarks.mutate", description = LandmarksMutateProc.DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class LandmarksMutateProc extends MutatePropertyProc<Landmarks, Landmarks.LandmarksResult, LandmarksMutateProc.MutateResult, LandmarksMutateConfig> {
+
+    static final String DESCRIPTION = "Precomputes the distances from and to a set of landmark nodes, " +
+                                      "which speed up source-target Dijkstra queries through the `landmarkProperty`.";
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate.estimate", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Override
+    protected LandmarksMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return LandmarksMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Landmarks, LandmarksMutateConfig> algorithmFactory() {
+        return new LandmarksFactory<>();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<Landmarks, Landmarks.LandmarksResult, LandmarksMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        var landmarkCount = computeResult.result() == null ? 0 : computeResult.result().landmarks().length;
+        return new MutateResult.Builder(landmarkCount);
+    }
+
+    @Override
+    protected NodePropertyValues nodeProperties(ComputationResult<Landmarks, Landmarks.LandmarksResult, LandmarksMutateConfig> computationResult) {
+        return computationResult.result().asNodeProperties();
+    }
+
+    @Override
+    public MutatePropertyComputationResultConsumer<Landmarks, Landmarks.LandmarksResult, LandmarksMutateConfig, MutateResult> computationResultConsumer() {
+        return new MutatePropertyComputationResultConsumer<>(this::nodePropertyList, this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<Landmarks, Landmarks.LandmarksResult, LandmarksMutateConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                super.updateGraphStore(resultBuilder, computationResult, executionContext);
+
+                // The distances only bound queries on the same relationships and weights.
+                var graphStore = computationResult.graphStore();
+                var config = computationResult.config();
+                var relationshipTypes = config
+                    .internalRelationshipTypes(graphStore)
+                    .stream()
+                    .map(RelationshipType::name)
+                    .collect(Collectors.toSet());
+                PathIndexCatalog.register(graphStore, config.mutateProperty(), PathIndexCatalog.PathIndex.of(
+                    PathIndexCatalog.Kind.LANDMARKS,
+                    relationshipTypes,
+                    config.relationshipWeightProperty()
+                ));
+            }
+        };
+    }
+
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long nodePropertiesWritten;
+        public final long landmarks;
+
+        MutateResult(
+            long nodePropertiesWritten,
+            long landmarks,
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            super(
+                preProcessingMillis,
+                computeMillis,
+                0L,
+                mutateMillis,
+                config
+            );
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.landmarks = landmarks;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            private final long landmarks;
+
+            Builder(long landmarks) {
+                this.landmarks = landmarks;
+            }
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    nodePropertiesWritten,
+                    landmarks,
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
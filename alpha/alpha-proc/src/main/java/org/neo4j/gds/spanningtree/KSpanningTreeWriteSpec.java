@@ -80,7 +80,7 @@ public class KSpanningTreeWriteSpec implements AlgorithmSpec<KSpanningTree, Span
             builder.withEffectiveNodeCount(spanningTree.effectiveNodeCount());
             try (ProgressTimer ignored = ProgressTimer.start(builder::withWriteMillis)) {
 
-                executionContext.nodePropertyExporterBuilder()
+                var exporterBuilder = executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(AlgorithmSpecProgressTrackerProvider.createProgressTracker(
@@ -88,9 +88,11 @@ public class KSpanningTreeWriteSpec implements AlgorithmSpec<KSpanningTree, Span
                         graph.nodeCount(),
                         config.writeConcurrency(),
                         executionContext
-                    ))
-                    .build()
-                    .write(config.writeProperty(), properties);
+                    ));
+                if (config.writeOnlyChanges()) {
+                    exporterBuilder.writeOnlyChanges(config.writeTolerance());
+                }
+                exporterBuilder.build().write(config.writeProperty(), properties);
             }
             builder.withComputeMillis(computationResult.computeMillis());
             builder.withPreProcessingMillis(computationResult.preProcessingMillis());
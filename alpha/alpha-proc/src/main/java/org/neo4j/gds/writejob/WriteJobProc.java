@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.writejob;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.write.NodePropertyWriteJob;
+import org.neo4j.gds.core.write.WriteJobCatalog;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public class WriteJobProc extends BaseProc {
+
+    @Procedure("gds.alpha.write.resume")
+    @Description("Resumes a failed background write job from its last committed batch.")
+    public Stream<WriteJobResult> resume(@Name(value = "jobId") String jobId) {
+        var job = findJob(jobId);
+        job.start();
+        return Stream.of(new WriteJobResult(job));
+    }
+
+    @Procedure("gds.alpha.write.drop")
+    @Description("Stops a background write job and releases the results it still holds.")
+    public Stream<WriteJobResult> drop(@Name(value = "jobId") String jobId) {
+        var job = findJob(jobId);
+        job.cancel();
+        return Stream.of(new WriteJobResult(job));
+    }
+
+    private NodePropertyWriteJob findJob(String jobId) {
+        return GraphDatabaseApiProxy
+            .resolveDependency(databaseService, WriteJobCatalog.class)
+            .get(username(), new JobId(jobId))
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No write job with id `%s` was found.",
+                jobId
+            )));
+    }
+
+    @SuppressWarnings("unused")
+    public static class WriteJobResult {
+        public final String jobId;
+        public final String state;
+        public final long nodeCount;
+        public final long nodesCommitted;
+        public final String failure;
+
+        WriteJobResult(NodePropertyWriteJob job) {
+            this.jobId = job.jobId().asString();
+            this.state = job.state().name();
+            this.nodeCount = job.nodeCount();
+            this.nodesCommitted = job.nodesCommitted();
+            this.failure = job.failureMessage();
+        }
+    }
+}
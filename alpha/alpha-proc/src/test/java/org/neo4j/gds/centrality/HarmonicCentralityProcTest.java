@@ -36,9 +36,11 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.gds.transaction.DatabaseTransactionContext;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -110,6 +112,27 @@ class HarmonicCentralityProcTest extends BaseProcTest {
         validateResult(resultMap);
     }
 
+    @Test
+    void shouldYieldNeighborhoodFunctionForApproximateRuns() {
+        loadCompleteGraph(DEFAULT_GRAPH_NAME, Orientation.UNDIRECTED);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.closeness.harmonic")
+            .writeMode()
+            .addParameter("writeProperty", "centralityScore")
+            .addParameter("approximate", true)
+            .addParameter("precision", 16)
+            .yields("neighborhoodFunction");
+
+        runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked")
+            var neighborhoodFunction = (List<Double>) row.get("neighborhoodFunction");
+            // 5 pairs within distance 0, 11 within 1 and 13 within 2
+            assertThat(neighborhoodFunction)
+                .hasSize(3)
+                .satisfies(pairs -> assertThat(pairs.get(2)).isCloseTo(13, within(0.1)));
+        });
+    }
+
     @Test
     void testProgressTracking() {
         loadCompleteGraph(DEFAULT_GRAPH_NAME);
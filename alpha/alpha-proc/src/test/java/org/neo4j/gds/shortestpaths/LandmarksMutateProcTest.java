@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.shortestpaths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LandmarksMutateProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {name: 'a', rank: 1})" +
+        ", (b:Node {name: 'b', rank: 2})" +
+        ", (c:Node {name: 'c', rank: 3})" +
+        ", (d:Node {name: 'd', rank: 4})" +
+        ", (a)-[:ROAD {cost: 1.0, time: 5.0}]->(b)" +
+        ", (b)-[:ROAD {cost: 1.0, time: 5.0}]->(c)" +
+        ", (a)-[:ROAD {cost: 5.0, time: 1.0}]->(c)" +
+        ", (c)-[:ROAD {cost: 2.0, time: 2.0}]->(d)" +
+        ", (a)-[:RAIL {cost: 1.0, time: 1.0}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, LandmarksMutateProc.class, ShortestPathDijkstraStreamProc.class);
+        runQuery(
+            "CALL gds.graph.project('" + GRAPH_NAME + "', {Node: {properties: 'rank'}}, {" +
+            "  ROAD: {orientation: 'UNDIRECTED', properties: ['cost', 'time']}," +
+            "  RAIL: {orientation: 'UNDIRECTED', properties: ['cost', 'time']}" +
+            "})"
+        );
+    }
+
+    @Test
+    void shouldMutateLandmarkDistances() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("landmarks", 2)
+            .addParameter("relationshipTypes", List.of("ROAD"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarkDistances")
+            .yields("landmarks", "nodePropertiesWritten");
+
+        assertCypherResult(query, List.of(Map.of(
+            "landmarks", 2L,
+            "nodePropertiesWritten", 4L
+        )));
+
+        runQueryWithRowConsumer(dijkstraQuery(List.of("ROAD"), "cost"), row ->
+            assertThat(row.getNumber("totalCost").doubleValue()).isEqualTo(4.0)
+        );
+    }
+
+    @Test
+    void shouldRejectQueriesOnOtherWeights() {
+        mutateLandmarks();
+
+        assertError(
+            dijkstraQuery(List.of("ROAD"), "time"),
+            "has been built with the relationship weight property `cost`, but got `time`"
+        );
+    }
+
+    @Test
+    void shouldRejectQueriesOnOtherRelationshipTypes() {
+        mutateLandmarks();
+
+        assertError(
+            dijkstraQuery(List.of("ROAD", "RAIL"), "cost"),
+            "can only be queried on the relationship types ['ROAD']"
+        );
+    }
+
+    @Test
+    void shouldRejectPropertiesThatDoNotHoldLandmarkDistances() {
+        assertError(
+            GdsCypher.call(GRAPH_NAME)
+                .algo("gds.shortestPath.dijkstra")
+                .streamMode()
+                .addParameter("sourceNode", idFunction.of("a"))
+                .addParameter("targetNode", idFunction.of("d"))
+                .addParameter("landmarkProperty", "rank")
+                .yields(),
+            "Node property `rank` does not hold landmark distances"
+        );
+    }
+
+    private void mutateLandmarks() {
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("landmarks", 2)
+            .addParameter("relationshipTypes", List.of("ROAD"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarkDistances")
+            .yields());
+    }
+
+    private String dijkstraQuery(List<String> relationshipTypes, String relationshipWeightProperty) {
+        return GdsCypher.call(GRAPH_NAME)
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("d"))
+            .addParameter("relationshipTypes", relationshipTypes)
+            .addParameter("relationshipWeightProperty", relationshipWeightProperty)
+            .addParameter("landmarkProperty", "landmarkDistances")
+            .yields("totalCost");
+    }
+}
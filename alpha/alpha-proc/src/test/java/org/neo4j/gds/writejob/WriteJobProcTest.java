@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.writejob;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.write.WriteJobCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.scc.SccWriteProc;
+import org.neo4j.gds.wcc.WccWriteProc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+class WriteJobProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)-[:REL]->(b)" +
+        ", (c)-[:REL]->(d)" +
+        ", (e)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(WriteJobProc.class, WccWriteProc.class, GraphProjectProc.class);
+        runQuery("CALL gds.graph.project('graph', '*', '*')");
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldWriteInTheBackground() throws InterruptedException {
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.write('graph', {writeProperty: 'componentId', writeAsync: true, jobId: 'wcc-write'}) " +
+            "YIELD nodePropertiesWritten, configuration",
+            row -> {
+                assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(0L);
+                assertThat(row.get("configuration")).asInstanceOf(MAP).containsEntry("jobId", "wcc-write");
+            }
+        );
+
+        var job = writeJobCatalog().get(getUsername(), new JobId("wcc-write"));
+        if (job.isPresent()) {
+            assertThat(job.get().awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        runQueryWithRowConsumer(
+            "MATCH (n) WHERE n.componentId IS NOT NULL RETURN count(n) AS written",
+            row -> assertThat(row.getNumber("written").longValue()).isEqualTo(5L)
+        );
+    }
+
+    @Test
+    void shouldProvideOneCatalogPerDatabase() {
+        assertThat(writeJobCatalog()).isSameAs(writeJobCatalog());
+        assertThat(writeJobCatalog().size()).isZero();
+    }
+
+    @Test
+    void shouldRejectBackgroundWritingWhereItIsNotSupported() {
+        registerProcedures(SccWriteProc.class);
+        assertError(
+            "CALL gds.alpha.scc.write('graph', {writeProperty: 'scc', writeAsync: true})",
+            "The 'writeAsync' parameter is not supported by this procedure."
+        );
+    }
+
+    @Test
+    void shouldFailToResumeAnUnknownJob() {
+        assertError("CALL gds.alpha.write.resume('unknown')", "No write job with id `unknown` was found.");
+    }
+
+    @Test
+    void shouldFailToDropAnUnknownJob() {
+        assertError("CALL gds.alpha.write.drop('unknown')", "No write job with id `unknown` was found.");
+    }
+
+    private WriteJobCatalog writeJobCatalog() {
+        return GraphDatabaseApiProxy.resolveDependency(db, WriteJobCatalog.class);
+    }
+}
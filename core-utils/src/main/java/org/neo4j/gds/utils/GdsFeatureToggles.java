@@ -37,7 +37,8 @@ public enum GdsFeatureToggles {
     USE_PACKED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
-    THROW_WHEN_USING_PROGRESS_TRACKER_WITHOUT_TASKS(false);
+    THROW_WHEN_USING_PROGRESS_TRACKER_WITHOUT_TASKS(false),
+    USE_CONCURRENCY_GOVERNOR(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.graphdb.TransientFailureException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries a batch written in its own transaction if it failed due to a lock
+ * conflict with another write transaction, e.g. a detected deadlock.
+ * The batch must not have side effects outside its transaction.
+ */
+final class LockConflictRetry {
+
+    static final int MAX_ATTEMPTS = 10;
+    private static final long INITIAL_BACKOFF_MILLIS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+
+    private LockConflictRetry() {}
+
+    static void run(Runnable batch, RelationshipWriteStatistics statistics, TerminationFlag terminationFlag) {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            try {
+                batch.run();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || !isLockConflict(e)) {
+                    throw e;
+                }
+            }
+            terminationFlag.assertRunning();
+            sleep(backoffMillis);
+            statistics.retried(System.nanoTime() - attemptStart);
+            backoffMillis = Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+        }
+    }
+
+    static boolean isLockConflict(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionTerminatedException) {
+                return false;
+            }
+            if (cause instanceof TransientFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -37,7 +37,9 @@ public class NativeNodePropertiesExporterBuilder extends NodePropertyExporterBui
             terminationFlag,
             progressTracker,
             writeConcurrency,
-            executorService
+            executorService,
+            writeOnlyChanges,
+            changeTolerance
         );
     }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.write;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -30,10 +31,13 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
 import org.neo4j.gds.utils.StatementApi;
 import org.neo4j.internal.kernel.api.Write;
+import org.neo4j.kernel.api.KernelTransaction;
 import org.neo4j.values.storable.Value;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
@@ -49,6 +53,10 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
     protected final LongAdder propertiesWritten;
+    protected final LongAdder propertiesSkipped;
+    protected final boolean writeOnlyChanges;
+    protected final double changeTolerance;
+    private final Map<String, Integer> propertyTokens;
 
     public static NodePropertyExporterBuilder<NativeNodePropertyExporter> builder(TransactionContext transactionContext, IdMap idMap, TerminationFlag terminationFlag) {
         return new NativeNodePropertiesExporterBuilder(transactionContext)
@@ -81,7 +89,9 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
         int concurrency,
-        ExecutorService executorService
+        ExecutorService executorService,
+        boolean writeOnlyChanges,
+        double changeTolerance
     ) {
         super(tx);
         this.nodeCount = nodeCount;
@@ -91,6 +101,10 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.propertiesWritten = new LongAdder();
+        this.propertiesSkipped = new LongAdder();
+        this.writeOnlyChanges = writeOnlyChanges;
+        this.changeTolerance = changeTolerance;
+        this.propertyTokens = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -128,27 +142,79 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         }
     }
 
+    @Override
+    public void write(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+        var resolvedNodeProperties = nodeProperties.stream()
+            .map(desc -> resolveWith(
+                desc,
+                propertyTokens.computeIfAbsent(desc.propertyKey(), this::getOrCreatePropertyToken)
+            ))
+            .collect(Collectors.toList());
+
+        acceptInTransaction(stmt -> {
+            terminationFlag.assertRunning();
+            long end = startNode + nodeCount;
+            Write ops = stmt.dataWrite();
+            try (var changeDetector = changeDetector(stmt, resolvedNodeProperties)) {
+                for (long currentNode = startNode; currentNode < end; currentNode++) {
+                    doWrite(resolvedNodeProperties, changeDetector, ops, currentNode);
+
+                    if ((currentNode - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+            }
+        });
+        progressTracker.logProgress(nodeCount);
+    }
+
+    @Override
+    public boolean supportsRangeWrites() {
+        return true;
+    }
+
     @Override
     public long propertiesWritten() {
         return propertiesWritten.longValue();
     }
 
-    private void writeSequential(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeSequential((ops, nodeId) -> doWrite(nodeProperties, ops, nodeId));
+    @Override
+    public long propertiesSkipped() {
+        return propertiesSkipped.longValue();
     }
 
-    private void writeParallel(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeParallel((ops, offset) -> doWrite(nodeProperties, ops, offset));
+    private @Nullable NodePropertyChangeDetector changeDetector(
+        KernelTransaction transaction,
+        List<ResolvedNodeProperty> nodeProperties
+    ) {
+        if (!writeOnlyChanges) {
+            return null;
+        }
+        int[] propertyTokens = nodeProperties.stream().mapToInt(ResolvedNodeProperty::propertyToken).toArray();
+        return new NodePropertyChangeDetector(transaction, propertyTokens, changeTolerance);
     }
 
-    private void doWrite(Iterable<ResolvedNodeProperty> nodeProperties, Write ops, long nodeId) throws Exception {
-        for (ResolvedNodeProperty nodeProperty : nodeProperties) {
-            int propertyId = nodeProperty.propertyToken();
+    private void doWrite(
+        List<ResolvedNodeProperty> nodeProperties,
+        @Nullable NodePropertyChangeDetector changeDetector,
+        Write ops,
+        long nodeId
+    ) throws Exception {
+        long originalNodeId = toOriginalId.applyAsLong(nodeId);
+        if (changeDetector != null) {
+            changeDetector.load(originalNodeId);
+        }
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            ResolvedNodeProperty nodeProperty = nodeProperties.get(i);
             final Value prop = nodeProperty.properties().value(nodeId);
             if (prop != null) {
+                if (changeDetector != null && changeDetector.isUnchanged(i, prop)) {
+                    propertiesSkipped.increment();
+                    continue;
+                }
                 ops.nodeSetProperty(
-                    toOriginalId.applyAsLong(nodeId),
-                    propertyId,
+                    originalNodeId,
+                    nodeProperty.propertyToken(),
                     prop
                 );
                 propertiesWritten.increment();
@@ -156,22 +222,24 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         }
     }
 
-    private void writeSequential(WriteConsumer writer) {
+    private void writeSequential(List<ResolvedNodeProperty> nodeProperties) {
         acceptInTransaction(stmt -> {
             terminationFlag.assertRunning();
             long progress = 0L;
             Write ops = stmt.dataWrite();
-            for (long i = 0L; i < nodeCount; i++) {
-                writer.accept(ops, i);
-                progressTracker.logProgress();
-                if (++progress % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
+            try (var changeDetector = changeDetector(stmt, nodeProperties)) {
+                for (long i = 0L; i < nodeCount; i++) {
+                    doWrite(nodeProperties, changeDetector, ops, i);
+                    progressTracker.logProgress();
+                    if (++progress % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
                 }
             }
         });
     }
 
-    private void writeParallel(WriteConsumer writer) {
+    private void writeParallel(List<ResolvedNodeProperty> nodeProperties) {
         final long batchSize = ParallelUtil.adjustedBatchSize(
             nodeCount,
             concurrency,
@@ -186,12 +254,14 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
                     terminationFlag.assertRunning();
                     long end = start + len;
                     Write ops = stmt.dataWrite();
-                    for (long currentNode = start; currentNode < end; currentNode++) {
-                        writer.accept(ops, currentNode);
-                        progressTracker.logProgress();
+                    try (var changeDetector = changeDetector(stmt, nodeProperties)) {
+                        for (long currentNode = start; currentNode < end; currentNode++) {
+                            doWrite(nodeProperties, changeDetector, ops, currentNode);
+                            progressTracker.logProgress();
 
-                        if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                            terminationFlag.assertRunning();
+                            if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                                terminationFlag.assertRunning();
+                            }
                         }
                     }
                 });
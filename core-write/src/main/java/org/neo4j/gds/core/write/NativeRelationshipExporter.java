@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.write;
 
+import com.carrotsearch.hppc.sorting.IndirectSort;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
@@ -26,9 +27,9 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
@@ -38,6 +39,7 @@ import org.neo4j.internal.kernel.api.Write;
 import org.neo4j.internal.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.internal.kernel.api.exceptions.schema.ConstraintValidationException;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
@@ -51,6 +53,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private final ExecutorService executorService;
+    private final int writeConcurrency;
+    private final RelationshipWriteStatistics statistics;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
         TransactionContext transactionContext,
@@ -83,7 +87,9 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        ExecutorService executorService,
+        int writeConcurrency
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -91,7 +97,9 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.propertyTranslator = propertyTranslator;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
-        this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.executorService = executorService;
+        this.writeConcurrency = writeConcurrency;
+        this.statistics = new RelationshipWriteStatistics();
     }
 
     @Override
@@ -118,7 +126,17 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         write(relationshipTypeToken, propertyKeyToken, afterWriteConsumer);
     }
 
+    @Override
+    public RelationshipWriteStatistics statistics() {
+        return statistics;
+    }
+
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
+        if (writeConcurrency > 1) {
+            writeParallel(relationshipTypeToken, propertyKeyToken, afterWriteConsumer);
+            return;
+        }
+
         // We use MIN_BATCH_SIZE since writing relationships
         // is performed batch-wise, but single-threaded.
         var tasks = PartitionUtils.degreePartitionWithBatchSize(
@@ -140,13 +158,102 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         }
     }
 
+    private void writeParallel(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
+        // Every batch covers a source node range and is written in source and target order.
+        // Concurrent transactions thus create relationships of disjoint source nodes and
+        // acquire the node locks they share in the same order.
+        var tasks = PartitionUtils.degreePartitionWithBatchSize(
+            graph,
+            NativeNodePropertyExporter.MIN_BATCH_SIZE,
+            partition -> createSortedBatchRunnable(
+                relationshipTypeToken,
+                propertyKeyToken,
+                partition,
+                afterWriteConsumer
+            )
+        );
+
+        progressTracker.beginSubTask();
+        try {
+            RunWithConcurrency.builder()
+                .concurrency(writeConcurrency)
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .executor(executorService)
+                .run();
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
+    private Runnable createSortedBatchRunnable(
+        int relationshipToken,
+        int propertyToken,
+        DegreePartition partition,
+        @Nullable RelationshipWithPropertyConsumer afterWrite
+    ) {
+        return () -> {
+            terminationFlag.assertRunning();
+
+            var batch = new RelationshipBatch(partition.totalDegree());
+            var relationshipIterator = graph.concurrentCopy();
+            partition.consume(nodeId -> relationshipIterator.forEachRelationship(nodeId, Double.NaN, batch));
+            var order = batch.sortedOrder(toOriginalId);
+
+            LockConflictRetry.run(() -> acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                var writeConsumer = new WriteConsumer(
+                    toOriginalId,
+                    stmt.dataWrite(),
+                    propertyTranslator,
+                    relationshipToken,
+                    propertyToken,
+                    ProgressTracker.NULL_TRACKER
+                );
+                for (int i = 0; i < order.length; i++) {
+                    int index = order[i];
+                    writeConsumer.accept(batch.sources[index], batch.targets[index], batch.properties[index]);
+
+                    if (i % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+            }), statistics, terminationFlag);
+
+            statistics.batchWritten(order.length);
+            progressTracker.logProgress(order.length);
+
+            // only notify about relationships of committed transactions,
+            // one batch at a time, as consumers are not required to be thread-safe
+            if (afterWrite != null) {
+                synchronized (afterWrite) {
+                    for (int index : order) {
+                        afterWrite.accept(batch.sources[index], batch.targets[index], batch.properties[index]);
+                    }
+                }
+            }
+        };
+    }
+
     private Runnable createBatchRunnable(
         int relationshipToken,
         int propertyToken,
-        Partition partition,
+        DegreePartition partition,
+        @Nullable RelationshipWithPropertyConsumer afterWrite
+    ) {
+        return () -> {
+            writeBatch(relationshipToken, propertyToken, partition, afterWrite);
+            statistics.batchWritten(partition.totalDegree());
+        };
+    }
+
+    private void writeBatch(
+        int relationshipToken,
+        int propertyToken,
+        DegreePartition partition,
         @Nullable RelationshipWithPropertyConsumer afterWrite
     ) {
-        return () -> acceptInTransaction(stmt -> {
+        acceptInTransaction(stmt -> {
             terminationFlag.assertRunning();
             Write ops = stmt.dataWrite();
 
@@ -174,6 +281,51 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         });
     }
 
+    private static final class RelationshipBatch implements RelationshipWithPropertyConsumer {
+
+        private long[] sources;
+        private long[] targets;
+        private double[] properties;
+        private int size;
+
+        RelationshipBatch(long expectedSize) {
+            int capacity = (int) Math.min(Math.max(expectedSize, 16), Integer.MAX_VALUE - 8);
+            this.sources = new long[capacity];
+            this.targets = new long[capacity];
+            this.properties = new double[capacity];
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (size == sources.length) {
+                int capacity = (int) Math.min((long) size * 2, Integer.MAX_VALUE - 8);
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                properties = Arrays.copyOf(properties, capacity);
+            }
+            sources[size] = sourceNodeId;
+            targets[size] = targetNodeId;
+            properties[size] = property;
+            size++;
+            return true;
+        }
+
+        int[] sortedOrder(LongUnaryOperator toOriginalId) {
+            var originalSources = new long[size];
+            var originalTargets = new long[size];
+            for (int i = 0; i < size; i++) {
+                originalSources[i] = toOriginalId.applyAsLong(sources[i]);
+                originalTargets[i] = toOriginalId.applyAsLong(targets[i]);
+            }
+            return IndirectSort.mergesort(0, size, (indexA, indexB) -> {
+                int bySource = Long.compare(originalSources[indexA], originalSources[indexB]);
+                return bySource != 0
+                    ? bySource
+                    : Long.compare(originalTargets[indexA], originalTargets[indexB]);
+            });
+        }
+    }
+
     private static class WriteConsumer implements RelationshipWithPropertyConsumer {
         @FunctionalInterface
         interface RelationshipWriteBehavior {
@@ -20,29 +20,40 @@
 package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StatementApi;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
 public final class NativeRelationshipStreamExporter extends StatementApi implements RelationshipStreamExporter {
 
     private static final int QUEUE_CAPACITY = 2;
+    // consecutive source nodes are grouped into ranges of this size before assigning them to writers
+    private static final int SOURCE_RANGE_SHIFT = 16;
+    private static final long POLL_INTERVAL_MILLIS = 100;
 
     private final LongUnaryOperator toOriginalId;
     private final Stream<Relationship> relationships;
     private final int batchSize;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
+    private final ExecutorService executorService;
+    private final int writeConcurrency;
+    private final RelationshipWriteStatistics statistics;
 
     public static RelationshipStreamExporterBuilder<NativeRelationshipStreamExporter> builder(
         TransactionContext transactionContext,
@@ -62,7 +73,9 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         Stream<Relationship> relationships,
         int batchSize,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        ExecutorService executorService,
+        int writeConcurrency
     ) {
         super(tx);
         this.toOriginalId = toOriginalId;
@@ -70,6 +83,14 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         this.batchSize = batchSize;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
+        this.executorService = executorService;
+        this.writeConcurrency = writeConcurrency;
+        this.statistics = new RelationshipWriteStatistics();
+    }
+
+    @Override
+    public RelationshipWriteStatistics statistics() {
+        return statistics;
     }
 
     @Override
@@ -80,55 +101,143 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             var relationshipToken = getOrCreateRelationshipToken(relationshipType);
             var propertyTokens = Arrays.stream(propertyKeys).mapToInt(this::getOrCreatePropertyToken).toArray();
 
-            var writeQueue = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-            var bufferPool = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-            for (int i = 0; i < QUEUE_CAPACITY; i++) {
-                bufferPool.add(new Buffer(batchSize));
-            }
+            return writeBatches(relationshipToken, propertyTokens);
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
 
-            var writer = new Writer(
-                tx,
-                progressTracker,
-                toOriginalId,
-                writeQueue,
-                bufferPool,
-                relationshipToken,
-                propertyTokens,
-                terminationFlag
-            );
-            var consumer = Pools.DEFAULT.submit(writer);
+    private long writeBatches(int relationshipToken, int[] propertyTokens) {
+        // set if any writer or the producer fails, so that the remaining writers stop waiting for batches
+        var aborted = new AtomicBoolean(false);
+        var writeQueues = new ArrayList<BlockingQueue<Buffer>>(writeConcurrency);
+        var bufferPools = new ArrayList<BlockingQueue<Buffer>>(writeConcurrency);
+        var writers = new ArrayList<Writer>(writeConcurrency);
+        var futures = new ArrayList<Future<?>>(writeConcurrency);
+        var currentBuffers = new Buffer[writeConcurrency];
 
-            var bufferRef = new AtomicReference<>(bufferPool.poll());
+        try {
+            for (int i = 0; i < writeConcurrency; i++) {
+                var writeQueue = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
+                var bufferPool = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
+                for (int j = 0; j < QUEUE_CAPACITY; j++) {
+                    bufferPool.add(new Buffer(batchSize));
+                }
+                var writer = new Writer(
+                    tx,
+                    progressTracker,
+                    toOriginalId,
+                    writeQueue,
+                    bufferPool,
+                    relationshipToken,
+                    propertyTokens,
+                    terminationFlag,
+                    statistics,
+                    aborted,
+                    writeConcurrency > 1
+                );
+                writeQueues.add(writeQueue);
+                bufferPools.add(bufferPool);
+                currentBuffers[i] = bufferPool.poll();
+                writers.add(writer);
+                futures.add(executorService.submit(writer));
+            }
 
             relationships.forEach(relationship -> {
-                var buffer = bufferRef.get();
+                int writerIndex = (int) ((relationship.sourceNode() >>> SOURCE_RANGE_SHIFT) % writeConcurrency);
+                var buffer = currentBuffers[writerIndex];
                 buffer.add(relationship);
                 if (buffer.isFull()) {
-                    try {
-                        writeQueue.put(buffer);
-                        bufferRef.set(bufferPool.take());
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
+                    put(writeQueues.get(writerIndex), buffer, futures.get(writerIndex), aborted);
+                    currentBuffers[writerIndex] = take(bufferPools.get(writerIndex), futures.get(writerIndex), aborted);
                 }
             });
 
-            try {
-                writeQueue.put(bufferRef.get());
+            for (int i = 0; i < writeConcurrency; i++) {
+                if (currentBuffers[i].size > 0) {
+                    put(writeQueues.get(i), currentBuffers[i], futures.get(i), aborted);
+                }
                 // Add an empty buffer to signal end of writing
-                writeQueue.put(new Buffer(0));
-                consumer.get();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e);
+                put(writeQueues.get(i), new Buffer(0), futures.get(i), aborted);
             }
+        } catch (RuntimeException | Error e) {
+            aborted.set(true);
+            ExceptionUtil.throwIfUnchecked(awaitAbortedWriters(futures, e));
+            throw e;
+        }
 
-            return writer.written;
-        } finally {
-            progressTracker.endSubTask();
+        long written = 0L;
+        for (int i = 0; i < writeConcurrency; i++) {
+            awaitWriter(futures.get(i));
+            written += writers.get(i).written;
+        }
+        return written;
+    }
+
+    /**
+     * Waits until all writers stopped, so that no transaction is still open when writing fails.
+     * Reports the failure of a writer in favour of the producer noticing that writing was aborted.
+     */
+    private static Throwable awaitAbortedWriters(Iterable<Future<?>> writers, Throwable failure) {
+        var reported = failure;
+        for (var writer : writers) {
+            try {
+                awaitWriter(writer);
+            } catch (RuntimeException writerFailure) {
+                if (reported instanceof WritingAborted) {
+                    reported = writerFailure;
+                } else if (reported.getCause() != writerFailure.getCause()) {
+                    reported.addSuppressed(writerFailure);
+                }
+            }
+        }
+        return reported;
+    }
+
+    private static void put(BlockingQueue<Buffer> writeQueue, Buffer buffer, Future<?> writer, AtomicBoolean aborted) {
+        try {
+            while (!writeQueue.offer(buffer, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                failIfStopped(writer, aborted);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Buffer take(BlockingQueue<Buffer> bufferPool, Future<?> writer, AtomicBoolean aborted) {
+        try {
+            Buffer buffer;
+            while ((buffer = bufferPool.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                failIfStopped(writer, aborted);
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void failIfStopped(Future<?> writer, AtomicBoolean aborted) {
+        if (writer.isDone()) {
+            awaitWriter(writer);
+        }
+        if (aborted.get()) {
+            throw new WritingAborted();
+        }
+        if (writer.isDone()) {
+            throw new IllegalStateException("Relationship writer stopped unexpectedly.");
+        }
+    }
+
+    private static void awaitWriter(Future<?> writer) {
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -143,6 +252,9 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
         private final int relationshipToken;
         private final int[] propertyTokens;
+        private final RelationshipWriteStatistics statistics;
+        private final AtomicBoolean aborted;
+        private final Comparator<Relationship> sourceTargetOrder;
         private long written;
 
         Writer(
@@ -153,7 +265,10 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             BlockingQueue<Buffer> bufferPool,
             int relationshipToken,
             int[] propertyTokens,
-            TerminationFlag terminationFlag
+            TerminationFlag terminationFlag,
+            RelationshipWriteStatistics statistics,
+            AtomicBoolean aborted,
+            boolean sortBatches
         ) {
             super(tx);
             this.progressTracker = progressTracker;
@@ -163,14 +278,24 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             this.relationshipToken = relationshipToken;
             this.propertyTokens = propertyTokens;
             this.terminationFlag = terminationFlag;
+            this.statistics = statistics;
+            this.aborted = aborted;
+            this.sourceTargetOrder = sortBatches
+                ? Comparator
+                    .comparingLong((Relationship relationship) -> toOriginalId.applyAsLong(relationship.sourceNode()))
+                    .thenComparingLong(relationship -> toOriginalId.applyAsLong(relationship.targetNode()))
+                : null;
         }
 
         @Override
         public void run() {
-            Buffer buffer;
-            while (true) {
-                try {
-                    buffer = writeQueue.take();
+            try {
+                Buffer buffer;
+                while (!aborted.get()) {
+                    buffer = writeQueue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (buffer == null) {
+                        continue;
+                    }
                     if (buffer.size == 0) {
                         return;
                     }
@@ -180,10 +305,14 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
                     buffer.reset();
                     bufferPool.put(buffer);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException(e);
                 }
+            } catch (InterruptedException e) {
+                aborted.set(true);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (RuntimeException | Error e) {
+                aborted.set(true);
+                throw e;
             }
         }
 
@@ -192,7 +321,12 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             var tokenCount = propertyTokens.length;
             var relationships = buffer.relationships;
 
-            acceptInTransaction(stmt -> {
+            if (sourceTargetOrder != null) {
+                // acquire node locks in the same order as concurrent writers
+                Arrays.sort(relationships, 0, bufferSize, sourceTargetOrder);
+            }
+
+            LockConflictRetry.run(() -> acceptInTransaction(stmt -> {
                 terminationFlag.assertRunning();
                 var ops = stmt.dataWrite();
 
@@ -210,12 +344,22 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                         ops.relationshipSetProperty(relationshipId, propertyTokens[j], values[j]);
                     }
                 }
-            });
+            }), statistics, terminationFlag);
 
+            statistics.batchWritten(bufferSize);
             return bufferSize;
         }
     }
 
+    /**
+     * Thrown by the producer when it notices that another writer failed.
+     */
+    private static final class WritingAborted extends IllegalStateException {
+        WritingAborted() {
+            super("Relationship writing was aborted.");
+        }
+    }
+
     static class Buffer {
         private final long capacity;
         private final Relationship[] relationships;
@@ -36,7 +36,9 @@ public final class NativeRelationshipStreamExporterBuilder extends RelationshipS
             relationships,
             batchSize,
             terminationFlag,
-            progressTracker
+            progressTracker,
+            executorService,
+            writeConcurrency
         );
     }
 }
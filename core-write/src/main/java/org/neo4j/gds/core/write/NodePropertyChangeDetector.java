@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.internal.kernel.api.NodeCursor;
+import org.neo4j.internal.kernel.api.PropertyCursor;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.values.storable.FloatingPointArray;
+import org.neo4j.values.storable.FloatingPointValue;
+import org.neo4j.values.storable.NumberValue;
+import org.neo4j.values.storable.Value;
+
+import java.util.Arrays;
+
+/**
+ * Reads the values a node currently has in the database for a fixed set of property tokens,
+ * so that writes which would not change the stored value can be skipped.
+ * Instances hold kernel cursors and are bound to a single transaction.
+ */
+final class NodePropertyChangeDetector implements AutoCloseable {
+
+    private final KernelTransaction kernelTransaction;
+    private final NodeCursor nodeCursor;
+    private final PropertyCursor propertyCursor;
+    private final int[] propertyTokens;
+    private final Value[] existingValues;
+    private final double tolerance;
+
+    NodePropertyChangeDetector(KernelTransaction kernelTransaction, int[] propertyTokens, double tolerance) {
+        this.kernelTransaction = kernelTransaction;
+        this.nodeCursor = Neo4jProxy.allocateNodeCursor(kernelTransaction);
+        this.propertyCursor = Neo4jProxy.allocatePropertyCursor(kernelTransaction);
+        this.propertyTokens = propertyTokens;
+        this.existingValues = new Value[propertyTokens.length];
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Loads the stored values of the tracked properties for the given Neo4j node.
+     */
+    void load(long originalNodeId) {
+        Arrays.fill(existingValues, null);
+        kernelTransaction.dataRead().singleNode(originalNodeId, nodeCursor);
+        if (!nodeCursor.next()) {
+            return;
+        }
+        Neo4jProxy.nodeProperties(
+            kernelTransaction,
+            originalNodeId,
+            Neo4jProxy.propertyReference(nodeCursor),
+            propertyCursor
+        );
+        while (propertyCursor.next()) {
+            int propertyKey = propertyCursor.propertyKey();
+            for (int i = 0; i < propertyTokens.length; i++) {
+                if (propertyTokens[i] == propertyKey) {
+                    existingValues[i] = propertyCursor.propertyValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the value loaded for the property at {@code index} matches the new value.
+     */
+    boolean isUnchanged(int index, Value newValue) {
+        return matches(existingValues[index], newValue, tolerance);
+    }
+
+    static boolean matches(@Nullable Value existing, Value newValue, double tolerance) {
+        if (existing == null) {
+            return false;
+        }
+        if (tolerance > 0) {
+            if (existing instanceof FloatingPointValue || newValue instanceof FloatingPointValue) {
+                if (existing instanceof NumberValue && newValue instanceof NumberValue) {
+                    return withinTolerance(
+                        ((NumberValue) existing).doubleValue(),
+                        ((NumberValue) newValue).doubleValue(),
+                        tolerance
+                    );
+                }
+                return false;
+            }
+            if (existing instanceof FloatingPointArray && newValue instanceof FloatingPointArray) {
+                var existingArray = (FloatingPointArray) existing;
+                var newArray = (FloatingPointArray) newValue;
+                if (existingArray.length() != newArray.length()) {
+                    return false;
+                }
+                for (int i = 0; i < newArray.length(); i++) {
+                    if (!withinTolerance(existingArray.doubleValue(i), newArray.doubleValue(i), tolerance)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return existing.equals(newValue);
+    }
+
+    private static boolean withinTolerance(double existing, double newValue, double tolerance) {
+        return Math.abs(existing - newValue) <= tolerance;
+    }
+
+    @Override
+    public void close() {
+        propertyCursor.close();
+        nodeCursor.close();
+    }
+}
@@ -36,8 +36,29 @@ public interface NodePropertyExporter {
 
     void write(Collection<NodeProperty> nodeProperties);
 
+    /**
+     * Writes the properties of the nodes in {@code [startNode, startNode + nodeCount)}
+     * from the calling thread, in a transaction of its own.
+     * Only available if {@link #supportsRangeWrites()} returns true.
+     */
+    default void write(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+        throw new UnsupportedOperationException("Writing node ranges is not supported by " + getClass().getSimpleName());
+    }
+
+    default boolean supportsRangeWrites() {
+        return false;
+    }
+
     long propertiesWritten();
 
+    /**
+     * Number of property values that were not written because the stored value was unchanged.
+     * Always zero unless the exporter was built with change detection.
+     */
+    default long propertiesSkipped() {
+        return 0L;
+    }
+
     static Task baseTask(String operationName, long taskVolume) {
         return Tasks.leaf(operationName + " :: WriteNodeProperties", taskVolume);
     }
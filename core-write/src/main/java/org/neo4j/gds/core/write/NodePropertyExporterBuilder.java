@@ -36,6 +36,8 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
     protected ExecutorService executorService;
     protected int writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    protected boolean writeOnlyChanges = false;
+    protected double changeTolerance = 0D;
 
     public abstract T build();
 
@@ -71,4 +73,17 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
         return this;
     }
 
+    /**
+     * Skip writing a property value if the node already stores an equal value.
+     * Floating point values, scalar or array, also count as equal if they differ by at most {@code tolerance}.
+     *
+     * @param tolerance The maximum absolute difference for floating point values to be considered unchanged.
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> writeOnlyChanges(double tolerance) {
+        this.writeOnlyChanges = true;
+        this.changeTolerance = tolerance;
+        return this;
+    }
+
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.ClockService;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.TaskRegistry;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
+import org.neo4j.logging.Log;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes node properties on a background thread, one node range per transaction.
+ * Committed ranges are remembered, so a failed job can be resumed
+ * without writing those ranges again.
+ * <p>
+ * While running, progress is registered under the job id and can be seen through {@code gds.beta.listProgress}.
+ * A failed job stays registered with status {@code FAILED} until it is resumed or dropped.
+ * The job holds on to the node properties, and thus to the algorithm result and the graph, until it completes
+ * or is dropped. It then lets go of them and runs its release callback, which frees the memory reserved for the
+ * procedure call that started it.
+ */
+public final class NodePropertyWriteJob {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        FAILED,
+        COMPLETED,
+    }
+
+    @FunctionalInterface
+    public interface ExporterFactory {
+        NodePropertyExporter build(ProgressTracker progressTracker, TerminationFlag terminationFlag);
+    }
+
+    private final JobId jobId;
+    private final String username;
+    private volatile @Nullable Collection<NodeProperty> nodeProperties;
+    private final long nodeCount;
+    private final long batchSize;
+    private final int batchCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final Supplier<Task> taskFactory;
+    private volatile @Nullable ExporterFactory exporterFactory;
+    private final Runnable onRelease;
+    private final Log log;
+    private final TaskRegistryFactory taskRegistryFactory;
+    private final UserLogRegistryFactory userLogRegistryFactory;
+    private final BitSet committedBatches;
+    private final AtomicReference<State> state;
+    private final AtomicBoolean released;
+
+    private volatile CountDownLatch finished;
+    private volatile boolean cancelled;
+    private volatile @Nullable String failureMessage;
+    private volatile @Nullable Instant failedAt;
+    private volatile @Nullable WriteJobCatalog catalog;
+    private @Nullable TaskRegistry failedTaskRegistry;
+
+    public NodePropertyWriteJob(
+        JobId jobId,
+        String username,
+        Collection<NodeProperty> nodeProperties,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService,
+        Supplier<Task> taskFactory,
+        ExporterFactory exporterFactory,
+        Runnable onRelease,
+        Log log,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory
+    ) {
+        this.jobId = jobId;
+        this.username = username;
+        this.nodeProperties = nodeProperties;
+        this.nodeCount = nodeCount;
+        this.batchSize = ParallelUtil.adjustedBatchSize(
+            nodeCount,
+            concurrency,
+            NodePropertyExporter.MIN_BATCH_SIZE,
+            NodePropertyExporter.MAX_BATCH_SIZE
+        );
+        this.batchCount = Math.toIntExact(ParallelUtil.threadCount(batchSize, nodeCount));
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.taskFactory = taskFactory;
+        this.exporterFactory = exporterFactory;
+        this.onRelease = onRelease;
+        this.log = log;
+        this.taskRegistryFactory = taskRegistryFactory;
+        this.userLogRegistryFactory = userLogRegistryFactory;
+        this.committedBatches = new BitSet(batchCount);
+        this.state = new AtomicReference<>(State.PENDING);
+        this.released = new AtomicBoolean(false);
+        this.finished = new CountDownLatch(1);
+    }
+
+    public JobId jobId() {
+        return jobId;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public synchronized long nodesCommitted() {
+        long nodesCommitted = 0L;
+        for (int batch = committedBatches.nextSetBit(0); batch >= 0; batch = committedBatches.nextSetBit(batch + 1)) {
+            nodesCommitted += batchLength(batch);
+        }
+        return nodesCommitted;
+    }
+
+    public @Nullable String failureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * The time at which the job failed, empty unless it is currently failed.
+     */
+    public Optional<Instant> failedAt() {
+        return Optional.ofNullable(failedAt);
+    }
+
+    void registerIn(WriteJobCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Starts writing all node ranges that have not been committed yet on a new thread.
+     * Used both for the initial run and for resuming a failed job.
+     */
+    public void start() {
+        if (!state.compareAndSet(State.PENDING, State.RUNNING) && !state.compareAndSet(State.FAILED, State.RUNNING)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Write job `%s` cannot be started because it is %s.",
+                jobId.asString(),
+                state.get()
+            ));
+        }
+        if (cancelled) {
+            state.set(State.FAILED);
+            throw new IllegalStateException(formatWithLocale("Write job `%s` has been dropped.", jobId.asString()));
+        }
+        unregisterFailedTask();
+        failureMessage = null;
+        failedAt = null;
+        finished = new CountDownLatch(1);
+        Pools.newThread(this::run).start();
+    }
+
+    /**
+     * Waits until the current run of this job has either completed or failed.
+     *
+     * @return false if the waiting time elapsed before the run finished
+     */
+    public boolean awaitFinished(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * Cancels the job and removes it from the {@link WriteJobCatalog}.
+     * A running job fails its current ranges and is removed once they have stopped.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (state.get() != State.RUNNING) {
+            unregisterFailedTask();
+            removeFromCatalog();
+            release();
+        }
+    }
+
+    private void run() {
+        var task = taskFactory.get();
+        var progressTracker = new TaskProgressTracker(
+            task,
+            log,
+            concurrency,
+            jobId,
+            taskRegistryFactory,
+            userLogRegistryFactory
+        );
+        progressTracker.beginSubTask(nodeCount);
+        progressTracker.logProgress(nodesCommitted());
+
+        boolean failed = false;
+        try {
+            writeUncommittedBatches(progressTracker);
+            progressTracker.endSubTask();
+        } catch (RuntimeException e) {
+            log.warn(formatWithLocale("Write job `%s` failed", jobId.asString()), e);
+            progressTracker.endSubTaskWithFailure();
+            failureMessage = e.getMessage();
+            failed = true;
+        } finally {
+            progressTracker.release();
+        }
+
+        if (!failed) {
+            state.set(State.COMPLETED);
+            removeFromCatalog();
+            release();
+        } else if (cancelled) {
+            state.set(State.FAILED);
+            removeFromCatalog();
+            release();
+        } else {
+            // keep the failed task listed until the job is resumed or dropped
+            keepFailedTaskRegistered(task);
+            failedAt = ClockService.clock().instant();
+            state.set(State.FAILED);
+        }
+        finished.countDown();
+    }
+
+    private void writeUncommittedBatches(ProgressTracker progressTracker) {
+        var nodeProperties = this.nodeProperties;
+        var exporterFactory = this.exporterFactory;
+        if (nodeProperties == null || exporterFactory == null) {
+            throw new IllegalStateException(formatWithLocale("Write job `%s` has been dropped.", jobId.asString()));
+        }
+        var exporter = exporterFactory.build(progressTracker, () -> !cancelled);
+        if (!exporter.supportsRangeWrites()) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "%s does not support writing in the background.",
+                exporter.getClass().getSimpleName()
+            ));
+        }
+
+        var tasks = new ArrayList<Runnable>();
+        for (int batch = 0; batch < batchCount; batch++) {
+            if (isCommitted(batch)) {
+                continue;
+            }
+            int currentBatch = batch;
+            tasks.add(() -> {
+                exporter.write(nodeProperties, currentBatch * batchSize, batchLength(currentBatch));
+                markCommitted(currentBatch);
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            nodeProperties = null;
+            exporterFactory = null;
+            onRelease.run();
+        }
+    }
+
+    private void removeFromCatalog() {
+        var catalog = this.catalog;
+        if (catalog != null) {
+            catalog.remove(this);
+        }
+    }
+
+    private long batchLength(int batch) {
+        return Math.min(batchSize, nodeCount - batch * batchSize);
+    }
+
+    private synchronized boolean isCommitted(int batch) {
+        return committedBatches.get(batch);
+    }
+
+    private synchronized void markCommitted(int batch) {
+        committedBatches.set(batch);
+    }
+
+    private synchronized void keepFailedTaskRegistered(Task task) {
+        failedTaskRegistry = taskRegistryFactory.newInstance(jobId);
+        failedTaskRegistry.registerTask(task);
+    }
+
+    private synchronized void unregisterFailedTask() {
+        if (failedTaskRegistry != null) {
+            failedTaskRegistry.unregisterTask();
+            failedTaskRegistry = null;
+        }
+    }
+}
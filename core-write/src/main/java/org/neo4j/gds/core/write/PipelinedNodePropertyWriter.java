@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.utils.ExceptionUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes node ranges while they are still being produced.
+ * <p>
+ * Completed ranges are put into a bounded queue, which blocks the producer
+ * if the writers fall behind. Each writer runs on a thread of its own, so
+ * that waiting for ranges does not take threads away from the computation,
+ * and writes every range in a transaction of its own.
+ */
+public final class PipelinedNodePropertyWriter {
+
+    private static final int QUEUE_CAPACITY_PER_WRITER = 2;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long NOT_STARTED = -1L;
+    private static final Range END = new Range(List.of(), 0, 0);
+
+    private final NodePropertyExporter exporter;
+    private final TerminationFlag terminationFlag;
+    private final BlockingQueue<Range> queue;
+    private final List<Thread> writers;
+    private final AtomicReference<Throwable> failure;
+    private final AtomicLong firstWriteStartNanos;
+    private final AtomicLong lastWriteEndNanos;
+
+    public static PipelinedNodePropertyWriter start(
+        NodePropertyExporter exporter,
+        int writeConcurrency,
+        TerminationFlag terminationFlag
+    ) {
+        if (!exporter.supportsRangeWrites()) {
+            throw new IllegalArgumentException("The exporter does not support writing node ranges.");
+        }
+        var writer = new PipelinedNodePropertyWriter(exporter, writeConcurrency, terminationFlag);
+        writer.writers.forEach(Thread::start);
+        return writer;
+    }
+
+    private PipelinedNodePropertyWriter(
+        NodePropertyExporter exporter,
+        int writeConcurrency,
+        TerminationFlag terminationFlag
+    ) {
+        this.exporter = exporter;
+        this.terminationFlag = terminationFlag;
+        this.queue = new ArrayBlockingQueue<>(writeConcurrency * QUEUE_CAPACITY_PER_WRITER);
+        this.failure = new AtomicReference<>();
+        this.firstWriteStartNanos = new AtomicLong(NOT_STARTED);
+        this.lastWriteEndNanos = new AtomicLong(NOT_STARTED);
+        this.writers = new ArrayList<>(writeConcurrency);
+        for (int i = 0; i < writeConcurrency; i++) {
+            writers.add(Pools.newThread(this::writeRanges));
+        }
+    }
+
+    /**
+     * Queues the given range for writing, waits while the queue is full.
+     *
+     * @throws RuntimeException if a previous range failed to be written or the transaction has been terminated
+     */
+    public void submit(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+        enqueue(new Range(nodeProperties, startNode, nodeCount), true);
+    }
+
+    /**
+     * Waits until all submitted ranges are written.
+     *
+     * @param computeEndNanos {@link System#nanoTime()} at which the producer finished
+     */
+    public Timings finish(long computeEndNanos) {
+        for (int i = 0; i < writers.size(); i++) {
+            enqueue(END, false);
+        }
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+        throwIfFailed();
+
+        long writeStart = firstWriteStartNanos.get();
+        if (writeStart == NOT_STARTED) {
+            return ImmutableTimings.of(0L, 0L);
+        }
+        long writeEnd = lastWriteEndNanos.get();
+        long overlap = Math.max(0L, Math.min(computeEndNanos, writeEnd) - writeStart);
+        return ImmutableTimings.of(
+            TimeUnit.NANOSECONDS.toMillis(writeEnd - writeStart),
+            TimeUnit.NANOSECONDS.toMillis(overlap)
+        );
+    }
+
+    /**
+     * Discards all queued ranges and stops the writers, used when the producer failed.
+     */
+    public void abort() {
+        failure.compareAndSet(null, new IllegalStateException("The pipelined write was aborted."));
+        queue.clear();
+        writers.forEach(Thread::interrupt);
+    }
+
+    private void enqueue(Range range, boolean failFast) {
+        while (true) {
+            if (failure.get() != null) {
+                if (failFast) {
+                    throwIfFailed();
+                }
+                // writers stopped consuming, make room for the end markers
+                queue.clear();
+            }
+            if (failFast) {
+                terminationFlag.assertRunning();
+            }
+            try {
+                if (queue.offer(range, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private void writeRanges() {
+        try {
+            while (true) {
+                var range = queue.take();
+                if (range == END || failure.get() != null) {
+                    return;
+                }
+                firstWriteStartNanos.compareAndSet(NOT_STARTED, System.nanoTime());
+                exporter.write(range.nodeProperties, range.startNode, range.nodeCount);
+                lastWriteEndNanos.accumulateAndGet(System.nanoTime(), Math::max);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+            queue.clear();
+        }
+    }
+
+    private void throwIfFailed() {
+        var error = failure.get();
+        if (error != null) {
+            ExceptionUtil.throwIfUnchecked(error);
+            throw new RuntimeException(error);
+        }
+    }
+
+    @ValueClass
+    public interface Timings {
+        /**
+         * Milliseconds from the start of the first write until the end of the last write.
+         */
+        long writeMillis();
+
+        /**
+         * Milliseconds of writing that happened while the producer was still running.
+         */
+        long overlapMillis();
+    }
+
+    private static final class Range {
+        private final Collection<NodeProperty> nodeProperties;
+        private final long startNode;
+        private final long nodeCount;
+
+        private Range(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+            this.nodeProperties = nodeProperties;
+            this.startNode = startNode;
+            this.nodeCount = nodeCount;
+        }
+    }
+}
@@ -29,12 +29,23 @@ public interface RelationshipExporter {
 
     void write(String relationshipType, String propertyKey);
 
+    /**
+     * Calls the given consumer for every written relationship once its transaction is committed.
+     * The consumer is never called concurrently, also not when writing in parallel.
+     */
     void write(
         String relationshipType,
         @Nullable String propertyKey,
         @Nullable RelationshipWithPropertyConsumer afterWriteConsumer
     );
 
+    /**
+     * Statistics of the relationships written so far, empty if the exporter does not track them.
+     */
+    default RelationshipWriteStatistics statistics() {
+        return new RelationshipWriteStatistics();
+    }
+
     static Task baseTask(String operationName, long taskVolume) {
         return Tasks.leaf(operationName + " :: Relationships :: Write", taskVolume);
     }
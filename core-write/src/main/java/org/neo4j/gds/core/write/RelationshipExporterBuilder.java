@@ -20,10 +20,12 @@
 package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.values.storable.Values;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
 public abstract class RelationshipExporterBuilder<T extends RelationshipExporter> {
@@ -35,6 +37,8 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    protected ExecutorService executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+    protected int writeConcurrency = DEFAULT_WRITE_CONCURRENCY;
 
     public abstract T build();
 
@@ -58,6 +62,17 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Writes batches of relationships concurrently. Each batch contains the relationships
+     * of a source node range and is written in source and target order, so that
+     * concurrent transactions acquire node locks in the same order.
+     */
+    public RelationshipExporterBuilder<T> parallel(ExecutorService executorService, int writeConcurrency) {
+        this.executorService = executorService;
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
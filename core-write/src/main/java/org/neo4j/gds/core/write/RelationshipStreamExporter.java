@@ -26,6 +26,13 @@ public interface RelationshipStreamExporter {
 
     long write(String relationshipType, String... propertyKeys);
 
+    /**
+     * Statistics of the relationships written so far, empty if the exporter does not track them.
+     */
+    default RelationshipWriteStatistics statistics() {
+        return new RelationshipWriteStatistics();
+    }
+
     static Task baseTask(String operationName) {
         return Tasks.leaf(operationName + " :: WriteRelationshipStream");
     }
@@ -20,9 +20,11 @@
 package org.neo4j.gds.core.write;
 
 import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
@@ -35,6 +37,8 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
     protected TerminationFlag terminationFlag;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected long relationshipCount = -1L;
+    protected ExecutorService executorService = Pools.DEFAULT;
+    protected int writeConcurrency = 1;
 
     public abstract T build();
 
@@ -64,6 +68,17 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
+    /**
+     * Writes relationships with the given number of concurrent writers. Relationships are
+     * partitioned by source node range, so that every writer creates relationships of
+     * disjoint source nodes, and every batch is written in source and target order.
+     */
+    public RelationshipStreamExporterBuilder<T> parallel(ExecutorService executorService, int writeConcurrency) {
+        this.executorService = executorService;
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts written relationships and the time spent on retrying batches after
+ * lock conflicts between concurrent write transactions, i.e. the failed attempts
+ * and the back-off before retrying them. This is not the time spent waiting on
+ * locks that were eventually acquired. Can be updated concurrently.
+ */
+public final class RelationshipWriteStatistics {
+
+    private final LongAdder relationshipsWritten;
+    private final LongAdder retryNanos;
+    private final LongAdder retries;
+
+    public RelationshipWriteStatistics() {
+        this.relationshipsWritten = new LongAdder();
+        this.retryNanos = new LongAdder();
+        this.retries = new LongAdder();
+    }
+
+    void batchWritten(long relationshipCount) {
+        relationshipsWritten.add(relationshipCount);
+    }
+
+    void retried(long lostNanos) {
+        retryNanos.add(lostNanos);
+        retries.increment();
+    }
+
+    public long relationshipsWritten() {
+        return relationshipsWritten.sum();
+    }
+
+    public long retryMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(retryNanos.sum());
+    }
+
+    public long retries() {
+        return retries.sum();
+    }
+}
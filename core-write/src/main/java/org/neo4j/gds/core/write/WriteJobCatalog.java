@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.utils.ClockService;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps track of the {@link NodePropertyWriteJob}s of one database that are running or that failed and can be resumed.
+ * Completed jobs remove themselves. Failed jobs that have been neither resumed nor dropped
+ * are dropped after {@link #FAILED_JOB_RETENTION}, so that they do not hold on to their results forever.
+ * <p>
+ * There is one catalog per database, see {@link WriteJobCatalogExtension}. It drops all of its jobs when the database stops.
+ */
+public final class WriteJobCatalog {
+
+    public static final Duration FAILED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final Map<JobId, NodePropertyWriteJob> jobs;
+
+    public WriteJobCatalog() {
+        this.jobs = new ConcurrentHashMap<>();
+    }
+
+    public void register(NodePropertyWriteJob job) {
+        dropExpiredJobs();
+        job.registerIn(this);
+        var existing = jobs.putIfAbsent(job.jobId(), job);
+        if (existing != null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A write job with id `%s` already exists.",
+                job.jobId().asString()
+            ));
+        }
+    }
+
+    public Optional<NodePropertyWriteJob> get(String username, JobId jobId) {
+        dropExpiredJobs();
+        return Optional
+            .ofNullable(jobs.get(jobId))
+            .filter(job -> job.username().equals(username));
+    }
+
+    public Stream<NodePropertyWriteJob> jobs(String username) {
+        dropExpiredJobs();
+        return jobs.values().stream().filter(job -> job.username().equals(username));
+    }
+
+    /**
+     * Stops all jobs and releases their results.
+     */
+    public void dropAll() {
+        jobs.values().forEach(NodePropertyWriteJob::cancel);
+        jobs.clear();
+    }
+
+    void remove(NodePropertyWriteJob job) {
+        jobs.remove(job.jobId(), job);
+    }
+
+    private void dropExpiredJobs() {
+        var expiredBefore = ClockService.clock().instant().minus(FAILED_JOB_RETENTION);
+        jobs.values().stream()
+            .filter(job -> job.failedAt().map(failedAt -> failedAt.isBefore(expiredBefore)).orElse(false))
+            .forEach(NodePropertyWriteJob::cancel);
+    }
+
+    @TestOnly
+    public int size() {
+        return jobs.size();
+    }
+}
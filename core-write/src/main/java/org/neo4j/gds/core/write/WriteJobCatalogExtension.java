@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.ExtensionType;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+
+/**
+ * Provides every database with its own {@link WriteJobCatalog}, resolvable through the database's dependencies.
+ * The background write jobs of a database are dropped when it shuts down.
+ */
+@ServiceProvider
+public final class WriteJobCatalogExtension extends ExtensionFactory<WriteJobCatalogExtension.Dependencies> {
+
+    public WriteJobCatalogExtension() {
+        super(ExtensionType.DATABASE, "gds.write.jobs");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var writeJobCatalog = new WriteJobCatalog();
+        context.dependencySatisfier().satisfyDependency(writeJobCatalog);
+        return new LifecycleAdapter() {
+            @Override
+            public void shutdown() {
+                writeJobCatalog.dropAll();
+            }
+        };
+    }
+
+    interface Dependencies {}
+}
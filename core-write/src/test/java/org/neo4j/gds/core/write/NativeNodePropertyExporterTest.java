@@ -142,6 +142,46 @@ class NativeNodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void skipsUnchangedProperties(boolean parallel) {
+        Graph graph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("prop1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        var exporterBuilder = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .writeOnlyChanges(0.01);
+        if (parallel) {
+            exporterBuilder = exporterBuilder.parallel(Pools.DEFAULT, 4);
+        }
+        var exporter = exporterBuilder.build();
+
+        double[] doubleData = {1.0, 2.005, 4.0};
+        exporter.write("prop1", new DoubleTestPropertyValues(nodeId -> doubleData[(int) nodeId]));
+
+        assertEquals(1L, exporter.propertiesWritten());
+        assertEquals(2L, exporter.propertiesSkipped());
+
+        Graph updatedGraph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("prop1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl(
+                "(a { prop1: 1.0 })" +
+                "(b { prop1: 2.0 })" +
+                "(c { prop1: 4.0 })" +
+                "(a)-->(b)" +
+                "(a)-->(c)" +
+                "(b)-->(c)" +
+                "(b)-->(c)"),
+            updatedGraph
+        );
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
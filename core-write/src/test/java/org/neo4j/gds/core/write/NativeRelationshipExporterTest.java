@@ -35,6 +35,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -102,6 +103,30 @@ class NativeRelationshipExporterTest extends BaseTest {
         validateWrittenGraph();
     }
 
+    @Test
+    void exportRelationshipsInParallel() {
+        clearDb();
+        runQuery(NODE_QUERY_PART + RELS_QUERY_PART);
+
+        Graph fromGraph = new StoreLoaderBuilder()
+            .databaseService(db)
+            .addRelationshipType("BARFOO")
+            .addRelationshipProperty(PropertyMapping.of("weight", PROPERTY_VALUE_IF_MISSING))
+            .build()
+            .graph();
+
+        var exporter = NativeRelationshipExporter
+            .builder(TestSupport.fullAccessTransaction(db), fromGraph, RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .build();
+
+        exporter.write("FOOBAR", "weight");
+
+        validateWrittenGraph();
+        assertEquals(4L, exporter.statistics().relationshipsWritten());
+        assertEquals(0L, exporter.statistics().retries());
+    }
+
     @Test
     void exportRelationshipsWithLongProperties() {
         clearDb();
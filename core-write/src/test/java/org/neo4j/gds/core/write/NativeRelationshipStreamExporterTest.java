@@ -21,6 +21,7 @@ package org.neo4j.gds.core.write;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.TestSupport;
@@ -29,6 +30,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -46,6 +48,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.TestSupport.assertGraphEquals;
 import static org.neo4j.gds.TestSupport.fromGdl;
@@ -266,6 +269,33 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
             );
     }
 
+    @Test
+    @Timeout(60)
+    void stopsAllWritersWhenOneWriterFails() {
+        int writeConcurrency = 3;
+        long target = graph.toMappedNodeId(idFunction.of("d"));
+        // every writer receives the relationships of one source node range
+        var relationshipStream = IntStream
+            .range(0, 30)
+            .mapToObj(i -> (Relationship) ImmutableRelationship.of((long) (i % writeConcurrency) << 16, target << 16));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withIdMappingOperator(nodeId -> {
+                if (nodeId >>> 16 == 1) {
+                    throw new IllegalStateException("failing writer");
+                }
+                return graph.toOriginalNodeId(nodeId >>> 16);
+            })
+            .withBatchSize(1)
+            .parallel(Pools.DEFAULT, writeConcurrency)
+            .build();
+
+        assertThatThrownBy(() -> exporter.write("FOOBAR"))
+            .hasRootCauseInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("failing writer");
+    }
+
     Relationship relationship(String sourceVariable, String targetVariable, Value... values) {
         return ImmutableRelationship.of(
             graph.toMappedNodeId(idFunction.of(sourceVariable)),
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
+import org.neo4j.gds.extension.FakeClockExtension;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.time.FakeClock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FakeClockExtension
+class NodePropertyWriteJobTest {
+
+    private static final long NODE_COUNT = 40_000;
+
+    @Inject
+    public FakeClock fakeClock;
+
+    @Test
+    void shouldWriteAllRangesInTheBackground() throws InterruptedException {
+        var exporters = new ArrayList<RecordingExporter>();
+        var job = newJob(exporters, -1);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.state()).isEqualTo(NodePropertyWriteJob.State.COMPLETED);
+        assertThat(job.nodesCommitted()).isEqualTo(NODE_COUNT);
+        assertThat(exporters).hasSize(1);
+        assertThat(exporters.get(0).writtenStartNodes).containsExactlyInAnyOrder(0L, 10_000L, 20_000L, 30_000L);
+    }
+
+    @Test
+    void shouldResumeFromTheLastCommittedRange() throws InterruptedException {
+        var exporters = new ArrayList<RecordingExporter>();
+        var job = newJob(exporters, 20_000);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.state()).isEqualTo(NodePropertyWriteJob.State.FAILED);
+        assertThat(job.failureMessage()).isEqualTo("Failed to write node 20000");
+        var writtenBeforeFailure = List.copyOf(exporters.get(0).writtenStartNodes);
+        assertThat(writtenBeforeFailure).doesNotContain(20_000L);
+        assertThat(job.nodesCommitted()).isEqualTo(writtenBeforeFailure.size() * 10_000L);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.state()).isEqualTo(NodePropertyWriteJob.State.COMPLETED);
+        assertThat(job.nodesCommitted()).isEqualTo(NODE_COUNT);
+        assertThat(exporters).hasSize(2);
+        assertThat(exporters.get(1).writtenStartNodes)
+            .contains(20_000L)
+            .doesNotContainAnyElementsOf(writtenBeforeFailure);
+    }
+
+    @Test
+    void shouldNotRestartACompletedJob() throws InterruptedException {
+        var job = newJob(new ArrayList<>(), -1);
+        job.start();
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(job::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("COMPLETED");
+    }
+
+    @Test
+    void shouldRemoveCompletedJobsFromTheCatalog() throws InterruptedException {
+        var catalog = new WriteJobCatalog();
+        var job = newJob(new ArrayList<>(), -1);
+        catalog.register(job);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(catalog.size()).isZero();
+    }
+
+    @Test
+    void shouldDropFailedJobsAfterTheRetention() throws InterruptedException {
+        var catalog = new WriteJobCatalog();
+        var job = newJob(new ArrayList<>(), 20_000);
+        catalog.register(job);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.failedAt()).hasValue(fakeClock.instant());
+        assertThat(catalog.get("alice", job.jobId())).hasValue(job);
+
+        fakeClock.forward(WriteJobCatalog.FAILED_JOB_RETENTION.plusSeconds(1));
+
+        assertThat(catalog.get("alice", job.jobId())).isEmpty();
+        assertThat(catalog.size()).isZero();
+    }
+
+    @Test
+    void shouldDropAllJobs() throws InterruptedException {
+        var catalog = new WriteJobCatalog();
+        var job = newJob(new ArrayList<>(), 20_000);
+        catalog.register(job);
+        job.start();
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+
+        catalog.dropAll();
+
+        assertThat(catalog.size()).isZero();
+        assertThat(catalog.jobs("alice")).isEmpty();
+    }
+
+    @Test
+    void shouldReleaseOnceCompleted() throws InterruptedException {
+        var releases = new AtomicInteger();
+        var job = newJob(new ArrayList<>(), -1, releases::incrementAndGet);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(releases.get()).isEqualTo(1);
+
+        job.cancel();
+        assertThat(releases.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseOnlyOnceAFailedJobIsDropped() throws InterruptedException {
+        var releases = new AtomicInteger();
+        var catalog = new WriteJobCatalog();
+        var job = newJob(new ArrayList<>(), 20_000, releases::incrementAndGet);
+        catalog.register(job);
+
+        job.start();
+
+        assertThat(job.awaitFinished(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.state()).isEqualTo(NodePropertyWriteJob.State.FAILED);
+        assertThat(releases.get()).isZero();
+
+        catalog.dropAll();
+
+        assertThat(releases.get()).isEqualTo(1);
+        assertThatThrownBy(job::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("dropped");
+    }
+
+    private static NodePropertyWriteJob newJob(List<RecordingExporter> exporters, long failingStartNode) {
+        return newJob(exporters, failingStartNode, () -> {});
+    }
+
+    private static NodePropertyWriteJob newJob(
+        List<RecordingExporter> exporters,
+        long failingStartNode,
+        Runnable onRelease
+    ) {
+        return new NodePropertyWriteJob(
+            new JobId(),
+            "alice",
+            List.of(),
+            NODE_COUNT,
+            4,
+            Pools.DEFAULT,
+            () -> Tasks.leaf("Write", NODE_COUNT),
+            (progressTracker, terminationFlag) -> {
+                // only the first attempt fails
+                var exporter = new RecordingExporter(exporters.isEmpty() ? failingStartNode : -1);
+                exporters.add(exporter);
+                return exporter;
+            },
+            onRelease,
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE,
+            EmptyUserLogRegistryFactory.INSTANCE
+        );
+    }
+
+    private static class RecordingExporter implements NodePropertyExporter {
+
+        private final long failingStartNode;
+        final Queue<Long> writtenStartNodes = new ConcurrentLinkedQueue<>();
+
+        RecordingExporter(long failingStartNode) {
+            this.failingStartNode = failingStartNode;
+        }
+
+        @Override
+        public void write(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+            if (startNode == failingStartNode) {
+                throw new IllegalStateException("Failed to write node " + startNode);
+            }
+            writtenStartNodes.add(startNode);
+        }
+
+        @Override
+        public boolean supportsRangeWrites() {
+            return true;
+        }
+
+        @Override
+        public void write(String property, NodePropertyValues properties) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(NodeProperty nodeProperty) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(Collection<NodeProperty> nodeProperties) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long propertiesWritten() {
+            return writtenStartNodes.size();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelinedNodePropertyWriterTest {
+
+    @Test
+    void shouldWriteAllSubmittedRanges() {
+        var exporter = new RecordingExporter(-1);
+        var writer = PipelinedNodePropertyWriter.start(exporter, 2, TerminationFlag.RUNNING_TRUE);
+
+        for (long startNode = 0; startNode < 100; startNode += 10) {
+            writer.submit(List.of(), startNode, 10);
+        }
+        var timings = writer.finish(System.nanoTime());
+
+        assertThat(exporter.writtenRanges).hasSize(10);
+        assertThat(exporter.writtenRanges.stream().mapToLong(range -> range[1]).sum()).isEqualTo(100);
+        assertThat(exporter.writtenRanges.stream().mapToLong(range -> range[0]))
+            .containsExactlyInAnyOrder(0L, 10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L);
+        assertThat(timings.writeMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(timings.overlapMillis()).isBetween(0L, timings.writeMillis());
+    }
+
+    @Test
+    void shouldReportWritesThatOverlapWithTheProducer() throws InterruptedException {
+        var writeStarted = new CountDownLatch(1);
+        var exporter = new RecordingExporter(-1) {
+            @Override
+            public void write(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+                writeStarted.countDown();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(nodeProperties, startNode, nodeCount);
+            }
+        };
+        var writer = PipelinedNodePropertyWriter.start(exporter, 1, TerminationFlag.RUNNING_TRUE);
+
+        writer.submit(List.of(), 0, 10);
+        assertThat(writeStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        // the producer keeps computing while the first range is being written
+        Thread.sleep(5);
+        var timings = writer.finish(System.nanoTime());
+
+        assertThat(exporter.writtenRanges).hasSize(1);
+        assertThat(timings.overlapMillis()).isPositive().isLessThanOrEqualTo(timings.writeMillis());
+    }
+
+    @Test
+    void shouldReportNoTimingsIfNothingWasWritten() {
+        var writer = PipelinedNodePropertyWriter.start(new RecordingExporter(-1), 4, TerminationFlag.RUNNING_TRUE);
+
+        var timings = writer.finish(System.nanoTime());
+
+        assertThat(timings.writeMillis()).isEqualTo(0);
+        assertThat(timings.overlapMillis()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldPropagateWriteFailures() {
+        var exporter = new RecordingExporter(20);
+        var writer = PipelinedNodePropertyWriter.start(exporter, 1, TerminationFlag.RUNNING_TRUE);
+
+        assertThatThrownBy(() -> {
+            for (long startNode = 0; startNode < 1_000; startNode += 10) {
+                writer.submit(List.of(), startNode, 10);
+            }
+            writer.finish(System.nanoTime());
+        }).hasMessage("Failed to write node 20");
+    }
+
+    @Test
+    void shouldRejectExportersWithoutRangeWrites() {
+        var exporter = new RecordingExporter(-1) {
+            @Override
+            public boolean supportsRangeWrites() {
+                return false;
+            }
+        };
+
+        assertThatThrownBy(() -> PipelinedNodePropertyWriter.start(exporter, 1, TerminationFlag.RUNNING_TRUE))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class RecordingExporter implements NodePropertyExporter {
+
+        private final long failingStartNode;
+        final Queue<long[]> writtenRanges = new ConcurrentLinkedQueue<>();
+
+        RecordingExporter(long failingStartNode) {
+            this.failingStartNode = failingStartNode;
+        }
+
+        @Override
+        public void write(Collection<NodeProperty> nodeProperties, long startNode, long nodeCount) {
+            if (startNode == failingStartNode) {
+                throw new IllegalStateException("Failed to write node " + startNode);
+            }
+            writtenRanges.add(new long[]{startNode, nodeCount});
+        }
+
+        @Override
+        public boolean supportsRangeWrites() {
+            return true;
+        }
+
+        @Override
+        public void write(String property, NodePropertyValues properties) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(NodeProperty nodeProperty) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(Collection<NodeProperty> nodeProperties) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long propertiesWritten() {
+            return writtenRanges.size();
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.config;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.Configuration;
 
@@ -33,6 +34,34 @@ public interface WritePropertyConfig extends WriteConfig {
     @Configuration.Key(WRITE_PROPERTY_KEY)
     String writeProperty();
 
+    /**
+     * Return as soon as the computation is done and write the results in a background job.
+     * The job id is part of the returned configuration.
+     * The returned {@code writeMillis} and {@code nodePropertiesWritten} do not apply and are always 0.
+     */
+    @Value.Default
+    default boolean writeAsync() {
+        return false;
+    }
+
+    /**
+     * Read the value currently stored on each node and only write the new value if it differs.
+     */
+    @Value.Default
+    default boolean writeOnlyChanges() {
+        return false;
+    }
+
+    /**
+     * Maximum absolute difference for floating point values, scalar or array, to be treated as unchanged.
+     * Only used together with {@link #writeOnlyChanges()}.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0)
+    default double writeTolerance() {
+        return 0D;
+    }
+
     static @Nullable String validatePropertyName(String input) {
         return validateNoWhiteCharacter(emptyToNull(input), "writeProperty");
     }
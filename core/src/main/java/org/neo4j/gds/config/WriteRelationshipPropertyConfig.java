@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+
+/**
+ * Write configuration of procedures that write the {@link #writeProperty()} on relationships.
+ * Rejects the options of {@link WritePropertyConfig} that only apply to writing node properties.
+ */
+public interface WriteRelationshipPropertyConfig extends SynchronousWritePropertyConfig {
+
+    @Value.Check
+    default void validateUnsupportedWriteOptions() {
+        if (writeOnlyChanges()) {
+            throw new IllegalArgumentException("The 'writeOnlyChanges' parameter is not supported by this procedure.");
+        }
+        if (writeTolerance() > 0) {
+            throw new IllegalArgumentException("The 'writeTolerance' parameter is not supported by this procedure.");
+        }
+    }
+}
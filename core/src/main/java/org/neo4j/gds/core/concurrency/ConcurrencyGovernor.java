@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.concurrency.PoolSizesService;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Caps the number of tasks that all concurrent {@link RunWithConcurrency} calls
+ * together run on {@link Pools#DEFAULT}.
+ * <p>
+ * Every call registers a {@link Lease} and needs a worker token for each task it submits.
+ * A lease can hold at most its fair share of tokens, that is the number of workers divided
+ * by the number of active leases, but never more than its requested concurrency.
+ * Tokens are returned when a task finishes, so the effective concurrency of a running call
+ * shrinks when other calls start and grows again when they finish.
+ * <p>
+ * Calls made from within a governed task are not governed themselves,
+ * as their parent task already holds a token.
+ * <p>
+ * Executors other than {@link Pools#DEFAULT} are only governed if they are a {@link GovernedExecutor}.
+ */
+public final class ConcurrencyGovernor {
+
+    private static final ConcurrencyGovernor INSTANCE = new ConcurrencyGovernor(
+        PoolSizesService.poolSizes().corePoolSize()
+    );
+
+    private static final ThreadLocal<Boolean> IN_GOVERNED_TASK = ThreadLocal.withInitial(() -> false);
+
+    public static ConcurrencyGovernor instance() {
+        return INSTANCE;
+    }
+
+    static @Nullable ConcurrencyGovernor governorFor(@Nullable Executor executor) {
+        if (executor == null) {
+            return null;
+        }
+        if (executor == Pools.DEFAULT) {
+            return INSTANCE;
+        }
+        if (executor instanceof GovernedExecutor) {
+            return ((GovernedExecutor) executor).governor();
+        }
+        return null;
+    }
+
+    /**
+     * An executor whose tasks are capped by its own governor instead of the one of {@link Pools#DEFAULT}.
+     */
+    interface GovernedExecutor extends Executor {
+        ConcurrencyGovernor governor();
+    }
+
+    private final int maxWorkers;
+
+    // guarded by this
+    private int usedWorkers;
+    private int activeLeases;
+
+    @TestOnly
+    ConcurrencyGovernor(int maxWorkers) {
+        this.maxWorkers = Math.max(1, maxWorkers);
+    }
+
+    static boolean isInGovernedTask() {
+        return IN_GOVERNED_TASK.get();
+    }
+
+    static void runGoverned(Runnable task) {
+        IN_GOVERNED_TASK.set(true);
+        try {
+            task.run();
+        } finally {
+            IN_GOVERNED_TASK.set(false);
+        }
+    }
+
+    public int maxWorkers() {
+        return maxWorkers;
+    }
+
+    public synchronized int usedWorkers() {
+        return usedWorkers;
+    }
+
+    public synchronized int activeLeases() {
+        return activeLeases;
+    }
+
+    synchronized Lease register(int requestedConcurrency) {
+        activeLeases++;
+        return new Lease(requestedConcurrency);
+    }
+
+    private int fairShare() {
+        return Math.max(1, maxWorkers / Math.max(1, activeLeases));
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final int requestedConcurrency;
+        // guarded by the governor
+        private int heldWorkers;
+        private boolean closed;
+
+        private Lease(int requestedConcurrency) {
+            this.requestedConcurrency = Math.max(1, requestedConcurrency);
+        }
+
+        /**
+         * The number of tasks this lease may currently run at once.
+         */
+        public int effectiveConcurrency() {
+            synchronized (ConcurrencyGovernor.this) {
+                return Math.min(requestedConcurrency, fairShare());
+            }
+        }
+
+        boolean tryAcquire() {
+            synchronized (ConcurrencyGovernor.this) {
+                if (closed || usedWorkers >= maxWorkers || heldWorkers >= Math.min(requestedConcurrency, fairShare())) {
+                    return false;
+                }
+                heldWorkers++;
+                usedWorkers++;
+                return true;
+            }
+        }
+
+        void release() {
+            synchronized (ConcurrencyGovernor.this) {
+                if (heldWorkers > 0) {
+                    heldWorkers--;
+                    usedWorkers--;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (ConcurrencyGovernor.this) {
+                if (!closed) {
+                    closed = true;
+                    activeLeases--;
+                    // tokens of tasks that are still running are returned on completion
+                }
+            }
+        }
+    }
+}
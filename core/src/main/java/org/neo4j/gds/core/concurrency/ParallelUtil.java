@@ -23,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -359,8 +360,13 @@ public final class ParallelUtil {
             return;
         }
 
+        var governor = GdsFeatureToggles.USE_CONCURRENCY_GOVERNOR.isEnabled() && !ConcurrencyGovernor.isInGovernedTask()
+            ? ConcurrencyGovernor.governorFor(executor)
+            : null;
+        var governorLease = governor != null ? governor.register(concurrency) : null;
+
         CompletionService completionService =
-            new CompletionService(executor, concurrency);
+            new CompletionService(executor, concurrency, governorLease);
 
         PushbackIterator<Runnable> ts =
             new PushbackIterator<>(tasks);
@@ -368,11 +374,8 @@ public final class ParallelUtil {
         Throwable error = null;
         // generally assumes that tasks.size is notably larger than concurrency
         try {
-            //noinspection StatementWithEmptyBody - add first concurrency tasks
-            for (int i = concurrency; i-- > 0
-                                      && terminationFlag.running()
-                                      && completionService.trySubmit(ts); )
-                ;
+            // add first concurrency tasks
+            completionService.submitUpTo(ts, concurrency, terminationFlag);
 
             terminationFlag.assertRunning();
 
@@ -381,9 +384,8 @@ public final class ParallelUtil {
             while (ts.hasNext()) {
                 if (completionService.hasTasks()) {
                     try {
-                        if (!completionService.awaitOrFail()) {
-                            continue;
-                        }
+                        // a timeout is no reason to skip topping up, a governed lease may have grown meanwhile
+                        completionService.awaitOrFail();
                     } catch (ExecutionException e) {
                         error = ExceptionUtil.chain(error, e.getCause());
                     } catch (CancellationException ignore) {
@@ -392,7 +394,10 @@ public final class ParallelUtil {
 
                 terminationFlag.assertRunning();
 
-                if (!completionService.trySubmit(ts) && !completionService.hasTasks()) {
+                int targetConcurrency = governorLease != null
+                    ? governorLease.effectiveConcurrency()
+                    : concurrency;
+                if (completionService.submitUpTo(ts, targetConcurrency, terminationFlag) == 0 && !completionService.hasTasks()) {
                     if (++tries >= maxWaitRetries) {
                         throw new IllegalThreadStateException(formatWithLocale(
                             "Attempted to submit tasks for %d times with a %d nanosecond delay (%d milliseconds) between each attempt, but ran out of time",
@@ -419,6 +424,9 @@ public final class ParallelUtil {
             error = error == null ? e : ExceptionUtil.chain(e, error);
             Thread.currentThread().interrupt();
         } finally {
+            if (governorLease != null) {
+                governorLease.close();
+            }
             finishRunWithConcurrency(mayInterruptIfRunning, completionService, error);
         }
     }
@@ -482,6 +490,7 @@ public final class ParallelUtil {
         private final int availableConcurrency;
         private final Set<Future<Void>> running;
         private final BlockingQueue<Future<Void>> completionQueue;
+        private final @Nullable ConcurrencyGovernor.Lease governorLease;
 
         private class QueueingFuture extends FutureTask<Void> {
             QueueingFuture(final Runnable runnable) {
@@ -489,8 +498,21 @@ public final class ParallelUtil {
                 running.add(this);
             }
 
+            @Override
+            public void run() {
+                if (governorLease != null) {
+                    ConcurrencyGovernor.runGoverned(super::run);
+                } else {
+                    super.run();
+                }
+            }
+
             @Override
             protected void done() {
+                if (governorLease != null) {
+                    // return the token before signalling completion, so that the next task can take it
+                    governorLease.release();
+                }
                 if (!isCancelled()) {
                     //noinspection StatementWithEmptyBody - spin-wait on free slot
                     while (!completionQueue.offer(this)) ;
@@ -499,7 +521,11 @@ public final class ParallelUtil {
             }
         }
 
-        CompletionService(final ExecutorService executor, final int targetConcurrency) {
+        CompletionService(
+            final ExecutorService executor,
+            final int targetConcurrency,
+            final @Nullable ConcurrencyGovernor.Lease governorLease
+        ) {
             if (!canRunInParallel(executor)) {
                 throw new IllegalArgumentException(
                     "executor already terminated or not usable");
@@ -516,6 +542,7 @@ public final class ParallelUtil {
             }
 
             this.executor = executor;
+            this.governorLease = governorLease;
             this.running = Collections.newSetFromMap(new ConcurrentHashMap<>());
         }
 
@@ -530,10 +557,37 @@ public final class ParallelUtil {
             return false;
         }
 
+        /**
+         * Submits tasks until {@code targetConcurrency} tasks are in flight or no more task can be submitted.
+         *
+         * @return the number of submitted tasks
+         */
+        int submitUpTo(
+            final PushbackIterator<Runnable> tasks,
+            final int targetConcurrency,
+            final TerminationFlag terminationFlag
+        ) {
+            int submitted = 0;
+            while (running.size() < targetConcurrency && terminationFlag.running() && trySubmit(tasks)) {
+                submitted++;
+            }
+            return submitted;
+        }
+
         boolean submit(final Runnable task) {
             Objects.requireNonNull(task);
             if (canSubmit()) {
-                executor.execute(new QueueingFuture(task));
+                var future = new QueueingFuture(task);
+                try {
+                    executor.execute(future);
+                } catch (RuntimeException e) {
+                    // the task never runs, so done() will not return its token
+                    running.remove(future);
+                    if (governorLease != null) {
+                        governorLease.release();
+                    }
+                    throw e;
+                }
                 return true;
             }
             return false;
@@ -559,7 +613,10 @@ public final class ParallelUtil {
         }
 
         private boolean canSubmit() {
-            return pool == null || pool.getActiveCount() < availableConcurrency;
+            if (pool != null && pool.getActiveCount() >= availableConcurrency) {
+                return false;
+            }
+            return governorLease == null || governorLease.tryAcquire();
         }
 
         private void stopFutures(final Collection<Future<Void>> futures, boolean mayInterruptIfRunning) {
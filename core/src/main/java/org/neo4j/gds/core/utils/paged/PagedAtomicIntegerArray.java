@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
 
 public final class PagedAtomicIntegerArray extends PagedDataStructure<AtomicIntegerArray> {
 
@@ -42,6 +43,14 @@ public final class PagedAtomicIntegerArray extends PagedDataStructure<AtomicInte
     }
 
 
+    public static long memoryEstimation(long size) {
+        var allocator = ALLOCATOR_FACTORY.newAllocator();
+        int numPages = PageUtil.numPagesFor(size, allocator.pageSize());
+        return sizeOfInstance(PagedAtomicIntegerArray.class)
+               + sizeOfObjectArray(numPages)
+               + allocator.estimateMemoryUsage(size);
+    }
+
     public static PagedAtomicIntegerArray newArray(long size) {
         return new PagedAtomicIntegerArray(size, ALLOCATOR_FACTORY.newAllocator());
     }
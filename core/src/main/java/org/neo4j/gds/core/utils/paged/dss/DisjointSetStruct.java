@@ -64,6 +64,13 @@ public interface DisjointSetStruct {
      */
     long size();
 
+    /**
+     * Memory held by the data structure.
+     *
+     * @return size in bytes
+     */
+    long sizeOf();
+
     /**
      * Wraps the DisjointSetStruct in an LongNodeProperties interface
      *
@@ -193,4 +193,9 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
     public long size() {
         return parent.size();
     }
+
+    @Override
+    public long sizeOf() {
+        return communities == null ? parent.sizeOf() : parent.sizeOf() + communities.sizeOf();
+    }
 }
@@ -39,7 +39,7 @@ import java.util.PrimitiveIterator;
  * Implementation has been copied from https://issues.apache.org/jira/browse/SOLR-2092
  * and slightly adapted to our needs.
  */
-public abstract class HugeLongPriorityQueue implements PrimitiveLongIterable {
+public abstract class HugeLongPriorityQueue implements LongPriorityQueue, PrimitiveLongIterable {
 
 
     public static MemoryEstimation memoryEstimation() {
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+/**
+ * The operations shortest path searches need from a priority queue of node ids.
+ * The cost of an element remains available after it has been popped.
+ */
+public interface LongPriorityQueue {
+
+    /**
+     * Adds an element associated with a cost to the queue.
+     */
+    void add(long element, double cost);
+
+    /**
+     * Adds an element associated with a cost to the queue.
+     * If the element was already in the queue, its cost is updated.
+     */
+    void set(long element, double cost);
+
+    /**
+     * Returns the cost the element has been added with last.
+     */
+    double cost(long element);
+
+    /**
+     * Returns true, iff the element is contained in the queue.
+     */
+    boolean containsElement(long element);
+
+    /**
+     * Returns the element with the minimum cost without removing it.
+     */
+    long top();
+
+    /**
+     * Removes and returns the element with the minimum cost.
+     */
+    long pop();
+
+    boolean isEmpty();
+
+    /**
+     * Removes all entries from the queue.
+     */
+    void clear();
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+/**
+ * A monotone min priority queue for elements with non-negative integral costs.
+ * <p>
+ * The queue is a radix heap: entries are kept in buckets by the highest bit in which their cost differs from the
+ * cost of the last popped element. Popping an element redistributes a single bucket into lower buckets, so every
+ * entry moves at most 64 times over its lifetime and all operations take amortized constant time, independent
+ * of the number of queued elements.
+ * <p>
+ * Two restrictions apply, both of which Dijkstra's algorithm meets on graphs with integral weights:
+ * costs have to be integral values between {@code 0} and {@code 2^53} and no element may be added with a cost
+ * lower than the cost of the last popped element.
+ * <p>
+ * Decreasing the cost of an element adds a new entry, the outdated entry is skipped when it is reached.
+ * Elements with the minimum cost are popped in the order in which they reached the first bucket.
+ */
+public final class RadixLongPriorityQueue implements LongPriorityQueue {
+
+    // Doubles represent all integers up to this value exactly.
+    public static final double MAX_COST = 0x1p53;
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(RadixLongPriorityQueue.class)
+            .perNode("costs", HugeDoubleArray::memoryEstimation)
+            .perNode("queued set", MemoryUsage::sizeOfBitset)
+            // Entries are element and cost pairs. Most searches add about one entry per node.
+            .perNode("buckets", nodeCount -> 2 * MemoryUsage.sizeOfLongArray(nodeCount))
+            .build();
+    }
+
+    private final HugeDoubleArray costValues;
+    private final BitSet queued;
+    private final LongArrayList[] bucketElements;
+    private final LongArrayList[] bucketCosts;
+
+    // The first bucket holds entries with the cost of the last popped element and is consumed from the front.
+    private int firstBucketHead;
+    private long lastCost;
+    private long size;
+
+    public RadixLongPriorityQueue(long capacity) {
+        this.costValues = HugeDoubleArray.newArray(capacity);
+        this.queued = new BitSet(capacity);
+        this.bucketElements = new LongArrayList[BUCKET_COUNT];
+        this.bucketCosts = new LongArrayList[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketElements[i] = new LongArrayList();
+            bucketCosts[i] = new LongArrayList();
+        }
+    }
+
+    /**
+     * Returns true, iff the cost can be stored in this queue.
+     */
+    public static boolean isIntegral(double cost) {
+        return cost >= 0 && cost <= MAX_COST && cost == Math.rint(cost);
+    }
+
+    @Override
+    public void add(long element, double cost) {
+        assert isIntegral(cost) : "cost must be integral, but was " + cost;
+        assert (long) cost >= lastCost : "cost must not be lower than the cost of the last popped element";
+
+        if (!queued.get(element)) {
+            queued.set(element);
+            size++;
+        }
+        costValues.set(element, cost);
+        push(element, (long) cost);
+    }
+
+    @Override
+    public void set(long element, double cost) {
+        add(element, cost);
+    }
+
+    /**
+     * Returns the cost associated with the given element.
+     * If the element has been popped from the queue, its
+     * latest cost value is being returned.
+     */
+    @Override
+    public double cost(long element) {
+        return costValues.get(element);
+    }
+
+    @Override
+    public boolean containsElement(long element) {
+        return queued.get(element);
+    }
+
+    @Override
+    public long top() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Priority Queue is empty");
+        }
+        settle();
+        return bucketElements[0].get(firstBucketHead);
+    }
+
+    @Override
+    public long pop() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Priority Queue is empty");
+        }
+        settle();
+        long element = bucketElements[0].get(firstBucketHead++);
+
+        queued.clear(element);
+        size--;
+        return element;
+    }
+
+    /**
+     * Returns the number of elements currently stored in the queue.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketElements[i].elementsCount = 0;
+            bucketCosts[i].elementsCount = 0;
+        }
+        firstBucketHead = 0;
+        queued.clear();
+        lastCost = 0;
+        size = 0;
+    }
+
+    private void push(long element, long cost) {
+        int bucket = bucket(cost);
+        bucketElements[bucket].add(element);
+        bucketCosts[bucket].add(cost);
+    }
+
+    private int bucket(long cost) {
+        return cost == lastCost ? 0 : Long.SIZE - Long.numberOfLeadingZeros(cost ^ lastCost);
+    }
+
+    private boolean isOutdated(long element, long cost) {
+        return !queued.get(element) || (long) costValues.get(element) != cost;
+    }
+
+    /**
+     * Moves entries until the head of the first bucket is an up-to-date entry with the minimum cost.
+     * Requires the queue to be non-empty.
+     */
+    private void settle() {
+        while (true) {
+            var elements = bucketElements[0];
+            var costs = bucketCosts[0];
+            while (firstBucketHead < elements.size()) {
+                if (!isOutdated(elements.get(firstBucketHead), costs.get(firstBucketHead))) {
+                    return;
+                }
+                firstBucketHead++;
+            }
+            elements.elementsCount = 0;
+            costs.elementsCount = 0;
+            firstBucketHead = 0;
+
+            int bucket = 1;
+            while (bucketElements[bucket].isEmpty()) {
+                bucket++;
+            }
+
+            var sourceElements = bucketElements[bucket];
+            var sourceCosts = bucketCosts[bucket];
+            long minCost = Long.MAX_VALUE;
+            for (int i = 0; i < sourceElements.size(); i++) {
+                if (!isOutdated(sourceElements.get(i), sourceCosts.get(i))) {
+                    minCost = Math.min(minCost, sourceCosts.get(i));
+                }
+            }
+
+            // Every entry of the bucket shares the bits above the bucket index with the new minimum,
+            // so all of them move to a lower bucket.
+            if (minCost != Long.MAX_VALUE) {
+                lastCost = minCost;
+                for (int i = 0; i < sourceElements.size(); i++) {
+                    long element = sourceElements.get(i);
+                    long cost = sourceCosts.get(i);
+                    if (!isOutdated(element, cost)) {
+                        push(element, cost);
+                    }
+                }
+            }
+            sourceElements.elementsCount = 0;
+            sourceCosts.elementsCount = 0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * A min priority queue for searches that only touch a small part of the graph.
+ *
+ * In contrast to {@link HugeLongPriorityQueue}, memory grows with the number of
+ * elements that have been added instead of the node count, and {@link #clear()}
+ * is proportional to that number as well. Decreasing a cost pushes another heap
+ * entry, outdated entries are skipped when they reach the top.
+ *
+ * The cost of an element remains available after it has been popped.
+ */
+public final class SparseLongPriorityQueue {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final LongDoubleHashMap costs;
+    private final LongHashSet queued;
+
+    private long[] heapElements;
+    private double[] heapCosts;
+    private int heapSize;
+
+    public static MemoryEstimation memoryEstimation(int expectedElements) {
+        return MemoryEstimations.builder(SparseLongPriorityQueue.class)
+            .fixed("heap elements", sizeOfLongArray(expectedElements))
+            .fixed("heap costs", sizeOfDoubleArray(expectedElements))
+            .fixed("costs", sizeOfLongArray(expectedElements) + sizeOfDoubleArray(expectedElements))
+            .fixed("queued", sizeOfLongArray(expectedElements))
+            .build();
+    }
+
+    public SparseLongPriorityQueue() {
+        this.costs = new LongDoubleHashMap();
+        this.queued = new LongHashSet();
+        this.heapElements = new long[INITIAL_CAPACITY];
+        this.heapCosts = new double[INITIAL_CAPACITY];
+        this.heapSize = 0;
+    }
+
+    /**
+     * Adds the element or updates its cost if it is already queued.
+     */
+    public void add(long element, double cost) {
+        costs.put(element, cost);
+        queued.add(element);
+        push(element, cost);
+    }
+
+    /**
+     * Sets the cost of a queued element. Equivalent to {@link #add(long, double)}.
+     */
+    public void set(long element, double cost) {
+        add(element, cost);
+    }
+
+    /**
+     * Returns the cost the element has been added with last, or positive infinity if it has never been added.
+     */
+    public double cost(long element) {
+        return costs.getOrDefault(element, Double.POSITIVE_INFINITY);
+    }
+
+    public boolean containsElement(long element) {
+        return queued.contains(element);
+    }
+
+    public long top() {
+        skipOutdated();
+        return heapElements[0];
+    }
+
+    public long pop() {
+        skipOutdated();
+        long element = heapElements[0];
+        removeTop();
+        queued.remove(element);
+        return element;
+    }
+
+    public int size() {
+        return queued.size();
+    }
+
+    public boolean isEmpty() {
+        return queued.isEmpty();
+    }
+
+    public void clear() {
+        costs.clear();
+        queued.clear();
+        heapSize = 0;
+    }
+
+    private void skipOutdated() {
+        while (heapSize > 0) {
+            long element = heapElements[0];
+            if (queued.contains(element) && costs.get(element) == heapCosts[0]) {
+                return;
+            }
+            removeTop();
+        }
+        throw new IllegalStateException("The queue is empty.");
+    }
+
+    private void push(long element, double cost) {
+        if (heapSize == heapElements.length) {
+            int newCapacity = heapElements.length << 1;
+            heapElements = Arrays.copyOf(heapElements, newCapacity);
+            heapCosts = Arrays.copyOf(heapCosts, newCapacity);
+        }
+        int position = heapSize++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heapCosts[parent] <= cost) {
+                break;
+            }
+            heapElements[position] = heapElements[parent];
+            heapCosts[position] = heapCosts[parent];
+            position = parent;
+        }
+        heapElements[position] = element;
+        heapCosts[position] = cost;
+    }
+
+    private void removeTop() {
+        heapSize--;
+        if (heapSize == 0) {
+            return;
+        }
+        long element = heapElements[heapSize];
+        double cost = heapCosts[heapSize];
+        int position = 0;
+        int child;
+        while ((child = 2 * position + 1) < heapSize) {
+            if (child + 1 < heapSize && heapCosts[child + 1] < heapCosts[child]) {
+                child++;
+            }
+            if (cost <= heapCosts[child]) {
+                break;
+            }
+            heapElements[position] = heapElements[child];
+            heapCosts[position] = heapCosts[child];
+            position = child;
+        }
+        heapElements[position] = element;
+        heapCosts[position] = cost;
+    }
+}
@@ -25,7 +25,11 @@ import org.neo4j.configuration.DocumentedDefaultValue;
 import org.neo4j.configuration.SettingsDeclaration;
 import org.neo4j.graphdb.config.Setting;
 
+import java.time.Duration;
+
 import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.DURATION;
 import static org.neo4j.gds.compat.SettingProxy.newBuilder;
 
 @ServiceProvider
@@ -38,4 +42,22 @@ public class MemoryEstimationSettings implements SettingsDeclaration {
         BOOL,
         false
     ).build();
+
+    @Description("Maximum time a procedure call waits in the memory admission queue for its estimated memory to " +
+                 "become available. A value of zero disables queueing and rejects such calls immediately.")
+    @DocumentedDefaultValue("0s")
+    public static final Setting<Duration> memory_admission_wait_timeout = newBuilder(
+        "gds.memory_admission.wait_timeout",
+        DURATION,
+        Duration.ZERO
+    ).build();
+
+    @Description("Maximum memory a single user can have reserved through the memory admission queue at once. " +
+                 "A value of zero means no limit.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Long> memory_admission_user_quota = newBuilder(
+        "gds.memory_admission.user_quota",
+        BYTES,
+        0L
+    ).build();
 }
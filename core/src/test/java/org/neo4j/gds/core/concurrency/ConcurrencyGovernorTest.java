@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyGovernorTest {
+
+    @Test
+    void shouldLimitLeaseToRequestedConcurrency() {
+        var governor = new ConcurrencyGovernor(8);
+        var lease = governor.register(2);
+
+        assertThat(lease.tryAcquire()).isTrue();
+        assertThat(lease.tryAcquire()).isTrue();
+        assertThat(lease.tryAcquire()).isFalse();
+        assertThat(governor.usedWorkers()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldShareWorkersFairlyBetweenLeases() {
+        var governor = new ConcurrencyGovernor(8);
+        var first = governor.register(8);
+
+        assertThat(first.effectiveConcurrency()).isEqualTo(8);
+
+        var second = governor.register(8);
+        assertThat(first.effectiveConcurrency()).isEqualTo(4);
+        assertThat(second.effectiveConcurrency()).isEqualTo(4);
+
+        IntStream.range(0, 4).forEach(i -> assertThat(first.tryAcquire()).isTrue());
+        assertThat(first.tryAcquire()).isFalse();
+        IntStream.range(0, 4).forEach(i -> assertThat(second.tryAcquire()).isTrue());
+        assertThat(second.tryAcquire()).isFalse();
+
+        second.close();
+        // the first lease grows again once the second one released its workers
+        IntStream.range(0, 4).forEach(i -> second.release());
+        assertThat(first.effectiveConcurrency()).isEqualTo(8);
+        assertThat(first.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldShrinkLeaseHoldingMoreThanItsFairShare() {
+        var governor = new ConcurrencyGovernor(4);
+        var first = governor.register(4);
+        IntStream.range(0, 4).forEach(i -> assertThat(first.tryAcquire()).isTrue());
+
+        var second = governor.register(4);
+        assertThat(second.tryAcquire()).isFalse();
+
+        first.release();
+        // the first lease is above its fair share and cannot take the worker back
+        assertThat(first.tryAcquire()).isFalse();
+        assertThat(second.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldCapRunningTasksAcrossConcurrentCalls() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var task = sleepingTask(running, maxRunning);
+
+        // the dedicated pool has more threads than the governor's budget, so only the governor can cap the peak
+        var governor = new ConcurrencyGovernor(2);
+        var pool = new GovernedPool(12, governor);
+        try {
+            GdsFeatureToggles.USE_CONCURRENCY_GOVERNOR.enableAndRun(() -> {
+                var calls = IntStream.range(0, 3)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> RunWithConcurrency.builder()
+                        .concurrency(4)
+                        .tasks(IntStream.range(0, 20).mapToObj(j -> task).collect(Collectors.toList()))
+                        .executor(pool)
+                        .run()))
+                    .collect(Collectors.toList());
+
+                for (var call : calls) {
+                    call.get(1, TimeUnit.MINUTES);
+                }
+            });
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+        assertThat(governor.usedWorkers()).isEqualTo(0);
+        assertThat(governor.activeLeases()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldGrowRunningCallWhenOtherLeaseCloses() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var twoRunning = new CountDownLatch(2);
+        var fourRunning = new CountDownLatch(4);
+        var allMet = new AtomicBoolean(true);
+        // every task blocks until four tasks run at once, so the call only finishes once it has grown to four
+        Runnable task = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            twoRunning.countDown();
+            fourRunning.countDown();
+            try {
+                if (!fourRunning.await(1, TimeUnit.MINUTES)) {
+                    allMet.set(false);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+
+        var governor = new ConcurrencyGovernor(4);
+        var pool = new GovernedPool(8, governor);
+        try {
+            GdsFeatureToggles.USE_CONCURRENCY_GOVERNOR.enableAndRun(() -> {
+                // a second lease halves the fair share of the call below
+                var otherLease = governor.register(4);
+
+                var call = CompletableFuture.runAsync(() -> RunWithConcurrency.builder()
+                    .concurrency(4)
+                    .tasks(IntStream.range(0, 4).mapToObj(j -> task).collect(Collectors.toList()))
+                    .executor(pool)
+                    .run());
+
+                assertThat(twoRunning.await(1, TimeUnit.MINUTES)).isTrue();
+                // the running tasks are blocked, so only the governor keeps the others from starting
+                assertThat(running.get()).isEqualTo(2);
+                assertThat(governor.usedWorkers()).isEqualTo(2);
+                otherLease.close();
+
+                call.get(1, TimeUnit.MINUTES);
+            });
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(allMet.get()).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(4);
+        assertThat(governor.usedWorkers()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReturnTokenWhenExecutorRejectsTask() throws Exception {
+        var governor = new ConcurrencyGovernor(4);
+        var pool = new GovernedPool(4, governor) {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("rejected");
+            }
+        };
+        try {
+            GdsFeatureToggles.USE_CONCURRENCY_GOVERNOR.enableAndRun(() -> assertThatThrownBy(() -> RunWithConcurrency
+                .builder()
+                .concurrency(4)
+                .tasks(IntStream.range(0, 8).mapToObj(j -> (Runnable) () -> {}).collect(Collectors.toList()))
+                .executor(pool)
+                .run()
+            ).isInstanceOf(RejectedExecutionException.class));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(governor.usedWorkers()).isEqualTo(0);
+        assertThat(governor.activeLeases()).isEqualTo(0);
+    }
+
+    private static class GovernedPool extends ThreadPoolExecutor implements ConcurrencyGovernor.GovernedExecutor {
+        private final ConcurrencyGovernor governor;
+
+        GovernedPool(int threads, ConcurrencyGovernor governor) {
+            super(threads, threads, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+            this.governor = governor;
+        }
+
+        @Override
+        public ConcurrencyGovernor governor() {
+            return governor;
+        }
+    }
+
+    private static Runnable sleepingTask(AtomicInteger running, AtomicInteger maxRunning) {
+        return () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RadixLongPriorityQueueTest {
+
+    @Test
+    void shouldPopInCostOrder() {
+        var queue = new RadixLongPriorityQueue(10);
+        queue.add(3L, 300.0);
+        queue.add(7L, 1.0);
+        queue.add(4L, 2.0);
+        queue.add(5L, 1L << 40);
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.pop()).isEqualTo(7L);
+        assertThat(queue.pop()).isEqualTo(4L);
+        assertThat(queue.pop()).isEqualTo(3L);
+        assertThat(queue.pop()).isEqualTo(5L);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldDecreaseCosts() {
+        var queue = new RadixLongPriorityQueue(10);
+        queue.add(1L, 5.0);
+        queue.add(2L, 3.0);
+        queue.set(1L, 1.0);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.top()).isEqualTo(1L);
+        assertThat(queue.pop()).isEqualTo(1L);
+        assertThat(queue.cost(1L)).isEqualTo(1.0);
+        assertThat(queue.pop()).isEqualTo(2L);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldKeepCostsAfterPop() {
+        var queue = new RadixLongPriorityQueue(10);
+        queue.add(1L, 5.0);
+        queue.pop();
+
+        assertThat(queue.containsElement(1L)).isFalse();
+        assertThat(queue.cost(1L)).isEqualTo(5.0);
+    }
+
+    @Test
+    void shouldClear() {
+        var queue = new RadixLongPriorityQueue(10);
+        queue.add(1L, 5.0);
+        queue.add(2L, 4.0);
+        queue.pop();
+        queue.clear();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.containsElement(1L)).isFalse();
+
+        // the queue starts over at cost zero
+        queue.add(3L, 0.0);
+        assertThat(queue.pop()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldThrowOnTopOfEmptyQueue() {
+        assertThatThrownBy(() -> new RadixLongPriorityQueue(1).top())
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Priority Queue is empty");
+    }
+
+    @Test
+    void shouldThrowOnPopOfEmptyQueue() {
+        var queue = new RadixLongPriorityQueue(1);
+        queue.add(0L, 1.0);
+        queue.pop();
+
+        assertThatThrownBy(queue::pop)
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Priority Queue is empty");
+    }
+
+    @Test
+    void shouldDetectIntegralCosts() {
+        assertThat(RadixLongPriorityQueue.isIntegral(0.0)).isTrue();
+        assertThat(RadixLongPriorityQueue.isIntegral(42.0)).isTrue();
+        assertThat(RadixLongPriorityQueue.isIntegral(0.5)).isFalse();
+        assertThat(RadixLongPriorityQueue.isIntegral(-1.0)).isFalse();
+        assertThat(RadixLongPriorityQueue.isIntegral(Double.NaN)).isFalse();
+        assertThat(RadixLongPriorityQueue.isIntegral(Double.POSITIVE_INFINITY)).isFalse();
+    }
+
+    @Test
+    void shouldComputeSameDistancesAsBinaryHeap() {
+        int nodeCount = 1_000;
+        var random = new Random(42L);
+        var neighbors = new int[nodeCount][5];
+        var weights = new int[nodeCount][5];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int i = 0; i < 5; i++) {
+                neighbors[node][i] = random.nextInt(nodeCount);
+                weights[node][i] = random.nextInt(100);
+            }
+        }
+
+        var expected = dijkstra(HugeLongPriorityQueue.min(nodeCount), neighbors, weights);
+        var actual = dijkstra(new RadixLongPriorityQueue(nodeCount), neighbors, weights);
+
+        assertThat(actual).containsExactly(expected);
+    }
+
+    private static double[] dijkstra(LongPriorityQueue queue, int[][] neighbors, int[][] weights) {
+        var distances = new double[neighbors.length];
+        var visited = new boolean[neighbors.length];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+        double lastCost = 0;
+        queue.add(0, 0.0);
+        while (!queue.isEmpty()) {
+            int node = (int) queue.pop();
+            double cost = queue.cost(node);
+            assertThat(cost).isGreaterThanOrEqualTo(lastCost);
+            lastCost = cost;
+
+            visited[node] = true;
+            distances[node] = cost;
+            for (int i = 0; i < neighbors[node].length; i++) {
+                int neighbor = neighbors[node][i];
+                double newCost = cost + weights[node][i];
+                if (visited[neighbor]) {
+                    continue;
+                }
+                if (!queue.containsElement(neighbor)) {
+                    queue.add(neighbor, newCost);
+                } else if (newCost < queue.cost(neighbor)) {
+                    queue.set(neighbor, newCost);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SparseLongPriorityQueueTest {
+
+    @Test
+    void shouldPopInCostOrder() {
+        var queue = new SparseLongPriorityQueue();
+        queue.add(1_000_000_000L, 3.0);
+        queue.add(7L, 1.0);
+        queue.add(42L, 2.0);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.pop()).isEqualTo(7L);
+        assertThat(queue.pop()).isEqualTo(42L);
+        assertThat(queue.pop()).isEqualTo(1_000_000_000L);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldUpdateCosts() {
+        var queue = new SparseLongPriorityQueue();
+        queue.add(1L, 5.0);
+        queue.add(2L, 3.0);
+        queue.set(1L, 1.0);
+        queue.set(2L, 6.0);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.top()).isEqualTo(1L);
+        assertThat(queue.pop()).isEqualTo(1L);
+        assertThat(queue.pop()).isEqualTo(2L);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldKeepCostsAfterPop() {
+        var queue = new SparseLongPriorityQueue();
+        queue.add(1L, 5.0);
+        queue.pop();
+
+        assertThat(queue.containsElement(1L)).isFalse();
+        assertThat(queue.cost(1L)).isEqualTo(5.0);
+        assertThat(queue.cost(2L)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldClear() {
+        var queue = new SparseLongPriorityQueue();
+        queue.add(1L, 5.0);
+        queue.add(2L, 4.0);
+        queue.clear();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.cost(1L)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThatThrownBy(queue::top).hasMessageContaining("empty");
+
+        queue.add(3L, 1.0);
+        assertThat(queue.pop()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldMatchSortedOrderWithRandomUpdates() {
+        var random = new Random(42L);
+        var queue = new SparseLongPriorityQueue();
+        Map<Long, Double> expected = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            long element = random.nextInt(1_000);
+            double cost = random.nextDouble();
+            queue.add(element, cost);
+            expected.put(element, cost);
+        }
+
+        List<Map.Entry<Long, Double>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        assertThat(queue.size()).isEqualTo(expected.size());
+        for (var entry : sorted) {
+            long element = queue.pop();
+            assertThat(queue.cost(element)).isEqualTo(entry.getValue());
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.BaseConfig;
+
+import java.lang.ref.WeakReference;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A process-wide LRU cache for algorithm results computed on catalog graphs.
+ * <p>
+ * Entries are keyed by user, database, graph name, algorithm and the algorithm
+ * configuration, and remember the graph store and its modification time from
+ * before the computation started. An entry is only returned as long as the
+ * catalog still holds the same, unmodified graph store; mutating or re-projecting
+ * the graph invalidates all of its entries.
+ * <p>
+ * The cache is bounded by a memory budget, each entry being accounted with the
+ * size of the cached result.
+ */
+public final class AlgorithmResultCache {
+
+    // configuration keys that do not influence the result of a computation
+    private static final Set<String> IGNORED_CONFIG_KEYS = Set.of(
+        "jobId",
+        BaseConfig.LOG_PROGRESS_KEY,
+        BaseConfig.SUDO_KEY
+    );
+
+    private static final AlgorithmResultCache INSTANCE = new AlgorithmResultCache();
+
+    public static AlgorithmResultCache instance() {
+        return INSTANCE;
+    }
+
+    private final LinkedHashMap<Key, Entry> entries;
+    private long sizeInBytes;
+
+    @TestOnly
+    AlgorithmResultCache() {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sizeInBytes = 0L;
+    }
+
+    static Key key(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String algorithmName,
+        BaseConfig config
+    ) {
+        var canonicalConfig = new TreeMap<>(config.toMap());
+        canonicalConfig.keySet().removeAll(IGNORED_CONFIG_KEYS);
+        return new Key(username, databaseId, graphName, algorithmName, canonicalConfig);
+    }
+
+    synchronized Optional<Object> get(Key key, GraphStore graphStore) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.isValidFor(graphStore)) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.result);
+    }
+
+    /**
+     * @param modificationTime the modification time of the graph store before the result was computed,
+     *                         a result computed while the graph was modified is not cached
+     */
+    synchronized void put(
+        Key key,
+        GraphStore graphStore,
+        ZonedDateTime modificationTime,
+        Object result,
+        long entrySizeInBytes,
+        long maxSizeInBytes
+    ) {
+        if (entrySizeInBytes <= 0 || entrySizeInBytes > maxSizeInBytes) {
+            return;
+        }
+        if (!modificationTime.equals(graphStore.modificationTime())) {
+            return;
+        }
+
+        invalidateStaleEntries(key, graphStore);
+        remove(key);
+
+        entries.put(key, new Entry(graphStore, modificationTime, result, entrySizeInBytes));
+        sizeInBytes += entrySizeInBytes;
+
+        var iterator = entries.entrySet().iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            // access order puts the least recently used entries first
+            sizeInBytes -= iterator.next().getValue().sizeInBytes;
+            iterator.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeInBytes = 0L;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private void invalidateStaleEntries(Key key, GraphStore graphStore) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var cached = iterator.next();
+            if (cached.getKey().sameGraphAs(key) && !cached.getValue().isValidFor(graphStore)) {
+                sizeInBytes -= cached.getValue().sizeInBytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        var removed = entries.remove(key);
+        if (removed != null) {
+            sizeInBytes -= removed.sizeInBytes;
+        }
+    }
+
+    static final class Key {
+        private final String username;
+        private final DatabaseId databaseId;
+        private final String graphName;
+        private final String algorithmName;
+        private final Map<String, Object> config;
+
+        private Key(
+            String username,
+            DatabaseId databaseId,
+            String graphName,
+            String algorithmName,
+            Map<String, Object> config
+        ) {
+            this.username = username;
+            this.databaseId = databaseId;
+            this.graphName = graphName;
+            this.algorithmName = algorithmName;
+            this.config = config;
+        }
+
+        boolean sameGraphAs(Key other) {
+            return username.equals(other.username)
+                   && databaseId.equals(other.databaseId)
+                   && graphName.equals(other.graphName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sameGraphAs(key)
+                   && algorithmName.equals(key.algorithmName)
+                   && config.equals(key.config);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(username, databaseId, graphName, algorithmName, config);
+        }
+    }
+
+    private static final class Entry {
+        // the catalog owns the graph store, a cached result must not keep a dropped graph alive
+        private final WeakReference<GraphStore> graphStore;
+        private final ZonedDateTime modificationTime;
+        private final Object result;
+        private final long sizeInBytes;
+
+        Entry(GraphStore graphStore, ZonedDateTime modificationTime, Object result, long sizeInBytes) {
+            this.graphStore = new WeakReference<>(graphStore);
+            this.modificationTime = modificationTime;
+            this.result = result;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        boolean isValidFor(GraphStore currentGraphStore) {
+            return graphStore.get() == currentGraphStore
+                   && modificationTime.equals(currentGraphStore.modificationTime());
+        }
+    }
+}
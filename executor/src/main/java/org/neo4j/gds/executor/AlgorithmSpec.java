@@ -21,6 +21,7 @@ package org.neo4j.gds.executor;
 
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.executor.validation.ValidationConfiguration;
@@ -55,4 +56,30 @@ public interface AlgorithmSpec<
     default boolean releaseProgressTask() {
         return true;
     }
+
+    /**
+     * Whether results of this algorithm may be served from the {@link AlgorithmResultCache}.
+     * Only procedures without side effects that treat the algorithm result as read-only
+     * and do not access the algorithm instance should opt in.
+     */
+    default boolean isResultCacheable() {
+        return false;
+    }
+
+    /**
+     * The result as it is held by the {@link AlgorithmResultCache}.
+     * A cached result must not reference the graph it was computed on, so results that are views
+     * on the graph have to be materialized. Otherwise, the cache would keep a dropped graph alive.
+     */
+    default ALGO_RESULT cacheableResult(ALGO_RESULT result, Graph graph) {
+        return result;
+    }
+
+    /**
+     * The memory held by a cached result, computed from the arrays it consists of.
+     * Results with a size of zero are not cached.
+     */
+    default long resultSizeInBytes(ALGO_RESULT result) {
+        return 0L;
+    }
 }
@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 
 @ValueClass
 public interface ComputationResult<A extends Algorithm<ALGO_RESULT>, ALGO_RESULT, CONFIG extends AlgoBaseConfig> {
@@ -49,4 +50,13 @@ public interface ComputationResult<A extends Algorithm<ALGO_RESULT>, ALGO_RESULT
     default boolean isGraphEmpty() {
         return false;
     }
+
+    /**
+     * The memory reserved for the procedure call, released once its result has been consumed
+     * unless a consumer {@link MemoryReservation#handOff() hands it off}.
+     */
+    @Value.Default
+    default MemoryReservation memoryReservation() {
+        return MemoryReservation.unreserved(MemoryRange.empty());
+    }
 }
@@ -40,4 +40,12 @@ public interface GraphCreation<
 
     MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory);
 
+    /**
+     * Like {@link #validateMemoryEstimation(AlgorithmFactory)}, but holds on to the
+     * validated memory until the returned reservation is closed.
+     */
+    default MemoryReservation reserveMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory) {
+        return MemoryReservation.unreserved(validateMemoryEstimation(algorithmFactory));
+    }
+
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits procedure calls in FIFO order once their estimated memory fits
+ * into the currently free heap, minus the part of the memory reserved for
+ * other admitted calls that they have not allocated yet.
+ * <p>
+ * Memory an admitted call has already allocated is no longer free, so
+ * subtracting its full reservation would count it twice. The heap a call
+ * has consumed is approximated by how much the free memory shrank since
+ * the call was admitted, capped at its reservation.
+ * <p>
+ * A call that is blocked by its user's quota does not block calls of other
+ * users queued behind it. Because free heap only grows after a garbage
+ * collection, waiting calls re-check the free memory periodically in
+ * addition to being signalled when a reservation is released.
+ */
+public final class MemoryAdmissionQueue {
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private static final MemoryAdmissionQueue INSTANCE = new MemoryAdmissionQueue(DEFAULT_POLL_INTERVAL);
+
+    public static MemoryAdmissionQueue instance() {
+        return INSTANCE;
+    }
+
+    private final long pollIntervalNanos;
+    private final ReentrantLock lock;
+    private final Condition stateChanged;
+    private final Deque<Waiter> waiters;
+    private final Map<String, Long> reservedBytesPerUser;
+    private final List<Admission> admissions;
+    private long reservedBytes;
+
+    @TestOnly
+    MemoryAdmissionQueue(Duration pollInterval) {
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.lock = new ReentrantLock();
+        this.stateChanged = lock.newCondition();
+        this.waiters = new ArrayDeque<>();
+        this.reservedBytesPerUser = new HashMap<>();
+        this.admissions = new ArrayList<>();
+        this.reservedBytes = 0L;
+    }
+
+    /**
+     * Waits until the required bytes can be reserved for the given user.
+     *
+     * @param userQuota maximum number of bytes the user can have reserved at once, 0 meaning no limit
+     * @param onQueued  called once if the call could not be admitted immediately
+     * @return the reservation, or empty if the timeout elapsed before the call could be admitted
+     */
+    public Optional<MemoryReservation> admit(
+        String username,
+        MemoryRange memoryRange,
+        long requiredBytes,
+        MemoryUsageValidator.FreeMemoryInspector inspector,
+        Duration timeout,
+        long userQuota,
+        Runnable onQueued
+    ) {
+        var waiter = new Waiter(username, requiredBytes);
+        long remainingNanos = timeout.toNanos();
+        boolean queued = false;
+
+        lock.lock();
+        try {
+            waiters.addLast(waiter);
+            try {
+                while (true) {
+                    if (nextAdmissible(userQuota) == waiter) {
+                        long freeMemory = inspector.freeMemory();
+                        if (requiredBytes <= freeMemory - unallocatedReservedBytes(freeMemory)) {
+                            var admission = new Admission(username, requiredBytes, freeMemory);
+                            reserve(admission);
+                            return Optional.of(new MemoryReservation(
+                                memoryRange,
+                                requiredBytes,
+                                () -> release(admission)
+                            ));
+                        }
+                    }
+
+                    if (remainingNanos <= 0) {
+                        return Optional.empty();
+                    }
+
+                    if (!queued) {
+                        queued = true;
+                        onQueued.run();
+                    }
+
+                    long waitNanos = Math.min(remainingNanos, pollIntervalNanos);
+                    remainingNanos -= waitNanos - stateChanged.awaitNanos(waitNanos);
+                }
+            } finally {
+                waiters.remove(waiter);
+                // our departure might unblock the next waiter
+                stateChanged.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueLength() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long reservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long reservedBytes(String username) {
+        lock.lock();
+        try {
+            return reservedBytesPerUser.getOrDefault(username, 0L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Waiter nextAdmissible(long userQuota) {
+        for (Waiter waiter : waiters) {
+            if (userQuota <= 0 || reservedBytesPerUser.getOrDefault(waiter.username, 0L) + waiter.requiredBytes <= userQuota) {
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    private long unallocatedReservedBytes(long freeMemory) {
+        long unallocated = 0L;
+        for (Admission admission : admissions) {
+            long allocated = Math.max(0L, admission.freeMemoryAtAdmission - freeMemory);
+            unallocated += Math.max(0L, admission.reservedBytes - allocated);
+        }
+        return unallocated;
+    }
+
+    private void reserve(Admission admission) {
+        admissions.add(admission);
+        reservedBytes += admission.reservedBytes;
+        reservedBytesPerUser.merge(admission.username, admission.reservedBytes, Long::sum);
+    }
+
+    private void release(Admission admission) {
+        lock.lock();
+        try {
+            admissions.remove(admission);
+            reservedBytes -= admission.reservedBytes;
+            reservedBytesPerUser.computeIfPresent(admission.username, (user, userBytes) -> {
+                long remaining = userBytes - admission.reservedBytes;
+                return remaining > 0 ? remaining : null;
+            });
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Admission {
+        private final String username;
+        private final long reservedBytes;
+        private final long freeMemoryAtAdmission;
+
+        Admission(String username, long reservedBytes, long freeMemoryAtAdmission) {
+            this.username = username;
+            this.reservedBytes = reservedBytes;
+            this.freeMemoryAtAdmission = freeMemoryAtAdmission;
+        }
+    }
+
+    private static final class Waiter {
+        private final String username;
+        private final long requiredBytes;
+
+        Waiter(String username, long requiredBytes) {
+            this.username = username;
+            this.requiredBytes = requiredBytes;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Memory reserved for a procedure call by the {@link MemoryAdmissionQueue}.
+ * The reservation is held until it is closed, which admits queued calls
+ * waiting for that memory.
+ */
+public final class MemoryReservation implements AutoCloseable {
+
+    private final MemoryRange memoryRange;
+    private final long reservedBytes;
+    private final Runnable onRelease;
+    private final AtomicBoolean released;
+
+    static MemoryReservation unreserved(MemoryRange memoryRange) {
+        return new MemoryReservation(memoryRange, 0L, () -> {});
+    }
+
+    MemoryReservation(MemoryRange memoryRange, long reservedBytes, Runnable onRelease) {
+        this.memoryRange = memoryRange;
+        this.reservedBytes = reservedBytes;
+        this.onRelease = onRelease;
+        this.released = new AtomicBoolean(false);
+    }
+
+    /**
+     * The estimated memory range of the admitted procedure call.
+     */
+    public MemoryRange memoryRange() {
+        return memoryRange;
+    }
+
+    public long reservedBytes() {
+        return reservedBytes;
+    }
+
+    /**
+     * Transfers the reservation to a holder that outlives the procedure call, such as a background write job.
+     * Closing this reservation afterwards has no effect, the returned one has to be closed instead.
+     */
+    public MemoryReservation handOff() {
+        if (released.compareAndSet(false, true)) {
+            return new MemoryReservation(memoryRange, reservedBytes, onRelease);
+        }
+        return unreserved(memoryRange);
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            onRelease.run();
+        }
+    }
+}
@@ -26,11 +26,16 @@ import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.internal.MemoryEstimationSettings;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.logging.Log;
 
+import java.time.Duration;
 import java.util.StringJoiner;
 import java.util.function.Function;
 
@@ -45,10 +50,23 @@ public class MemoryUsageValidator {
 
     private final Log log;
     private final DependencyResolver dependencyResolver;
+    private final String username;
+    private final TaskRegistryFactory taskRegistryFactory;
 
     public MemoryUsageValidator(Log log, DependencyResolver dependencyResolver) {
+        this(log, dependencyResolver, "", EmptyTaskRegistryFactory.INSTANCE);
+    }
+
+    public MemoryUsageValidator(
+        Log log,
+        DependencyResolver dependencyResolver,
+        String username,
+        TaskRegistryFactory taskRegistryFactory
+    ) {
         this.log = log;
         this.dependencyResolver = dependencyResolver;
+        this.username = username;
+        this.taskRegistryFactory = taskRegistryFactory;
     }
 
     public <C extends BaseConfig> MemoryRange tryValidateMemoryUsage(C config, Function<C, MemoryTreeWithDimensions> runEstimation) {
@@ -59,6 +77,28 @@ public class MemoryUsageValidator {
         C config,
         Function<C, MemoryTreeWithDimensions> runEstimation,
         FreeMemoryInspector inspector
+    ) {
+        try (var reservation = tryReserveMemoryUsage(config, runEstimation, inspector)) {
+            return reservation.memoryRange();
+        }
+    }
+
+    /**
+     * Validates the estimated memory usage like {@link #tryValidateMemoryUsage(BaseConfig, Function)}.
+     * If the memory admission queue is enabled, calls that do not fit into the free memory wait in the
+     * queue instead of failing immediately. The returned reservation must be closed once the call finished.
+     */
+    public <C extends BaseConfig> MemoryReservation tryReserveMemoryUsage(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation
+    ) {
+        return tryReserveMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
+    }
+
+    public <C extends BaseConfig> MemoryReservation tryReserveMemoryUsage(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation,
+        FreeMemoryInspector inspector
     ) {
         MemoryTreeWithDimensions memoryTreeWithDimensions = null;
 
@@ -68,18 +108,90 @@ public class MemoryUsageValidator {
         }
 
         if (memoryTreeWithDimensions == null) {
-            return MemoryRange.empty();
+            return MemoryReservation.unreserved(MemoryRange.empty());
         }
 
+        var memoryRange = memoryTreeWithDimensions.memoryTree.memoryUsage();
+
         if (config.sudo()) {
             log.debug("Sudo mode: Won't check for available memory.");
-        } else {
-            var neo4jConfig = dependencyResolver.resolveDependency(Config.class);
-            var useMaxMemoryEstimation = neo4jConfig.get(MemoryEstimationSettings.validate_using_max_memory_estimation);
+            return MemoryReservation.unreserved(memoryRange);
+        }
+
+        var neo4jConfig = dependencyResolver.resolveDependency(Config.class);
+        var useMaxMemoryEstimation = neo4jConfig.get(MemoryEstimationSettings.validate_using_max_memory_estimation);
+        var waitTimeout = neo4jConfig.get(MemoryEstimationSettings.memory_admission_wait_timeout);
+
+        if (waitTimeout.isZero() || waitTimeout.isNegative()) {
             validateMemoryUsage(memoryTreeWithDimensions, inspector.freeMemory(), useMaxMemoryEstimation, log);
+            return MemoryReservation.unreserved(memoryRange);
+        }
+
+        var userQuota = neo4jConfig.get(MemoryEstimationSettings.memory_admission_user_quota);
+        return admit(memoryTreeWithDimensions, inspector, useMaxMemoryEstimation, waitTimeout, userQuota);
+    }
+
+    private MemoryReservation admit(
+        MemoryTreeWithDimensions memoryTreeWithDimensions,
+        FreeMemoryInspector inspector,
+        boolean useMaxMemoryEstimation,
+        Duration waitTimeout,
+        long userQuota
+    ) {
+        var memoryRange = memoryTreeWithDimensions.memoryTree.memoryUsage();
+        long requiredBytes = useMaxMemoryEstimation ? memoryRange.max : memoryRange.min;
+
+        if (userQuota > 0 && requiredBytes > userQuota) {
+            var message = formatWithLocale(
+                "Procedure was blocked since its estimated memory (%s) exceeds the memory admission quota per user (%s).",
+                MemoryUsage.humanReadable(requiredBytes),
+                MemoryUsage.humanReadable(userQuota)
+            );
+            log.info(message);
+            throw new IllegalStateException(message);
+        }
+
+        // calls that cannot fit into the heap at all must not wait for the full timeout
+        if (requiredBytes > Runtime.getRuntime().maxMemory()) {
+            validateMemoryUsage(memoryTreeWithDimensions, inspector.freeMemory(), useMaxMemoryEstimation, log);
+        }
+
+        var admissionTask = Tasks.leaf(formatWithLocale(
+            "Memory admission queue: waiting for %s",
+            MemoryUsage.humanReadable(requiredBytes)
+        ));
+        var taskRegistry = taskRegistryFactory.newInstance(new JobId());
+
+        try {
+            var reservation = MemoryAdmissionQueue.instance().admit(
+                username,
+                memoryRange,
+                requiredBytes,
+                inspector,
+                waitTimeout,
+                userQuota,
+                () -> {
+                    admissionTask.start();
+                    taskRegistry.registerTask(admissionTask);
+                }
+            );
+
+            if (reservation.isPresent()) {
+                return reservation.get();
+            }
+        } finally {
+            if (taskRegistry.containsTask(admissionTask)) {
+                taskRegistry.unregisterTask();
+            }
         }
 
-        return memoryTreeWithDimensions.memoryTree.memoryUsage();
+        log.info(formatWithLocale(
+            "Procedure did not get admitted by the memory admission queue within %d ms.",
+            waitTimeout.toMillis()
+        ));
+        validateMemoryUsage(memoryTreeWithDimensions, inspector.freeMemory(), useMaxMemoryEstimation, log);
+        // the memory became available just after the timeout elapsed
+        return MemoryReservation.unreserved(memoryRange);
     }
 
     static void validateMemoryUsage(
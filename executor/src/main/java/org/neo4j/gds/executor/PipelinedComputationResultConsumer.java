@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.AlgoBaseConfig;
+
+/**
+ * A consumer that may start consuming partial results while the algorithm is still computing.
+ * The same instance is used for a single procedure call, {@link #consume} finishes what
+ * {@link #beforeCompute} started.
+ */
+public interface PipelinedComputationResultConsumer<ALGO extends Algorithm<ALGO_RESULT>, ALGO_RESULT, CONFIG extends AlgoBaseConfig, RESULT>
+    extends ComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, RESULT> {
+
+    /**
+     * Called with the configured algorithm right before it computes.
+     */
+    void beforeCompute(ALGO algorithm, Graph graph, CONFIG config, ExecutionContext executionContext);
+
+    /**
+     * Called instead of {@link #consume} if the computation failed.
+     */
+    void computeFailed();
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.executor;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.AlgorithmFactory;
 import org.neo4j.gds.GraphAlgorithmFactory;
@@ -28,9 +29,16 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.internal.AlgorithmResultCacheSettings;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class ProcedureExecutor<
     ALGO extends Algorithm<ALGO_RESULT>,
@@ -39,6 +47,10 @@ public class ProcedureExecutor<
     RESULT
 > {
 
+    static final String COALESCED_MESSAGE = "Request was coalesced with an identical in-flight request and shares its result.";
+
+    private static final SingleFlight<List<Object>, Object> IN_FLIGHT = new SingleFlight<>();
+
     private final AlgorithmSpec<ALGO, ALGO_RESULT, CONFIG, RESULT, ?> algoSpec;
     private final ExecutorSpec<ALGO, ALGO_RESULT, CONFIG> executorSpec;
     private final ExecutionContext executionContext;
@@ -74,49 +86,184 @@ public class ProcedureExecutor<
         executionContext.algorithmMetaDataSetter().set(config);
 
         var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
+        var computationResultConsumer = algoSpec.computationResultConsumer();
+
+        // queued calls are admitted once their estimated memory is available,
+        // the reservation is held until the computation result is consumed
+        var memoryReservation = graphCreation.reserveMemoryEstimation(algoSpec.algorithmFactory());
+        builder.memoryReservation(memoryReservation);
+        try {
+            var memoryEstimationInBytes = memoryReservation.memoryRange();
+
+            GraphStore graphStore;
+            Graph graph;
 
-        var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory());
+            try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
+                var graphProjectConfig = graphCreation.graphProjectConfig();
+                var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
+                validator.validateConfigsBeforeLoad(graphProjectConfig, config);
+                graphStore = graphCreation.graphStore();
+                validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
+                graph = graphCreation.createGraph(graphStore);
+            }
 
-        GraphStore graphStore;
-        Graph graph;
+            // a result is only as fresh as the graph it was computed on
+            var modificationTime = graphStore.modificationTime();
 
-        try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
-            var graphProjectConfig = graphCreation.graphProjectConfig();
-            var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
-            validator.validateConfigsBeforeLoad(graphProjectConfig, config);
-            graphStore = graphCreation.graphStore();
-            validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
-            graph = graphCreation.createGraph(graphStore);
-        }
+            if (graph.isEmpty()) {
+                var emptyComputationResult = builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(null)
+                    .algorithm(null)
+                    .build();
+                return releaseWhenConsumed(
+                    memoryReservation,
+                    computationResultConsumer.consume(emptyComputationResult, executionContext)
+                );
+            }
+
+            long resultCacheMaxSize = resultCacheMaxSize();
+            var resultCacheKey = resultCacheMaxSize > 0
+                ? AlgorithmResultCache.key(
+                    executionContext.username(),
+                    executionContext.databaseId(),
+                    graphName,
+                    algoSpec.name(),
+                    config
+                )
+                : null;
+
+            if (resultCacheKey != null) {
+                var cachedResult = AlgorithmResultCache.instance().get(resultCacheKey, graphStore);
+                if (cachedResult.isPresent()) {
+                    @SuppressWarnings("unchecked")
+                    var result = (ALGO_RESULT) cachedResult.get();
+                    var computationResult = builder
+                        .graph(graph)
+                        .graphStore(graphStore)
+                        .algorithm(null)
+                        .result(result)
+                        .config(config)
+                        .computeMillis(0)
+                        .build();
+                    return releaseWhenConsumed(
+                        memoryReservation,
+                        computationResultConsumer.consume(computationResult, executionContext)
+                    );
+                }
+            }
+
+            // identical concurrent calls on the same graph wait for the first one
+            // and share its result instead of computing it again
+            var algorithm = new AtomicReference<ALGO>();
+            Supplier<ALGO_RESULT> computation = () -> {
+                ALGO algo = newAlgorithm(graph, graphStore, config);
+                algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+                algorithm.set(algo);
+                if (!(computationResultConsumer instanceof PipelinedComputationResultConsumer)) {
+                    return executeAlgorithm(builder, algo);
+                }
+                var pipelinedConsumer = (PipelinedComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, RESULT>) computationResultConsumer;
+                pipelinedConsumer.beforeCompute(algo, graph, config, executionContext);
+                try {
+                    return executeAlgorithm(builder, algo);
+                } catch (RuntimeException | Error e) {
+                    pipelinedConsumer.computeFailed();
+                    throw e;
+                }
+            };
+
+            ALGO_RESULT result;
+            if (algoSpec.isResultCacheable()) {
+                var flightKey = List.<Object>of(
+                    AlgorithmResultCache.key(
+                        executionContext.username(),
+                        executionContext.databaseId(),
+                        graphName,
+                        algoSpec.name(),
+                        config
+                    ),
+                    graphStore,
+                    modificationTime
+                );
+                @SuppressWarnings("unchecked")
+                var flight = (SingleFlight.Result<ALGO_RESULT>) (SingleFlight.Result<?>) IN_FLIGHT.run(
+                    flightKey,
+                    executionContext.terminationMonitor(),
+                    computation::get
+                );
+                result = flight.value();
+                if (flight.coalesced()) {
+                    reportCoalesced();
+                    builder.computeMillis(0);
+                }
+            } else {
+                result = computation.get();
+            }
+
+            if (resultCacheKey != null && result != null) {
+                var cacheableResult = algoSpec.cacheableResult(result, graph);
+                AlgorithmResultCache.instance().put(
+                    resultCacheKey,
+                    graphStore,
+                    modificationTime,
+                    cacheableResult,
+                    algoSpec.resultSizeInBytes(cacheableResult),
+                    resultCacheMaxSize
+                );
+            }
 
-        if (graph.isEmpty()) {
-            var emptyComputationResult = builder
-                .isGraphEmpty(true)
+            var computationResult = builder
                 .graph(graph)
                 .graphStore(graphStore)
+                .algorithm(algorithm.get())
+                .result(result)
                 .config(config)
-                .computeMillis(0)
-                .result(null)
-                .algorithm(null)
                 .build();
-            return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
-        }
 
-        ALGO algo = newAlgorithm(graph, graphStore, config);
-
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+            return releaseWhenConsumed(
+                memoryReservation,
+                computationResultConsumer.consume(computationResult, executionContext)
+            );
+        } catch (RuntimeException | Error e) {
+            memoryReservation.close();
+            throw e;
+        }
+    }
 
-        ALGO_RESULT result = executeAlgorithm(builder, algo);
+    /**
+     * Stream results are consumed lazily after this executor returns,
+     * so their reservation is only released once the stream is closed.
+     */
+    @SuppressWarnings("unchecked")
+    private RESULT releaseWhenConsumed(MemoryReservation memoryReservation, RESULT result) {
+        if (result instanceof Stream) {
+            return (RESULT) ((Stream<?>) result).onClose(memoryReservation::close);
+        }
+        memoryReservation.close();
+        return result;
+    }
 
-        var computationResult = builder
-            .graph(graph)
-            .graphStore(graphStore)
-            .algorithm(algo)
-            .result(result)
-            .config(config)
-            .build();
+    private long resultCacheMaxSize() {
+        var dependencyResolver = executionContext.dependencyResolver();
+        if (!algoSpec.isResultCacheable() || !dependencyResolver.containsDependency(Config.class)) {
+            return 0L;
+        }
+        return dependencyResolver
+            .resolveDependency(Config.class)
+            .get(AlgorithmResultCacheSettings.result_cache_max_size);
+    }
 
-        return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+    private void reportCoalesced() {
+        executionContext.log().info(formatWithLocale("%s: %s", algoSpec.name(), COALESCED_MESSAGE));
+        executionContext
+            .userLogRegistryFactory()
+            .newInstance()
+            .addWarningToLog(Tasks.leaf(algoSpec.name()), COALESCED_MESSAGE);
     }
 
     private ALGO_RESULT executeAlgorithm(
@@ -57,7 +57,12 @@ public class ProcedureExecutorSpec<
                 executionContext.databaseId(),
                 executionContext.isGdsAdmin()
             ),
-            new MemoryUsageValidator(executionContext.log(), executionContext.dependencyResolver())
+            new MemoryUsageValidator(
+                executionContext.log(),
+                executionContext.dependencyResolver(),
+                executionContext.username(),
+                executionContext.taskRegistryFactory()
+            )
         );
     }
 }
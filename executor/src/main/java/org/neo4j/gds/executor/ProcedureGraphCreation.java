@@ -83,4 +83,13 @@ public class ProcedureGraphCreation<
         );
         return memoryUsageValidator.tryValidateMemoryUsage(config, procedureMemoryEstimation::memoryEstimation);
     }
+
+    @Override
+    public MemoryReservation reserveMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory) {
+        var procedureMemoryEstimation = new ProcedureMemoryEstimation<>(
+            graphStoreLoader.graphDimensions(),
+            algorithmFactory
+        );
+        return memoryUsageValidator.tryReserveMemoryUsage(config, procedureMemoryEstimation::memoryEstimation);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.TerminationMonitor;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.api.exceptions.Status;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent computations.
+ * <p>
+ * The first caller for a key runs the computation, callers arriving with the
+ * same key while it is still running wait for it and share its result or its
+ * failure. The key is forgotten as soon as the computation finished, so later
+ * calls compute again.
+ * <p>
+ * If the first caller is terminated, its computation is not a failure of the
+ * request itself. The waiting callers then start over and one of them computes.
+ */
+public final class SingleFlight<K, V> {
+
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 100;
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight;
+    private final long pollIntervalMillis;
+
+    public SingleFlight() {
+        this(DEFAULT_POLL_INTERVAL_MILLIS);
+    }
+
+    @TestOnly
+    SingleFlight(long pollIntervalMillis) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    /**
+     * Runs the computation unless an identical one is in flight.
+     *
+     * @param terminationMonitor checked while waiting for an in-flight computation,
+     *                           and used to tell a terminated computation from a failed one
+     * @return the computed value, flagged as coalesced if it was computed by another caller
+     */
+    public Result<V> run(K key, TerminationMonitor terminationMonitor, Supplier<V> computation) {
+        while (true) {
+            var future = new CompletableFuture<V>();
+            var existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                return new Result<>(compute(key, future, terminationMonitor, computation), false);
+            }
+            try {
+                return new Result<>(await(existing, terminationMonitor), true);
+            } catch (CancellationException e) {
+                // the computing caller was terminated, try again
+            }
+        }
+    }
+
+    private V compute(K key, CompletableFuture<V> future, TerminationMonitor terminationMonitor, Supplier<V> computation) {
+        try {
+            var value = computation.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            if (e instanceof TransactionTerminatedException || terminationMonitor.isTerminated()) {
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future, TerminationMonitor terminationMonitor) {
+        while (true) {
+            if (terminationMonitor.isTerminated()) {
+                throw new TransactionTerminatedException(Status.Transaction.Terminated);
+            }
+            try {
+                return future.get(pollIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // keep waiting
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException | CompletionException e) {
+                var cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    public static final class Result<V> {
+        private final V value;
+        private final boolean coalesced;
+
+        private Result(V value, boolean coalesced) {
+            this.value = value;
+            this.coalesced = coalesced;
+        }
+
+        public V value() {
+            return value;
+        }
+
+        public boolean coalesced() {
+            return coalesced;
+        }
+    }
+}
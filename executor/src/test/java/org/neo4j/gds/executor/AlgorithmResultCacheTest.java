@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlgorithmResultCacheTest {
+
+    private static final String GRAPH = "(a)-->(b)";
+
+    @Test
+    void shouldReturnCachedResultForSameGraphAndConfig() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+
+        cache.put(key(Map.of("bar", 42)), graphStore, graphStore.modificationTime(), "result", 10, 100);
+
+        assertThat(cache.get(key(Map.of("bar", 42)), graphStore)).contains("result");
+        assertThat(cache.get(key(Map.of("bar", 1337)), graphStore)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreJobId() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+
+        cache.put(key(Map.of("bar", 42, "jobId", "first")), graphStore, graphStore.modificationTime(), "result", 10, 100);
+
+        assertThat(cache.get(key(Map.of("bar", 42, "jobId", "second")), graphStore)).contains("result");
+    }
+
+    @Test
+    void shouldInvalidateEntriesOfReplacedGraphStore() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var reprojectedGraphStore = GdlFactory.of(GRAPH).build();
+
+        cache.put(key(Map.of("bar", 42)), graphStore, graphStore.modificationTime(), "result", 10, 100);
+
+        assertThat(cache.get(key(Map.of("bar", 42)), reprojectedGraphStore)).isEmpty();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.sizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenExceedingBudget() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+
+        cache.put(key(Map.of("bar", 1)), graphStore, graphStore.modificationTime(), "first", 40, 100);
+        cache.put(key(Map.of("bar", 2)), graphStore, graphStore.modificationTime(), "second", 40, 100);
+        // touch the first entry, so that the second one is the least recently used
+        assertThat(cache.get(key(Map.of("bar", 1)), graphStore)).contains("first");
+
+        cache.put(key(Map.of("bar", 3)), graphStore, graphStore.modificationTime(), "third", 40, 100);
+
+        assertThat(cache.get(key(Map.of("bar", 1)), graphStore)).contains("first");
+        assertThat(cache.get(key(Map.of("bar", 2)), graphStore)).isEmpty();
+        assertThat(cache.get(key(Map.of("bar", 3)), graphStore)).contains("third");
+        assertThat(cache.sizeInBytes()).isEqualTo(80);
+    }
+
+    @Test
+    void shouldNotCacheEntriesLargerThanBudget() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+
+        cache.put(key(Map.of("bar", 42)), graphStore, graphStore.modificationTime(), "result", 101, 100);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotCacheResultsComputedWhileTheGraphWasModified() {
+        var cache = new AlgorithmResultCache();
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var modificationTimeBeforeCompute = graphStore.modificationTime().minusSeconds(1);
+
+        cache.put(key(Map.of("bar", 42)), graphStore, modificationTimeBeforeCompute, "result", 10, 100);
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get(key(Map.of("bar", 42)), graphStore)).isEmpty();
+    }
+
+    private static AlgorithmResultCache.Key key(Map<String, Object> config) {
+        return AlgorithmResultCache.key(
+            "user",
+            DatabaseId.from("neo4j"),
+            "graph",
+            "Foo",
+            new FooConfigImpl(CypherMapWrapper.create(config))
+        );
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryAdmissionQueueTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    @Test
+    void shouldAdmitImmediatelyIfMemoryIsAvailable() {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+
+        var reservation = queue.admit("alice", MemoryRange.of(42), 42, () -> 100, Duration.ZERO, 0, () -> {});
+
+        assertThat(reservation).isPresent();
+        assertThat(queue.reservedBytes()).isEqualTo(42);
+        assertThat(queue.reservedBytes("alice")).isEqualTo(42);
+
+        reservation.get().close();
+        assertThat(queue.reservedBytes()).isEqualTo(0);
+        assertThat(queue.reservedBytes("alice")).isEqualTo(0);
+    }
+
+    @Test
+    void shouldTimeOutIfMemoryDoesNotBecomeAvailable() {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+
+        var reservation = queue.admit("alice", MemoryRange.of(42), 42, () -> 21, Duration.ofMillis(50), 0, () -> {});
+
+        assertThat(reservation).isEmpty();
+        assertThat(queue.queueLength()).isEqualTo(0);
+        assertThat(queue.reservedBytes()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAdmitQueuedCallOnceMemoryIsReleased() throws Exception {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+
+        var first = queue.admit("alice", MemoryRange.of(60), 60, () -> 100, Duration.ZERO, 0, () -> {}).orElseThrow();
+
+        var queued = new CountDownLatch(1);
+        var second = CompletableFuture.supplyAsync(() -> queue.admit(
+            "bob",
+            MemoryRange.of(60),
+            60,
+            () -> 100,
+            Duration.ofSeconds(10),
+            0,
+            queued::countDown
+        ));
+
+        assertThat(queued.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.queueLength()).isEqualTo(1);
+
+        first.close();
+
+        var secondReservation = second.get(10, TimeUnit.SECONDS);
+        assertThat(secondReservation).isPresent();
+        assertThat(queue.reservedBytes("bob")).isEqualTo(60);
+        secondReservation.get().close();
+    }
+
+    @Test
+    void shouldNotBlockOtherUsersWhenUserQuotaIsExhausted() throws Exception {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+        long userQuota = 50;
+
+        var aliceFirst = queue.admit("alice", MemoryRange.of(40), 40, () -> 1000, Duration.ZERO, userQuota, () -> {})
+            .orElseThrow();
+
+        var aliceQueued = new CountDownLatch(1);
+        var aliceSecond = CompletableFuture.supplyAsync(() -> queue.admit(
+            "alice",
+            MemoryRange.of(40),
+            40,
+            () -> 1000,
+            Duration.ofSeconds(10),
+            userQuota,
+            aliceQueued::countDown
+        ));
+        assertThat(aliceQueued.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var bob = queue.admit("bob", MemoryRange.of(40), 40, () -> 1000, Duration.ofSeconds(10), userQuota, () -> {});
+        assertThat(bob).isPresent();
+        assertThat(aliceSecond).isNotDone();
+
+        aliceFirst.close();
+        var aliceSecondReservation = aliceSecond.get(10, TimeUnit.SECONDS);
+        assertThat(aliceSecondReservation).isPresent();
+
+        aliceSecondReservation.get().close();
+        bob.get().close();
+        assertThat(queue.reservedBytes()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReleaseReservationOnlyOnce() {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+
+        var first = queue.admit("alice", MemoryRange.of(10), 10, () -> 100, Duration.ZERO, 0, () -> {}).orElseThrow();
+        var second = queue.admit("alice", MemoryRange.of(10), 10, () -> 100, Duration.ZERO, 0, () -> {}).orElseThrow();
+
+        first.close();
+        first.close();
+
+        assertThat(queue.reservedBytes()).isEqualTo(10);
+        second.close();
+    }
+
+    @Test
+    void shouldKeepHandedOffReservation() {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+
+        var reservation = queue.admit("alice", MemoryRange.of(10), 10, () -> 100, Duration.ZERO, 0, () -> {}).orElseThrow();
+        var handedOff = reservation.handOff();
+
+        reservation.close();
+        assertThat(queue.reservedBytes("alice")).isEqualTo(10);
+        assertThat(reservation.handOff().reservedBytes()).isEqualTo(0);
+
+        handedOff.close();
+        assertThat(queue.reservedBytes("alice")).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotCountAllocatedReservedMemoryTwice() {
+        var queue = new MemoryAdmissionQueue(POLL_INTERVAL);
+        var freeMemory = new AtomicLong(100);
+
+        var first = queue.admit("alice", MemoryRange.of(60), 60, freeMemory::get, Duration.ZERO, 0, () -> {})
+            .orElseThrow();
+
+        // the first call has not allocated anything yet
+        assertThat(queue.admit("bob", MemoryRange.of(30), 30, freeMemory::get, Duration.ZERO, 0, () -> {})).isEmpty();
+
+        // the first call allocated 20 of its 60 bytes, 40 are still outstanding
+        freeMemory.set(80);
+        assertThat(queue.admit("bob", MemoryRange.of(50), 50, freeMemory::get, Duration.ZERO, 0, () -> {})).isEmpty();
+        var second = queue.admit("bob", MemoryRange.of(40), 40, freeMemory::get, Duration.ZERO, 0, () -> {});
+        assertThat(second).isPresent();
+
+        second.get().close();
+        first.close();
+        assertThat(queue.reservedBytes()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.TerminationMonitor;
+import org.neo4j.graphdb.TransactionTerminatedException;
+import org.neo4j.kernel.api.exceptions.Status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    @Test
+    void shouldComputeIfNothingIsInFlight() {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+
+        var result = singleFlight.run("key", TerminationMonitor.EMPTY, () -> 42);
+
+        assertThat(result.value()).isEqualTo(42);
+        assertThat(result.coalesced()).isFalse();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldShareResultOfInFlightComputation() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+        var computations = new AtomicInteger();
+        var leaderStarted = new CountDownLatch(1);
+        var releaseLeader = new CountDownLatch(1);
+
+        var leader = CompletableFuture.supplyAsync(() -> singleFlight.run("key", TerminationMonitor.EMPTY, () -> {
+            computations.incrementAndGet();
+            leaderStarted.countDown();
+            awaitUninterruptibly(releaseLeader);
+            return 42;
+        }));
+
+        assertThat(leaderStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the termination monitor is only consulted while waiting for an in-flight computation
+        var followerWaiting = new CountDownLatch(1);
+        TerminationMonitor followerMonitor = () -> {
+            followerWaiting.countDown();
+            return false;
+        };
+        var follower = CompletableFuture.supplyAsync(() -> singleFlight.run("key", followerMonitor, () -> {
+            computations.incrementAndGet();
+            return 1337;
+        }));
+
+        assertThat(followerWaiting.await(10, TimeUnit.SECONDS)).isTrue();
+        releaseLeader.countDown();
+
+        var leaderResult = leader.get(10, TimeUnit.SECONDS);
+        var followerResult = follower.get(10, TimeUnit.SECONDS);
+
+        assertThat(leaderResult.value()).isEqualTo(42);
+        assertThat(leaderResult.coalesced()).isFalse();
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(followerResult.value()).isEqualTo(42);
+        assertThat(followerResult.coalesced()).isTrue();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldComputeDifferentKeysIndependently() {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+
+        var first = singleFlight.run("first", TerminationMonitor.EMPTY, () -> 1);
+        var second = singleFlight.run("second", TerminationMonitor.EMPTY, () -> 2);
+
+        assertThat(first.value()).isEqualTo(1);
+        assertThat(second.value()).isEqualTo(2);
+        assertThat(second.coalesced()).isFalse();
+    }
+
+    @Test
+    void shouldPropagateFailureToFollowers() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+        var leaderStarted = new CountDownLatch(1);
+        var releaseLeader = new CountDownLatch(1);
+
+        var leader = CompletableFuture.runAsync(() -> singleFlight.run("key", TerminationMonitor.EMPTY, () -> {
+            leaderStarted.countDown();
+            awaitUninterruptibly(releaseLeader);
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThat(leaderStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var followerWaiting = new CountDownLatch(1);
+        TerminationMonitor followerMonitor = () -> {
+            followerWaiting.countDown();
+            return false;
+        };
+        var follower = CompletableFuture.supplyAsync(() -> singleFlight.run("key", followerMonitor, () -> 1));
+
+        assertThat(followerWaiting.await(10, TimeUnit.SECONDS)).isTrue();
+        releaseLeader.countDown();
+
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS)).hasRootCauseMessage("boom");
+        assertThatThrownBy(() -> follower.get(10, TimeUnit.SECONDS)).hasRootCauseMessage("boom");
+        assertThat(singleFlight.inFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldStopWaitingWhenTerminated() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+        var leaderStarted = new CountDownLatch(1);
+        var releaseLeader = new CountDownLatch(1);
+
+        var leader = CompletableFuture.supplyAsync(() -> singleFlight.run("key", TerminationMonitor.EMPTY, () -> {
+            leaderStarted.countDown();
+            awaitUninterruptibly(releaseLeader);
+            return 42;
+        }));
+
+        assertThat(leaderStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> singleFlight.run("key", () -> true, () -> 1337))
+            .isInstanceOf(TransactionTerminatedException.class);
+
+        releaseLeader.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS).value()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRetryWhenTheLeaderWasTerminated() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>(POLL_INTERVAL_MILLIS);
+        var leaderStarted = new CountDownLatch(1);
+        var releaseLeader = new CountDownLatch(1);
+        var leaderTerminated = new AtomicBoolean(false);
+
+        var leader = CompletableFuture.runAsync(() -> singleFlight.run("key", leaderTerminated::get, () -> {
+            leaderStarted.countDown();
+            awaitUninterruptibly(releaseLeader);
+            leaderTerminated.set(true);
+            throw new TransactionTerminatedException(Status.Transaction.Terminated);
+        }));
+
+        assertThat(leaderStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var followerWaiting = new CountDownLatch(1);
+        TerminationMonitor followerMonitor = () -> {
+            followerWaiting.countDown();
+            return false;
+        };
+        var follower = CompletableFuture.supplyAsync(() -> singleFlight.run("key", followerMonitor, () -> 1337));
+
+        assertThat(followerWaiting.await(10, TimeUnit.SECONDS)).isTrue();
+        releaseLeader.countDown();
+
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(TransactionTerminatedException.class);
+
+        // the follower computes on its own instead of failing with the termination of the leader
+        var followerResult = follower.get(10, TimeUnit.SECONDS);
+        assertThat(followerResult.value()).isEqualTo(1337);
+        assertThat(followerResult.coalesced()).isFalse();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(0);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
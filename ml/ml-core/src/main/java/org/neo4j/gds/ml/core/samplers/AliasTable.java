@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Alias tables (Vose's method) for drawing a neighbor of a node with a probability
+ * proportional to the relationship weight in constant time, instead of scanning the
+ * adjacency list on every draw.
+ *
+ * The tables of all nodes are stored back to back in the order of the adjacency lists.
+ * For every relationship, one long holds its target and another long packs the acceptance
+ * threshold (upper 32 bits) and the position of the alias within the adjacency list (lower 32 bits).
+ */
+public final class AliasTable {
+
+    public static final long NO_NEIGHBOR = -1L;
+
+    private static final long LOWER_BITS = 0xFFFF_FFFFL;
+    // Thresholds are fractions of 2^32. A bucket without alias points to itself,
+    // so the tiny chance of rejecting at the maximum threshold does not matter.
+    private static final long MAX_THRESHOLD = LOWER_BITS;
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+    private final HugeLongArray buckets;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(AliasTable.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension("targets", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension("buckets", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .build();
+    }
+
+    /**
+     * Builds the alias tables for all nodes of the given graph.
+     * Graphs without relationship property are sampled uniformly.
+     */
+    public static AliasTable create(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += graph.degree(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+
+        var targets = HugeLongArray.newArray(offset);
+        var buckets = HugeLongArray.newArray(offset);
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> new BuildTask(graph.concurrentCopy(), partition, offsets, targets, buckets, progressTracker),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        return new AliasTable(offsets, targets, buckets);
+    }
+
+    private AliasTable(HugeLongArray offsets, HugeLongArray targets, HugeLongArray buckets) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Draws a neighbor of the given node, or returns {@link #NO_NEIGHBOR} if the node has none.
+     */
+    public long sample(long nodeId, SplittableRandom random) {
+        long offset = offsets.get(nodeId);
+        long degree = offsets.get(nodeId + 1) - offset;
+        if (degree == 0) {
+            return NO_NEIGHBOR;
+        }
+
+        long index = offset + random.nextLong(degree);
+        long bucket = buckets.get(index);
+        if (Integer.toUnsignedLong(random.nextInt()) < (bucket >>> 32)) {
+            return targets.get(index);
+        }
+        return targets.get(offset + (bucket & LOWER_BITS));
+    }
+
+    private static final class BuildTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final Partition partition;
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+        private final HugeLongArray buckets;
+        private final ProgressTracker progressTracker;
+
+        // scratch space, grown to the largest degree in the partition
+        private double[] probabilities;
+        private int[] small;
+        private int[] large;
+
+        private long offset;
+        private int index;
+        private double totalWeight;
+
+        BuildTask(
+            Graph graph,
+            Partition partition,
+            HugeLongArray offsets,
+            HugeLongArray targets,
+            HugeLongArray buckets,
+            ProgressTracker progressTracker
+        ) {
+            this.graph = graph;
+            this.partition = partition;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.buckets = buckets;
+            this.progressTracker = progressTracker;
+            this.probabilities = new double[0];
+            this.small = new int[0];
+            this.large = new int[0];
+        }
+
+        @Override
+        public void run() {
+            partition.consume(this::build);
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        private void build(long nodeId) {
+            int degree = graph.degree(nodeId);
+            if (degree == 0) {
+                return;
+            }
+            if (probabilities.length < degree) {
+                probabilities = new double[degree];
+                small = new int[degree];
+                large = new int[degree];
+            }
+
+            offset = offsets.get(nodeId);
+            index = 0;
+            totalWeight = 0.0D;
+            graph.forEachRelationship(nodeId, 1.0D, this);
+
+            if (totalWeight > 0.0D) {
+                double scale = degree / totalWeight;
+                for (int i = 0; i < degree; i++) {
+                    probabilities[i] *= scale;
+                }
+            } else {
+                // Without any weight, all neighbors are equally likely.
+                Arrays.fill(probabilities, 0, degree, 1.0D);
+            }
+
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < degree; i++) {
+                if (probabilities[i] < 1.0D) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                int lesser = small[--smallCount];
+                int greater = large[--largeCount];
+                buckets.set(offset + lesser, bucket(probabilities[lesser], greater));
+
+                probabilities[greater] = (probabilities[greater] + probabilities[lesser]) - 1.0D;
+                if (probabilities[greater] < 1.0D) {
+                    small[smallCount++] = greater;
+                } else {
+                    large[largeCount++] = greater;
+                }
+            }
+
+            // Whatever remains is full, up to rounding errors.
+            while (largeCount > 0) {
+                int full = large[--largeCount];
+                buckets.set(offset + full, bucket(1.0D, full));
+            }
+            while (smallCount > 0) {
+                int full = small[--smallCount];
+                buckets.set(offset + full, bucket(1.0D, full));
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            targets.set(offset + index, targetNodeId);
+            probabilities[index++] = property;
+            totalWeight += property;
+            return true;
+        }
+
+        private static long bucket(double probability, int alias) {
+            long threshold = Math.min((long) (probability * 0x1p32), MAX_THRESHOLD);
+            return (threshold << 32) | alias;
+        }
+    }
+}
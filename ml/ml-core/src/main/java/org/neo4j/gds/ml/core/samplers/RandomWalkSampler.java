@@ -21,9 +21,11 @@ package org.neo4j.gds.ml.core.samplers;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 
+import java.util.Arrays;
 import java.util.SplittableRandom;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
@@ -44,6 +46,8 @@ public class RandomWalkSampler {
     private final double normalizedSameDistanceProbability;
     private final double normalizedInOutProbability;
     private final CumulativeWeightSupplier cumulativeWeightSupplier;
+    // draws neighbors in constant time, if present
+    private final @Nullable AliasTable aliasTable;
 
     private final long randomSeed;
 
@@ -55,8 +59,31 @@ public class RandomWalkSampler {
         double normalizedInOutProbability,
         Graph graph,
         long randomSeed
+    ) {
+        this(
+            cumulativeWeightSupplier,
+            null,
+            walkLength,
+            normalizedReturnProbability,
+            normalizedSameDistanceProbability,
+            normalizedInOutProbability,
+            graph,
+            randomSeed
+        );
+    }
+
+    public RandomWalkSampler(
+        CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable AliasTable aliasTable,
+        int walkLength,
+        double normalizedReturnProbability,
+        double normalizedSameDistanceProbability,
+        double normalizedInOutProbability,
+        Graph graph,
+        long randomSeed
     ) {
         this.randomSeed = randomSeed;
+        this.aliasTable = aliasTable;
         this.cumulativeWeightSupplier = cumulativeWeightSupplier;
         this.graph = graph;
         this.walkLength = walkLength;
@@ -79,25 +106,30 @@ public class RandomWalkSampler {
 
     public long[] walk(long startNode) {
         var walk = new long[walkLength];
-        walk[0] = startNode;
+        int length = walk(startNode, walk);
+        return length == walkLength ? walk : Arrays.copyOf(walk, length);
+    }
+
+    /**
+     * Writes a walk from the given start node into the buffer, which needs to hold
+     * at least {@code walkLength} nodes, and returns the number of nodes in the walk.
+     */
+    public int walk(long startNode, long[] buffer) {
+        buffer[0] = startNode;
 
-        walk[1] = randomNeighbour(startNode);
-        if (walk[1] == NO_MORE_NODES) {
-            return new long[]{walk[0]};
+        buffer[1] = randomNeighbour(startNode);
+        if (buffer[1] == NO_MORE_NODES) {
+            return 1;
         }
 
         for (int i = 2; i < walkLength; i++) {
-            var nextNode = walkOneStep(walk[i - 2], walk[i - 1]);
+            var nextNode = walkOneStep(buffer[i - 2], buffer[i - 1]);
             if (nextNode == NO_MORE_NODES) {
-                var shortenedWalk = new long[i];
-                System.arraycopy(walk, 0, shortenedWalk, 0, shortenedWalk.length);
-                walk = shortenedWalk;
-                break;
-            } else {
-                walk[i] = nextNode;
+                return i;
             }
+            buffer[i] = nextNode;
         }
-        return walk;
+        return walkLength;
     }
 
     private long walkOneStep(long previousNode, long currentNode) {
@@ -157,6 +189,10 @@ public class RandomWalkSampler {
     }
 
     private long randomNeighbour(long node) {
+        if (aliasTable != null) {
+            return aliasTable.sample(node, random);
+        }
+
         var cumulativeWeight = cumulativeWeightSupplier.forNode(node);
         var randomWeight = cumulativeWeight * random.nextDouble();
 
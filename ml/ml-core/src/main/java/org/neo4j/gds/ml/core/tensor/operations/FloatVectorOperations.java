@@ -41,6 +41,144 @@ public final class FloatVectorOperations {
         }
     }
 
+    /**
+     * Adds {@code weight * rhs[rhsOffset..rhsOffset + length)} to {@code lhs[lhsOffset..lhsOffset + length)}.
+     * The loop is kept free of branches and bounds so that the JIT can vectorize it.
+     */
+    public static void addWeightedInPlace(
+        float[] lhs,
+        int lhsOffset,
+        float[] rhs,
+        int rhsOffset,
+        int length,
+        float weight
+    ) {
+        for (int i = 0; i < length; i++) {
+            lhs[lhsOffset + i] += weight * rhs[rhsOffset + i];
+        }
+    }
+
+    /**
+     * Inner product of {@code lhs[lhsOffset..lhsOffset + length)} and {@code rhs[rhsOffset..rhsOffset + length)}.
+     * Uses four independent accumulators to break the dependency chain of a single running sum.
+     */
+    public static float innerProduct(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, int length) {
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            sum0 += lhs[lhsOffset + i] * rhs[rhsOffset + i];
+            sum1 += lhs[lhsOffset + i + 1] * rhs[rhsOffset + i + 1];
+            sum2 += lhs[lhsOffset + i + 2] * rhs[rhsOffset + i + 2];
+            sum3 += lhs[lhsOffset + i + 3] * rhs[rhsOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += lhs[lhsOffset + i] * rhs[rhsOffset + i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Inner products of {@code row[rowOffset..rowOffset + length)} with {@code count} rows, each given by a page and an offset,
+     * stored in {@code result[0..count)}.
+     * The rows are processed in blocks of four, so each element of {@code row} is loaded once per block.
+     */
+    public static void innerProducts(
+        float[] row,
+        int rowOffset,
+        float[][] pages,
+        int[] offsets,
+        int count,
+        int length,
+        float[] result
+    ) {
+        int j = 0;
+        for (; j + 3 < count; j += 4) {
+            float[] page0 = pages[j];
+            float[] page1 = pages[j + 1];
+            float[] page2 = pages[j + 2];
+            float[] page3 = pages[j + 3];
+            int offset0 = offsets[j];
+            int offset1 = offsets[j + 1];
+            int offset2 = offsets[j + 2];
+            int offset3 = offsets[j + 3];
+
+            float sum0 = 0f;
+            float sum1 = 0f;
+            float sum2 = 0f;
+            float sum3 = 0f;
+            for (int i = 0; i < length; i++) {
+                float value = row[rowOffset + i];
+                sum0 += value * page0[offset0 + i];
+                sum1 += value * page1[offset1 + i];
+                sum2 += value * page2[offset2 + i];
+                sum3 += value * page3[offset3 + i];
+            }
+
+            result[j] = sum0;
+            result[j + 1] = sum1;
+            result[j + 2] = sum2;
+            result[j + 3] = sum3;
+        }
+        for (; j < count; j++) {
+            result[j] = innerProduct(row, rowOffset, pages[j], offsets[j], length);
+        }
+    }
+
+    /**
+     * Adds {@code weights[j] * row[rowOffset..rowOffset + length)} to each of the {@code count} rows, given by a page and an offset,
+     * and adds the weighted sum of those rows, as they were before the update, to {@code weightedSum[0..length)}.
+     * Like {@link #innerProducts}, the rows are processed in blocks of four, so each row is read once.
+     * The same row may be given more than once, all of its updates are applied.
+     */
+    public static void addWeightedRows(
+        float[] row,
+        int rowOffset,
+        float[][] pages,
+        int[] offsets,
+        float[] weights,
+        int count,
+        int length,
+        float[] weightedSum
+    ) {
+        int j = 0;
+        for (; j + 3 < count; j += 4) {
+            float[] page0 = pages[j];
+            float[] page1 = pages[j + 1];
+            float[] page2 = pages[j + 2];
+            float[] page3 = pages[j + 3];
+            int offset0 = offsets[j];
+            int offset1 = offsets[j + 1];
+            int offset2 = offsets[j + 2];
+            int offset3 = offsets[j + 3];
+            float weight0 = weights[j];
+            float weight1 = weights[j + 1];
+            float weight2 = weights[j + 2];
+            float weight3 = weights[j + 3];
+
+            for (int i = 0; i < length; i++) {
+                float value = row[rowOffset + i];
+                float value0 = page0[offset0 + i];
+                float value1 = page1[offset1 + i];
+                float value2 = page2[offset2 + i];
+                float value3 = page3[offset3 + i];
+                weightedSum[i] += (weight0 * value0 + weight1 * value1) + (weight2 * value2 + weight3 * value3);
+                page0[offset0 + i] += weight0 * value;
+                page1[offset1 + i] += weight1 * value;
+                page2[offset2 + i] += weight2 * value;
+                page3[offset3 + i] += weight3 * value;
+            }
+        }
+        for (; j < count; j++) {
+            addWeightedInPlace(weightedSum, 0, pages[j], offsets[j], length, weights[j]);
+            addWeightedInPlace(pages[j], offsets[j], row, rowOffset, length, weights[j]);
+        }
+    }
+
     public static void scale(float[] lhs, float scalar) {
         scale(lhs, scalar, lhs);
     }
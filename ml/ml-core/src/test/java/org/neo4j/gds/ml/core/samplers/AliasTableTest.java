@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class AliasTableTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @GdlGraph
+    private static final String GRAPH =
+        "  (a), (b), (c), (d), (e)" +
+        ", (a)-[:R {weight: 1.0}]->(b)" +
+        ", (a)-[:R {weight: 3.0}]->(c)" +
+        ", (a)-[:R {weight: 6.0}]->(d)" +
+        ", (b)-[:R {weight: 0.0}]->(a)" +
+        ", (b)-[:R {weight: 0.0}]->(c)" +
+        ", (c)-[:R {weight: 2.0}]->(a)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSampleProportionalToWeight(int concurrency) {
+        var aliasTable = AliasTable.create(graph, concurrency, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var counts = sample(aliasTable, graph.toMappedNodeId("a"));
+
+        assertThat(counts.size()).isEqualTo(3);
+        assertThat(counts.get(graph.toMappedNodeId("b"))).isCloseTo(SAMPLES / 10, Offset.offset(1_000L));
+        assertThat(counts.get(graph.toMappedNodeId("c"))).isCloseTo(3 * SAMPLES / 10, Offset.offset(1_000L));
+        assertThat(counts.get(graph.toMappedNodeId("d"))).isCloseTo(6 * SAMPLES / 10, Offset.offset(1_000L));
+    }
+
+    @Test
+    void shouldSampleUniformlyWithoutWeights() {
+        var aliasTable = AliasTable.create(graph, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var counts = sample(aliasTable, graph.toMappedNodeId("b"));
+
+        assertThat(counts.size()).isEqualTo(2);
+        assertThat(counts.get(graph.toMappedNodeId("a"))).isCloseTo(SAMPLES / 2, Offset.offset(1_000L));
+        assertThat(counts.get(graph.toMappedNodeId("c"))).isCloseTo(SAMPLES / 2, Offset.offset(1_000L));
+    }
+
+    @Test
+    void shouldSampleSingleNeighbor() {
+        var aliasTable = AliasTable.create(graph, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var counts = sample(aliasTable, graph.toMappedNodeId("c"));
+
+        assertThat(counts.size()).isEqualTo(1);
+        assertThat(counts.get(graph.toMappedNodeId("a"))).isEqualTo(SAMPLES);
+    }
+
+    @Test
+    void shouldReturnNoNeighborForSinks() {
+        var aliasTable = AliasTable.create(graph, 1, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        assertThat(aliasTable.sample(graph.toMappedNodeId("e"), new SplittableRandom(42)))
+            .isEqualTo(AliasTable.NO_NEIGHBOR);
+    }
+
+    private static LongLongHashMap sample(AliasTable aliasTable, long nodeId) {
+        var random = new SplittableRandom(42);
+        var counts = new LongLongHashMap();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.addTo(aliasTable.sample(nodeId, random), 1);
+        }
+        return counts;
+    }
+}
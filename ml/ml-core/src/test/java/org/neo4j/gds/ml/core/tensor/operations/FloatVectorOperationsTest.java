@@ -71,6 +71,77 @@ class FloatVectorOperationsTest {
         assertThat(a).containsExactly(expected);
     }
 
+    @Test
+    void addWeightedWithOffsets() {
+        float[] a = {0f, 3.5f, -2f, 1f};
+        float[] b = {5f, 2f, 2.6f, 7f, 9f};
+
+        FloatVectorOperations.addWeightedInPlace(a, 1, b, 2, 3, 2f);
+
+        assertThat(a).containsExactly(0f, 3.5f + 2f * 2.6f, -2f + 2f * 7f, 1f + 2f * 9f);
+    }
+
+    @Test
+    void innerProductWithOffsets() {
+        float[] a = {1f, 2f, 3f, 4f, 5f, 6f};
+        float[] b = {0f, 0f, 1f, -1f, 2f, 0.5f, 3f, 100f};
+
+        // 1 * 1 + 2 * -1 + 3 * 2 + 4 * 0.5 + 5 * 3
+        assertThat(FloatVectorOperations.innerProduct(a, 0, b, 2, 5)).isEqualTo(22f);
+        // 6 * 100
+        assertThat(FloatVectorOperations.innerProduct(a, 5, b, 7, 1)).isEqualTo(600f);
+        assertThat(FloatVectorOperations.innerProduct(a, 0, b, 0, 0)).isEqualTo(0f);
+    }
+
+    @Test
+    void innerProductsOfBlocksAndRemainder() {
+        float[] row = {0f, 1f, 2f, -1f};
+        float[] page = {1f, 1f, 1f, 2f, 0f, 3f, -1f, 4f};
+        float[][] pages = {page, page, page, page, page};
+        int[] offsets = {0, 1, 2, 3, 5};
+        var result = new float[pages.length];
+
+        FloatVectorOperations.innerProducts(row, 1, pages, offsets, pages.length, 3, result);
+
+        for (int j = 0; j < pages.length; j++) {
+            assertThat(result[j]).isEqualTo(FloatVectorOperations.innerProduct(row, 1, page, offsets[j], 3));
+        }
+    }
+
+    @Test
+    void addWeightedRowsOfBlocksAndRemainder() {
+        float[] row = {2f, -1f};
+        float[][] pages = {{1f, 2f}, {3f, 4f}, {5f, 6f, 0f}, {7f, 8f}, {0f, 9f, 10f}};
+        int[] offsets = {0, 0, 0, 0, 1};
+        float[] weights = {1f, 0.5f, -1f, 2f, 3f};
+        var weightedSum = new float[]{1f, 1f};
+
+        FloatVectorOperations.addWeightedRows(row, 0, pages, offsets, weights, pages.length, 2, weightedSum);
+
+        assertThat(weightedSum).containsExactly(
+            1f + 1f * 1f + 0.5f * 3f - 1f * 5f + 2f * 7f + 3f * 9f,
+            1f + 1f * 2f + 0.5f * 4f - 1f * 6f + 2f * 8f + 3f * 10f
+        );
+        assertThat(pages[0]).containsExactly(1f + 2f, 2f - 1f);
+        assertThat(pages[1]).containsExactly(3f + 1f, 4f - 0.5f);
+        assertThat(pages[2]).containsExactly(5f - 2f, 6f + 1f, 0f);
+        assertThat(pages[3]).containsExactly(7f + 4f, 8f - 2f);
+        assertThat(pages[4]).containsExactly(0f, 9f + 6f, 10f - 3f);
+    }
+
+    @Test
+    void addWeightedRowsAppliesAllUpdatesOfRepeatedRows() {
+        float[] row = {1f, 2f};
+        float[] page = {1f, 1f};
+        float[][] pages = {page, page, page, page};
+        var weightedSum = new float[2];
+
+        FloatVectorOperations.addWeightedRows(row, 0, pages, new int[4], new float[]{1f, 1f, 1f, 1f}, 4, 2, weightedSum);
+
+        assertThat(weightedSum).containsExactly(4f, 4f);
+        assertThat(page).containsExactly(5f, 9f);
+    }
+
     @Test
     void l2Normalize() {
         float[] a = {4f, -2.5f, 3.3f};
@@ -54,6 +54,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.drop.cypherdb",
 
         "gds.alpha.allShortestPaths.stream",
+        "gds.alpha.allShortestPaths.delta.multiSource.stream",
+        "gds.alpha.allShortestPaths.delta.multiSource.stream.estimate",
 
         "gds.bellmanFord.stats",
         "gds.bellmanFord.stats.estimate",
@@ -189,6 +191,11 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.beta.scaleProperties.write",
         "gds.beta.scaleProperties.write.estimate",
 
+        "gds.alpha.shortestPath.contractionHierarchy.mutate",
+        "gds.alpha.shortestPath.contractionHierarchy.mutate.estimate",
+        "gds.alpha.shortestPath.landmarks.mutate",
+        "gds.alpha.shortestPath.landmarks.mutate.estimate",
+
         "gds.alpha.sllpa.mutate",
         "gds.alpha.sllpa.mutate.estimate",
         "gds.alpha.sllpa.stats",
@@ -228,6 +235,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.userLog",
 
+        "gds.alpha.write.drop",
+        "gds.alpha.write.resume",
+
         "gds.articleRank.mutate",
         "gds.articleRank.mutate.estimate",
         "gds.articleRank.stats",
@@ -548,7 +558,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 394;
+        int expectedCount = 402;
         assertEquals(
             expectedCount,
             returnedRows,
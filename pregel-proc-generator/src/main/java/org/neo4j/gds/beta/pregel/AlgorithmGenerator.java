@@ -25,8 +25,11 @@ import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -37,6 +40,8 @@ import javax.lang.model.util.Elements;
 import java.util.Map;
 
 class AlgorithmGenerator extends PregelGenerator {
+    private static final String BATCH_LOOP_NAME = "FusedBatchLoop";
+
     private final PregelValidation.Spec pregelSpec;
 
     AlgorithmGenerator(Elements elementUtils, SourceVersion sourceVersion, PregelValidation.Spec pregelSpec) {
@@ -62,6 +67,7 @@ class AlgorithmGenerator extends PregelGenerator {
         typeSpecBuilder.addMethod(constructor());
         typeSpecBuilder.addMethod(setTerminatonFlag());
         typeSpecBuilder.addMethod(computeMethod());
+        typeSpecBuilder.addType(batchLoop(algorithmClassName));
 
         return typeSpecBuilder.build();
     }
@@ -87,12 +93,14 @@ class AlgorithmGenerator extends PregelGenerator {
             .addParameter(pregelSpec.configTypeName(), configurationVar)
             .addParameter(ProgressTracker.class, "progressTracker")
             .addStatement(CodeBlock.builder().add("super(progressTracker)").build())
+            .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
             .addStatement(
                 CodeBlock.builder().addNamed(
                     "this.pregelJob = $pregel:T.create(" +
                     "graph, " +
                     "$config:N, " +
-                    "new $computation:T(), " +
+                    "computation, " +
+                    "new $batchLoop:N(computation), " +
                     "$pools:T.DEFAULT, " +
                     "progressTracker" +
                     ")",
@@ -100,7 +108,7 @@ class AlgorithmGenerator extends PregelGenerator {
                         "pregel", Pregel.class,
                         "pools", Pools.class,
                         "config", configurationVar,
-                        "computation", computationClassName(pregelSpec, "")
+                        "batchLoop", BATCH_LOOP_NAME
                     )
                 )
                     .build()
@@ -108,6 +116,83 @@ class AlgorithmGenerator extends PregelGenerator {
             .build();
     }
 
+    // The batch loop calls the computation through its own type, so that the JIT
+    // compiles a separate loop for this computation into which it can inline init and compute.
+    private TypeSpec batchLoop(ClassName algorithmClassName) {
+        var computationType = computationClassName(pregelSpec, "");
+        var configType = pregelSpec.configTypeName();
+        var initContextType = ParameterizedTypeName.get(
+            pregelSpec.requiresInverseIndex()
+                ? ClassName.get(InitContext.BidirectionalInitContext.class)
+                : ClassName.get(InitContext.class),
+            configType
+        );
+        var computeContextType = ParameterizedTypeName.get(
+            pregelSpec.requiresInverseIndex()
+                ? ClassName.get(ComputeContext.BidirectionalComputeContext.class)
+                : ClassName.get(ComputeContext.class),
+            configType
+        );
+        var iteratorType = TypeVariableName.get("ITERATOR", Messages.MessageIterator.class);
+
+        var constructor = MethodSpec.constructorBuilder()
+            .addParameter(computationType, "computation")
+            .addStatement("this.computation = computation")
+            .build();
+
+        var computeBatch = MethodSpec.methodBuilder("computeBatch")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addTypeVariable(iteratorType)
+            .addParameter(
+                ParameterizedTypeName.get(
+                    ClassName.get(ComputeStep.class),
+                    configType,
+                    iteratorType,
+                    initContextType,
+                    computeContextType
+                ),
+                "computeStep"
+            )
+            .addParameter(iteratorType, "messageIterator")
+            .addParameter(Messages.class, "messages")
+            .addStatement("var messenger = computeStep.messenger()")
+            .addStatement("var nodeBatch = computeStep.nodeBatch()")
+            .addStatement("var initContext = computeStep.initContext()")
+            .addStatement("var computeContext = computeStep.computeContext()")
+            .addStatement("var voteBits = computeStep.voteBits()")
+            .addStatement("boolean isInitialSuperstep = computeContext.isInitialSuperstep()")
+            .addStatement("long startNode = nodeBatch.startNode()")
+            .addStatement("long endNode = startNode + nodeBatch.nodeCount()")
+            .beginControlFlow("for (long nodeId = startNode; nodeId < endNode; nodeId++)")
+            .beginControlFlow("if (isInitialSuperstep)")
+            .addStatement("initContext.setNodeId(nodeId)")
+            .addStatement("computation.init(initContext)")
+            .endControlFlow()
+            .addStatement("messenger.initMessageIterator(messageIterator, nodeId, isInitialSuperstep)")
+            .beginControlFlow("if (!messages.isEmpty() || !voteBits.get(nodeId))")
+            .addStatement("voteBits.clear(nodeId)")
+            .addStatement("computeContext.setNodeId(nodeId)")
+            .addStatement("computation.compute(computeContext, messages)")
+            .endControlFlow()
+            .endControlFlow()
+            .build();
+
+        return TypeSpec
+            .classBuilder(algorithmClassName.nestedClass(BATCH_LOOP_NAME))
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .addSuperinterface(ParameterizedTypeName.get(
+                ClassName.get(ComputeStep.BatchLoop.class),
+                configType,
+                initContextType,
+                computeContextType
+            ))
+            .addField(computationType, "computation", Modifier.PRIVATE, Modifier.FINAL)
+            .addMethod(constructor)
+            .addMethod(computeBatch)
+            .build();
+    }
+
     private MethodSpec computeMethod() {
         return MethodSpec.methodBuilder("compute")
             .addAnnotation(Override.class)
@@ -22,9 +22,13 @@ package org.neo4j.gds.beta.pregel.cc;
 import javax.annotation.processing.Generated;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.ComputeStep;
+import org.neo4j.gds.beta.pregel.Messages;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -36,7 +40,8 @@ public final class BidirectionalComputationAlgorithm extends Algorithm<PregelRes
     BidirectionalComputationAlgorithm(Graph graph, PregelProcedureConfig configuration,
                                       ProgressTracker progressTracker) {
         super(progressTracker);
-        this.pregelJob = Pregel.create(graph, configuration, new BidirectionalComputation(), Pools.DEFAULT, progressTracker);
+        var computation = new BidirectionalComputation();
+        this.pregelJob = Pregel.create(graph, configuration, computation, new FusedBatchLoop(computation), Pools.DEFAULT, progressTracker);
     }
 
     @Override
@@ -49,4 +54,38 @@ public final class BidirectionalComputationAlgorithm extends Algorithm<PregelRes
     public PregelResult compute() {
         return pregelJob.run();
     }
+
+    private static final class FusedBatchLoop implements ComputeStep.BatchLoop<PregelProcedureConfig, InitContext.BidirectionalInitContext<PregelProcedureConfig>, ComputeContext.BidirectionalComputeContext<PregelProcedureConfig>> {
+        private final BidirectionalComputation computation;
+
+        FusedBatchLoop(BidirectionalComputation computation) {
+            this.computation = computation;
+        }
+
+        @Override
+        public <ITERATOR extends Messages.MessageIterator> void computeBatch(
+                ComputeStep<PregelProcedureConfig, ITERATOR, InitContext.BidirectionalInitContext<PregelProcedureConfig>, ComputeContext.BidirectionalComputeContext<PregelProcedureConfig>> computeStep,
+                ITERATOR messageIterator, Messages messages) {
+            var messenger = computeStep.messenger();
+            var nodeBatch = computeStep.nodeBatch();
+            var initContext = computeStep.initContext();
+            var computeContext = computeStep.computeContext();
+            var voteBits = computeStep.voteBits();
+            boolean isInitialSuperstep = computeContext.isInitialSuperstep();
+            long startNode = nodeBatch.startNode();
+            long endNode = startNode + nodeBatch.nodeCount();
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                if (isInitialSuperstep) {
+                    initContext.setNodeId(nodeId);
+                    computation.init(initContext);
+                }
+                messenger.initMessageIterator(messageIterator, nodeId, isInitialSuperstep);
+                if (!messages.isEmpty() || !voteBits.get(nodeId)) {
+                    voteBits.clear(nodeId);
+                    computeContext.setNodeId(nodeId);
+                    computation.compute(computeContext, messages);
+                }
+            }
+        }
+    }
 }
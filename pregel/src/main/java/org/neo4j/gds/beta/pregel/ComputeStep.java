@@ -50,31 +50,33 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop();
+
     default void computeBatch() {
-        var messenger = messenger();
-        var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
-
-        var nodeBatch = nodeBatch();
-        var initContext = initContext();
-        var computeContext = computeContext();
-        var voteBits = voteBits();
-
-        nodeBatch.consume(nodeId -> {
-            if (computeContext.isInitialSuperstep()) {
-                initContext.setNodeId(nodeId);
-                initFunction().init(initContext);
-            }
-
-            messenger.initMessageIterator(messageIterator, nodeId, computeContext.isInitialSuperstep());
-
-            if (!messages.isEmpty() || !voteBits.get(nodeId)) {
-                voteBits.clear(nodeId);
-                computeContext.setNodeId(nodeId);
-                computeFunction().compute(computeContext, messages);
-            }
-        });
-        progressTracker().logProgress(nodeBatch.nodeCount());
+        var messageIterator = messenger().messageIterator();
+        batchLoop().computeBatch(this, messageIterator, new Messages(messageIterator));
+        progressTracker().logProgress(nodeBatch().nodeCount());
+    }
+
+    /**
+     * Runs init and compute for all nodes in the batch of a compute step.
+     * <p>
+     * The Pregel procedure generator emits one implementation per computation that calls the
+     * computation directly, instead of through the init and compute functions of the step.
+     * The JIT then compiles a separate loop for every computation and can inline the
+     * computation into it, whereas the call sites in a shared loop see all computations.
+     */
+    interface BatchLoop<
+        CONFIG extends PregelConfig,
+        INIT_CONTEXT extends InitContext<CONFIG>,
+        COMPUTE_CONTEXT extends ComputeContext<CONFIG>
+        > {
+
+        <ITERATOR extends Messages.MessageIterator> void computeBatch(
+            ComputeStep<CONFIG, ITERATOR, INIT_CONTEXT, COMPUTE_CONTEXT> computeStep,
+            ITERATOR messageIterator,
+            Messages messages
+        );
     }
 
     @FunctionalInterface
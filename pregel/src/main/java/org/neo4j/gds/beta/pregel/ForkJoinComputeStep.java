@@ -43,6 +43,7 @@ public final class ForkJoinComputeStep<
 
     private final InitFunction<CONFIG, INIT_CONTEXT> initFunction;
     private final ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction;
+    private final BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop;
     private final Supplier<INIT_CONTEXT> initContextSupplier;
     private final Supplier<COMPUTE_CONTEXT> computeContextSupplier;
     private final COMPUTE_CONTEXT computeContext;
@@ -57,6 +58,7 @@ public final class ForkJoinComputeStep<
     ForkJoinComputeStep(
         InitFunction<CONFIG, INIT_CONTEXT> initFunction,
         ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction,
+        BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop,
         Supplier<INIT_CONTEXT> initContextSupplier,
         Supplier<COMPUTE_CONTEXT> computeContextSupplier,
         MutableInt iteration,
@@ -71,6 +73,7 @@ public final class ForkJoinComputeStep<
         super(parent);
         this.initFunction = initFunction;
         this.computeFunction = computeFunction;
+        this.batchLoop = batchLoop;
         this.initContextSupplier = initContextSupplier;
         this.computeContextSupplier = computeContextSupplier;
         this.iteration = iteration;
@@ -101,6 +104,7 @@ public final class ForkJoinComputeStep<
             var leftTask = new ForkJoinComputeStep<>(
                 initFunction,
                 computeFunction,
+                batchLoop,
                 initContextSupplier,
                 computeContextSupplier,
                 iteration,
@@ -170,4 +174,9 @@ public final class ForkJoinComputeStep<
     public ProgressTracker progressTracker() {
         return progressTracker;
     }
+
+    @Override
+    public BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop() {
+        return batchLoop;
+    }
 }
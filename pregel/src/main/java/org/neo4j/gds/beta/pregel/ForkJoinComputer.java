@@ -49,10 +49,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, batchLoop, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -116,6 +117,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         return new ForkJoinComputeStep<>(
             ((PregelComputation<CONFIG>) computation)::init,
             ((PregelComputation<CONFIG>) computation)::compute,
+            batchLoop(),
             initContext,
             computeContext,
             iteration,
@@ -157,6 +159,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         return new ForkJoinComputeStep<>(
             ((BidirectionalPregelComputation<CONFIG>) computation)::init,
             ((BidirectionalPregelComputation<CONFIG>) computation)::compute,
+            bidirectionalBatchLoop(),
             initContext,
             computeContext,
             iteration,
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+
+/**
+ * Batch loop that calls the init and compute functions of the compute step.
+ * Used for computations without a generated batch loop.
+ */
+final class FunctionBatchLoop<
+    CONFIG extends PregelConfig,
+    INIT_CONTEXT extends InitContext<CONFIG>,
+    COMPUTE_CONTEXT extends ComputeContext<CONFIG>
+    > implements ComputeStep.BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> {
+
+    @Override
+    public <ITERATOR extends Messages.MessageIterator> void computeBatch(
+        ComputeStep<CONFIG, ITERATOR, INIT_CONTEXT, COMPUTE_CONTEXT> computeStep,
+        ITERATOR messageIterator,
+        Messages messages
+    ) {
+        var messenger = computeStep.messenger();
+        var nodeBatch = computeStep.nodeBatch();
+        var initContext = computeStep.initContext();
+        var computeContext = computeStep.computeContext();
+        var voteBits = computeStep.voteBits();
+
+        // resolve everything that is constant for the batch once,
+        // to keep the per-node loop free of virtual lookups
+        var initFunction = computeStep.initFunction();
+        var computeFunction = computeStep.computeFunction();
+        boolean isInitialSuperstep = computeContext.isInitialSuperstep();
+
+        long startNode = nodeBatch.startNode();
+        long endNode = startNode + nodeBatch.nodeCount();
+
+        for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+            if (isInitialSuperstep) {
+                initContext.setNodeId(nodeId);
+                initFunction.init(initContext);
+            }
+
+            messenger.initMessageIterator(messageIterator, nodeId, isInitialSuperstep);
+
+            if (!messages.isEmpty() || !voteBits.get(nodeId)) {
+                voteBits.clear(nodeId);
+                computeContext.setNodeId(nodeId);
+                computeFunction.compute(computeContext, messages);
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.gds.utils.StringFormatting;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -258,44 +259,70 @@ public abstract class NodeValue {
 
         @Override
         void checkProperty(String key, ValueType expectedType) {
-            var actualType = element.propertyKey().equals(key) ? element.propertyType() : null;
+            // Property keys are typically shared constants, so the identity
+            // check avoids a string comparison on every value access.
+            var propertyKey = element.propertyKey();
+            if (key == propertyKey && element.propertyType() == expectedType) {
+                return;
+            }
+            var actualType = propertyKey.equals(key) ? element.propertyType() : null;
             super.checkProperty(key, actualType, expectedType);
         }
     }
 
     public static final class CompositeNodeValue extends NodeValue {
 
-        private final Map<String, Object> properties;
+        private final Map<String, Property> properties;
 
         CompositeNodeValue(PregelSchema pregelSchema, Map<String, Object> properties) {
             super(pregelSchema);
-            this.properties = properties;
+            // Resolve type and values once, so that each access is a single lookup.
+            this.properties = pregelSchema.elements()
+                .stream()
+                .collect(Collectors.toMap(
+                    Element::propertyKey,
+                    element -> new Property(element.propertyType(), properties.get(element.propertyKey()))
+                ));
         }
 
         @Override
         public HugeDoubleArray doubleProperties(String propertyKey) {
-            checkProperty(propertyKey, DOUBLE);
-            return (HugeDoubleArray) properties.get(propertyKey);
+            return (HugeDoubleArray) property(propertyKey, DOUBLE);
         }
 
         @Override
         public HugeLongArray longProperties(String propertyKey) {
-            checkProperty(propertyKey, LONG);
-            return (HugeLongArray) properties.get(propertyKey);
+            return (HugeLongArray) property(propertyKey, LONG);
         }
 
         @Override
         public HugeObjectArray<long[]> longArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, LONG_ARRAY);
             //noinspection unchecked
-            return (HugeObjectArray<long[]>) properties.get(propertyKey);
+            return (HugeObjectArray<long[]>) property(propertyKey, LONG_ARRAY);
         }
 
         @Override
         public HugeObjectArray<double[]> doubleArrayProperties(String propertyKey) {
-            checkProperty(propertyKey, DOUBLE_ARRAY);
             //noinspection unchecked
-            return (HugeObjectArray<double[]>) properties.get(propertyKey);
+            return (HugeObjectArray<double[]>) property(propertyKey, DOUBLE_ARRAY);
+        }
+
+        private Object property(String propertyKey, ValueType expectedType) {
+            var property = properties.get(propertyKey);
+            if (property == null || property.type != expectedType) {
+                checkProperty(propertyKey, expectedType);
+            }
+            return Objects.requireNonNull(property).values;
+        }
+
+        private static final class Property {
+            private final ValueType type;
+            private final Object values;
+
+            Property(ValueType type, Object values) {
+                this.type = type;
+                this.values = values;
+            }
         }
     }
 }
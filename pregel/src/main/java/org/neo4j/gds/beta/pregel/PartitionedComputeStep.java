@@ -36,6 +36,7 @@ public final class PartitionedComputeStep<
 
     private final InitFunction<CONFIG, INIT_CONTEXT> initFunction;
     private final ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction;
+    private final BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop;
     private final INIT_CONTEXT initContext;
     private final COMPUTE_CONTEXT computeContext;
     private final ProgressTracker progressTracker;
@@ -50,6 +51,7 @@ public final class PartitionedComputeStep<
     PartitionedComputeStep(
         InitFunction<CONFIG, INIT_CONTEXT> initFunction,
         ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction,
+        BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop,
         INIT_CONTEXT initContext,
         COMPUTE_CONTEXT computeContext,
         Partition nodeBatch,
@@ -62,6 +64,7 @@ public final class PartitionedComputeStep<
     ) {
         this.initFunction = initFunction;
         this.computeFunction = computeFunction;
+        this.batchLoop = batchLoop;
         this.initContext = initContext;
         this.computeContext = computeContext;
         this.nodeValue = nodeValue;
@@ -124,6 +127,11 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public BatchLoop<CONFIG, INIT_CONTEXT, COMPUTE_CONTEXT> batchLoop() {
+        return batchLoop;
+    }
+
     void init(int iteration) {
         this.iteration.setValue(iteration);
         hasSentMessage.setValue(false);
@@ -53,11 +53,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, batchLoop, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -161,6 +162,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         return new PartitionedComputeStep<>(
             ((PregelComputation<CONFIG>) computation)::init,
             ((PregelComputation<CONFIG>) computation)::compute,
+            batchLoop(),
             initContext,
             computeContext,
             partition,
@@ -204,6 +206,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         return new PartitionedComputeStep<>(
             ((BidirectionalPregelComputation<CONFIG>) computation)::init,
             ((BidirectionalPregelComputation<CONFIG>) computation)::compute,
+            bidirectionalBatchLoop(),
             initContext,
             computeContext,
             partition,
@@ -62,6 +62,21 @@ public final class Pregel<CONFIG extends PregelConfig> {
         BasePregelComputation<CONFIG> computation,
         ExecutorService executor,
         ProgressTracker progressTracker
+    ) {
+        return create(graph, config, computation, new FunctionBatchLoop<>(), executor, progressTracker);
+    }
+
+    /**
+     * Creates a Pregel job that runs the init and compute steps of each batch with the given loop.
+     * The loop must call the given computation, with contexts that match its kind.
+     */
+    public static <CONFIG extends PregelConfig> Pregel<CONFIG> create(
+        Graph graph,
+        CONFIG config,
+        BasePregelComputation<CONFIG> computation,
+        ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
+        ExecutorService executor,
+        ProgressTracker progressTracker
     ) {
         // This prevents users from disabling concurrency
         // validation in custom PregelConfig implementations.
@@ -83,6 +98,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             config,
             computation,
             NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            batchLoop,
             executor,
             progressTracker
         );
@@ -132,6 +148,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final CONFIG config,
         final BasePregelComputation<CONFIG> computation,
         final NodeValue initialNodeValue,
+        final ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
         final ExecutorService executor,
         final ProgressTracker progressTracker
     ) {
@@ -158,6 +175,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .batchLoop(batchLoop)
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
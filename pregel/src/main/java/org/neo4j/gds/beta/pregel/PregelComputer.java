@@ -21,6 +21,10 @@ package org.neo4j.gds.beta.pregel;
 
 import org.immutables.builder.Builder;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.beta.pregel.context.InitContext.BidirectionalInitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -36,6 +40,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +50,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +59,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.batchLoop = batchLoop;
         this.progressTracker = progressTracker;
     }
 
@@ -66,6 +73,17 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
 
     abstract void release();
 
+    // the batch loop matches the kind of the computation, see Pregel#create
+    @SuppressWarnings("unchecked")
+    ComputeStep.BatchLoop<CONFIG, InitContext<CONFIG>, ComputeContext<CONFIG>> batchLoop() {
+        return (ComputeStep.BatchLoop<CONFIG, InitContext<CONFIG>, ComputeContext<CONFIG>>) batchLoop;
+    }
+
+    @SuppressWarnings("unchecked")
+    ComputeStep.BatchLoop<CONFIG, BidirectionalInitContext<CONFIG>, BidirectionalComputeContext<CONFIG>> bidirectionalBatchLoop() {
+        return (ComputeStep.BatchLoop<CONFIG, BidirectionalInitContext<CONFIG>, BidirectionalComputeContext<CONFIG>>) batchLoop;
+    }
+
     static <CONFIG extends PregelConfig> ComputerBuilder<CONFIG> builder() {
         return new ComputerBuilder<>();
     }
@@ -78,6 +96,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ComputeStep.BatchLoop<CONFIG, ?, ?> batchLoop,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +115,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                batchLoop,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +128,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            batchLoop,
             config.concurrency(),
             executorService,
             progressTracker
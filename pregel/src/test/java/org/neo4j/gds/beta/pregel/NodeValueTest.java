@@ -60,6 +60,24 @@ class NodeValueTest {
         assertEquals(nodeValues.longProperties(key2).size(), 10);
     }
 
+    @Test
+    void resolvesEqualButNotIdenticalKeys() {
+        var key1 = "KEY1";
+        var key2 = "KEY2";
+        var singleNodeValues = NodeValue.of(new PregelSchema.Builder().add(key1, ValueType.DOUBLE).build(), 10, 4);
+        var compositeNodeValues = NodeValue.of(
+            new PregelSchema.Builder().add(key1, ValueType.DOUBLE).add(key2, ValueType.LONG).build(),
+            10,
+            4
+        );
+
+        singleNodeValues.set(key1, 3, 42.0);
+        compositeNodeValues.set(key2, 3, 1337L);
+
+        assertEquals(42.0, singleNodeValues.doubleValue(new String(key1.toCharArray()), 3));
+        assertEquals(1337L, compositeNodeValues.longValue(new String(key2.toCharArray()), 3));
+    }
+
     @ParameterizedTest
     @MethodSource("org.neo4j.gds.beta.pregel.NodeValueTest#validPropertyTypeAndGetters")
     void testThrowWhenAccessingUnknownProperty(ValueType valueType, BiConsumer<NodeValue, String> valueConsumer) {
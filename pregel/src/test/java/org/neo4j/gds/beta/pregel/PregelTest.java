@@ -274,6 +274,42 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void runsBatchesWithTheGivenBatchLoop(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+        var batches = new AtomicLong();
+        var functionBatchLoop = new FunctionBatchLoop<PregelConfig, InitContext<PregelConfig>, ComputeContext<PregelConfig>>();
+        var countingBatchLoop = new ComputeStep.BatchLoop<PregelConfig, InitContext<PregelConfig>, ComputeContext<PregelConfig>>() {
+            @Override
+            public <ITERATOR extends Messages.MessageIterator> void computeBatch(
+                ComputeStep<PregelConfig, ITERATOR, InitContext<PregelConfig>, ComputeContext<PregelConfig>> computeStep,
+                ITERATOR messageIterator,
+                Messages messages
+            ) {
+                batches.incrementAndGet();
+                functionBatchLoop.computeBatch(computeStep, messageIterator, messages);
+            }
+        };
+
+        var expected = run(graph, config, new TestPregelComputation());
+        var actual = Pregel.create(
+            graph,
+            config,
+            new TestPregelComputation(),
+            countingBatchLoop,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run().nodeValues().doubleProperties(KEY);
+
+        assertThat(batches.get()).isPositive();
+        assertThat(actual.toArray()).containsExactly(expected.toArray());
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
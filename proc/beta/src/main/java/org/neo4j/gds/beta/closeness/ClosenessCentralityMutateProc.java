@@ -29,13 +29,13 @@ import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.validation.ValidationConfiguration;
-import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 import org.neo4j.gds.result.AbstractResultBuilder;
 import org.neo4j.gds.results.StandardMutateResult;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -99,6 +99,7 @@ public class ClosenessCentralityMutateProc extends MutatePropertyProc<ClosenessC
         public final long nodePropertiesWritten;
         public final String mutateProperty;
         public final Map<String, Object> centralityDistribution;
+        public final List<Double> neighborhoodFunction;
 
         MutateResult(
             long nodePropertiesWritten,
@@ -108,15 +109,17 @@ public class ClosenessCentralityMutateProc extends MutatePropertyProc<ClosenessC
             long mutateMillis,
             String mutateProperty,
             @Nullable Map<String, Object> centralityDistribution,
+            @Nullable List<Double> neighborhoodFunction,
             Map<String, Object> config
         ) {
             super(preProcessingMillis, computeMillis, postProcessingMillis, mutateMillis, config);
             this.mutateProperty = mutateProperty;
             this.centralityDistribution = centralityDistribution;
+            this.neighborhoodFunction = neighborhoodFunction;
             this.nodePropertiesWritten = nodePropertiesWritten;
         }
 
-        static final class Builder extends AbstractCentralityResultBuilder<ClosenessCentralityMutateProc.MutateResult> {
+        static final class Builder extends ClosenessCentralityProc.ClosenessResultBuilder<ClosenessCentralityMutateProc.MutateResult> {
             public String mutateProperty;
 
             private Builder(ProcedureReturnColumns returnColumns, int concurrency) {
@@ -138,6 +141,7 @@ public class ClosenessCentralityMutateProc extends MutatePropertyProc<ClosenessC
                     mutateMillis,
                     mutateProperty,
                     centralityHistogram,
+                    neighborhoodFunction,
                     config.toMap()
                 );
             }
@@ -19,7 +19,9 @@
  */
 package org.neo4j.gds.beta.closeness;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.validation.BeforeLoadValidation;
@@ -27,7 +29,9 @@ import org.neo4j.gds.executor.validation.GraphProjectConfigValidations;
 import org.neo4j.gds.executor.validation.ValidationConfiguration;
 import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public final class ClosenessCentralityProc {
 
@@ -46,12 +50,13 @@ public final class ClosenessCentralityProc {
     }
 
     static <PROC_RESULT, CONFIG extends ClosenessCentralityConfig> AbstractCentralityResultBuilder<PROC_RESULT> resultBuilder(
-        AbstractCentralityResultBuilder<PROC_RESULT> procResultBuilder,
+        ClosenessResultBuilder<PROC_RESULT> procResultBuilder,
         ComputationResult<ClosenessCentrality, ClosenessCentralityResult, CONFIG> computeResult
     ) {
         if (computeResult.result() != null) {
             var centralities = computeResult.result().centralities();
             procResultBuilder.withCentralityFunction(centralities::get);
+            computeResult.result().neighborhoodFunction().ifPresent(procResultBuilder::withNeighborhoodFunction);
         }
         return procResultBuilder;
     }
@@ -67,5 +72,18 @@ public final class ClosenessCentralityProc {
         };
     }
 
+    abstract static class ClosenessResultBuilder<PROC_RESULT> extends AbstractCentralityResultBuilder<PROC_RESULT> {
 
+        // only present for approximate runs
+        protected @Nullable List<Double> neighborhoodFunction;
+
+        ClosenessResultBuilder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        ClosenessResultBuilder<PROC_RESULT> withNeighborhoodFunction(double[] neighborhoodFunction) {
+            this.neighborhoodFunction = Arrays.stream(neighborhoodFunction).boxed().collect(Collectors.toList());
+            return this;
+        }
+    }
 }
@@ -26,13 +26,13 @@ import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ExecutionContext;
-import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 import org.neo4j.gds.result.AbstractResultBuilder;
 import org.neo4j.gds.results.StandardStatsResult;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -74,9 +74,11 @@ public class ClosenessCentralityStatsProc extends StatsProc<ClosenessCentrality,
     public static class StatsResult extends StandardStatsResult {
 
         public final Map<String, Object> centralityDistribution;
+        public final List<Double> neighborhoodFunction;
 
         StatsResult(
             @Nullable Map<String, Object> centralityDistribution,
+            @Nullable List<Double> neighborhoodFunction,
             long preProcessingMillis,
             long computeMillis,
             long postProcessingMillis,
@@ -84,9 +86,10 @@ public class ClosenessCentralityStatsProc extends StatsProc<ClosenessCentrality,
         ) {
             super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
             this.centralityDistribution = centralityDistribution;
+            this.neighborhoodFunction = neighborhoodFunction;
         }
 
-        static final class Builder extends AbstractCentralityResultBuilder<StatsResult> {
+        static final class Builder extends ClosenessCentralityProc.ClosenessResultBuilder<StatsResult> {
             private Builder(ProcedureReturnColumns returnColumns, int concurrency) {
                 super(returnColumns, concurrency);
             }
@@ -95,6 +98,7 @@ public class ClosenessCentralityStatsProc extends StatsProc<ClosenessCentrality,
             public StatsResult buildResult() {
                 return new StatsResult(
                     centralityHistogram,
+                    neighborhoodFunction,
                     preProcessingMillis,
                     computeMillis,
                     postProcessingMillis,
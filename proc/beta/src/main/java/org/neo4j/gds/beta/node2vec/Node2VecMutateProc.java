@@ -91,7 +91,9 @@ public class Node2VecMutateProc extends MutatePropertyProc<Node2Vec, Node2VecMod
         ComputationResult<Node2Vec, Node2VecModel.Result, Node2VecMutateConfig> computeResult,
         ExecutionContext executionContext
     ) {
-        return new MutateResult.Builder().withLossPerIteration(computeResult.result().lossPerIteration());
+        return new MutateResult.Builder()
+            .withLossPerIteration(computeResult.result().lossPerIteration())
+            .withTrainingPairsPerSecondPerThread(computeResult.result().trainingPairsPerSecondPerThread());
     }
 
     public static final class MutateResult extends StandardMutateResult {
@@ -99,6 +101,7 @@ public class Node2VecMutateProc extends MutatePropertyProc<Node2Vec, Node2VecMod
         public final long nodeCount;
         public final long nodePropertiesWritten;
         public final List<Double> lossPerIteration;
+        public final double trainingPairsPerSecondPerThread;
 
         MutateResult(
             long nodeCount,
@@ -107,17 +110,20 @@ public class Node2VecMutateProc extends MutatePropertyProc<Node2Vec, Node2VecMod
             long computeMillis,
             long mutateMillis,
             Map<String, Object> configuration,
-            List<Double> lossPerIteration
+            List<Double> lossPerIteration,
+            double trainingPairsPerSecondPerThread
         ) {
             super(preProcessingMillis, computeMillis, 0, mutateMillis, configuration);
             this.nodeCount = nodeCount;
             this.nodePropertiesWritten = nodePropertiesWritten;
             this.lossPerIteration = lossPerIteration;
+            this.trainingPairsPerSecondPerThread = trainingPairsPerSecondPerThread;
         }
 
         static class Builder extends AbstractResultBuilder<MutateResult> {
 
             private List<Double> lossPerIteration;
+            private double trainingPairsPerSecondPerThread;
 
             @Override
             public MutateResult build() {
@@ -128,7 +134,8 @@ public class Node2VecMutateProc extends MutatePropertyProc<Node2Vec, Node2VecMod
                     computeMillis,
                     writeMillis,
                     config.toMap(),
-                    lossPerIteration
+                    lossPerIteration,
+                    trainingPairsPerSecondPerThread
                 );
             }
 
@@ -136,6 +143,11 @@ public class Node2VecMutateProc extends MutatePropertyProc<Node2Vec, Node2VecMod
                 this.lossPerIteration = lossPerIteration;
                 return this;
             }
+
+            Builder withTrainingPairsPerSecondPerThread(double trainingPairsPerSecondPerThread) {
+                this.trainingPairsPerSecondPerThread = trainingPairsPerSecondPerThread;
+                return this;
+            }
         }
     }
 }
@@ -93,9 +93,9 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
     ) {
         WriteResult.Builder builder = new WriteResult.Builder();
 
-        Optional.ofNullable(computeResult.result())
-            .map(Node2VecModel.Result::lossPerIteration)
-            .ifPresent(builder::withLossPerIteration);
+        Optional.ofNullable(computeResult.result()).ifPresent(result -> builder
+            .withLossPerIteration(result.lossPerIteration())
+            .withTrainingPairsPerSecondPerThread(result.trainingPairsPerSecondPerThread()));
 
         return builder;
     }
@@ -110,6 +110,7 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
         public final long writeMillis;
         public final Map<String, Object> configuration;
         public final List<Double> lossPerIteration;
+        public final double trainingPairsPerSecondPerThread;
 
         WriteResult(
             long nodeCount,
@@ -118,7 +119,8 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
             long computeMillis,
             long writeMillis,
             Map<String, Object> configuration,
-            List<Double> lossPerIteration
+            List<Double> lossPerIteration,
+            double trainingPairsPerSecondPerThread
         ) {
             this.nodeCount = nodeCount;
             this.nodePropertiesWritten = nodePropertiesWritten;
@@ -127,11 +129,13 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
             this.writeMillis = writeMillis;
             this.configuration = configuration;
             this.lossPerIteration = lossPerIteration;
+            this.trainingPairsPerSecondPerThread = trainingPairsPerSecondPerThread;
         }
 
         static class Builder extends AbstractResultBuilder<WriteResult> {
 
             private List<Double> lossPerIteration;
+            private double trainingPairsPerSecondPerThread;
 
             @Override
             public WriteResult build() {
@@ -142,7 +146,8 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
                     computeMillis,
                     writeMillis,
                     config.toMap(),
-                    lossPerIteration
+                    lossPerIteration,
+                    trainingPairsPerSecondPerThread
                 );
             }
 
@@ -150,6 +155,11 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, Node2VecModel.Result,
                 this.lossPerIteration = lossPerIteration;
                 return this;
             }
+
+            Builder withTrainingPairsPerSecondPerThread(double trainingPairsPerSecondPerThread) {
+                this.trainingPairsPerSecondPerThread = trainingPairsPerSecondPerThread;
+                return this;
+            }
         }
     }
 }
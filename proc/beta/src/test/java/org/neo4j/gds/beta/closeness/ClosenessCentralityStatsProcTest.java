@@ -32,6 +32,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.graphdb.GraphDatabaseService;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,6 +138,35 @@ class ClosenessCentralityStatsProcTest extends BaseProcTest implements AlgoBaseP
         });
     }
 
+    @Test
+    void shouldYieldNeighborhoodFunctionForApproximateRuns() {
+        loadGraph(DEFAULT_GRAPH_NAME, Orientation.UNDIRECTED);
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.closeness")
+            .statsMode()
+            .addParameter("approximate", true)
+            .yields("neighborhoodFunction");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked")
+            var neighborhoodFunction = (List<Double>) row.get("neighborhoodFunction");
+            assertThat(neighborhoodFunction)
+                .isNotEmpty()
+                .isSorted()
+                .allSatisfy(pairs -> assertThat(pairs).isPositive());
+        });
+        assertThat(rowCount).isEqualTo(1);
+
+        String exactQuery = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.closeness")
+            .statsMode()
+            .yields("neighborhoodFunction");
+
+        runQueryWithRowConsumer(exactQuery, row -> assertThat(row.get("neighborhoodFunction")).isNull());
+    }
+
     @Override
     public GraphDatabaseService graphDb() {
         return db;
@@ -148,6 +148,19 @@ class Node2VecMutateProcTest extends BaseProcTest
         assertCypherResult(query, List.of(Map.of("lossPerIteration", Matchers.hasSize(iterations))));
     }
 
+    @Test
+    void returnTrainingPairsPerSecondPerThread() {
+        loadGraph(DEFAULT_GRAPH_NAME);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.node2vec")
+            .mutateMode()
+            .addParameter("embeddingDimension", 42)
+            .addParameter("mutateProperty", "testProp")
+            .yields("trainingPairsPerSecondPerThread");
+
+        assertCypherResult(query, List.of(Map.of("trainingPairsPerSecondPerThread", Matchers.greaterThan(0D))));
+    }
+
     private void assertMutatedGraph(GraphStore mutatedGraphStore) {
         var mutatedProperties = mutatedGraphStore.nodeProperty(mutateProperty()).values();
         mutatedGraphStore.nodes().forEachNode(nodeId -> {
@@ -113,6 +113,19 @@ class Node2VecWriteProcTest extends BaseProcTest implements MemoryEstimateTest<N
         assertCypherResult(query, List.of(Map.of("lossPerIteration", Matchers.hasSize(iterations))));
     }
 
+    @Test
+    void returnTrainingPairsPerSecondPerThread() {
+        loadGraph(DEFAULT_GRAPH_NAME);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.node2vec")
+            .writeMode()
+            .addParameter("embeddingDimension", 42)
+            .addParameter("writeProperty", "testProp")
+            .yields("trainingPairsPerSecondPerThread");
+
+        assertCypherResult(query, List.of(Map.of("trainingPairsPerSecondPerThread", Matchers.greaterThan(0D))));
+    }
+
     @Test
     void shouldThrowIfRunningWouldOverflow() {
         long nodeCount = runQuery("MATCH (n) RETURN count(n) AS count", result ->
@@ -22,9 +22,11 @@ package org.neo4j.gds.catalog;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeProjections;
 import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.TransactionTerminationMonitor;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.beta.filter.GraphStoreFilter;
 import org.neo4j.gds.beta.filter.expression.SemanticErrors;
+import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.GraphProjectFromCypherConfig;
 import org.neo4j.gds.config.GraphProjectFromGraphConfig;
@@ -36,11 +38,13 @@ import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.gds.executor.FictitiousGraphStoreLoader;
 import org.neo4j.gds.executor.GraphStoreCreator;
 import org.neo4j.gds.executor.GraphStoreFromDatabaseLoader;
 import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.gds.executor.SingleFlight;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.procedure.Description;
@@ -48,8 +52,10 @@ import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 import org.opencypher.v9_0.parser.javacc.ParseException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +73,17 @@ public class GraphProjectProc extends CatalogProc {
         GraphProjectFromCypherConfig.RELATIONSHIP_QUERY_KEY
     );
 
+    private static final Set<String> NON_IDENTIFYING_CONFIG_KEYS = Set.of(
+        "jobId",
+        "creationTime",
+        BaseConfig.LOG_PROGRESS_KEY,
+        BaseConfig.SUDO_KEY
+    );
+
+    private static final String COALESCED_MESSAGE = "Projection was coalesced with an identical in-flight projection and shares its result.";
+
+    private static final SingleFlight<List<Object>, GraphProjectResult> IN_FLIGHT = new SingleFlight<>();
+
     @Procedure(name = "gds.graph.project", mode = READ)
     @Description(DESCRIPTION)
     public Stream<GraphProjectNativeResult> project(
@@ -260,13 +277,42 @@ public class GraphProjectProc extends CatalogProc {
     }
 
     private GraphProjectResult projectGraph(GraphProjectConfig config) {
-        memoryUsageValidator().tryValidateMemoryUsage(config, this::memoryTreeWithDimensions);
+        // identical concurrent projections wait for the first one and share its result
+        var flight = IN_FLIGHT.run(
+            projectionKey(config),
+            new TransactionTerminationMonitor(transaction),
+            () -> projectGraphFromDatabase(config)
+        );
+        if (flight.coalesced()) {
+            log.info("%s: %s", config.graphName(), COALESCED_MESSAGE);
+            userLogRegistryFactory
+                .newInstance()
+                .addWarningToLog(Tasks.leaf("Graph project: " + config.graphName()), COALESCED_MESSAGE);
+        }
+        return flight.value();
+    }
 
+    private List<Object> projectionKey(GraphProjectConfig config) {
+        var canonicalConfig = new TreeMap<>(config.toMap());
+        canonicalConfig.keySet().removeAll(NON_IDENTIFYING_CONFIG_KEYS);
+        return List.of(
+            username(),
+            graphLoaderContext().databaseId(),
+            config.graphName(),
+            config.getClass(),
+            canonicalConfig
+        );
+    }
+
+    private GraphProjectResult projectGraphFromDatabase(GraphProjectConfig config) {
         GraphProjectResult.Builder builder = config instanceof GraphProjectFromCypherConfig
             ? new GraphProjectCypherResult.Builder((GraphProjectFromCypherConfig) config)
             : new GraphProjectNativeResult.Builder((GraphProjectFromStoreConfig) config);
 
-        try (ProgressTimer ignored = ProgressTimer.start(builder::withProjectMillis)) {
+        try (
+            var ignoredReservation = memoryUsageValidator().tryReserveMemoryUsage(config, this::memoryTreeWithDimensions);
+            ProgressTimer ignored = ProgressTimer.start(builder::withProjectMillis)
+        ) {
             GraphStore graphStore = new GraphStoreFromDatabaseLoader(
                 config,
                 username(),
@@ -25,12 +25,14 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.config.GraphWriteRelationshipConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.RelationshipExporter;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.core.write.RelationshipWriteStatistics;
 import org.neo4j.gds.executor.ProcPreconditions;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -105,7 +107,7 @@ public class GraphWriteRelationshipProc extends CatalogProc {
         var progressTracker = new TaskProgressTracker(
             RelationshipExporter.baseTask("Graph", relationshipCount),
             executionContext().log(),
-            RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
+            config.writeConcurrency(),
             config.jobId(),
             executionContext().taskRegistryFactory(),
             executionContext().userLogRegistryFactory()
@@ -115,22 +117,33 @@ public class GraphWriteRelationshipProc extends CatalogProc {
 
         // writing
         var builder = new Result.Builder(graphName, relationshipTypeString, maybeRelationshipProperty);
+        RelationshipWriteStatistics statistics;
         try (var ignored = ProgressTimer.start(builder::withWriteMillis)) {
-            long relationshipsWritten = runWithExceptionLogging(
+            long writeStart = System.nanoTime();
+            statistics = runWithExceptionLogging(
                 "Writing relationships failed",
-                () -> writeRelationshipType(graphStore, config.relationshipProperty(), relationshipType, progressTracker)
+                () -> writeRelationshipType(
+                    graphStore,
+                    config.relationshipProperty(),
+                    relationshipType,
+                    config,
+                    progressTracker
+                )
             );
-            builder.withRelationshipsWritten(relationshipsWritten);
+            builder.withWriteNanos(System.nanoTime() - writeStart);
+            builder.withRelationshipsWritten(graphStore.relationshipCount(relationshipType));
         }
+        builder.withStatistics(statistics);
 
         // result
         return Stream.of(builder.build());
     }
 
-    private long writeRelationshipType(
+    private RelationshipWriteStatistics writeRelationshipType(
         GraphStore graphStore,
         Optional<String> relationshipProperty,
         RelationshipType relationshipType,
+        GraphWriteRelationshipConfig config,
         ProgressTracker progressTracker
     ) {
         var graph = graphStore.getGraph(relationshipType, relationshipProperty);
@@ -141,6 +154,12 @@ public class GraphWriteRelationshipProc extends CatalogProc {
             .withTerminationFlag(TerminationFlag.wrap(executionContext().terminationMonitor()))
             .withProgressTracker(progressTracker);
 
+        if (config.parallelWrite()) {
+            builder.parallel(Pools.DEFAULT, config.writeConcurrency());
+        }
+
+        RelationshipExporter exporter;
+
         if (relationshipProperty.isPresent()) {
             var propertyKey = relationshipProperty.get();
             var propertyType = graphStore.relationshipPropertyType(propertyKey);
@@ -151,12 +170,14 @@ public class GraphWriteRelationshipProc extends CatalogProc {
             } else {
                 throw new UnsupportedOperationException("Writing non-numeric data is not supported.");
             }
-            builder.build().write(relationshipType.name, propertyKey);
+            exporter = builder.build();
+            exporter.write(relationshipType.name, propertyKey);
         } else {
-            builder.build().write(relationshipType.name);
+            exporter = builder.build();
+            exporter.write(relationshipType.name);
         }
 
-        return graphStore.relationshipCount(relationshipType);
+        return exporter.statistics();
     }
 
     @SuppressWarnings("unused")
@@ -167,13 +188,17 @@ public class GraphWriteRelationshipProc extends CatalogProc {
         public final String relationshipProperty;
         public final long relationshipsWritten;
         public final long propertiesWritten;
+        public final double relationshipsPerSecond;
+        public final long retryMillis;
 
         Result(
             long writeMillis,
             String graphName,
             String relationshipType,
             Optional<String> relationshipProperty,
-            long relationshipsWritten
+            long relationshipsWritten,
+            double relationshipsPerSecond,
+            long retryMillis
         ) {
             this.writeMillis = writeMillis;
             this.graphName = graphName;
@@ -181,6 +206,8 @@ public class GraphWriteRelationshipProc extends CatalogProc {
             this.relationshipProperty = relationshipProperty.orElse(null);
             this.relationshipsWritten = relationshipsWritten;
             this.propertiesWritten = relationshipProperty.isPresent() ? relationshipsWritten : 0L;
+            this.relationshipsPerSecond = relationshipsPerSecond;
+            this.retryMillis = retryMillis;
         }
 
         static class Builder {
@@ -189,18 +216,30 @@ public class GraphWriteRelationshipProc extends CatalogProc {
             private final Optional<String> maybeRelationshipProperty;
 
             private long writeMillis;
+            private long writeNanos;
             private long relationshipsWritten;
+            private RelationshipWriteStatistics statistics = new RelationshipWriteStatistics();
 
             Builder withWriteMillis(long writeMillis) {
                 this.writeMillis = writeMillis;
                 return this;
             }
 
+            Builder withWriteNanos(long writeNanos) {
+                this.writeNanos = writeNanos;
+                return this;
+            }
+
             Builder withRelationshipsWritten(long relationshipsWritten) {
                 this.relationshipsWritten = relationshipsWritten;
                 return this;
             }
 
+            Builder withStatistics(RelationshipWriteStatistics statistics) {
+                this.statistics = statistics;
+                return this;
+            }
+
             Builder(String graphName, String relationshipType, Optional<String> maybeRelationshipProperty) {
                 this.graphName = graphName;
                 this.relationshipType = relationshipType;
@@ -213,7 +252,9 @@ public class GraphWriteRelationshipProc extends CatalogProc {
                     graphName,
                     relationshipType,
                     maybeRelationshipProperty,
-                    relationshipsWritten
+                    relationshipsWritten,
+                    writeNanos > 0 ? relationshipsWritten * 1E9 / writeNanos : 0D,
+                    statistics.retryMillis()
                 );
             }
         }
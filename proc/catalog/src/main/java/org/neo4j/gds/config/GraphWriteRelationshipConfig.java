@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.config;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
@@ -44,6 +45,16 @@ public interface GraphWriteRelationshipConfig extends AlgoBaseConfig, WriteConfi
     @Configuration.Parameter
     Optional<String> relationshipProperty();
 
+    /**
+     * Writes the relationships in {@code writeConcurrency} concurrent transactions
+     * instead of a single one. Concurrent transactions may conflict on node locks
+     * and are retried, see {@code retryMillis} in the procedure result.
+     */
+    @Value.Default
+    default boolean parallelWrite() {
+        return false;
+    }
+
     static GraphWriteRelationshipConfig of(
         String relationshipType,
         Optional<String> relationshipProperty,
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.executor.SingleFlight;
+import org.neo4j.procedure.UserFunction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphProjectProcCoalescingTest extends BaseProcTest {
+
+    // the relationship query runs exactly once per projection
+    private static final String PROJECT_QUERY =
+        "CALL gds.graph.project.cypher(" +
+        "  'g', " +
+        "  'MATCH (n) RETURN id(n) AS id', " +
+        "  'WITH gds.test.holdProjection() AS held MATCH (s)-->(t) RETURN id(s) AS source, id(t) AS target'" +
+        ") YIELD graphName, nodeCount, relationshipCount";
+
+    private static final AtomicInteger PROJECTIONS = new AtomicInteger();
+    private static volatile CountDownLatch projectionStarted;
+    private static volatile CountDownLatch releaseProjection;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class);
+        registerFunctions(HoldProjectionFunc.class);
+        runQuery("CREATE (n)-[:REL]->(m)");
+
+        PROJECTIONS.set(0);
+        projectionStarted = new CountDownLatch(1);
+        releaseProjection = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldProjectIdenticalConcurrentCallsOnce() throws Exception {
+        var leader = CompletableFuture.supplyAsync(this::project);
+        assertThat(projectionStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var followerThread = new AtomicReference<Thread>();
+        var follower = CompletableFuture.supplyAsync(() -> {
+            followerThread.set(Thread.currentThread());
+            return project();
+        });
+
+        // release the projection only once the second call waits for it
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!isWaitingForInFlightProjection(followerThread.get())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        releaseProjection.countDown();
+
+        var expected = Map.<String, Object>of("graphName", "g", "nodeCount", 2L, "relationshipCount", 1L);
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo(expected);
+        assertThat(follower.get(10, TimeUnit.SECONDS)).isEqualTo(expected);
+        assertThat(PROJECTIONS.get()).isEqualTo(1);
+        assertThat(GraphStoreCatalog.graphStoreCount(DatabaseId.of(db))).isEqualTo(1);
+    }
+
+    private Map<String, Object> project() {
+        return runQuery(PROJECT_QUERY, result -> new HashMap<>(result.next()));
+    }
+
+    private static boolean isWaitingForInFlightProjection(Thread thread) {
+        return thread != null && Arrays
+            .stream(thread.getStackTrace())
+            .anyMatch(frame -> frame.getClassName().equals(SingleFlight.class.getName()) && frame.getMethodName().equals("await"));
+    }
+
+    public static class HoldProjectionFunc {
+
+        @UserFunction("gds.test.holdProjection")
+        public boolean holdProjection() {
+            PROJECTIONS.incrementAndGet();
+            projectionStarted.countDown();
+            try {
+                return releaseProjection.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
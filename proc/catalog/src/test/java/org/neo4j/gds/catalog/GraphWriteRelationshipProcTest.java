@@ -102,7 +102,7 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
     void writeRelationship() {
         String graphWriteQuery = formatWithLocale(
             "CALL gds.graph.relationship.write('%s', 'NEW_REL1')" +
-            "YIELD writeMillis, graphName, relationshipType, relationshipProperty, relationshipsWritten, propertiesWritten",
+            "YIELD writeMillis, graphName, relationshipType, relationshipProperty, relationshipsWritten, propertiesWritten, relationshipsPerSecond, retryMillis",
             TEST_GRAPH_NAME
         );
 
@@ -113,6 +113,8 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
             assertNull(row.get("relationshipProperty"));
             assertEquals(2L, row.getNumber("relationshipsWritten").longValue());
             assertEquals(0L, row.getNumber("propertiesWritten").longValue());
+            assertThat(0D, Matchers.lessThan(row.getNumber("relationshipsPerSecond").doubleValue()));
+            assertEquals(0L, row.getNumber("retryMillis").longValue());
         });
 
         String validationQuery =
@@ -139,7 +141,7 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
     ) {
         String graphWriteQuery = formatWithLocale(
             "CALL gds.graph.relationship.write('%s', '%s', '%s')" +
-            "YIELD writeMillis, graphName, relationshipType, relationshipProperty, relationshipsWritten, propertiesWritten",
+            "YIELD writeMillis, graphName, relationshipType, relationshipProperty, relationshipsWritten, propertiesWritten, relationshipsPerSecond, retryMillis",
             TEST_GRAPH_NAME,
             relType,
             relProperty
@@ -152,6 +154,8 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
             assertEquals(relProperty, row.get("relationshipProperty"));
             assertEquals(relationshipsWritten, row.getNumber("relationshipsWritten").longValue());
             assertEquals(relationshipsWritten, row.getNumber("propertiesWritten").longValue());
+            assertThat(0D, Matchers.lessThan(row.getNumber("relationshipsPerSecond").doubleValue()));
+            assertEquals(0L, row.getNumber("retryMillis").longValue());
         });
 
         String validationQuery = formatWithLocale(
@@ -166,6 +170,30 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
         ));
     }
 
+    @Test
+    void writeRelationshipInParallel() {
+        String graphWriteQuery = formatWithLocale(
+            "CALL gds.graph.relationship.write('%s', 'NEW_REL1', 'newRelProp1', {parallelWrite: true, writeConcurrency: 2})" +
+            "YIELD relationshipsWritten, propertiesWritten, relationshipsPerSecond, retryMillis",
+            TEST_GRAPH_NAME
+        );
+
+        runQueryWithRowConsumer(graphWriteQuery, row -> {
+            assertEquals(2L, row.getNumber("relationshipsWritten").longValue());
+            assertEquals(2L, row.getNumber("propertiesWritten").longValue());
+            assertThat(0D, Matchers.lessThan(row.getNumber("relationshipsPerSecond").doubleValue()));
+            assertThat(-1L, Matchers.lessThan(row.getNumber("retryMillis").longValue()));
+        });
+
+        String validationQuery =
+            "MATCH (n)-[r:NEW_REL1]->(m) " +
+            "RETURN type(r) AS relType, count(r) AS count, toFloat(sum(r.newRelProp1)) AS sum";
+
+        assertCypherResult(validationQuery, singletonList(
+            map("relType", "NEW_REL1", "count", 2L, "sum", 3.0)
+        ));
+    }
+
     @Test
     void shouldFailOnNonExistingRelationshipType() {
         assertError(
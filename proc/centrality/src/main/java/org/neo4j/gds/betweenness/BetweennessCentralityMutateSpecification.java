@@ -81,6 +81,8 @@ public class BetweennessCentralityMutateSpecification implements AlgorithmSpec<B
 
         Optional.ofNullable(computationResult.result())
             .ifPresent(result -> builder.withCentralityFunction(result::get));
+        Optional.ofNullable(computationResult.algorithm())
+            .ifPresent(builder::withApproximation);
 
         return builder;
     }
@@ -60,6 +60,8 @@ public class BetweennessCentralityStatsSpecification implements AlgorithmSpec<Be
 
             Optional.ofNullable(computationResult.result())
                 .ifPresent(result -> builder.withCentralityFunction(result::get));
+            Optional.ofNullable(computationResult.algorithm())
+                .ifPresent(builder::withApproximation);
 
             return Stream.of(
                 builder.withPreProcessingMillis(computationResult.preProcessingMillis())
@@ -83,6 +83,8 @@ public class BetweennessCentralityWriteSpecification implements AlgorithmSpec<Be
 
         Optional.ofNullable(computationResult.result())
             .ifPresent(result -> builder.withCentralityFunction(result::get));
+        Optional.ofNullable(computationResult.algorithm())
+            .ifPresent(builder::withApproximation);
 
         return builder;
     }
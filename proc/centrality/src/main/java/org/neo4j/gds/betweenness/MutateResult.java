@@ -21,7 +21,6 @@ package org.neo4j.gds.betweenness;
 
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.ProcedureReturnColumns;
-import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.Map;
 
@@ -37,11 +36,15 @@ public final class MutateResult extends StatsResult {
         long postProcessingMillis,
         long mutateMillis,
         @Nullable Map<String, Object> centralityDistribution,
+        long sampledPaths,
+        double centralityErrorBound,
 
         Map<String, Object> config
     ) {
         super(
             centralityDistribution,
+            sampledPaths,
+            centralityErrorBound,
             preProcessingMillis,
             computeMillis,
             postProcessingMillis,
@@ -51,7 +54,7 @@ public final class MutateResult extends StatsResult {
         this.mutateMillis = mutateMillis;
     }
 
-    static final class Builder extends AbstractCentralityResultBuilder<MutateResult> {
+    static final class Builder extends StatsResult.AbstractBuilder<MutateResult> {
 
         Builder(ProcedureReturnColumns returnColumns, int concurrency) {
             super(returnColumns, concurrency);
@@ -66,6 +69,8 @@ public final class MutateResult extends StatsResult {
                 postProcessingMillis,
                 mutateMillis,
                 centralityHistogram,
+                sampledPaths,
+                centralityErrorBound,
                 config.toMap()
             );
         }
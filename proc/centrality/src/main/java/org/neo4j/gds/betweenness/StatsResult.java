@@ -29,9 +29,13 @@ import java.util.Map;
 public class StatsResult extends StandardStatsResult {
 
     public final Map<String, Object> centralityDistribution;
+    public final long sampledPaths;
+    public final double centralityErrorBound;
 
     StatsResult(
         @Nullable Map<String, Object> centralityDistribution,
+        long sampledPaths,
+        double centralityErrorBound,
         long preProcessingMillis,
         long computeMillis,
         long postProcessingMillis,
@@ -39,9 +43,27 @@ public class StatsResult extends StandardStatsResult {
     ) {
         super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
         this.centralityDistribution = centralityDistribution;
+        this.sampledPaths = sampledPaths;
+        this.centralityErrorBound = centralityErrorBound;
     }
 
-    static final class Builder extends AbstractCentralityResultBuilder<StatsResult> {
+    abstract static class AbstractBuilder<RESULT> extends AbstractCentralityResultBuilder<RESULT> {
+
+        long sampledPaths;
+        double centralityErrorBound;
+
+        AbstractBuilder(ProcedureReturnColumns returnColumns, int concurrency) {
+            super(returnColumns, concurrency);
+        }
+
+        AbstractBuilder<RESULT> withApproximation(BetweennessCentrality algorithm) {
+            this.sampledPaths = algorithm.sampledPaths();
+            this.centralityErrorBound = algorithm.errorBound();
+            return this;
+        }
+    }
+
+    static final class Builder extends AbstractBuilder<StatsResult> {
         protected Builder(ProcedureReturnColumns returnColumns, int concurrency) {
             super(returnColumns, concurrency);
         }
@@ -50,6 +72,8 @@ public class StatsResult extends StandardStatsResult {
         public StatsResult buildResult() {
             return new StatsResult(
                 centralityHistogram,
+                sampledPaths,
+                centralityErrorBound,
                 preProcessingMillis,
                 computeMillis,
                 postProcessingMillis,
@@ -21,7 +21,6 @@ package org.neo4j.gds.betweenness;
 
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.ProcedureReturnColumns;
-import org.neo4j.gds.result.AbstractCentralityResultBuilder;
 
 import java.util.Map;
 
@@ -37,14 +36,24 @@ public final class WriteResult extends StatsResult {
         long postProcessingMillis,
         long writeMillis,
         @Nullable Map<String, Object> centralityDistribution,
+        long sampledPaths,
+        double centralityErrorBound,
         Map<String, Object> config
     ) {
-        super(centralityDistribution, preProcessingMillis, computeMillis, postProcessingMillis, config);
+        super(
+            centralityDistribution,
+            sampledPaths,
+            centralityErrorBound,
+            preProcessingMillis,
+            computeMillis,
+            postProcessingMillis,
+            config
+        );
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.writeMillis = writeMillis;
     }
 
-    static final class Builder extends AbstractCentralityResultBuilder<WriteResult> {
+    static final class Builder extends StatsResult.AbstractBuilder<WriteResult> {
 
         Builder(ProcedureReturnColumns returnColumns, int concurrency) {
             super(returnColumns, concurrency);
@@ -59,6 +68,8 @@ public final class WriteResult extends StatsResult {
                 postProcessingMillis,
                 writeMillis,
                 centralityHistogram,
+                sampledPaths,
+                centralityErrorBound,
                 config.toMap()
             );
         }
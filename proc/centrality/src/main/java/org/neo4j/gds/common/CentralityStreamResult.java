@@ -21,8 +21,8 @@ package org.neo4j.gds.common;
 
 @SuppressWarnings("unused")
 public final class CentralityStreamResult {
-    public final long nodeId;
-    public final double score;
+    public long nodeId;
+    public double score;
 
     public CentralityStreamResult(long nodeId, double score) {
         this.nodeId = nodeId;
@@ -35,6 +35,10 @@ final class DegreeCentralityNodePropertyValues implements DoubleNodePropertyValu
             .orElseGet(() -> new DegreeCentralityNodePropertyValues(0, (nodeId) -> -1L));
     }
 
+    static DegreeCentralityNodePropertyValues from(long nodeCount, DegreeCentrality.DegreeFunction degreeFunction) {
+        return new DegreeCentralityNodePropertyValues(nodeCount, degreeFunction);
+    }
+
     private DegreeCentralityNodePropertyValues(
         long nodeCount,
         DegreeCentrality.DegreeFunction degreeFunction
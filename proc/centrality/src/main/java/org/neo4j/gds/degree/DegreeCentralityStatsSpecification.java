@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.degree;
 
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.GdsCallable;
@@ -67,4 +68,19 @@ public class DegreeCentralityStatsSpecification implements AlgorithmSpec<DegreeC
             );
         };
     }
+
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public DegreeCentrality.DegreeFunction cacheableResult(DegreeCentrality.DegreeFunction result, Graph graph) {
+        return DegreeCentrality.MaterializedDegrees.of(result, graph.nodeCount());
+    }
+
+    @Override
+    public long resultSizeInBytes(DegreeCentrality.DegreeFunction result) {
+        return ((DegreeCentrality.MaterializedDegrees) result).sizeOf();
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.degree;
 
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.common.CentralityStreamResult;
 import org.neo4j.gds.executor.AlgorithmSpec;
@@ -69,5 +70,21 @@ public class DegreeCentralityStreamSpecification implements AlgorithmSpec<Degree
                                 nodePropertyValues.doubleValue(nodeId)
                             ));
                 }).orElseGet(Stream::empty)
-        );    }
+        );
+    }
+
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public DegreeCentrality.DegreeFunction cacheableResult(DegreeCentrality.DegreeFunction result, Graph graph) {
+        return DegreeCentrality.MaterializedDegrees.of(result, graph.nodeCount());
+    }
+
+    @Override
+    public long resultSizeInBytes(DegreeCentrality.DegreeFunction result) {
+        return ((DegreeCentrality.MaterializedDegrees) result).sizeOf();
+    }
 }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.degree;
 
-import org.neo4j.gds.WriteNodePropertiesComputationResultConsumer;
+import org.neo4j.gds.PipelinedWriteNodePropertiesComputationResultConsumer;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResult;
@@ -55,12 +55,16 @@ public class DegreeCentralityWriteSpecification implements AlgorithmSpec<DegreeC
 
     @Override
     public ComputationResultConsumer<DegreeCentrality, DegreeCentrality.DegreeFunction, DegreeCentralityWriteConfig, Stream<WriteResult>> computationResultConsumer() {
-        return new WriteNodePropertiesComputationResultConsumer<>(
+        return new PipelinedWriteNodePropertiesComputationResultConsumer<>(
             this::resultBuilder,
             computationResult -> List.of(ImmutableNodeProperty.of(
                 computationResult.config().writeProperty(),
                 DegreeCentralityNodePropertyValues.from(computationResult)
             )),
+            (partialResult, nodeCount, config) -> List.of(ImmutableNodeProperty.of(
+                config.writeProperty(),
+                DegreeCentralityNodePropertyValues.from(nodeCount, partialResult)
+            )),
             name()
         );
     }
@@ -28,6 +28,7 @@ import java.util.Map;
 
 public final class WriteResult extends StandardWriteResult {
 
+    public final long writeOverlapMillis;
     public final long nodePropertiesWritten;
     public final Map<String, Object> centralityDistribution;
 
@@ -37,10 +38,12 @@ public final class WriteResult extends StandardWriteResult {
         long computeMillis,
         long postProcessingMillis,
         long writeMillis,
+        long writeOverlapMillis,
         @Nullable Map<String, Object> centralityDistribution,
         Map<String, Object> config
     ) {
         super(preProcessingMillis, computeMillis, postProcessingMillis, writeMillis, config);
+        this.writeOverlapMillis = writeOverlapMillis;
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.centralityDistribution = centralityDistribution;
     }
@@ -59,6 +62,7 @@ public final class WriteResult extends StandardWriteResult {
                 computeMillis,
                 postProcessingMillis,
                 writeMillis,
+                writeOverlapMillis,
                 centralityHistogram,
                 config.toMap()
             );
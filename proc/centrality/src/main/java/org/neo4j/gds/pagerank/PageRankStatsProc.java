@@ -87,6 +87,16 @@ public class PageRankStatsProc extends StatsProc<PageRankAlgorithm, PageRankResu
         return new PageRankAlgorithmFactory<>();
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(PageRankResult result) {
+        return result.scores().sizeOf();
+    }
+
     @SuppressWarnings("unused")
     public static class StatsResult extends StandardStatsResult {
 
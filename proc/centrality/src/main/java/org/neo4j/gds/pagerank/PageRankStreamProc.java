@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.NodeRowStream;
 import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.common.CentralityStreamResult;
@@ -32,6 +33,7 @@ import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.executor.ExecutionMode.STREAM;
@@ -70,6 +72,16 @@ public class PageRankStreamProc extends StreamProc<PageRankAlgorithm, PageRankRe
         return new CentralityStreamResult(originalNodeId, nodePropertyValues.doubleValue(internalNodeId));
     }
 
+    @Override
+    protected Optional<NodeRowStream.RowWriter<CentralityStreamResult>> rowWriter(NodePropertyValues nodePropertyValues) {
+        var row = new CentralityStreamResult(0L, 0D);
+        return Optional.of((originalNodeId, internalNodeId) -> {
+            row.nodeId = originalNodeId;
+            row.score = nodePropertyValues.doubleValue(internalNodeId);
+            return row;
+        });
+    }
+
     @Override
     protected PageRankStreamConfig newConfig(String username, CypherMapWrapper config) {
         return PageRankStreamConfig.of(config);
@@ -84,4 +96,14 @@ public class PageRankStreamProc extends StreamProc<PageRankAlgorithm, PageRankRe
     protected NodePropertyValues nodeProperties(ComputationResult<PageRankAlgorithm, PageRankResult, PageRankStreamConfig> computationResult) {
         return PageRankProc.nodeProperties(computationResult);
     }
+
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(PageRankResult result) {
+        return result.scores().sizeOf();
+    }
 }
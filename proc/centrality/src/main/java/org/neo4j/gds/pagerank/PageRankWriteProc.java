@@ -98,6 +98,7 @@ public class PageRankWriteProc extends WriteProc<PageRankAlgorithm, PageRankResu
 
         public final long writeMillis;
         public final long nodePropertiesWritten;
+        public final long nodePropertiesSkipped;
 
         WriteResult(
             long ranIterations,
@@ -108,6 +109,7 @@ public class PageRankWriteProc extends WriteProc<PageRankAlgorithm, PageRankResu
             long postProcessingMillis,
             long writeMillis,
             long nodePropertiesWritten,
+            long nodePropertiesSkipped,
             Map<String, Object> configuration
         ) {
             super(
@@ -121,6 +123,7 @@ public class PageRankWriteProc extends WriteProc<PageRankAlgorithm, PageRankResu
             );
             this.writeMillis = writeMillis;
             this.nodePropertiesWritten = nodePropertiesWritten;
+            this.nodePropertiesSkipped = nodePropertiesSkipped;
         }
 
         static class Builder extends PageRankProc.PageRankResultBuilder<WriteResult> {
@@ -140,6 +143,7 @@ public class PageRankWriteProc extends WriteProc<PageRankAlgorithm, PageRankResu
                     postProcessingMillis,
                     writeMillis,
                     nodePropertiesWritten,
+                    nodePropertiesSkipped,
                     config.toMap()
                 );
             }
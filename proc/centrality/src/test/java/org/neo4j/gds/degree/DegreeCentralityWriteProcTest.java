@@ -23,12 +23,22 @@ import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestLogProvider;
 import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
@@ -63,6 +73,16 @@ class DegreeCentralityWriteProcTest extends BaseProcTest {
         ", (f)-[:TYPE1 {weight: 2.0}]->(b)" +
         ", (f)-[:TYPE1 {weight: 2.0}]->(e)";
 
+    private TestLog testLog;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        testLog = Neo4jProxy.testLog();
+        builder.setUserLogProvider(new TestLogProvider(testLog));
+    }
+
     @BeforeEach
     void setup() throws Exception {
         registerProcedures(
@@ -76,6 +96,10 @@ class DegreeCentralityWriteProcTest extends BaseProcTest {
             .yields();
 
         runQuery(createQuery);
+        runQuery(
+            "CALL gds.graph.project('dcInverseGraph', '*', " +
+            "{TYPE1: {type: 'TYPE1', indexInverse: true, properties: 'weight'}})"
+        );
     }
 
     @Test
@@ -123,4 +147,104 @@ class DegreeCentralityWriteProcTest extends BaseProcTest {
             .as("`write` mode should always return one row")
             .isEqualTo(1);
     }
+
+    @Test
+    void testWeightedWriteWhileComputing() {
+        String writeQuery = GdsCypher.call("dcGraph")
+            .algo("degree")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "weight")
+            .addParameter("writeProperty", "weightedDegree")
+            .yields("nodePropertiesWritten", "writeMillis", "writeOverlapMillis");
+
+        runQueryWithRowConsumer(writeQuery, row -> {
+            assertThat(row.getNumber("nodePropertiesWritten"))
+                .asInstanceOf(LONG)
+                .isEqualTo(10L);
+
+            assertThat(row.getNumber("writeOverlapMillis"))
+                .asInstanceOf(LONG)
+                .isBetween(0L, row.getNumber("writeMillis").longValue());
+        });
+
+        assertThat(testLog.getMessages(TestLog.INFO))
+            .as("the weighted degree should have been written while computing")
+            .anySatisfy(message -> assertThat(message).contains("Pipelined write: compute"));
+
+        runQueryWithRowConsumer(
+            "MATCH (n) RETURN sum(n.weightedDegree) AS degreeSum, count(n.weightedDegree) AS written",
+            row -> {
+                assertThat(row.getNumber("degreeSum").doubleValue()).isEqualTo(18.0);
+                assertThat(row.getNumber("written")).asInstanceOf(LONG).isEqualTo(10L);
+            }
+        );
+    }
+
+    static Stream<Arguments> pipelinedWriteParameters() {
+        return Stream.of(
+            Arguments.of(Orientation.NATURAL, false, 9.0),
+            Arguments.of(Orientation.NATURAL, true, 18.0),
+            Arguments.of(Orientation.REVERSE, false, 9.0),
+            Arguments.of(Orientation.REVERSE, true, 18.0),
+            Arguments.of(Orientation.UNDIRECTED, false, 18.0),
+            Arguments.of(Orientation.UNDIRECTED, true, 36.0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("pipelinedWriteParameters")
+    void shouldWriteWhileComputingOnInverseIndexedGraphs(Orientation orientation, boolean weighted, double expectedSum) {
+        var queryBuilder = GdsCypher.call("dcInverseGraph")
+            .algo("degree")
+            .writeMode()
+            .addParameter("orientation", orientation.name())
+            .addParameter("writeProperty", "pipelinedDegree");
+        if (weighted) {
+            queryBuilder.addParameter("relationshipWeightProperty", "weight");
+        }
+
+        runQueryWithRowConsumer(queryBuilder.yields("nodePropertiesWritten", "writeMillis", "writeOverlapMillis"), row -> {
+            assertThat(row.getNumber("nodePropertiesWritten"))
+                .asInstanceOf(LONG)
+                .isEqualTo(10L);
+
+            assertThat(row.getNumber("writeOverlapMillis"))
+                .asInstanceOf(LONG)
+                .isBetween(0L, row.getNumber("writeMillis").longValue());
+        });
+
+        assertThat(testLog.getMessages(TestLog.INFO))
+            .anySatisfy(message -> assertThat(message).contains("Pipelined write: compute"));
+
+        runQueryWithRowConsumer(
+            "MATCH (n) RETURN sum(n.pipelinedDegree) AS degreeSum, count(n.pipelinedDegree) AS written",
+            row -> {
+                assertThat(row.getNumber("degreeSum").doubleValue()).isEqualTo(expectedSum);
+                assertThat(row.getNumber("written")).asInstanceOf(LONG).isEqualTo(10L);
+            }
+        );
+    }
+
+    @Test
+    void shouldFallBackToWritingAfterComputingWithoutInverseIndex() {
+        String writeQuery = GdsCypher.call("dcGraph")
+            .algo("degree")
+            .writeMode()
+            .addParameter("orientation", "REVERSE")
+            .addParameter("writeProperty", "reverseDegree")
+            .yields("nodePropertiesWritten", "writeOverlapMillis");
+
+        runQueryWithRowConsumer(writeQuery, row -> {
+            assertThat(row.getNumber("nodePropertiesWritten"))
+                .asInstanceOf(LONG)
+                .isEqualTo(10L);
+
+            assertThat(row.getNumber("writeOverlapMillis"))
+                .asInstanceOf(LONG)
+                .isEqualTo(0L);
+        });
+
+        assertThat(testLog.getMessages(TestLog.INFO))
+            .noneSatisfy(message -> assertThat(message).contains("Pipelined write"));
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds;
 
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.configuration.DefaultsConfiguration;
@@ -121,6 +122,7 @@ public abstract class AlgoBaseProc<
         var configFunction = newConfigFunction();
         var validationConfig = validationConfig(executionContext);
         var releaseProgressTask = releaseProgressTask();
+        var isResultCacheable = isResultCacheable();
         var algoSpec = new AlgorithmSpec<ALGO, ALGO_RESULT, CONFIG, ComputationResult<ALGO, ALGO_RESULT, CONFIG>, AlgorithmFactory<?, ALGO, CONFIG>>() {
             @Override
             public String name() {
@@ -151,6 +153,21 @@ public abstract class AlgoBaseProc<
             public boolean releaseProgressTask() {
                 return releaseProgressTask;
             }
+
+            @Override
+            public boolean isResultCacheable() {
+                return isResultCacheable;
+            }
+
+            @Override
+            public ALGO_RESULT cacheableResult(ALGO_RESULT result, Graph graph) {
+                return AlgoBaseProc.this.cacheableResult(result, graph);
+            }
+
+            @Override
+            public long resultSizeInBytes(ALGO_RESULT result) {
+                return AlgoBaseProc.this.resultSizeInBytes(result);
+            }
         };
 
         return new ProcedureExecutor<>(
@@ -183,7 +200,12 @@ public abstract class AlgoBaseProc<
                     executionContext.databaseId(),
                     executionContext.isGdsAdmin()
                 ),
-                new MemoryUsageValidator(executionContext.log(), executionContext.dependencyResolver())
+                new MemoryUsageValidator(
+                    executionContext.log(),
+                    executionContext.dependencyResolver(),
+                    executionContext.username(),
+                    executionContext.taskRegistryFactory()
+                )
             );
         }
     }
@@ -158,7 +158,12 @@ public abstract class BaseProc {
     }
 
     public MemoryUsageValidator memoryUsageValidator() {
-        return new MemoryUsageValidator(log, GraphDatabaseApiProxy.dependencyResolver(databaseService));
+        return new MemoryUsageValidator(
+            log,
+            GraphDatabaseApiProxy.dependencyResolver(databaseService),
+            username(),
+            taskRegistryFactory
+        );
     }
 
     public ExecutionContext executionContext() {
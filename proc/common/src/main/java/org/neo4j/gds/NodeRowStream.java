@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams one result row per node with a value, letting a {@link RowWriter} refill a single row instance for every node.
+ * <p>
+ * Neo4j converts a procedure result row into values before it pulls the next row,
+ * so the row can be overwritten instead of allocating a result object per node.
+ * The returned stream is sequential and its elements must not be collected or buffered.
+ */
+public final class NodeRowStream {
+
+    /**
+     * Owns the row that is streamed and refills it for one node at a time.
+     */
+    @FunctionalInterface
+    public interface RowWriter<ROW> {
+        /**
+         * Fills the row with the result of the given node and returns it.
+         */
+        ROW write(long originalNodeId, long internalNodeId);
+    }
+
+    private NodeRowStream() {}
+
+    public static <ROW> Stream<ROW> of(
+        IdMap idMap,
+        NodePropertyValues nodePropertyValues,
+        RowWriter<ROW> rowWriter
+    ) {
+        return StreamSupport.stream(new RowSpliterator<>(idMap, nodePropertyValues, rowWriter), false);
+    }
+
+    private static final class RowSpliterator<ROW> implements Spliterator<ROW> {
+
+        private final IdMap idMap;
+        private final NodePropertyValues nodePropertyValues;
+        private final RowWriter<ROW> rowWriter;
+        private final long nodeCount;
+        private long nextNodeId;
+
+        RowSpliterator(IdMap idMap, NodePropertyValues nodePropertyValues, RowWriter<ROW> rowWriter) {
+            this.idMap = idMap;
+            this.nodePropertyValues = nodePropertyValues;
+            this.rowWriter = rowWriter;
+            this.nodeCount = idMap.nodeCount();
+            this.nextNodeId = IdMap.START_NODE_ID;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ROW> action) {
+            while (nextNodeId < nodeCount) {
+                long nodeId = nextNodeId++;
+                if (nodePropertyValues.hasValue(nodeId)) {
+                    action.accept(rowWriter.write(idMap.toOriginalNodeId(nodeId), nodeId));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ROW> action) {
+            for (long nodeId = nextNodeId; nodeId < nodeCount; nodeId++) {
+                if (nodePropertyValues.hasValue(nodeId)) {
+                    action.accept(rowWriter.write(idMap.toOriginalNodeId(nodeId), nodeId));
+                }
+            }
+            nextNodeId = nodeCount;
+        }
+
+        @Override
+        public Spliterator<ROW> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return nodeCount - nextNodeId;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
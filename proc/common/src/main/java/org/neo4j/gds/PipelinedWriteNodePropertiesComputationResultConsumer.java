@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.WritePropertyConfig;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.write.NodeProperty;
+import org.neo4j.gds.core.write.NodePropertyExporter;
+import org.neo4j.gds.core.write.PipelinedNodePropertyWriter;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.PipelinedComputationResultConsumer;
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes node properties while the algorithm is still computing, if the algorithm
+ * publishes completed node ranges, see {@link PartialResultProducer}.
+ * Otherwise, the properties are written after the computation like in
+ * {@link WriteNodePropertiesComputationResultConsumer}.
+ */
+public class PipelinedWriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm<ALGO_RESULT>, ALGO_RESULT, CONFIG extends WritePropertyConfig & AlgoBaseConfig, RESULT>
+    extends WriteNodePropertiesComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, RESULT>
+    implements PipelinedComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, Stream<RESULT>> {
+
+    @FunctionalInterface
+    public interface PartialNodePropertyListFunction<ALGO_RESULT, CONFIG> {
+        List<NodeProperty> apply(ALGO_RESULT partialResult, long nodeCount, CONFIG config);
+    }
+
+    private final PartialNodePropertyListFunction<ALGO_RESULT, CONFIG> partialNodePropertyListFunction;
+
+    private PipelinedNodePropertyWriter pipelinedWriter;
+    private NodePropertyExporter exporter;
+    private ProgressTracker progressTracker;
+
+    public PipelinedWriteNodePropertiesComputationResultConsumer(
+        ResultBuilderFunction<ALGO, ALGO_RESULT, CONFIG, RESULT> resultBuilderFunction,
+        WriteNodePropertyListFunction<ALGO, ALGO_RESULT, CONFIG> nodePropertyListFunction,
+        PartialNodePropertyListFunction<ALGO_RESULT, CONFIG> partialNodePropertyListFunction,
+        String procedureName
+    ) {
+        super(resultBuilderFunction, nodePropertyListFunction, procedureName);
+        this.partialNodePropertyListFunction = partialNodePropertyListFunction;
+    }
+
+    @Override
+    public void beforeCompute(ALGO algorithm, Graph graph, CONFIG config, ExecutionContext executionContext) {
+        if (!(algorithm instanceof PartialResultProducer) || config.writeAsync()) {
+            return;
+        }
+
+        var nodeCount = graph.nodeCount();
+        var progressTracker = createProgressTracker(nodeCount, config.writeConcurrency(), executionContext);
+        var exporterBuilder = executionContext
+            .nodePropertyExporterBuilder()
+            .withIdMap(graph)
+            .withTerminationFlag(algorithm.getTerminationFlag())
+            .withProgressTracker(progressTracker)
+            .parallel(Pools.DEFAULT, config.writeConcurrency());
+        if (config.writeOnlyChanges()) {
+            exporterBuilder.writeOnlyChanges(config.writeTolerance());
+        }
+        var exporter = exporterBuilder.build();
+
+        if (!exporter.supportsRangeWrites()) {
+            progressTracker.release();
+            return;
+        }
+
+        progressTracker.beginSubTask(nodeCount);
+        var pipelinedWriter = PipelinedNodePropertyWriter.start(
+            exporter,
+            config.writeConcurrency(),
+            algorithm.getTerminationFlag()
+        );
+
+        @SuppressWarnings("unchecked")
+        var producer = (PartialResultProducer<ALGO_RESULT>) algorithm;
+        var producesPartialResults = producer.onRangeCompleted((startNode, rangeNodeCount, partialResult) ->
+            pipelinedWriter.submit(
+                partialNodePropertyListFunction.apply(partialResult, nodeCount, config),
+                startNode,
+                rangeNodeCount
+            )
+        );
+
+        if (!producesPartialResults) {
+            pipelinedWriter.finish(System.nanoTime());
+            progressTracker.endSubTask();
+            progressTracker.release();
+            return;
+        }
+
+        this.pipelinedWriter = pipelinedWriter;
+        this.exporter = exporter;
+        this.progressTracker = progressTracker;
+    }
+
+    @Override
+    public void computeFailed() {
+        if (pipelinedWriter != null) {
+            pipelinedWriter.abort();
+            progressTracker.endSubTaskWithFailure();
+            progressTracker.release();
+            pipelinedWriter = null;
+        }
+    }
+
+    @Override
+    void writeToNeo(
+        AbstractResultBuilder<?> resultBuilder,
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
+        ExecutionContext executionContext
+    ) {
+        if (pipelinedWriter == null) {
+            super.writeToNeo(resultBuilder, computationResult, executionContext);
+            return;
+        }
+
+        PipelinedNodePropertyWriter.Timings timings;
+        try {
+            timings = pipelinedWriter.finish(System.nanoTime());
+            progressTracker.endSubTask();
+        } catch (RuntimeException e) {
+            progressTracker.endSubTaskWithFailure();
+            throw e;
+        } finally {
+            progressTracker.release();
+            pipelinedWriter = null;
+        }
+
+        executionContext.log().info(formatWithLocale(
+            "Pipelined write: compute %d ms, write %d ms, overlap %d ms",
+            computationResult.computeMillis(),
+            timings.writeMillis(),
+            timings.overlapMillis()
+        ));
+
+        resultBuilder
+            .withWriteMillis(timings.writeMillis())
+            .withWriteOverlapMillis(timings.overlapMillis())
+            .withNodeCount(computationResult.graph().nodeCount())
+            .withNodePropertiesWritten(exporter.propertiesWritten())
+            .withNodePropertiesSkipped(exporter.propertiesSkipped());
+    }
+}
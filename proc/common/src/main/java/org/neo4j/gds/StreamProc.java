@@ -27,6 +27,7 @@ import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 
+import java.util.Optional;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -38,6 +39,16 @@ public abstract class StreamProc<
 
     protected abstract PROC_RESULT streamResult(long originalNodeId, long internalNodeId, NodePropertyValues nodePropertyValues);
 
+    /**
+     * Returns a writer that refills a single mutable row for every streamed node,
+     * or empty to allocate one row per node with {@link #streamResult}.
+     *
+     * @see NodeRowStream
+     */
+    protected Optional<NodeRowStream.RowWriter<PROC_RESULT>> rowWriter(NodePropertyValues nodePropertyValues) {
+        return Optional.empty();
+    }
+
     @Override
     public ComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, Stream<PROC_RESULT>> computationResultConsumer() {
         return (ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult, ExecutionContext executionContext) ->
@@ -48,6 +59,10 @@ public abstract class StreamProc<
 
                 Graph graph = computationResult.graph();
                 NodePropertyValues nodePropertyValues = nodeProperties(computationResult);
+                var rowWriter = rowWriter(nodePropertyValues);
+                if (rowWriter.isPresent()) {
+                    return NodeRowStream.of(graph, nodePropertyValues, rowWriter.get());
+                }
                 return LongStream
                     .range(IdMap.START_NODE_ID, graph.nodeCount())
                     .filter(nodePropertyValues::hasValue)
@@ -27,6 +27,8 @@ import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.NodePropertyExporter;
+import org.neo4j.gds.core.write.NodePropertyWriteJob;
+import org.neo4j.gds.core.write.WriteJobCatalog;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -35,6 +37,7 @@ import org.neo4j.gds.result.AbstractResultBuilder;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm<ALGO_RESULT>, ALGO_RESULT, CONFIG extends WritePropertyConfig & AlgoBaseConfig, RESULT>
     implements ComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, Stream<RESULT>> {
@@ -81,6 +84,11 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
         ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
         ExecutionContext executionContext
     ) {
+        if (computationResult.config().writeAsync()) {
+            writeInBackground(resultBuilder, computationResult, executionContext);
+            return;
+        }
+
         try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
             Graph graph = computationResult.graph();
             var progressTracker = createProgressTracker(
@@ -88,13 +96,16 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
                 computationResult.config().writeConcurrency(),
                 executionContext
             );
-            var exporter = executionContext
+            var exporterBuilder = executionContext
                 .nodePropertyExporterBuilder()
                 .withIdMap(graph)
                 .withTerminationFlag(computationResult.algorithm().terminationFlag)
                 .withProgressTracker(progressTracker)
-                .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
-                .build();
+                .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency());
+            if (computationResult.config().writeOnlyChanges()) {
+                exporterBuilder.writeOnlyChanges(computationResult.config().writeTolerance());
+            }
+            var exporter = exporterBuilder.build();
 
             try {
                 exporter.write(nodePropertyListFunction.apply(computationResult));
@@ -104,7 +115,63 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
 
             resultBuilder.withNodeCount(computationResult.graph().nodeCount());
             resultBuilder.withNodePropertiesWritten(exporter.propertiesWritten());
+            resultBuilder.withNodePropertiesSkipped(exporter.propertiesSkipped());
+        }
+    }
+
+    private void writeInBackground(
+        AbstractResultBuilder<?> resultBuilder,
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
+        ExecutionContext executionContext
+    ) {
+        var config = computationResult.config();
+        var nodeCount = computationResult.graph().nodeCount();
+        var exporterBuilder = executionContext
+            .nodePropertyExporterBuilder()
+            .withIdMap(computationResult.graph())
+            .parallel(Pools.DEFAULT, config.writeConcurrency());
+        if (config.writeOnlyChanges()) {
+            exporterBuilder.writeOnlyChanges(config.writeTolerance());
         }
+
+        // the job keeps the results in memory after the procedure returned,
+        // so it keeps the memory reserved for this call until it completes or is dropped
+        var memoryReservation = computationResult.memoryReservation().handOff();
+        try {
+            var job = new NodePropertyWriteJob(
+                config.jobId(),
+                executionContext.username(),
+                nodePropertyListFunction.apply(computationResult),
+                nodeCount,
+                config.writeConcurrency(),
+                Pools.DEFAULT,
+                () -> NodePropertyExporter.baseTask(procedureName, nodeCount),
+                (progressTracker, terminationFlag) -> exporterBuilder
+                    .withProgressTracker(progressTracker)
+                    .withTerminationFlag(terminationFlag)
+                    .build(),
+                memoryReservation::close,
+                executionContext.log(),
+                executionContext.taskRegistryFactory(),
+                executionContext.userLogRegistryFactory()
+            );
+            executionContext.dependencyResolver().resolveDependency(WriteJobCatalog.class).register(job);
+            job.start();
+        } catch (RuntimeException e) {
+            memoryReservation.close();
+            throw e;
+        }
+
+        executionContext.log().info(formatWithLocale(
+            "%s: writing %d nodes in background job `%s`",
+            procedureName,
+            nodeCount,
+            config.jobId().asString()
+        ));
+        // nothing has been written yet, writeMillis and nodePropertiesWritten do not apply and stay 0
+        resultBuilder.withWriteMillis(0L);
+        resultBuilder.withNodePropertiesWritten(0L);
+        resultBuilder.withNodeCount(nodeCount);
     }
 
     ProgressTracker createProgressTracker(
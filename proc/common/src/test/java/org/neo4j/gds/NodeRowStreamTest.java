@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.core.huge.DirectIdMap;
+import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
+import org.neo4j.gds.nodeproperties.LongTestPropertyValues;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class NodeRowStreamTest {
+
+    private static final long NODE_COUNT = 1_000_000;
+
+    private volatile Object sink;
+
+    private static final DoubleNodePropertyValues EVEN_NODE_VALUES = new DoubleNodePropertyValues() {
+        @Override
+        public double doubleValue(long nodeId) {
+            return nodeId * 0.5;
+        }
+
+        @Override
+        public boolean hasValue(long nodeId) {
+            return nodeId % 2 == 0;
+        }
+
+        @Override
+        public long nodeCount() {
+            return 10;
+        }
+    };
+
+    @Test
+    void streamsOnlyNodesWithValues() {
+        var idMap = new DirectIdMap(10);
+        var row = new Row();
+
+        var nodeIds = NodeRowStream
+            .of(idMap, EVEN_NODE_VALUES, (originalNodeId, nodeId) -> {
+                row.nodeId = originalNodeId;
+                return row;
+            })
+            .mapToLong(r -> r.nodeId)
+            .toArray();
+
+        assertThat(nodeIds).containsExactly(0, 2, 4, 6, 8);
+    }
+
+    @Test
+    void refillsTheRowOfTheWriter() {
+        var idMap = new DirectIdMap(10);
+        var row = new Row();
+
+        var iterator = NodeRowStream
+            .of(idMap, EVEN_NODE_VALUES, (originalNodeId, nodeId) -> {
+                row.nodeId = originalNodeId;
+                row.score = EVEN_NODE_VALUES.doubleValue(nodeId);
+                return row;
+            })
+            .iterator();
+
+        var first = iterator.next();
+        assertThat(first.score).isEqualTo(0D);
+        var second = iterator.next();
+        assertThat(second).isSameAs(first);
+        assertThat(second.nodeId).isEqualTo(2L);
+        assertThat(second.score).isEqualTo(1D);
+    }
+
+    @Test
+    void reusedPageRankRowsDoNotAllocatePerRow() {
+        var idMap = new DirectIdMap(NODE_COUNT);
+        var scores = new DoubleTestPropertyValues(nodeId -> nodeId * 0.5);
+        // same shape as the row writer of PageRankStreamProc
+        var row = new Row();
+        NodeRowStream.RowWriter<Row> rowWriter = (originalNodeId, nodeId) -> {
+            row.nodeId = originalNodeId;
+            row.score = scores.doubleValue(nodeId);
+            return row;
+        };
+
+        // warm up before measuring
+        drain(NodeRowStream.of(idMap, scores, rowWriter));
+
+        assertThat(bytesPerRow(NodeRowStream.of(idMap, scores, rowWriter))).isLessThan(1D);
+    }
+
+    @Test
+    void reusedWccRowsDoNotAllocatePerRow() {
+        var idMap = new DirectIdMap(NODE_COUNT);
+        var components = new LongTestPropertyValues(nodeId -> nodeId / 2);
+        // same shape as the row writer of WccStreamProc
+        var row = new ComponentRow();
+        NodeRowStream.RowWriter<ComponentRow> rowWriter = (originalNodeId, nodeId) -> {
+            row.nodeId = originalNodeId;
+            row.componentId = components.longValue(nodeId);
+            return row;
+        };
+
+        // warm up before measuring
+        drain(NodeRowStream.of(idMap, components, rowWriter));
+
+        assertThat(bytesPerRow(NodeRowStream.of(idMap, components, rowWriter))).isLessThan(1D);
+    }
+
+    private double bytesPerRow(Stream<?> rows) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long rowCount = drain(rows);
+        long bytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        assertThat(rowCount).isEqualTo(NODE_COUNT);
+        return (double) (bytesAfter - bytesBefore) / rowCount;
+    }
+
+    private long drain(Stream<?> rows) {
+        long[] count = {0};
+        // publishing every row keeps the JIT from eliminating allocations
+        rows.forEach(row -> {
+            sink = row;
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static final class Row {
+        long nodeId;
+        double score;
+    }
+
+    private static final class ComponentRow {
+        long nodeId;
+        long componentId;
+    }
+}
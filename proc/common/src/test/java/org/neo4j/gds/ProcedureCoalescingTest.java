@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.executor.SingleFlight;
+import org.neo4j.gds.test.TestAlgorithm;
+import org.neo4j.gds.test.TestAlgorithmFactory;
+import org.neo4j.gds.test.TestAlgorithmResult;
+import org.neo4j.gds.test.TestConfig;
+import org.neo4j.gds.test.TestProc;
+import org.neo4j.gds.test.TestResult;
+import org.neo4j.gds.test.TestWriteConfig;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcedureCoalescingTest extends BaseProcTest {
+
+    private static final AtomicInteger COMPUTATIONS = new AtomicInteger();
+    private static volatile CountDownLatch computationStarted;
+    private static volatile CountDownLatch releaseComputation;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class);
+        runQuery("CREATE (n)-[:REL]->(m)");
+        runQuery("CALL gds.graph.project('g', '*', '*')");
+
+        COMPUTATIONS.set(0);
+        computationStarted = new CountDownLatch(1);
+        releaseComputation = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldComputeIdenticalConcurrentCallsOnce() throws Exception {
+        var leader = CompletableFuture.supplyAsync(this::stats);
+        assertThat(computationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var followerThread = new AtomicReference<Thread>();
+        var follower = CompletableFuture.supplyAsync(() -> {
+            followerThread.set(Thread.currentThread());
+            return stats();
+        });
+
+        // release the computation only once the second call waits for it
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!isWaitingForInFlightComputation(followerThread.get())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        releaseComputation.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS).relationshipCount).isEqualTo(1L);
+        var followerResult = follower.get(10, TimeUnit.SECONDS);
+        assertThat(followerResult.relationshipCount).isEqualTo(1L);
+        assertThat(followerResult.computeMillis).isEqualTo(0L);
+        assertThat(COMPUTATIONS.get()).isEqualTo(1);
+    }
+
+    private TestResult stats() {
+        var result = new AtomicReference<TestResult>();
+        TestProcedureRunner.applyOnProcedure(db, CoalescingTestProc.class, proc ->
+            result.set(proc.stats("g", Map.of("writeProperty", "test")).findFirst().orElseThrow())
+        );
+        return result.get();
+    }
+
+    private static boolean isWaitingForInFlightComputation(Thread thread) {
+        return thread != null && Arrays
+            .stream(thread.getStackTrace())
+            .anyMatch(frame -> frame.getClassName().equals(SingleFlight.class.getName()) && frame.getMethodName().equals("await"));
+    }
+
+    public static class CoalescingTestProc extends TestProc {
+
+        @Override
+        public boolean isResultCacheable() {
+            return true;
+        }
+
+        @Override
+        public GraphAlgorithmFactory<TestAlgorithm, TestWriteConfig> algorithmFactory() {
+            return new TestAlgorithmFactory<>() {
+                @Override
+                public TestAlgorithm build(Graph graph, TestConfig configuration, ProgressTracker progressTracker) {
+                    return new TestAlgorithm(graph, progressTracker, false) {
+                        @Override
+                        public TestAlgorithmResult compute() {
+                            COMPUTATIONS.incrementAndGet();
+                            computationStarted.countDown();
+                            try {
+                                releaseComputation.await(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return super.compute();
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
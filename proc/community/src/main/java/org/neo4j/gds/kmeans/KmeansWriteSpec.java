@@ -86,7 +86,7 @@ public class KmeansWriteSpec implements AlgorithmSpec<Kmeans, KmeansResult, Kmea
                 var algorithm = computationResult.algorithm();
                 var config = computationResult.config();
 
-                NodePropertyExporter exporter =  executionContext.nodePropertyExporterBuilder()
+                var exporterBuilder = executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(AlgorithmSpecProgressTrackerProvider.createProgressTracker(
@@ -95,8 +95,11 @@ public class KmeansWriteSpec implements AlgorithmSpec<Kmeans, KmeansResult, Kmea
                         writeConcurrency,
                         executionContext
                     ))
-                    .parallel(Pools.DEFAULT, writeConcurrency)
-                    .build();
+                    .parallel(Pools.DEFAULT, writeConcurrency);
+                if (config.writeOnlyChanges()) {
+                    exporterBuilder.writeOnlyChanges(config.writeTolerance());
+                }
+                NodePropertyExporter exporter = exporterBuilder.build();
 
                 var properties = new LongNodePropertyValues() {
                     @Override
@@ -27,6 +27,8 @@ import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.result.AbstractCommunityResultBuilder;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+
 final class LouvainProc {
 
     static final String LOUVAIN_DESCRIPTION =
@@ -34,6 +36,19 @@ final class LouvainProc {
 
     private LouvainProc() {}
 
+    /**
+     * The final communities are one of the dendrograms, which are all held by the result.
+     */
+    static long resultSizeInBytes(LouvainResult result) {
+        long sizeInBytes = sizeOfDoubleArray(result.modularities().length);
+        for (var dendrogram : result.dendrogramManager().getAllDendrograms()) {
+            if (dendrogram != null) {
+                sizeInBytes += dendrogram.sizeOf();
+            }
+        }
+        return sizeInBytes;
+    }
+
     static <CONFIG extends LouvainBaseConfig> NodePropertyValues nodeProperties(
         ComputationResult<Louvain, LouvainResult, CONFIG> computationResult,
         String resultProperty
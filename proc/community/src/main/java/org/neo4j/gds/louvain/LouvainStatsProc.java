@@ -85,6 +85,16 @@ public class LouvainStatsProc extends StatsProc<Louvain, LouvainResult, LouvainS
         return new LouvainFactory<>();
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(LouvainResult result) {
+        return LouvainProc.resultSizeInBytes(result);
+    }
+
     @SuppressWarnings("unused")
     public static class StatsResult extends StandardStatsResult {
 
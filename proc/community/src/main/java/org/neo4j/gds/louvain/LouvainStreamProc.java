@@ -116,6 +116,16 @@ public class LouvainStreamProc extends StreamProc<Louvain, LouvainResult, Louvai
         throw new UnsupportedOperationException("Louvain handles result building individually.");
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(LouvainResult result) {
+        return LouvainProc.resultSizeInBytes(result);
+    }
+
     @SuppressWarnings("unused")
     public static final class StreamResult {
         public final long nodeId;
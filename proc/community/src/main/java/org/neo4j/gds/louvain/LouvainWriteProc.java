@@ -98,6 +98,7 @@ public class LouvainWriteProc extends WriteProc<Louvain, LouvainResult, LouvainW
 
         public final long writeMillis;
         public final long nodePropertiesWritten;
+        public final long nodePropertiesSkipped;
 
         WriteResult(
             double modularity,
@@ -110,6 +111,7 @@ public class LouvainWriteProc extends WriteProc<Louvain, LouvainResult, LouvainW
             long postProcessingMillis,
             long writeMillis,
             long nodePropertiesWritten,
+            long nodePropertiesSkipped,
             Map<String, Object> configuration
         ) {
             super(
@@ -125,6 +127,7 @@ public class LouvainWriteProc extends WriteProc<Louvain, LouvainResult, LouvainW
             );
             this.writeMillis = writeMillis;
             this.nodePropertiesWritten = nodePropertiesWritten;
+            this.nodePropertiesSkipped = nodePropertiesSkipped;
         }
 
         static class Builder extends LouvainProc.LouvainResultBuilder<WriteResult> {
@@ -146,6 +149,7 @@ public class LouvainWriteProc extends WriteProc<Louvain, LouvainResult, LouvainW
                     postProcessingDuration,
                     writeMillis,
                     nodePropertiesWritten,
+                    nodePropertiesSkipped,
                     config.toMap()
                 );
             }
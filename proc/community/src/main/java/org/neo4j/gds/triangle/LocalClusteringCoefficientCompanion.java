@@ -59,7 +59,8 @@ final class LocalClusteringCoefficientCompanion {
             .orElse(EmptyResult.EMPTY_RESULT);
 
         return procResultBuilder
-            .withAverageClusteringCoefficient(result.averageClusteringCoefficient());
+            .withAverageClusteringCoefficient(result.averageClusteringCoefficient())
+            .withAverageClusteringCoefficientErrorBound(result.averageClusteringCoefficientErrorBound());
     }
 
     static <CONFIG extends LocalClusteringCoefficientBaseConfig> ValidationConfiguration<CONFIG> getValidationConfig(Log log) {
@@ -76,6 +77,7 @@ final class LocalClusteringCoefficientCompanion {
     abstract static class ResultBuilder<PROC_RESULT> extends AbstractCommunityResultBuilder<PROC_RESULT> {
 
         double averageClusteringCoefficient = 0;
+        double averageClusteringCoefficientErrorBound = 0;
 
         ResultBuilder(ProcedureReturnColumns returnColumns, int concurrency) {
             super(returnColumns, concurrency);
@@ -85,6 +87,11 @@ final class LocalClusteringCoefficientCompanion {
             this.averageClusteringCoefficient = averageClusteringCoefficient;
             return this;
         }
+
+        ResultBuilder<PROC_RESULT> withAverageClusteringCoefficientErrorBound(double averageClusteringCoefficientErrorBound) {
+            this.averageClusteringCoefficientErrorBound = averageClusteringCoefficientErrorBound;
+            return this;
+        }
     }
 
     private static final class EmptyResult implements LocalClusteringCoefficient.Result {
@@ -106,6 +106,7 @@ public class LocalClusteringCoefficientMutateProc extends MutatePropertyProc<Loc
 
         MutateResult(
             double averageClusteringCoefficient,
+            double averageClusteringCoefficientErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -115,6 +116,7 @@ public class LocalClusteringCoefficientMutateProc extends MutatePropertyProc<Loc
         ) {
             super(
                 averageClusteringCoefficient,
+                averageClusteringCoefficientErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -138,6 +140,7 @@ public class LocalClusteringCoefficientMutateProc extends MutatePropertyProc<Loc
         protected MutateResult buildResult() {
             return new MutateResult(
                 averageClusteringCoefficient,
+                averageClusteringCoefficientErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -96,10 +96,12 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
     public static class StatsResult extends StandardStatsResult {
 
         public final double averageClusteringCoefficient;
+        public final double averageClusteringCoefficientErrorBound;
         public final long nodeCount;
 
         StatsResult(
             double averageClusteringCoefficient,
+            double averageClusteringCoefficientErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -108,6 +110,7 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
             // post-processing is instant for LCC
             super(preProcessingMillis, computeMillis, 0L, configuration);
             this.averageClusteringCoefficient = averageClusteringCoefficient;
+            this.averageClusteringCoefficientErrorBound = averageClusteringCoefficientErrorBound;
             this.nodeCount = nodeCount;
         }
     }
@@ -125,6 +128,7 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
         protected StatsResult buildResult() {
             return new StatsResult(
                 averageClusteringCoefficient,
+                averageClusteringCoefficientErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
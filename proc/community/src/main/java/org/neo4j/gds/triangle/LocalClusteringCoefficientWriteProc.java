@@ -107,6 +107,7 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
 
         WriteResult(
             double averageClusteringCoefficient,
+            double averageClusteringCoefficientErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -114,7 +115,14 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
             long nodePropertiesWritten,
             Map<String, Object> configuration
         ) {
-            super(averageClusteringCoefficient, nodeCount, preProcessingMillis, computeMillis, configuration);
+            super(
+                averageClusteringCoefficient,
+                averageClusteringCoefficientErrorBound,
+                nodeCount,
+                preProcessingMillis,
+                computeMillis,
+                configuration
+            );
             this.nodePropertiesWritten = nodePropertiesWritten;
             this.writeMillis = writeMillis;
         }
@@ -134,6 +142,7 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
         protected WriteResult buildResult() {
             return new WriteResult(
                 averageClusteringCoefficient,
+                averageClusteringCoefficientErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -42,18 +42,26 @@ final class TriangleCountCompanion {
         ComputationResult<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult, CONFIG> computeResult
     ) {
         var result = Optional.ofNullable(computeResult.result()).orElse(EmptyResult.EMPTY_RESULT);
-        return procResultBuilder.withGlobalTriangleCount(result.globalTriangles());
+        return procResultBuilder
+            .withGlobalTriangleCount(result.globalTriangles())
+            .withGlobalTriangleCountErrorBound(result.globalTrianglesErrorBound());
     }
 
     abstract static class TriangleCountResultBuilder<PROC_RESULT> extends AbstractResultBuilder<PROC_RESULT> {
 
         long globalTriangleCount = 0;
+        double globalTriangleCountErrorBound = 0;
 
         TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCountErrorBound(double globalTriangleCountErrorBound) {
+            this.globalTriangleCountErrorBound = globalTriangleCountErrorBound;
+            return this;
+        }
+
     }
 
     private TriangleCountCompanion() {}
@@ -94,6 +94,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
 
         MutateResult(
             long globalTriangleCount,
+            double globalTriangleCountErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -103,6 +104,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -119,6 +121,7 @@ public class TriangleCountMutateProc extends MutatePropertyProc<IntersectingTria
         public MutateResult build() {
             return new MutateResult(
                 globalTriangleCount,
+                globalTriangleCountErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
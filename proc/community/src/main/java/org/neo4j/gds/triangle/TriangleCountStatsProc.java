@@ -82,10 +82,12 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
     public static class StatsResult extends StandardStatsResult {
 
         public final long globalTriangleCount;
+        public final double globalTriangleCountErrorBound;
         public final long nodeCount;
 
         StatsResult(
             long globalTriangleCount,
+            double globalTriangleCountErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -94,6 +96,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
             // post-processing is instant for TC
             super(preProcessingMillis, computeMillis, 0L, configuration);
             this.globalTriangleCount = globalTriangleCount;
+            this.globalTriangleCountErrorBound = globalTriangleCountErrorBound;
             this.nodeCount = nodeCount;
         }
     }
@@ -104,6 +107,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
         public StatsResult build() {
             return new StatsResult(
                 globalTriangleCount,
+                globalTriangleCountErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -92,6 +92,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
 
         public WriteResult(
             long globalTriangleCount,
+            double globalTriangleCountErrorBound,
             long nodeCount,
             long preProcessingMillis,
             long computeMillis,
@@ -101,6 +102,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -117,6 +119,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         public WriteResult build() {
             return new WriteResult(
                 globalTriangleCount,
+                globalTriangleCountErrorBound,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
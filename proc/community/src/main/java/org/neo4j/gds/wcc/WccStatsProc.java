@@ -88,6 +88,16 @@ public class WccStatsProc extends StatsProc<Wcc, DisjointSetStruct, WccStatsProc
         return WccProc.algorithmFactory();
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(DisjointSetStruct result) {
+        return result.sizeOf();
+    }
+
     @SuppressWarnings("unused")
     public static class StatsResult extends StandardStatsResult {
 
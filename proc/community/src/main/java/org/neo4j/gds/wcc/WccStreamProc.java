@@ -21,6 +21,7 @@ package org.neo4j.gds.wcc;
 
 import org.neo4j.gds.CommunityProcCompanion;
 import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.NodeRowStream;
 import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -34,6 +35,7 @@ import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.wcc.WccProc.WCC_DESCRIPTION;
@@ -85,6 +87,16 @@ public class WccStreamProc extends StreamProc<
         return new StreamResult(originalNodeId, nodePropertyValues.longValue(internalNodeId));
     }
 
+    @Override
+    protected Optional<NodeRowStream.RowWriter<StreamResult>> rowWriter(NodePropertyValues nodePropertyValues) {
+        var row = new StreamResult(0L, 0L);
+        return Optional.of((originalNodeId, internalNodeId) -> {
+            row.nodeId = originalNodeId;
+            row.componentId = nodePropertyValues.longValue(internalNodeId);
+            return row;
+        });
+    }
+
     @Override
     protected NodePropertyValues nodeProperties(ComputationResult<Wcc, DisjointSetStruct, WccStreamConfig> computationResult) {
         return CommunityProcCompanion.nodeProperties(
@@ -93,12 +105,22 @@ public class WccStreamProc extends StreamProc<
         );
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
+    @Override
+    public long resultSizeInBytes(DisjointSetStruct result) {
+        return result.sizeOf();
+    }
+
     @SuppressWarnings("unused")
     public static class StreamResult {
 
-        public final long nodeId;
+        public long nodeId;
 
-        public final long componentId;
+        public long componentId;
 
         public StreamResult(long nodeId, long componentId) {
             this.nodeId = nodeId;
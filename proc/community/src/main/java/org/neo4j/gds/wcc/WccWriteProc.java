@@ -101,6 +101,7 @@ public class WccWriteProc extends WriteProc<Wcc, DisjointSetStruct, WccWriteProc
 
         public final long writeMillis;
         public final long nodePropertiesWritten;
+        public final long nodePropertiesSkipped;
 
         WriteResult(
             long componentCount,
@@ -110,6 +111,7 @@ public class WccWriteProc extends WriteProc<Wcc, DisjointSetStruct, WccWriteProc
             long postProcessingMillis,
             long writeMillis,
             long nodePropertiesWritten,
+            long nodePropertiesSkipped,
             Map<String, Object> configuration
         ) {
             super(
@@ -122,6 +124,7 @@ public class WccWriteProc extends WriteProc<Wcc, DisjointSetStruct, WccWriteProc
             );
             this.writeMillis = writeMillis;
             this.nodePropertiesWritten = nodePropertiesWritten;
+            this.nodePropertiesSkipped = nodePropertiesSkipped;
         }
 
         static class Builder extends AbstractCommunityResultBuilder<WriteResult> {
@@ -140,6 +143,7 @@ public class WccWriteProc extends WriteProc<Wcc, DisjointSetStruct, WccWriteProc
                     postProcessingDuration,
                     writeMillis,
                     nodePropertiesWritten,
+                    nodePropertiesSkipped,
                     config.toMap()
                 );
             }
@@ -91,6 +91,7 @@ class LocalClusteringCoefficientMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -110,6 +111,7 @@ class LocalClusteringCoefficientMutateProcTest
 
         assertCypherResult(query, Map.of("mutateProperty", mutateProperty()), List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -38,6 +38,7 @@ class LocalClusteringCoefficientStatsProcTest extends LocalClusteringCoefficient
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -52,6 +53,7 @@ class LocalClusteringCoefficientStatsProcTest extends LocalClusteringCoefficient
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -52,6 +52,7 @@ class LocalClusteringCoefficientWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -73,6 +74,7 @@ class LocalClusteringCoefficientWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "averageClusteringCoefficientErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
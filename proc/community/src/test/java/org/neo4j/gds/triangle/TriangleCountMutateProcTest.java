@@ -77,6 +77,7 @@ class TriangleCountMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountErrorBound", 0D,
             "nodeCount", 3L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
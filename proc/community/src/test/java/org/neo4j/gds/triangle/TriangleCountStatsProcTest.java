@@ -43,6 +43,7 @@ class TriangleCountStatsProcTest extends TriangleCountBaseProcTest<TriangleCount
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountErrorBound", 0D,
             "nodeCount", 3L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -69,6 +69,7 @@ class TriangleCountWriteProcTest extends TriangleCountBaseProcTest<TriangleCount
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 5L,
+            "globalTriangleCountErrorBound", 0D,
             "nodeCount", 5L,
             "preProcessingMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -20,6 +20,7 @@
 package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.NodeRowStream;
 import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -30,9 +31,11 @@ import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.embeddings.fastrp.FastRPCompanion.DESCRIPTION;
@@ -76,6 +79,16 @@ public class FastRPStreamProc extends StreamProc<FastRP, FastRP.FastRPResult, Fa
         return new StreamResult(originalNodeId, nodePropertyValues.floatArrayValue(internalNodeId));
     }
 
+    @Override
+    protected Optional<NodeRowStream.RowWriter<StreamResult>> rowWriter(NodePropertyValues nodePropertyValues) {
+        var row = new StreamResult(0L, new float[0]);
+        return Optional.of((originalNodeId, internalNodeId) -> {
+            row.nodeId = originalNodeId;
+            row.embeddingView.embedding = nodePropertyValues.floatArrayValue(internalNodeId);
+            return row;
+        });
+    }
+
     @Override
     protected FastRPStreamConfig newConfig(String username, CypherMapWrapper config) {
         return FastRPStreamConfig.of(config);
@@ -88,15 +101,37 @@ public class FastRPStreamProc extends StreamProc<FastRP, FastRP.FastRPResult, Fa
 
     @SuppressWarnings("unused")
     public static final class StreamResult {
-        public final long nodeId;
+        public long nodeId;
         public final List<Double> embedding;
 
+        private final EmbeddingView embeddingView;
+
         StreamResult(long nodeId, float[] embedding) {
             this.nodeId = nodeId;
-            this.embedding = new ArrayList<>(embedding.length);
-            for (var f : embedding) {
-                this.embedding.add((double) f);
-            }
+            this.embeddingView = new EmbeddingView(embedding);
+            this.embedding = embeddingView;
+        }
+    }
+
+    /**
+     * Read-only view of an embedding as a list of doubles, so that rows do not copy the embedding.
+     * Each element is still boxed to a {@link Double} when it is read.
+     */
+    private static final class EmbeddingView extends AbstractList<Double> implements RandomAccess {
+        private float[] embedding;
+
+        EmbeddingView(float[] embedding) {
+            this.embedding = embedding;
+        }
+
+        @Override
+        public Double get(int index) {
+            return (double) embedding[index];
+        }
+
+        @Override
+        public int size() {
+            return embedding.length;
         }
     }
 }
@@ -93,6 +93,7 @@ public class FastRPWriteProc extends WriteProc<FastRP, FastRP.FastRPResult, Fast
 
         public final long nodeCount;
         public final long nodePropertiesWritten;
+        public final long nodePropertiesSkipped;
         public final long preProcessingMillis;
         public final long computeMillis;
         public final long writeMillis;
@@ -101,6 +102,7 @@ public class FastRPWriteProc extends WriteProc<FastRP, FastRP.FastRPResult, Fast
         WriteResult(
             long nodeCount,
             long nodePropertiesWritten,
+            long nodePropertiesSkipped,
             long preProcessingMillis,
             long computeMillis,
             long writeMillis,
@@ -108,6 +110,7 @@ public class FastRPWriteProc extends WriteProc<FastRP, FastRP.FastRPResult, Fast
         ) {
             this.nodeCount = nodeCount;
             this.nodePropertiesWritten = nodePropertiesWritten;
+            this.nodePropertiesSkipped = nodePropertiesSkipped;
             this.preProcessingMillis = preProcessingMillis;
             this.computeMillis = computeMillis;
             this.writeMillis = writeMillis;
@@ -121,6 +124,7 @@ public class FastRPWriteProc extends WriteProc<FastRP, FastRP.FastRPResult, Fast
                 return new WriteResult(
                     nodeCount,
                     nodePropertiesWritten,
+                    nodePropertiesSkipped,
                     preProcessingMillis,
                     computeMillis,
                     writeMillis,
@@ -23,6 +23,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.WriteRelationshipConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.ImmutableRelationship;
@@ -87,7 +88,7 @@ public class ShortestPathWriteResultConsumer<ALGO extends Algorithm<DijkstraResu
             var progressTracker = new TaskProgressTracker(
                 RelationshipStreamExporter.baseTask("Write shortest Paths"),
                 executionContext.log(),
-                1,
+                config.writeConcurrency(),
                 executionContext.taskRegistryFactory()
             );
 
@@ -99,6 +100,7 @@ public class ShortestPathWriteResultConsumer<ALGO extends Algorithm<DijkstraResu
                     .withRelationships(relationshipStream)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
+                    .parallel(Pools.DEFAULT, config.writeConcurrency())
                     .build();
 
                 try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
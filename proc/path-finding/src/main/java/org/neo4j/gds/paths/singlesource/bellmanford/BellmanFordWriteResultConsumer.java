@@ -20,6 +20,7 @@
 package org.neo4j.gds.paths.singlesource.bellmanford;
 
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.ImmutableRelationship;
@@ -95,7 +96,7 @@ public class BellmanFordWriteResultConsumer implements ComputationResultConsumer
             var progressTracker = new TaskProgressTracker(
                 RelationshipStreamExporter.baseTask("Write shortest Paths"),
                 executionContext.log(),
-                1,
+                config.writeConcurrency(),
                 executionContext.taskRegistryFactory()
             );
 
@@ -107,6 +108,7 @@ public class BellmanFordWriteResultConsumer implements ComputationResultConsumer
                     .withRelationships(relationshipStream)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
+                    .parallel(Pools.DEFAULT, config.writeConcurrency())
                     .build();
 
                 try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
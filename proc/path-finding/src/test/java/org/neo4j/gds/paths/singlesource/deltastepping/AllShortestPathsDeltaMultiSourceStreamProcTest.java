@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.singlesource.deltastepping;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.paths.singlesource.delta.AllShortestPathsDeltaMultiSourceStreamProc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AllShortestPathsDeltaMultiSourceStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB_CYPHER = "CREATE" +
+           "  (:Offset)" +
+           ", (a:Label)" +
+           ", (b:Label)" +
+           ", (c:Label)" +
+           ", (d:Label)" +
+           ", (e:Label)" +
+           ", (f:Label)" +
+           ", (a)-[:TYPE {cost: 4}]->(b)" +
+           ", (a)-[:TYPE {cost: 2}]->(c)" +
+           ", (b)-[:TYPE {cost: 5}]->(c)" +
+           ", (b)-[:TYPE {cost: 10}]->(d)" +
+           ", (c)-[:TYPE {cost: 3}]->(e)" +
+           ", (d)-[:TYPE {cost: 11}]->(f)" +
+           ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(AllShortestPathsDeltaMultiSourceStreamProc.class, GraphProjectProc.class);
+
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    // a batch size of 1 computes the paths of the second source while streaming
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void shouldStreamPathsOfAllSources(int sourceBatchSize) {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.allShortestPaths.delta.multiSource")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("a"), idFunction.of("b")))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("sourceBatchSize", sourceBatchSize)
+            .yields("sourceNode", "targetNode", "totalCost");
+
+        var costs = new HashMap<List<Long>, Double>();
+        runQueryWithRowConsumer(query, row -> costs.put(
+            List.of(row.getNumber("sourceNode").longValue(), row.getNumber("targetNode").longValue()),
+            row.getNumber("totalCost").doubleValue()
+        ));
+
+        assertThat(costs).containsExactlyInAnyOrderEntriesOf(Map.ofEntries(
+            Map.entry(pair("a", "a"), 0.0),
+            Map.entry(pair("a", "c"), 2.0),
+            Map.entry(pair("a", "b"), 4.0),
+            Map.entry(pair("a", "e"), 5.0),
+            Map.entry(pair("a", "d"), 9.0),
+            Map.entry(pair("a", "f"), 20.0),
+            Map.entry(pair("b", "b"), 0.0),
+            Map.entry(pair("b", "c"), 5.0),
+            Map.entry(pair("b", "e"), 8.0),
+            Map.entry(pair("b", "d"), 10.0),
+            Map.entry(pair("b", "f"), 21.0)
+        ));
+    }
+
+    @Test
+    void shouldRequireSourceNodes() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.allShortestPaths.delta.multiSource")
+            .streamMode()
+            .addParameter("sourceNodes", List.of())
+            .yields();
+
+        assertThatThrownBy(() -> runQuery(query))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("The `sourceNodes` list must contain at least one node.");
+    }
+
+    private List<Long> pair(String source, String target) {
+        return List.of(idFunction.of(source), idFunction.of(target));
+    }
+}